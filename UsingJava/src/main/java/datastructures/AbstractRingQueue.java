@@ -0,0 +1,190 @@
+package datastructures;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.Consumer;
+
+/**
+ * 동시성 링 버퍼 큐(MySpscQueue, MyMpscQueue, MyMpmcQueue)의 공통 뼈대입니다.
+ *
+ * <p><b>False Sharing 방지</b>: 생산자가 쓰는 인덱스와 소비자가 쓰는 인덱스가 같은 캐시 라인에 있으면,
+ * 서로 다른 값을 쓰는데도 캐시 라인이 코어 사이를 계속 오가게 됩니다.
+ * 그래서 두 인덱스를 하나의 long 배열 안에 128바이트(인접 라인 프리페치까지 고려) 간격으로 떨어뜨려 둡니다.
+ * 각 인덱스 바로 옆 칸에는 같은 스레드만 읽고 쓰는 캐시 값을 둡니다.
+ *
+ * <p><b>시퀀스 번호</b>(sequenced = true): 다중 생산자/소비자용으로, 칸마다 시퀀스 번호를 두어
+ * 칸이 "p번째 요소를 쓸 차례"(seq == p)인지 "p번째 요소를 읽을 차례"(seq == p + 1)인지 표시합니다 (Vyukov 방식).
+ *
+ * @param <T> 큐에 저장할 데이터의 타입
+ */
+abstract class AbstractRingQueue<T> implements MyConcurrentQueue<T> {
+
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    private static final int PAD = 16; // long 16개 = 128바이트
+
+    static final int PRODUCER_INDEX = PAD; // 다음에 쓸 위치
+    static final int PRODUCER_LIMIT = PAD + 1; // 생산자 전용 캐시
+    static final int CONSUMER_INDEX = PAD * 2; // 다음에 읽을 위치
+    static final int CONSUMER_LIMIT = PAD * 2 + 1; // 소비자 전용 캐시
+
+    static final VarHandle LONGS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    final long[] counters = new long[PAD * 3];
+    final Object[] elements;
+    final long[] sequences; // sequenced가 아니면 null
+    final int mask;
+
+    AbstractRingQueue(int capacity, boolean sequenced) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + capacity);
+        }
+        int length = tableSizeFor(capacity);
+        this.elements = new Object[length];
+        this.mask = length - 1;
+        if (sequenced) {
+            this.sequences = new long[length];
+            for (int i = 0; i < length; i++) {
+                sequences[i] = i; // i번째 요소를 쓸 차례
+            }
+        } else {
+            this.sequences = null;
+        }
+    }
+
+    final long getCounter(int slot) {
+        return (long) LONGS.getAcquire(counters, slot);
+    }
+
+    final void setCounter(int slot, long value) {
+        LONGS.setRelease(counters, slot, value);
+    }
+
+    final boolean casCounter(int slot, long expected, long value) {
+        return LONGS.compareAndSet(counters, slot, expected, value);
+    }
+
+    final long sequence(long index) {
+        return (long) LONGS.getAcquire(sequences, (int) index & mask);
+    }
+
+    final void setSequence(long index, long value) {
+        LONGS.setRelease(sequences, (int) index & mask, value);
+    }
+
+    /**
+     * 여러 생산자가 동시에 호출해도 안전한 offer입니다.
+     * 쓸 차례인 칸을 찾으면 CAS로 생산자 인덱스를 차지한 뒤 요소를 쓰고, 시퀀스를 올려 소비자에게 공개합니다.
+     */
+    final boolean offerSequenced(T element) {
+        checkNotNull(element);
+        while (true) {
+            long p = getCounter(PRODUCER_INDEX);
+            long dif = sequence(p) - p;
+            if (dif == 0) {
+                if (casCounter(PRODUCER_INDEX, p, p + 1)) {
+                    elements[(int) p & mask] = element;
+                    setSequence(p, p + 1);
+                    return true;
+                }
+            } else if (dif < 0) {
+                return false; // 한 바퀴 전의 요소를 아직 꺼내가지 않음 (가득 참)
+            }
+            // dif > 0: 다른 생산자가 먼저 차지함. 다시 시도
+        }
+    }
+
+    /**
+     * 여러 생산자가 동시에 호출해도 안전한 offerBatch입니다.
+     * 연속으로 비어 있는 칸들을 확인한 뒤 CAS 한 번으로 한꺼번에 차지합니다.
+     * 시퀀스가 쓸 차례인 칸은 생산자 인덱스가 그 칸을 지나가기 전까지 바뀌지 않으므로, CAS가 성공하면 모두 내 것입니다.
+     */
+    final int offerBatchSequenced(MyArrayList<? extends T> batch) {
+        int n = batch.size();
+        for (int i = 0; i < n; i++) {
+            checkNotNull(batch.get(i));
+        }
+        int offered = 0;
+        while (offered < n) {
+            long p = getCounter(PRODUCER_INDEX);
+            int want = Math.min(n - offered, elements.length);
+            int free = 0;
+            while (free < want && sequence(p + free) == p + free) {
+                free++;
+            }
+            if (free == 0) {
+                if (sequence(p) - p < 0) {
+                    break; // 가득 참
+                }
+                continue; // 다른 생산자와 경쟁. 다시 시도
+            }
+            if (casCounter(PRODUCER_INDEX, p, p + free)) {
+                for (int i = 0; i < free; i++) {
+                    elements[(int) (p + i) & mask] = batch.get(offered + i);
+                    setSequence(p + i, p + i + 1);
+                }
+                offered += free;
+            }
+        }
+        return offered;
+    }
+
+    @Override
+    public int size() {
+        while (true) {
+            long before = getCounter(CONSUMER_INDEX);
+            long p = getCounter(PRODUCER_INDEX);
+            long after = getCounter(CONSUMER_INDEX);
+            if (before == after) {
+                // 생산자가 칸을 차지만 하고 아직 쓰지 않았을 수 있으므로 용량 안으로 자름
+                return (int) Math.max(0, Math.min(p - after, elements.length));
+            }
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public int capacity() {
+        return elements.length;
+    }
+
+    @Override
+    public int offerBatch(MyArrayList<? extends T> batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            checkNotNull(batch.get(i));
+        }
+        int offered = 0;
+        while (offered < batch.size() && offer(batch.get(offered))) {
+            offered++;
+        }
+        return offered;
+    }
+
+    @Override
+    public int drainTo(Consumer<? super T> sink, int maxElements) {
+        int drained = 0;
+        T element;
+        while (drained < maxElements && (element = poll()) != null) {
+            sink.accept(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    static void checkNotNull(Object element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Element cannot be null");
+        }
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int n = 2;
+        while (n < capacity && n < MAXIMUM_CAPACITY) {
+            n <<= 1;
+        }
+        return n;
+    }
+}
@@ -0,0 +1,974 @@
+package datastructures;
+
+import java.util.AbstractMap;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * B+ 트리(B+ Tree) 구현체입니다.
+ * 한 노드에 여러 개의 키를 정렬된 배열로 담는 넓은(Wide) 트리로, 높이가 log_order(n)으로 매우 낮습니다.
+ * 노드마다 흩어진 객체를 따라가는 레드-블랙 트리와 달리, 한 노드 안의 키 배열은 메모리에 연속으로 놓여
+ * 탐색 시 건드리는 캐시 라인 수가 훨씬 적습니다.
+ *
+ * <p>값은 리프(Leaf) 노드에만 저장되며, 리프끼리 양방향으로 연결되어 있어 범위 조회는
+ * 시작 위치를 찾은 뒤 리프를 차례로 훑기만 하면 됩니다.
+ * 내부 노드는 자식별 엔트리 수(total)를 함께 저장하여 select/rank도 O(log n)에 계산합니다.
+ *
+ * @param <K> Key의 타입 (Comparator를 주지 않으면 Comparable 구현 필요)
+ * @param <V> Value의 타입
+ */
+public class MyBPlusTree<K, V> implements SortedStore<K, V> {
+
+    private static final int DEFAULT_ORDER = 64;
+    private static final int MINIMUM_ORDER = 4;
+
+    /**
+     * 리프와 내부 노드의 공통 부분입니다.
+     * 리프에서 count는 엔트리 수, 내부 노드에서 count는 자식 수입니다. (구분 키는 count - 1개)
+     */
+    private abstract static class Node {
+        final Object[] keys;
+        int count;
+        int total; // 이 노드 아래의 전체 엔트리 수
+
+        Node(int keyCapacity) {
+            this.keys = new Object[keyCapacity];
+        }
+    }
+
+    private static final class Leaf extends Node {
+        final Object[] values;
+        Leaf prev;
+        Leaf next;
+
+        Leaf(int order) {
+            // 분할 직전에 한 칸 넘칠 수 있도록 여유를 둠
+            super(order + 1);
+            this.values = new Object[order + 1];
+        }
+    }
+
+    private static final class Internal extends Node {
+        // keys[i]는 children[i + 1]의 가장 작은 키 이하, children[i]의 모든 키보다 큼
+        final Node[] children;
+
+        Internal(int order) {
+            super(order);
+            this.children = new Node[order + 1];
+        }
+    }
+
+    /**
+     * 리프 안의 위치(커서)입니다.
+     */
+    private static final class Position {
+        final Leaf leaf;
+        final int index;
+
+        Position(Leaf leaf, int index) {
+            this.leaf = leaf;
+            this.index = index;
+        }
+    }
+
+    private final int order;       // 노드 하나의 최대 엔트리(자식) 수
+    private final int minCount;    // 루트를 제외한 노드의 최소 엔트리(자식) 수
+    private Node root;
+    private int modCount;
+    // 키 비교에 사용할 Comparator (자연 순서일 때도 null이 아님)
+    private final Comparator<? super K> comparator;
+
+    // 재귀 삽입 중 분할 결과를 위로 전달하기 위한 임시 값
+    private K splitKey;
+    private boolean inserted;
+
+    public MyBPlusTree() {
+        this(DEFAULT_ORDER, null);
+    }
+
+    /**
+     * 노드 크기(차수)를 지정하여 생성합니다.
+     *
+     * @param order 노드 하나에 들어가는 최대 엔트리(자식) 수 (4 이상)
+     */
+    public MyBPlusTree(int order) {
+        this(order, null);
+    }
+
+    /**
+     * 키의 순서를 정할 Comparator를 지정하여 생성합니다.
+     *
+     * @param comparator 키 비교에 사용할 Comparator (null이면 자연 순서)
+     */
+    public MyBPlusTree(Comparator<? super K> comparator) {
+        this(DEFAULT_ORDER, comparator);
+    }
+
+    /**
+     * 노드 크기(차수)와 Comparator를 지정하여 생성합니다.
+     *
+     * @param order      노드 하나에 들어가는 최대 엔트리(자식) 수 (4 이상)
+     * @param comparator 키 비교에 사용할 Comparator (null이면 자연 순서)
+     */
+    public MyBPlusTree(int order, Comparator<? super K> comparator) {
+        if (order < MINIMUM_ORDER) {
+            throw new IllegalArgumentException("Illegal order: " + order);
+        }
+        this.comparator = comparator != null ? comparator : MyRedBlackTree.naturalOrder();
+        this.order = order;
+        this.minCount = order / 2;
+        this.root = new Leaf(order);
+    }
+
+    /**
+     * 값을 저장합니다. 이미 키가 있으면 값을 덮어씁니다.
+     * 리프가 넘치면 반으로 나누고, 구분 키를 부모로 올립니다.
+     */
+    @Override
+    public void put(K key, V value) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        Node sibling = insert(root, key, value);
+        if (sibling != null) {
+            // 루트가 분할되면 높이가 1 늘어남
+            Internal newRoot = new Internal(order);
+            newRoot.children[0] = root;
+            newRoot.children[1] = sibling;
+            newRoot.keys[0] = splitKey;
+            newRoot.count = 2;
+            newRoot.total = root.total + sibling.total;
+            root = newRoot;
+        }
+        if (inserted) {
+            modCount++;
+        }
+    }
+
+    @Override
+    public V get(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        Leaf leaf = findLeaf(key);
+        int index = search(leaf, key);
+        return index >= 0 ? value(leaf, index) : null;
+    }
+
+    /**
+     * 값을 삭제합니다.
+     * 노드가 최소 개수보다 작아지면 형제에게서 빌려오거나(Borrow) 형제와 합칩니다(Merge).
+     */
+    @Override
+    public void remove(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        if (!delete(root, key)) {
+            return;
+        }
+        modCount++;
+        if (root instanceof Internal && root.count == 1) {
+            // 자식이 하나만 남은 루트는 제거하여 높이를 줄임
+            root = ((Internal) root).children[0];
+        }
+    }
+
+    @Override
+    public int size() {
+        return root.total;
+    }
+
+    @Override
+    public Comparator<? super K> comparator() {
+        return comparator;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return root.total == 0;
+    }
+
+    /**
+     * 트리의 높이(루트에서 리프까지의 노드 수)를 반환합니다.
+     */
+    public int height() {
+        int height = 1;
+        for (Node node = root; node instanceof Internal; node = ((Internal) node).children[0]) {
+            height++;
+        }
+        return height;
+    }
+
+    // --- 순서 통계(Order Statistic) 연산 ---
+
+    @Override
+    public K select(int k) {
+        if (k < 0 || k >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + k + ", Size: " + size());
+        }
+        Node node = root;
+        while (node instanceof Internal) {
+            Internal internal = (Internal) node;
+            int i = 0;
+            while (k >= internal.children[i].total) {
+                k -= internal.children[i].total;
+                i++;
+            }
+            node = internal.children[i];
+        }
+        return key(node, k);
+    }
+
+    /**
+     * 주어진 키보다 작은 키의 개수(순위)를 반환합니다.
+     */
+    public int rank(K key) {
+        return countBelow(key, false);
+    }
+
+    /**
+     * lo 이상 hi 이하인 키의 개수를 반환합니다.
+     */
+    public int countInRange(K lo, K hi) {
+        if (comparator.compare(lo, hi) > 0) {
+            return 0;
+        }
+        return countBelow(hi, true) - countBelow(lo, false);
+    }
+
+    /**
+     * 내려가면서 선택한 자식보다 왼쪽에 있는 자식들의 total을 더합니다.
+     */
+    @Override
+    public int countBelow(K key, boolean inclusive) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        int count = 0;
+        Node node = root;
+        while (node instanceof Internal) {
+            Internal internal = (Internal) node;
+            int childIndex = childIndex(internal, key);
+            for (int i = 0; i < childIndex; i++) {
+                count += internal.children[i].total;
+            }
+            node = internal.children[childIndex];
+        }
+        return count + (inclusive ? upperBound(node, key) : lowerBound(node, key));
+    }
+
+    // --- 탐색(Navigation) 연산 ---
+
+    @Override
+    public Map.Entry<K, V> firstEntry() {
+        return exportEntry(first());
+    }
+
+    @Override
+    public Map.Entry<K, V> lastEntry() {
+        return exportEntry(last());
+    }
+
+    @Override
+    public Map.Entry<K, V> floorEntry(K key) {
+        return exportEntry(floor(key, true));
+    }
+
+    @Override
+    public Map.Entry<K, V> lowerEntry(K key) {
+        return exportEntry(floor(key, false));
+    }
+
+    @Override
+    public Map.Entry<K, V> ceilingEntry(K key) {
+        return exportEntry(ceiling(key, true));
+    }
+
+    @Override
+    public Map.Entry<K, V> higherEntry(K key) {
+        return exportEntry(ceiling(key, false));
+    }
+
+    /**
+     * 저장된 모든 키를 정렬된 순서로 반환합니다.
+     */
+    public MyArrayList<K> keys() {
+        return keys(null, true, null, true);
+    }
+
+    /**
+     * 저장된 모든 값을 키 순서로 반환합니다.
+     */
+    public MyArrayList<V> values() {
+        return values(null, true, null, true);
+    }
+
+    @Override
+    public MyArrayList<K> keys(K lo, boolean loInclusive, K hi, boolean hiInclusive) {
+        MyArrayList<K> list = new MyArrayList<>();
+        Iterator<K> it = keyIterator(lo, loInclusive, hi, hiInclusive, false);
+        while (it.hasNext()) {
+            list.add(it.next());
+        }
+        return list;
+    }
+
+    @Override
+    public MyArrayList<V> values(K lo, boolean loInclusive, K hi, boolean hiInclusive) {
+        MyArrayList<V> list = new MyArrayList<>();
+        Iterator<V> it = valueIterator(lo, loInclusive, hi, hiInclusive, false);
+        while (it.hasNext()) {
+            list.add(it.next());
+        }
+        return list;
+    }
+
+    // --- 반복자(Iterator) ---
+    // 리프 연결 리스트를 따라가므로 한 칸 이동은 O(1)이며, 구조가 바뀌면 Fail-Fast로 실패합니다.
+
+    /**
+     * 키를 오름차순으로 순회하는 반복자를 반환합니다.
+     */
+    public Iterator<K> keyIterator() {
+        return keyIterator(null, true, null, true, false);
+    }
+
+    @Override
+    public Iterator<K> keyIterator(K lo, boolean loInclusive, K hi, boolean hiInclusive, boolean descending) {
+        return new LeafIterator<K>(lo, loInclusive, hi, hiInclusive, descending) {
+            @Override
+            public K next() {
+                advance();
+                return key(returnedLeaf, returnedIndex);
+            }
+        };
+    }
+
+    @Override
+    public Iterator<V> valueIterator(K lo, boolean loInclusive, K hi, boolean hiInclusive, boolean descending) {
+        return new LeafIterator<V>(lo, loInclusive, hi, hiInclusive, descending) {
+            @Override
+            public V next() {
+                advance();
+                return value(returnedLeaf, returnedIndex);
+            }
+        };
+    }
+
+    @Override
+    public Iterator<Map.Entry<K, V>> entryIterator(K lo, boolean loInclusive, K hi, boolean hiInclusive,
+                                                   boolean descending) {
+        return new LeafIterator<Map.Entry<K, V>>(lo, loInclusive, hi, hiInclusive, descending) {
+            @Override
+            public Map.Entry<K, V> next() {
+                advance();
+                return new AbstractMap.SimpleImmutableEntry<>(key(returnedLeaf, returnedIndex),
+                        value(returnedLeaf, returnedIndex));
+            }
+        };
+    }
+
+    private abstract class LeafIterator<E> implements Iterator<E> {
+        // 다음에 반환할 위치
+        private Leaf leaf;
+        private int index;
+        // 방금 반환한 위치
+        Leaf returnedLeaf;
+        int returnedIndex;
+        private K lastKey;
+        private int expectedModCount = modCount;
+        private final boolean descending;
+        // 순회 방향의 끝 경계 (null이면 트리 끝까지)
+        private final K fence;
+        private final boolean fenceInclusive;
+
+        LeafIterator(K lo, boolean loInclusive, K hi, boolean hiInclusive, boolean descending) {
+            this.descending = descending;
+            Position start;
+            if (descending) {
+                start = hi == null ? last() : floor(hi, hiInclusive);
+                fence = lo;
+                fenceInclusive = loInclusive;
+            } else {
+                start = lo == null ? first() : ceiling(lo, loInclusive);
+                fence = hi;
+                fenceInclusive = hiInclusive;
+            }
+            moveTo(start);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return leaf != null;
+        }
+
+        /**
+         * 다음 위치로 한 칸 이동합니다. 루트가 아닌 리프는 비어있지 않으므로 이웃 리프로 바로 넘어갑니다.
+         */
+        void advance() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (leaf == null) {
+                throw new NoSuchElementException();
+            }
+            returnedLeaf = leaf;
+            returnedIndex = index;
+            lastKey = key(leaf, index);
+            if (descending) {
+                if (index > 0) {
+                    index--;
+                } else {
+                    leaf = leaf.prev;
+                    index = leaf == null ? 0 : leaf.count - 1;
+                }
+            } else if (index + 1 < leaf.count) {
+                index++;
+            } else {
+                leaf = leaf.next;
+                index = 0;
+            }
+            checkFence();
+        }
+
+        /**
+         * 마지막으로 반환한 키를 삭제합니다.
+         * 삭제 중 리프가 합쳐지거나 빌려올 수 있으므로, 삭제한 키를 기준으로 다음 위치를 다시 찾습니다.
+         */
+        @Override
+        public void remove() {
+            if (lastKey == null) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            MyBPlusTree.this.remove(lastKey);
+            moveTo(descending ? floor(lastKey, false) : ceiling(lastKey, false));
+            expectedModCount = modCount;
+            lastKey = null;
+        }
+
+        private void moveTo(Position position) {
+            leaf = position == null ? null : position.leaf;
+            index = position == null ? 0 : position.index;
+            checkFence();
+        }
+
+        /**
+         * 다음 위치가 끝 경계를 넘었으면 순회를 끝냅니다.
+         * 이동할 때 한 번만 비교하므로 hasNext()는 비교 없이 답합니다.
+         */
+        private void checkFence() {
+            if (leaf == null || fence == null) {
+                return;
+            }
+            int cmp = comparator.compare(key(leaf, index), fence);
+            if (descending) {
+                cmp = -cmp;
+            }
+            if (fenceInclusive ? cmp > 0 : cmp >= 0) {
+                leaf = null;
+            }
+        }
+    }
+
+    // --- 삽입/삭제 내부 구현 ---
+
+    /**
+     * node 아래에 키를 넣고, node가 분할되면 새로 생긴 오른쪽 형제를 반환합니다. (분할 키는 splitKey)
+     */
+    private Node insert(Node node, K key, V value) {
+        if (node instanceof Leaf) {
+            Leaf leaf = (Leaf) node;
+            int index = search(leaf, key);
+            if (index >= 0) {
+                leaf.values[index] = value; // Update
+                inserted = false;
+                return null;
+            }
+            index = -(index + 1);
+            System.arraycopy(leaf.keys, index, leaf.keys, index + 1, leaf.count - index);
+            System.arraycopy(leaf.values, index, leaf.values, index + 1, leaf.count - index);
+            leaf.keys[index] = key;
+            leaf.values[index] = value;
+            leaf.count++;
+            leaf.total++;
+            inserted = true;
+            return leaf.count > order ? splitLeaf(leaf) : null;
+        }
+
+        Internal internal = (Internal) node;
+        int childIndex = childIndex(internal, key);
+        Node sibling = insert(internal.children[childIndex], key, value);
+        if (inserted) {
+            internal.total++;
+        }
+        if (sibling == null) {
+            return null;
+        }
+        // 분할된 자식의 오른쪽 형제와 구분 키를 childIndex 바로 뒤에 끼워넣음
+        System.arraycopy(internal.keys, childIndex, internal.keys, childIndex + 1, internal.count - 1 - childIndex);
+        System.arraycopy(internal.children, childIndex + 1, internal.children, childIndex + 2,
+                internal.count - 1 - childIndex);
+        internal.keys[childIndex] = splitKey;
+        internal.children[childIndex + 1] = sibling;
+        internal.count++;
+        return internal.count > order ? splitInternal(internal) : null;
+    }
+
+    /**
+     * 넘친 리프의 뒤쪽 절반을 새 리프로 옮깁니다. 새 리프의 첫 키가 부모로 복사됩니다.
+     */
+    @SuppressWarnings("unchecked")
+    private Leaf splitLeaf(Leaf leaf) {
+        Leaf right = new Leaf(order);
+        int mid = leaf.count / 2;
+        int moved = leaf.count - mid;
+        System.arraycopy(leaf.keys, mid, right.keys, 0, moved);
+        System.arraycopy(leaf.values, mid, right.values, 0, moved);
+        clear(leaf.keys, mid, leaf.count);
+        clear(leaf.values, mid, leaf.count);
+        right.count = moved;
+        right.total = moved;
+        leaf.count = mid;
+        leaf.total = mid;
+
+        right.next = leaf.next;
+        if (right.next != null) {
+            right.next.prev = right;
+        }
+        right.prev = leaf;
+        leaf.next = right;
+
+        splitKey = (K) right.keys[0];
+        return right;
+    }
+
+    /**
+     * 넘친 내부 노드의 뒤쪽 절반을 새 노드로 옮깁니다. 가운데 구분 키는 복사하지 않고 부모로 올립니다.
+     */
+    @SuppressWarnings("unchecked")
+    private Internal splitInternal(Internal node) {
+        Internal right = new Internal(order);
+        int mid = node.count / 2;      // 왼쪽에 남는 자식 수
+        int moved = node.count - mid;  // 오른쪽으로 가는 자식 수
+        System.arraycopy(node.children, mid, right.children, 0, moved);
+        System.arraycopy(node.keys, mid, right.keys, 0, moved - 1);
+        splitKey = (K) node.keys[mid - 1];
+        clear(node.children, mid, node.count);
+        clear(node.keys, mid - 1, node.count - 1);
+        right.count = moved;
+        node.count = mid;
+
+        right.total = sumTotals(right);
+        node.total -= right.total;
+        return right;
+    }
+
+    /**
+     * node 아래에서 키를 삭제하고, 삭제했으면 true를 반환합니다.
+     * 구분 키는 삭제된 키와 같더라도 여전히 올바른 경계이므로 그대로 둡니다.
+     */
+    private boolean delete(Node node, K key) {
+        if (node instanceof Leaf) {
+            Leaf leaf = (Leaf) node;
+            int index = search(leaf, key);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(leaf.keys, index + 1, leaf.keys, index, leaf.count - index - 1);
+            System.arraycopy(leaf.values, index + 1, leaf.values, index, leaf.count - index - 1);
+            leaf.count--;
+            leaf.total--;
+            leaf.keys[leaf.count] = null;
+            leaf.values[leaf.count] = null; // 참조 해제 (GC 유도)
+            return true;
+        }
+
+        Internal internal = (Internal) node;
+        int childIndex = childIndex(internal, key);
+        Node child = internal.children[childIndex];
+        if (!delete(child, key)) {
+            return false;
+        }
+        internal.total--;
+        if (child.count < minCount) {
+            rebalance(internal, childIndex);
+        }
+        return true;
+    }
+
+    /**
+     * 최소 개수보다 작아진 자식을 형제에게서 빌려오거나 형제와 합쳐 복구합니다.
+     */
+    private void rebalance(Internal parent, int childIndex) {
+        Node left = childIndex > 0 ? parent.children[childIndex - 1] : null;
+        Node right = childIndex + 1 < parent.count ? parent.children[childIndex + 1] : null;
+
+        if (left != null && left.count > minCount) {
+            borrowFromLeft(parent, childIndex);
+        } else if (right != null && right.count > minCount) {
+            borrowFromRight(parent, childIndex);
+        } else if (left != null) {
+            merge(parent, childIndex - 1);
+        } else {
+            merge(parent, childIndex);
+        }
+    }
+
+    private void borrowFromLeft(Internal parent, int childIndex) {
+        Node child = parent.children[childIndex];
+        Node left = parent.children[childIndex - 1];
+
+        if (child instanceof Leaf) {
+            Leaf leaf = (Leaf) child;
+            Leaf leftLeaf = (Leaf) left;
+            System.arraycopy(leaf.keys, 0, leaf.keys, 1, leaf.count);
+            System.arraycopy(leaf.values, 0, leaf.values, 1, leaf.count);
+            leaf.keys[0] = leftLeaf.keys[leftLeaf.count - 1];
+            leaf.values[0] = leftLeaf.values[leftLeaf.count - 1];
+            leftLeaf.keys[leftLeaf.count - 1] = null;
+            leftLeaf.values[leftLeaf.count - 1] = null;
+            leaf.count++;
+            leftLeaf.count--;
+            leaf.total++;
+            leftLeaf.total--;
+            parent.keys[childIndex - 1] = leaf.keys[0];
+        } else {
+            // 부모의 구분 키가 내려오고, 왼쪽 형제의 마지막 구분 키가 부모로 올라감
+            Internal node = (Internal) child;
+            Internal leftNode = (Internal) left;
+            Node moved = leftNode.children[leftNode.count - 1];
+            System.arraycopy(node.keys, 0, node.keys, 1, node.count - 1);
+            System.arraycopy(node.children, 0, node.children, 1, node.count);
+            node.keys[0] = parent.keys[childIndex - 1];
+            node.children[0] = moved;
+            parent.keys[childIndex - 1] = leftNode.keys[leftNode.count - 2];
+            leftNode.keys[leftNode.count - 2] = null;
+            leftNode.children[leftNode.count - 1] = null;
+            node.count++;
+            leftNode.count--;
+            node.total += moved.total;
+            leftNode.total -= moved.total;
+        }
+    }
+
+    private void borrowFromRight(Internal parent, int childIndex) {
+        Node child = parent.children[childIndex];
+        Node right = parent.children[childIndex + 1];
+
+        if (child instanceof Leaf) {
+            Leaf leaf = (Leaf) child;
+            Leaf rightLeaf = (Leaf) right;
+            leaf.keys[leaf.count] = rightLeaf.keys[0];
+            leaf.values[leaf.count] = rightLeaf.values[0];
+            System.arraycopy(rightLeaf.keys, 1, rightLeaf.keys, 0, rightLeaf.count - 1);
+            System.arraycopy(rightLeaf.values, 1, rightLeaf.values, 0, rightLeaf.count - 1);
+            rightLeaf.keys[rightLeaf.count - 1] = null;
+            rightLeaf.values[rightLeaf.count - 1] = null;
+            leaf.count++;
+            rightLeaf.count--;
+            leaf.total++;
+            rightLeaf.total--;
+            parent.keys[childIndex] = rightLeaf.keys[0];
+        } else {
+            // 부모의 구분 키가 내려오고, 오른쪽 형제의 첫 구분 키가 부모로 올라감
+            Internal node = (Internal) child;
+            Internal rightNode = (Internal) right;
+            Node moved = rightNode.children[0];
+            node.keys[node.count - 1] = parent.keys[childIndex];
+            node.children[node.count] = moved;
+            parent.keys[childIndex] = rightNode.keys[0];
+            System.arraycopy(rightNode.keys, 1, rightNode.keys, 0, rightNode.count - 2);
+            System.arraycopy(rightNode.children, 1, rightNode.children, 0, rightNode.count - 1);
+            rightNode.keys[rightNode.count - 2] = null;
+            rightNode.children[rightNode.count - 1] = null;
+            node.count++;
+            rightNode.count--;
+            node.total += moved.total;
+            rightNode.total -= moved.total;
+        }
+    }
+
+    /**
+     * children[leftIndex + 1]을 children[leftIndex]에 합치고 부모에서 제거합니다.
+     */
+    private void merge(Internal parent, int leftIndex) {
+        Node left = parent.children[leftIndex];
+        Node right = parent.children[leftIndex + 1];
+
+        if (left instanceof Leaf) {
+            Leaf leftLeaf = (Leaf) left;
+            Leaf rightLeaf = (Leaf) right;
+            System.arraycopy(rightLeaf.keys, 0, leftLeaf.keys, leftLeaf.count, rightLeaf.count);
+            System.arraycopy(rightLeaf.values, 0, leftLeaf.values, leftLeaf.count, rightLeaf.count);
+            leftLeaf.count += rightLeaf.count;
+            leftLeaf.next = rightLeaf.next;
+            if (leftLeaf.next != null) {
+                leftLeaf.next.prev = leftLeaf;
+            }
+        } else {
+            // 두 노드 사이의 구분 키를 부모에서 내려받아 이어붙임
+            Internal leftNode = (Internal) left;
+            Internal rightNode = (Internal) right;
+            leftNode.keys[leftNode.count - 1] = parent.keys[leftIndex];
+            System.arraycopy(rightNode.keys, 0, leftNode.keys, leftNode.count, rightNode.count - 1);
+            System.arraycopy(rightNode.children, 0, leftNode.children, leftNode.count, rightNode.count);
+            leftNode.count += rightNode.count;
+        }
+        left.total += right.total;
+
+        System.arraycopy(parent.keys, leftIndex + 1, parent.keys, leftIndex, parent.count - leftIndex - 2);
+        System.arraycopy(parent.children, leftIndex + 2, parent.children, leftIndex + 1,
+                parent.count - leftIndex - 2);
+        parent.count--;
+        parent.keys[parent.count - 1] = null;
+        parent.children[parent.count] = null;
+    }
+
+    // --- 탐색 내부 구현 ---
+
+    private Leaf findLeaf(K key) {
+        Node node = root;
+        while (node instanceof Internal) {
+            Internal internal = (Internal) node;
+            node = internal.children[childIndex(internal, key)];
+        }
+        return (Leaf) node;
+    }
+
+    /**
+     * key가 속한 자식의 인덱스 (key 이하인 구분 키의 개수)를 이진 탐색으로 구합니다.
+     */
+    private int childIndex(Internal node, K key) {
+        int lo = 0;
+        int hi = node.count - 1; // 구분 키 개수
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (comparator.compare(key, key(node, mid)) >= 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * 리프에서 키를 이진 탐색합니다. 없으면 -(삽입 위치 + 1)을 반환합니다.
+     */
+    private int search(Leaf leaf, K key) {
+        int lo = 0;
+        int hi = leaf.count - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int cmp = comparator.compare(key, key(leaf, mid));
+            if (cmp == 0) {
+                return mid;
+            }
+            if (cmp < 0) {
+                hi = mid - 1;
+            } else {
+                lo = mid + 1;
+            }
+        }
+        return -(lo + 1);
+    }
+
+    /**
+     * 리프에서 key 미만인 키의 개수입니다.
+     */
+    private int lowerBound(Node leaf, K key) {
+        int index = search((Leaf) leaf, key);
+        return index >= 0 ? index : -(index + 1);
+    }
+
+    /**
+     * 리프에서 key 이하인 키의 개수입니다.
+     */
+    private int upperBound(Node leaf, K key) {
+        int index = search((Leaf) leaf, key);
+        return index >= 0 ? index + 1 : -(index + 1);
+    }
+
+    private Position first() {
+        Node node = root;
+        while (node instanceof Internal) {
+            node = ((Internal) node).children[0];
+        }
+        return firstOf((Leaf) node);
+    }
+
+    private Position last() {
+        Node node = root;
+        while (node instanceof Internal) {
+            Internal internal = (Internal) node;
+            node = internal.children[internal.count - 1];
+        }
+        return lastOf((Leaf) node);
+    }
+
+    private Position firstOf(Leaf leaf) {
+        return leaf == null || leaf.count == 0 ? null : new Position(leaf, 0);
+    }
+
+    private Position lastOf(Leaf leaf) {
+        return leaf == null || leaf.count == 0 ? null : new Position(leaf, leaf.count - 1);
+    }
+
+    /**
+     * key 이상(inclusive) 또는 초과인 가장 작은 위치. 리프 끝을 넘어가면 다음 리프의 처음입니다.
+     */
+    private Position ceiling(K key, boolean inclusive) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        Leaf leaf = findLeaf(key);
+        int index = inclusive ? lowerBound(leaf, key) : upperBound(leaf, key);
+        return index < leaf.count ? new Position(leaf, index) : firstOf(leaf.next);
+    }
+
+    /**
+     * key 이하(inclusive) 또는 미만인 가장 큰 위치. 리프 처음을 넘어가면 이전 리프의 끝입니다.
+     */
+    private Position floor(K key, boolean inclusive) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        Leaf leaf = findLeaf(key);
+        int index = (inclusive ? upperBound(leaf, key) : lowerBound(leaf, key)) - 1;
+        return index >= 0 ? new Position(leaf, index) : lastOf(leaf.prev);
+    }
+
+    private Map.Entry<K, V> exportEntry(Position position) {
+        if (position == null) {
+            return null;
+        }
+        return new AbstractMap.SimpleImmutableEntry<>(key(position.leaf, position.index),
+                value(position.leaf, position.index));
+    }
+
+    @SuppressWarnings("unchecked")
+    private K key(Node node, int index) {
+        return (K) node.keys[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    private V value(Leaf leaf, int index) {
+        return (V) leaf.values[index];
+    }
+
+    private static int sumTotals(Internal node) {
+        int total = 0;
+        for (int i = 0; i < node.count; i++) {
+            total += node.children[i].total;
+        }
+        return total;
+    }
+
+    private static void clear(Object[] array, int from, int to) {
+        for (int i = from; i < to; i++) {
+            array[i] = null;
+        }
+    }
+
+    // --- 검증 ---
+
+    /**
+     * B+ 트리의 모든 속성을 검사합니다. (테스트 및 디버깅용)
+     * 키 순서와 구분 키 경계, 노드 최소/최대 개수, 모든 리프의 깊이, total 값, 리프 연결을 확인하고
+     * 위반 시 IllegalStateException을 던집니다.
+     */
+    void checkInvariants() {
+        int leafDepth = checkNode(root, null, null, 1, -1);
+        if (leafDepth != height()) {
+            throw new IllegalStateException("Leaves are not at the same depth");
+        }
+
+        // 리프 연결 리스트가 전체 키를 정렬된 순서로 담고 있는지 확인
+        Node node = root;
+        while (node instanceof Internal) {
+            node = ((Internal) node).children[0];
+        }
+        int count = 0;
+        K previous = null;
+        Leaf prevLeaf = null;
+        for (Leaf leaf = (Leaf) node; leaf != null; leaf = leaf.next) {
+            if (leaf.prev != prevLeaf) {
+                throw new IllegalStateException("Broken leaf links");
+            }
+            for (int i = 0; i < leaf.count; i++) {
+                K key = key(leaf, i);
+                if (previous != null && comparator.compare(previous, key) >= 0) {
+                    throw new IllegalStateException("Leaf chain out of order at key " + key);
+                }
+                previous = key;
+                count++;
+            }
+            prevLeaf = leaf;
+        }
+        if (count != size()) {
+            throw new IllegalStateException("Size mismatch: expected " + size() + " but found " + count);
+        }
+    }
+
+    /**
+     * 서브트리를 검사하고 리프의 깊이를 반환합니다. lo 이상 hi 미만의 키만 허용됩니다.
+     */
+    private int checkNode(Node node, K lo, K hi, int depth, int expectedLeafDepth) {
+        if (node != root && node.count < minCount) {
+            throw new IllegalStateException("Underflow: " + node.count + " < " + minCount);
+        }
+        if (node.count > order) {
+            throw new IllegalStateException("Overflow: " + node.count + " > " + order);
+        }
+        if (node instanceof Leaf) {
+            if (node.total != node.count) {
+                throw new IllegalStateException("Leaf total mismatch");
+            }
+            for (int i = 0; i < node.count; i++) {
+                checkBounds(key(node, i), lo, hi);
+                if (i > 0 && comparator.compare(key(node, i - 1), key(node, i)) >= 0) {
+                    throw new IllegalStateException("Leaf keys out of order");
+                }
+            }
+            return depth;
+        }
+
+        Internal internal = (Internal) node;
+        if (internal.count < 2) {
+            throw new IllegalStateException("Internal node must have at least two children");
+        }
+        for (int i = 0; i < internal.count - 1; i++) {
+            checkBounds(key(internal, i), lo, hi);
+            if (i > 0 && comparator.compare(key(internal, i - 1), key(internal, i)) >= 0) {
+                throw new IllegalStateException("Separator keys out of order");
+            }
+        }
+        int leafDepth = expectedLeafDepth;
+        for (int i = 0; i < internal.count; i++) {
+            K childLo = i == 0 ? lo : key(internal, i - 1);
+            K childHi = i == internal.count - 1 ? hi : key(internal, i);
+            int depthOfChild = checkNode(internal.children[i], childLo, childHi, depth + 1, leafDepth);
+            if (leafDepth >= 0 && depthOfChild != leafDepth) {
+                throw new IllegalStateException("Leaves are not at the same depth");
+            }
+            leafDepth = depthOfChild;
+        }
+        if (internal.total != sumTotals(internal)) {
+            throw new IllegalStateException("Internal total mismatch");
+        }
+        return leafDepth;
+    }
+
+    private void checkBounds(K key, K lo, K hi) {
+        if ((lo != null && comparator.compare(key, lo) < 0) || (hi != null && comparator.compare(key, hi) >= 0)) {
+            throw new IllegalStateException("Key out of separator bounds: " + key);
+        }
+    }
+}
@@ -0,0 +1,443 @@
+package datastructures;
+
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * MyConcurrentQueue 위에 "기다리기"를 더한 블로킹 큐입니다.
+ * 큐가 비었을 때 poll을 반복 호출하며 예외나 null을 처리하는 대신, take로 요소가 들어올 때까지 기다리거나
+ * pollAsync로 요소가 들어오면 완료되는 CompletableFuture를 받을 수 있습니다.
+ *
+ * <p>요소를 넣고 빼는 일은 내부 큐가 락 없이 처리하고, 이 클래스는 기다리는 방법(WaitStrategy)만 담당합니다.
+ * 기다리는 스레드가 없으면 offer/poll은 락을 잡지 않습니다.
+ *
+ * @param <T> 큐에 저장할 데이터의 타입
+ */
+public class MyBlockingQueue<T> {
+
+    /**
+     * 요소(또는 빈 칸)가 생길 때까지 기다리는 방법입니다. 지연 시간과 CPU 사용량 사이의 선택입니다.
+     */
+    public enum WaitStrategy {
+        /** 계속 다시 확인합니다. 지연은 가장 짧지만 기다리는 동안 코어 하나를 점유합니다. */
+        BUSY_SPIN,
+        /** 확인 사이에 다른 스레드에게 CPU를 양보합니다. */
+        YIELD,
+        /** 스레드를 재우고, 상대편이 신호를 보내면 깨어납니다. 기다리는 동안 CPU를 쓰지 않습니다. */
+        PARK,
+        /** 처음에는 스핀, 다음에는 양보, 그 뒤로는 점점 길게 잠들었다 깨어 다시 확인합니다 (신호 없음). */
+        TIMED
+    }
+
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 200;
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long NO_TIMEOUT = Long.MAX_VALUE;
+
+    private final MyConcurrentQueue<T> queue;
+    private final WaitStrategy strategy;
+
+    // PARK 대기자와 pollAsync 대기자는 이 락으로 관리합니다.
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final AtomicInteger waitingConsumers = new AtomicInteger();
+    private final AtomicInteger waitingProducers = new AtomicInteger();
+    private final MyDeque<CompletableFuture<T>> pendingPolls = new MyDeque<>();
+    private final AtomicInteger pendingPollCount = new AtomicInteger();
+    // 취소된 pollAsync에 넘기지 못하고 돌아온 요소들. 큐의 어떤 요소보다 먼저 들어온 것이므로 먼저 꺼냄
+    private final MyDeque<T> handoff = new MyDeque<>();
+    private final AtomicInteger handoffCount = new AtomicInteger();
+
+    /**
+     * 다중 생산자/다중 소비자 큐(MyMpmcQueue)를 만들어 사용하는 생성자입니다.
+     *
+     * @param capacity 최대 요소 수 (2의 거듭제곱으로 올림됩니다)
+     * @param strategy 기다리는 방법
+     */
+    public MyBlockingQueue(int capacity, WaitStrategy strategy) {
+        this(new MyMpmcQueue<>(capacity), strategy);
+    }
+
+    /**
+     * 주어진 큐를 감싸는 생성자입니다. 생산자/소비자 스레드 수는 감싼 큐의 제약을 따릅니다
+     * (예: MySpscQueue를 감쌌다면 take를 호출하는 스레드도 하나여야 합니다).
+     * pollAsync는 여러 소비자처럼 동작하므로 MPMC 큐에서만 다른 소비 메소드와 섞어 쓸 수 있습니다.
+     *
+     * @param queue    실제로 요소를 저장할 큐
+     * @param strategy 기다리는 방법
+     */
+    public MyBlockingQueue(MyConcurrentQueue<T> queue, WaitStrategy strategy) {
+        if (queue == null || strategy == null) {
+            throw new IllegalArgumentException("Queue and strategy cannot be null");
+        }
+        this.queue = queue;
+        this.strategy = strategy;
+    }
+
+    /**
+     * 요소를 추가합니다. 기다리지 않습니다.
+     *
+     * @param element 추가할 요소 (null 불가)
+     * @return 추가했으면 true, 큐가 가득 찼으면 false
+     */
+    public boolean offer(T element) {
+        if (!queue.offer(element)) {
+            return false;
+        }
+        signalNotEmpty();
+        return true;
+    }
+
+    /**
+     * 빈 칸이 생길 때까지 기다렸다가 요소를 추가합니다.
+     *
+     * @param element 추가할 요소 (null 불가)
+     * @throws InterruptedException 기다리는 중 인터럽트된 경우
+     */
+    public void put(T element) throws InterruptedException {
+        offerWithin(element, NO_TIMEOUT);
+    }
+
+    /**
+     * 빈 칸이 생길 때까지 최대 timeout만큼 기다렸다가 요소를 추가합니다.
+     *
+     * @return 추가했으면 true, 시간이 지나도록 가득 차 있으면 false
+     * @throws InterruptedException 기다리는 중 인터럽트된 경우
+     */
+    public boolean offer(T element, long timeout, TimeUnit unit) throws InterruptedException {
+        return offerWithin(element, toNanos(timeout, unit));
+    }
+
+    /**
+     * 요소를 꺼냅니다. 기다리지 않습니다.
+     *
+     * @return 꺼낸 요소, 비어 있으면 null
+     */
+    public T poll() {
+        T element = pollHandoff();
+        if (element == null) {
+            element = queue.poll();
+        }
+        if (element != null) {
+            signalNotFull();
+        }
+        return element;
+    }
+
+    /**
+     * 요소가 들어올 때까지 기다렸다가 꺼냅니다.
+     *
+     * @return 꺼낸 요소
+     * @throws InterruptedException 기다리는 중 인터럽트된 경우
+     */
+    public T take() throws InterruptedException {
+        return pollWithin(NO_TIMEOUT);
+    }
+
+    /**
+     * 요소가 들어올 때까지 최대 timeout만큼 기다렸다가 꺼냅니다.
+     *
+     * @return 꺼낸 요소, 시간이 지나도록 비어 있으면 null
+     * @throws InterruptedException 기다리는 중 인터럽트된 경우
+     */
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+        return pollWithin(toNanos(timeout, unit));
+    }
+
+    /**
+     * 요소를 꺼내는 CompletableFuture를 반환합니다. 스레드를 붙잡아 두지 않고 기다리므로
+     * 리액티브 코드나 가상 스레드에서 콜백(thenAccept 등)으로 이어 쓰기 좋습니다.
+     * <p>
+     * 지금 요소가 있으면 이미 완료된 Future를, 없으면 다음에 offer된 요소로 완료될 Future를 반환합니다.
+     * 먼저 요청한 pollAsync가 먼저 완료됩니다. 취소된 Future에는 요소를 넘기지 않습니다.
+     * 미리 등록한 콜백은 요소를 넣은 스레드에서 (내부 락을 놓은 뒤) 실행되므로,
+     * 오래 걸리는 작업은 thenAcceptAsync 등으로 다른 실행기에 넘기는 것이 좋습니다.
+     *
+     * @return 꺼낸 요소로 완료될 Future
+     */
+    public CompletableFuture<T> pollAsync() {
+        T element = poll();
+        if (element != null) {
+            return CompletableFuture.completedFuture(element);
+        }
+        CompletableFuture<T> future = new CompletableFuture<>();
+        lock.lock();
+        try {
+            pendingPolls.offerLast(future);
+            pendingPollCount.incrementAndGet();
+        } finally {
+            lock.unlock();
+        }
+        // 등록하는 사이에 들어온 요소가 있을 수 있으므로 한 번 더 나눠줌
+        dispatchPendingPolls();
+        return future;
+    }
+
+    /**
+     * 요소가 들어오면 callback을 호출하도록 등록합니다. pollAsync().thenAccept(callback)과 같습니다.
+     *
+     * @param callback 꺼낸 요소를 받을 함수
+     */
+    public void pollAsync(Consumer<? super T> callback) {
+        pollAsync().thenAccept(callback);
+    }
+
+    /**
+     * 최대 maxElements개의 요소를 꺼내 sink에 넘깁니다. 기다리지 않습니다.
+     *
+     * @return 실제로 꺼낸 요소 수
+     */
+    public int drainTo(Consumer<? super T> sink, int maxElements) {
+        int drained = 0;
+        for (T element; drained < maxElements && (element = pollHandoff()) != null; drained++) {
+            sink.accept(element);
+        }
+        drained += queue.drainTo(sink, maxElements - drained);
+        if (drained > 0) {
+            signalNotFull();
+        }
+        return drained;
+    }
+
+    public int size() {
+        return queue.size() + handoffCount.get();
+    }
+
+    public boolean isEmpty() {
+        return handoffCount.get() == 0 && queue.isEmpty();
+    }
+
+    public int capacity() {
+        return queue.capacity();
+    }
+
+    public WaitStrategy waitStrategy() {
+        return strategy;
+    }
+
+    /**
+     * 최대 nanos만큼 기다리며 요소를 꺼냅니다 (NO_TIMEOUT이면 무한히).
+     * 남은 시간은 java.util.concurrent의 클래스들처럼 "deadline - 현재 시각"의 차이로만 계산합니다.
+     * System.nanoTime()은 음수일 수도 있으므로 절대 시각끼리 크기를 비교하지 않습니다 (차이는 오버플로에도 안전).
+     */
+    private T pollWithin(long nanos) throws InterruptedException {
+        boolean timed = nanos != NO_TIMEOUT;
+        long deadline = timed ? System.nanoTime() + nanos : 0L;
+        int idle = 0;
+        while (true) {
+            T element = poll();
+            if (element != null) {
+                return element;
+            }
+            long remaining = timed ? deadline - System.nanoTime() : NO_TIMEOUT;
+            if (remaining <= 0) {
+                return null;
+            }
+            idle = await(idle, remaining, notEmpty, waitingConsumers, true);
+        }
+    }
+
+    /**
+     * 최대 nanos만큼 기다리며 요소를 추가합니다 (NO_TIMEOUT이면 무한히). 시간 계산은 pollWithin과 같습니다.
+     */
+    private boolean offerWithin(T element, long nanos) throws InterruptedException {
+        boolean timed = nanos != NO_TIMEOUT;
+        long deadline = timed ? System.nanoTime() + nanos : 0L;
+        int idle = 0;
+        while (!offer(element)) {
+            long remaining = timed ? deadline - System.nanoTime() : NO_TIMEOUT;
+            if (remaining <= 0) {
+                return false;
+            }
+            idle = await(idle, remaining, notFull, waitingProducers, false);
+        }
+        return true;
+    }
+
+    /**
+     * 전략에 따라 한 번 기다립니다. 돌아온 뒤에는 호출한 쪽이 큐를 다시 확인합니다.
+     *
+     * @param idle 지금까지 연속으로 기다린 횟수
+     * @return 다음 호출에 넘길 idle
+     */
+    private int await(int idle, long remainingNanos, Condition condition, AtomicInteger waiting,
+            boolean forElement) throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        switch (strategy) {
+            case BUSY_SPIN -> Thread.onSpinWait();
+            case YIELD -> Thread.yield();
+            case TIMED -> {
+                if (idle < SPIN_TRIES) {
+                    Thread.onSpinWait();
+                } else if (idle < YIELD_TRIES) {
+                    Thread.yield();
+                } else {
+                    // 1µs부터 두 배씩 늘려 최대 1ms까지 잠듦
+                    long backoff = Math.min(MAX_PARK_NANOS, 1_000L << Math.min(idle - YIELD_TRIES, 10));
+                    LockSupport.parkNanos(this, Math.min(backoff, remainingNanos));
+                }
+            }
+            case PARK -> {
+                lock.lockInterruptibly();
+                try {
+                    // 대기자 수를 먼저 올린 뒤 다시 확인해야, 그 사이의 신호를 놓치지 않음 (signalNotEmpty 참고)
+                    waiting.incrementAndGet();
+                    if (forElement ? isEmpty() : queue.size() >= queue.capacity()) {
+                        if (remainingNanos == NO_TIMEOUT) {
+                            condition.await();
+                        } else {
+                            condition.awaitNanos(remainingNanos);
+                        }
+                    }
+                } finally {
+                    waiting.decrementAndGet();
+                    lock.unlock();
+                }
+            }
+        }
+        return idle + 1;
+    }
+
+    /**
+     * 요소가 추가된 뒤 호출합니다. 기다리는 소비자나 pollAsync가 있을 때만 락을 잡습니다.
+     * <p>
+     * 생산자는 "요소 쓰기 → 대기자 수 읽기", 소비자는 "대기자 수 올리기 → 큐 읽기" 순서이므로,
+     * 양쪽 사이에 전체 펜스가 있으면 적어도 한쪽은 상대의 쓰기를 봅니다. 그래서 신호가 유실되지 않습니다.
+     */
+    private void signalNotEmpty() {
+        VarHandle.fullFence();
+        if (pendingPollCount.get() > 0) {
+            dispatchPendingPolls();
+        }
+        if (waitingConsumers.get() > 0) {
+            lock.lock();
+            try {
+                notEmpty.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 빈 칸이 생긴 뒤 호출합니다. 기다리는 생산자가 있을 때만 락을 잡습니다.
+     */
+    private void signalNotFull() {
+        VarHandle.fullFence();
+        if (waitingProducers.get() > 0) {
+            lock.lock();
+            try {
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 기다리는 pollAsync에게 큐의 요소를 먼저 요청한 순서대로 나눠줍니다.
+     * 락 안에서는 (Future, 요소) 짝만 정하고, 사용자 콜백이 실행되는 complete는 락을 놓은 뒤에 부릅니다.
+     * <p>
+     * Future의 취소(cancel)는 락과 상관없이 일어나므로, 짝을 정한 뒤 complete하기 전에 취소될 수 있습니다.
+     * 그렇게 돌려받은 요소는 큐에 다시 넣지 않고 handoff에 맨 앞 순서 그대로 보관합니다.
+     * 큐가 그 사이 가득 차도 기다릴 필요가 없고 (offer는 막히지 않음), poll/take/drainTo가 handoff를 먼저 확인하므로
+     * FIFO 순서도 유지됩니다. 돌려받은 요소가 있으면 남은 pollAsync에게 다시 나눠줍니다.
+     */
+    private void dispatchPendingPolls() {
+        while (true) {
+            MyArrayList<CompletableFuture<T>> futures = null;
+            MyArrayList<T> elements = null;
+            lock.lock();
+            try {
+                while (!pendingPolls.isEmpty()) {
+                    CompletableFuture<T> future = pendingPolls.peekFirst();
+                    if (future.isDone()) { // 취소됨
+                        pendingPolls.pollFirst();
+                        pendingPollCount.decrementAndGet();
+                        continue;
+                    }
+                    T element = pollHandoff();
+                    if (element == null) {
+                        element = queue.poll();
+                        if (element == null) {
+                            break;
+                        }
+                    }
+                    pendingPolls.pollFirst();
+                    pendingPollCount.decrementAndGet();
+                    if (futures == null) {
+                        futures = new MyArrayList<>();
+                        elements = new MyArrayList<>();
+                    }
+                    futures.add(future);
+                    elements.add(element);
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (futures == null) {
+                return;
+            }
+            signalNotFull();
+
+            MyArrayList<T> returned = null;
+            for (int i = 0; i < futures.size(); i++) {
+                if (!futures.get(i).complete(elements.get(i))) { // 그 사이 취소됨
+                    if (returned == null) {
+                        returned = new MyArrayList<>();
+                    }
+                    returned.add(elements.get(i));
+                }
+            }
+            if (returned == null) {
+                return;
+            }
+            lock.lock();
+            try {
+                for (int i = returned.size() - 1; i >= 0; i--) { // 원래 순서대로 맨 앞에 오도록 뒤에서부터
+                    handoff.offerFirst(returned.get(i));
+                    handoffCount.incrementAndGet();
+                }
+                notEmpty.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            // 남은 pollAsync가 있으면 돌려받은 요소를 다시 나눠줌
+        }
+    }
+
+    /**
+     * handoff에 돌아온 요소가 있으면 가장 앞의 것을 꺼냅니다. 평소에는 카운터만 읽고 락을 잡지 않습니다.
+     */
+    private T pollHandoff() {
+        if (handoffCount.get() == 0) {
+            return null;
+        }
+        lock.lock();
+        try {
+            if (handoff.isEmpty()) {
+                return null;
+            }
+            handoffCount.decrementAndGet();
+            return handoff.pollFirst();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * timeout을 나노초로 바꿉니다. 아주 긴 시간(Long.MAX_VALUE 나노초로 포화)은 시간 제한 없음으로 취급합니다.
+     */
+    private static long toNanos(long timeout, TimeUnit unit) {
+        return Math.max(0L, unit.toNanos(timeout));
+    }
+}
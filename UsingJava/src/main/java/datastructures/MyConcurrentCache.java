@@ -0,0 +1,509 @@
+package datastructures;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 여러 스레드가 동시에 사용할 수 있는 크기 제한 캐시 구현체입니다 (W-TinyLFU 정책).
+ *
+ * <p>구조:
+ * <ul>
+ * <li>데이터: {@link MyConcurrentHashMap}에 저장하여 조회는 락 없이 수행합니다.</li>
+ * <li>제거 순서: 캐시를 여러 세그먼트로 나누고, 세그먼트마다 접근 순서 모드의 {@link MyLinkedHashMap} 두 개
+ * (새 항목이 들어오는 작은 Window LRU, 나머지 대부분을 차지하는 Main LRU)로 관리합니다.</li>
+ * <li>읽기 버퍼: get마다 LRU 리스트를 바로 수정하면 락이 필요하므로, 읽은 키를 세그먼트별 링 버퍼에
+ * 락 없이 기록해 두었다가 쓰기 시 또는 버퍼가 찼을 때 한꺼번에 반영(Drain)합니다.
+ * 버퍼가 가득 차면 기록을 버리는데(Lossy), 순서 정보가 약간 부정확해질 뿐 정확성에는 영향이 없습니다.</li>
+ * <li>입장 정책(TinyLFU): Window에서 밀려난 후보와 Main의 제거 대상 중 최근 접근 빈도가 더 높은 쪽을 남깁니다.
+ * 빈도는 4비트 Count-Min Sketch로 근사하며, 주기적으로 절반으로 줄여 오래된 기록을 잊습니다.</li>
+ * </ul>
+ *
+ * @param <K> Key의 타입
+ * @param <V> Value의 타입
+ */
+public class MyConcurrentCache<K, V> {
+
+    /**
+     * 읽은 키를 락 없이 기록하는 고정 크기 링 버퍼입니다.
+     * 여러 스레드가 기록(offer)하고, 세그먼트 락을 잡은 스레드 하나만 비웁니다(drain).
+     */
+    private static final class ReadBuffer<K> {
+        static final int SIZE = 32;
+        static final int MASK = SIZE - 1;
+
+        final AtomicReferenceArray<K> buffer = new AtomicReferenceArray<>(SIZE);
+        final AtomicLong writeCounter = new AtomicLong();
+        volatile long readCounter;
+
+        /**
+         * @return 기록했으면 true, 버퍼가 가득 찼거나 경합으로 실패하면 false (기록은 버려짐)
+         */
+        boolean offer(K key) {
+            long tail = writeCounter.get();
+            if (tail - readCounter >= SIZE) {
+                return false;
+            }
+            if (writeCounter.compareAndSet(tail, tail + 1)) {
+                buffer.lazySet((int) (tail & MASK), key);
+                return true;
+            }
+            return false;
+        }
+
+        long pending() {
+            return writeCounter.get() - readCounter;
+        }
+
+        /**
+         * 기록된 키를 순서대로 꺼내 처리합니다. 세그먼트 락을 잡은 상태에서 호출해야 합니다.
+         */
+        void drainTo(Segment<K, ?> segment) {
+            long head = readCounter;
+            long tail = writeCounter.get();
+            for (; head < tail; head++) {
+                int index = (int) (head & MASK);
+                K key = buffer.get(index);
+                if (key == null) {
+                    break; // 슬롯은 예약되었지만 아직 값이 기록되지 않음
+                }
+                buffer.lazySet(index, null);
+                segment.onAccess(key);
+            }
+            readCounter = head;
+        }
+    }
+
+    /**
+     * 4비트 카운터를 사용하는 Count-Min Sketch입니다. 키의 최근 접근 빈도(0 ~ 15)를 근사합니다.
+     * 한 long에 16개의 카운터를 담고, 키마다 서로 다른 해시로 4개의 카운터를 골라 최솟값을 빈도로 봅니다.
+     */
+    private static final class FrequencySketch {
+        private static final long[] SEEDS = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL,
+                0xcbf29ce484222325L };
+        private static final long RESET_MASK = 0x7777777777777777L;
+
+        private final long[] table;
+        private final int tableMask;
+        private final int sampleSize; // 이만큼 증가하면 모든 카운터를 절반으로 (Aging)
+        private int additions;
+
+        FrequencySketch(int maximumSize) {
+            int length = 8;
+            while (length < maximumSize && length < (1 << 26)) {
+                length <<= 1;
+            }
+            this.table = new long[length];
+            this.tableMask = length - 1;
+            this.sampleSize = (int) Math.min(10L * Math.max(maximumSize, 1), Integer.MAX_VALUE);
+        }
+
+        int frequency(Object key) {
+            int hash = spread(key.hashCode());
+            int frequency = Integer.MAX_VALUE;
+            for (int i = 0; i < 4; i++) {
+                int shift = counterOf(hash, i) << 2;
+                int count = (int) ((table[indexOf(hash, i)] >>> shift) & 0xF);
+                frequency = Math.min(frequency, count);
+            }
+            return frequency;
+        }
+
+        void increment(Object key) {
+            int hash = spread(key.hashCode());
+            boolean added = false;
+            for (int i = 0; i < 4; i++) {
+                int index = indexOf(hash, i);
+                int shift = counterOf(hash, i) << 2;
+                if (((table[index] >>> shift) & 0xF) != 0xF) {
+                    table[index] += 1L << shift;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) {
+                reset();
+            }
+        }
+
+        /**
+         * 모든 카운터를 절반으로 줄여, 과거에만 인기 있던 키가 계속 자리를 차지하지 않도록 합니다.
+         */
+        private void reset() {
+            for (int i = 0; i < table.length; i++) {
+                table[i] = (table[i] >>> 1) & RESET_MASK;
+            }
+            additions >>>= 1;
+        }
+
+        private int indexOf(int hash, int i) {
+            long h = (hash + SEEDS[i]) * SEEDS[i];
+            h += h >>> 32;
+            return (int) h & tableMask;
+        }
+
+        private static int counterOf(int hash, int i) {
+            return (hash >>> (i << 3)) & 0xF;
+        }
+
+        private static int spread(int h) {
+            h ^= h >>> 16;
+            h *= 0x45d9f3b;
+            h ^= h >>> 16;
+            return h;
+        }
+    }
+
+    /**
+     * 독립적인 락, 제거 순서 리스트, 읽기 버퍼, 빈도 스케치를 가진 캐시의 한 조각입니다.
+     */
+    private static final class Segment<K, V> extends ReentrantLock {
+        private static final Object PRESENT = new Object();
+
+        final MyLinkedHashMap<K, Object> window = new MyLinkedHashMap<>(true);
+        final MyLinkedHashMap<K, Object> main = new MyLinkedHashMap<>(true);
+        final ReadBuffer<K> readBuffer = new ReadBuffer<>();
+        final FrequencySketch sketch;
+        final int windowMaximum;
+        final int mainMaximum;
+
+        Segment(int maximumSize) {
+            // 전체의 약 1%를 Window로 사용 (최소 1개)
+            this.windowMaximum = Math.max(1, maximumSize / 100);
+            this.mainMaximum = Math.max(0, maximumSize - windowMaximum);
+            this.sketch = new FrequencySketch(maximumSize);
+        }
+
+        /**
+         * 읽기 버퍼에서 꺼낸 키의 빈도를 올리고, 해당 키를 LRU 리스트의 맨 뒤로 옮깁니다.
+         */
+        void onAccess(K key) {
+            sketch.increment(key);
+            if (window.containsKey(key)) {
+                window.get(key);
+            } else {
+                main.get(key); // 이미 제거된 키라면 아무 일도 일어나지 않음
+            }
+        }
+
+        boolean contains(K key) {
+            return window.containsKey(key) || main.containsKey(key);
+        }
+
+        void remove(K key) {
+            window.remove(key);
+            main.remove(key);
+        }
+
+        /**
+         * 새 키를 Window에 넣고, 넘치는 만큼 TinyLFU 입장 정책으로 제거할 키를 골라 반환합니다.
+         *
+         * @return 캐시에서 제거해야 할 키, 없으면 null
+         */
+        K admit(K key) {
+            sketch.increment(key);
+            window.put(key, PRESENT);
+            if (window.size() <= windowMaximum) {
+                return null;
+            }
+
+            // Window에서 밀려난 후보를 Main으로 옮김
+            K candidate = window.eldestKey();
+            window.remove(candidate);
+            main.put(candidate, PRESENT);
+            if (main.size() <= mainMaximum) {
+                return null;
+            }
+
+            // Main이 넘치면 후보와 Main의 가장 오래된 키 중 빈도가 낮은 쪽을 제거
+            K victim = main.eldestKey();
+            K evicted = victim.equals(candidate) || sketch.frequency(candidate) <= sketch.frequency(victim)
+                    ? candidate
+                    : victim;
+            main.remove(evicted);
+            return evicted;
+        }
+    }
+
+    /**
+     * 캐시 통계의 스냅샷입니다.
+     */
+    public static final class Stats {
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+        private final long loadCount;
+        private final long totalLoadNanos;
+
+        Stats(long hitCount, long missCount, long evictionCount, long loadCount, long totalLoadNanos) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.evictionCount = evictionCount;
+            this.loadCount = loadCount;
+            this.totalLoadNanos = totalLoadNanos;
+        }
+
+        public long hitCount() {
+            return hitCount;
+        }
+
+        public long missCount() {
+            return missCount;
+        }
+
+        /**
+         * 조회 중 캐시에서 찾은 비율을 반환합니다. 조회가 없었다면 1.0입니다.
+         */
+        public double hitRate() {
+            long requests = hitCount + missCount;
+            return requests == 0 ? 1.0 : (double) hitCount / requests;
+        }
+
+        public long evictionCount() {
+            return evictionCount;
+        }
+
+        public long loadCount() {
+            return loadCount;
+        }
+
+        /**
+         * 값을 불러오는 데(loader 호출) 걸린 평균 시간(나노초)을 반환합니다.
+         */
+        public double averageLoadPenaltyNanos() {
+            return loadCount == 0 ? 0.0 : (double) totalLoadNanos / loadCount;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats{hits=" + hitCount + ", misses=" + missCount + ", hitRate=" + hitRate()
+                    + ", evictions=" + evictionCount + ", loads=" + loadCount
+                    + ", avgLoadPenaltyNanos=" + averageLoadPenaltyNanos() + "}";
+        }
+    }
+
+    private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+    private static final int MIN_SEGMENT_SIZE = 4; // 세그먼트가 너무 작으면 키 몇 개만 몰려도 서로 밀어냄
+    // 읽기 버퍼에 이만큼 쌓이면 락을 시도하여 비움
+    private static final int DRAIN_THRESHOLD = ReadBuffer.SIZE / 2;
+
+    private final MyConcurrentHashMap<K, V> data;
+    private final Segment<K, V>[] segments;
+    private final int segmentMask;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder totalLoadNanos = new LongAdder();
+
+    /**
+     * 최대 크기를 지정하여 생성합니다.
+     *
+     * @param maximumSize 캐시에 담을 최대 엔트리 수
+     */
+    public MyConcurrentCache(int maximumSize) {
+        this(maximumSize, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * 최대 크기와 동시성 수준을 지정하여 생성합니다.
+     * 최대 크기는 세그먼트들에 빠짐없이 나누어 적용됩니다 (나머지는 앞쪽 세그먼트에 하나씩 더 줌).
+     * 세그먼트 몫의 합이 정확히 maximumSize이므로 전체 크기는 maximumSize를 넘지 않지만,
+     * 키가 일부 세그먼트에 몰리면 그 세그먼트의 몫만큼만 담기므로 전체 크기는 약간 적을 수 있습니다.
+     * 세그먼트마다 최소 4개는 담을 수 있도록, 세그먼트 수는 maximumSize / 4를 넘지 않습니다.
+     *
+     * @param maximumSize      캐시에 담을 최대 엔트리 수
+     * @param concurrencyLevel 동시에 접근할 것으로 예상되는 스레드 수 (세그먼트 수의 기준)
+     */
+    @SuppressWarnings("unchecked")
+    public MyConcurrentCache(int maximumSize, int concurrencyLevel) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Illegal maximum size: " + maximumSize);
+        }
+        if (concurrencyLevel <= 0) {
+            throw new IllegalArgumentException("Illegal concurrency level: " + concurrencyLevel);
+        }
+
+        int segmentCount = 1;
+        while (segmentCount < concurrencyLevel && (segmentCount << 1) * MIN_SEGMENT_SIZE <= maximumSize) {
+            segmentCount <<= 1;
+        }
+        this.segmentMask = segmentCount - 1;
+        this.segments = (Segment<K, V>[]) new Segment[segmentCount];
+        int perSegment = maximumSize / segmentCount;
+        int remainder = maximumSize % segmentCount;
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(i < remainder ? perSegment + 1 : perSegment);
+        }
+        this.data = new MyConcurrentHashMap<>(maximumSize, segmentCount);
+    }
+
+    /**
+     * 캐시에 있는 값을 반환합니다. 락을 잡지 않습니다.
+     *
+     * @param key 찾을 키
+     * @return 캐시된 값, 없으면 null
+     */
+    public V getIfPresent(K key) {
+        V value = data.get(key);
+        if (value == null) {
+            missCount.increment();
+            return null;
+        }
+        hitCount.increment();
+        recordRead(key);
+        return value;
+    }
+
+    /**
+     * 캐시에 있는 값을 반환하고, 없으면 loader로 불러와 저장합니다.
+     * 같은 키를 여러 스레드가 동시에 불러오면 loader가 여러 번 호출될 수 있지만, 저장되는 값은 하나입니다.
+     *
+     * @param key    찾을 키
+     * @param loader 값을 불러올 함수 (null을 반환하면 저장하지 않음)
+     * @return 캐시된 값 또는 새로 불러온 값
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V value = getIfPresent(key);
+        if (value != null) {
+            return value;
+        }
+
+        long start = System.nanoTime();
+        V loaded = loader.apply(key);
+        totalLoadNanos.add(System.nanoTime() - start);
+        loadCount.increment();
+        if (loaded == null) {
+            return null;
+        }
+        return putIfAbsent(key, loaded);
+    }
+
+    /**
+     * 값을 저장합니다. 이미 있으면 덮어씁니다.
+     * 크기를 넘으면 입장 정책에 따라 기존 엔트리 또는 방금 넣은 엔트리가 제거될 수 있습니다.
+     *
+     * @param key   저장할 키
+     * @param value 저장할 값
+     */
+    public void put(K key, V value) {
+        write(key, value, false);
+    }
+
+    /**
+     * 키를 캐시에서 제거합니다.
+     *
+     * @param key 제거할 키
+     */
+    public void invalidate(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        segment.lock();
+        try {
+            segment.readBuffer.drainTo(segment);
+            data.remove(key);
+            segment.remove(key);
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    /**
+     * 캐시에 저장된 엔트리의 개수를 반환합니다.
+     *
+     * @return 저장된 개수
+     */
+    public int size() {
+        return data.size();
+    }
+
+    /**
+     * 지금까지의 통계를 반환합니다.
+     *
+     * @return 통계 스냅샷
+     */
+    public Stats stats() {
+        return new Stats(hitCount.sum(), missCount.sum(), evictionCount.sum(), loadCount.sum(),
+                totalLoadNanos.sum());
+    }
+
+    /**
+     * 모든 세그먼트의 읽기 버퍼를 즉시 반영합니다.
+     */
+    public void cleanUp() {
+        for (Segment<K, V> segment : segments) {
+            segment.lock();
+            try {
+                segment.readBuffer.drainTo(segment);
+            } finally {
+                segment.unlock();
+            }
+        }
+    }
+
+    // --- 내부 헬퍼 메소드 ---
+
+    private V putIfAbsent(K key, V value) {
+        return write(key, value, true);
+    }
+
+    /**
+     * 세그먼트 락을 잡고 값을 저장한 뒤, 필요하면 엔트리를 제거합니다.
+     *
+     * @return onlyIfAbsent이고 이미 값이 있으면 기존 값, 그 외에는 저장한 값
+     */
+    private V write(K key, V value, boolean onlyIfAbsent) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+        Segment<K, V> segment = segmentFor(key);
+        segment.lock();
+        try {
+            segment.readBuffer.drainTo(segment);
+
+            if (segment.contains(key)) {
+                if (onlyIfAbsent) {
+                    return data.get(key);
+                }
+                data.put(key, value);
+                segment.onAccess(key);
+                return value;
+            }
+
+            data.put(key, value);
+            K evicted = segment.admit(key);
+            if (evicted != null) {
+                data.remove(evicted);
+                evictionCount.increment();
+            }
+            return value;
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    /**
+     * 읽은 키를 버퍼에 기록하고, 충분히 쌓였으면 락을 시도하여 한꺼번에 반영합니다.
+     * 다른 스레드가 이미 락을 잡고 있다면 기다리지 않고 넘어갑니다.
+     */
+    private void recordRead(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        boolean recorded = segment.readBuffer.offer(key);
+        if ((!recorded || segment.readBuffer.pending() >= DRAIN_THRESHOLD) && segment.tryLock()) {
+            try {
+                segment.readBuffer.drainTo(segment);
+            } finally {
+                segment.unlock();
+            }
+        }
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        int h = key.hashCode() * 0x9E3779B9;
+        return segments[(h >>> 16) & segmentMask];
+    }
+}
@@ -0,0 +1,444 @@
+package datastructures;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 여러 스레드가 동시에 사용할 수 있는 해시 맵 구현체입니다.
+ * 전체 맵을 하나의 락으로 감싸는 대신, 맵을 여러 세그먼트(Segment)로 나누고 세그먼트마다 락을 둡니다 (Lock Striping).
+ * 서로 다른 세그먼트에 대한 쓰기는 동시에 진행되며, 읽기(get)는 락 없이 수행됩니다.
+ *
+ * <ul>
+ * <li>읽기: 테이블과 노드의 next/value가 volatile이므로 락 없이도 완성된 노드만 보입니다.</li>
+ * <li>쓰기: 해당 세그먼트의 락만 잡습니다.</li>
+ * <li>확장: 세그먼트별로 독립적으로 수행되어 다른 세그먼트의 읽기/쓰기를 막지 않으며,
+ * 새 테이블을 완성한 뒤 한 번에 교체하므로 확장 중에도 읽기는 이전 테이블로 계속 진행됩니다.</li>
+ * </ul>
+ *
+ * @param <K> Key의 타입
+ * @param <V> Value의 타입
+ */
+public class MyConcurrentHashMap<K, V> {
+
+    /**
+     * 세그먼트 테이블의 각 버킷에 저장될 노드입니다.
+     */
+    private static final class Node<K, V> {
+        final int hash;
+        final K key;
+        volatile V value;
+        volatile Node<K, V> next;
+
+        Node(int hash, K key, V value, Node<K, V> next) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    /**
+     * 독립적인 락과 해시 테이블을 가진 맵의 한 조각입니다.
+     */
+    private static final class Segment<K, V> extends ReentrantLock {
+        volatile AtomicReferenceArray<Node<K, V>> table;
+        volatile int count;
+        int threshold;
+
+        Segment(int capacity) {
+            this.table = new AtomicReferenceArray<>(capacity);
+            this.threshold = (int) (capacity * LOAD_FACTOR);
+        }
+
+        V get(int hash, K key) {
+            AtomicReferenceArray<Node<K, V>> tab = table;
+            Node<K, V> current = tab.get(hash & (tab.length() - 1));
+            while (current != null) {
+                if (current.hash == hash && current.key.equals(key)) {
+                    return current.value;
+                }
+                current = current.next;
+            }
+            return null;
+        }
+
+        /**
+         * 락을 잡은 상태에서 호출해야 합니다.
+         */
+        Node<K, V> findLocked(int hash, K key) {
+            AtomicReferenceArray<Node<K, V>> tab = table;
+            Node<K, V> current = tab.get(hash & (tab.length() - 1));
+            while (current != null) {
+                if (current.hash == hash && current.key.equals(key)) {
+                    return current;
+                }
+                current = current.next;
+            }
+            return null;
+        }
+
+        /**
+         * 새 노드를 버킷 맨 앞에 추가합니다. 락을 잡은 상태에서 호출해야 합니다.
+         */
+        void insertLocked(int hash, K key, V value) {
+            if (count + 1 > threshold) {
+                rehash();
+            }
+            AtomicReferenceArray<Node<K, V>> tab = table;
+            int index = hash & (tab.length() - 1);
+            tab.set(index, new Node<>(hash, key, value, tab.get(index)));
+            count = count + 1; // volatile 쓰기로 변경 사항을 게시
+        }
+
+        /**
+         * 노드를 버킷에서 떼어냅니다. 락을 잡은 상태에서 호출해야 합니다.
+         * 떼어낸 노드의 next는 그대로 두므로, 이 노드를 읽고 있던 스레드도 나머지 체인을 계속 따라갈 수 있습니다.
+         */
+        V removeLocked(int hash, K key) {
+            AtomicReferenceArray<Node<K, V>> tab = table;
+            int index = hash & (tab.length() - 1);
+            Node<K, V> prev = null;
+            Node<K, V> current = tab.get(index);
+            while (current != null) {
+                if (current.hash == hash && current.key.equals(key)) {
+                    if (prev == null) {
+                        tab.set(index, current.next);
+                    } else {
+                        prev.next = current.next;
+                    }
+                    count = count - 1;
+                    return current.value;
+                }
+                prev = current;
+                current = current.next;
+            }
+            return null;
+        }
+
+        /**
+         * 테이블을 2배로 확장합니다. 락을 잡은 상태에서 호출해야 합니다.
+         * 기존 노드의 next는 건드리지 않고 새 테이블을 완성한 뒤 교체하므로,
+         * 락 없이 이전 테이블을 읽는 스레드도 항상 올바른 체인을 봅니다.
+         * 체인 끝부분에서 모두 같은 새 버킷으로 가는 구간(lastRun)은 복사하지 않고 그대로 재사용합니다.
+         */
+        void rehash() {
+            AtomicReferenceArray<Node<K, V>> oldTable = table;
+            int oldCapacity = oldTable.length();
+            if (oldCapacity >= MAXIMUM_SEGMENT_CAPACITY) {
+                return;
+            }
+            int newCapacity = oldCapacity * 2;
+            int mask = newCapacity - 1;
+            AtomicReferenceArray<Node<K, V>> newTable = new AtomicReferenceArray<>(newCapacity);
+
+            for (int i = 0; i < oldCapacity; i++) {
+                Node<K, V> head = oldTable.get(i);
+                if (head == null) {
+                    continue;
+                }
+                // 같은 새 인덱스로 가는 마지막 연속 구간 찾기
+                Node<K, V> lastRun = head;
+                int lastIndex = head.hash & mask;
+                for (Node<K, V> p = head.next; p != null; p = p.next) {
+                    int index = p.hash & mask;
+                    if (index != lastIndex) {
+                        lastIndex = index;
+                        lastRun = p;
+                    }
+                }
+                newTable.set(lastIndex, lastRun);
+                // lastRun 앞쪽의 노드들은 복사해서 새 테이블에 연결
+                for (Node<K, V> p = head; p != lastRun; p = p.next) {
+                    int index = p.hash & mask;
+                    newTable.set(index, new Node<>(p.hash, p.key, p.value, newTable.get(index)));
+                }
+            }
+            table = newTable;
+            threshold = (int) (newCapacity * LOAD_FACTOR);
+        }
+    }
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final int MAX_SEGMENTS = 1 << 16;
+    private static final int MAXIMUM_SEGMENT_CAPACITY = 1 << 30;
+
+    private final Segment<K, V>[] segments;
+    private final int segmentShift; // 세그먼트 선택에 사용할 상위 비트 위치
+    private final int segmentMask;
+
+    public MyConcurrentHashMap() {
+        this(DEFAULT_CAPACITY, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * 초기 용량을 지정하여 생성합니다.
+     *
+     * @param initialCapacity 초기 용량
+     */
+    public MyConcurrentHashMap(int initialCapacity) {
+        this(initialCapacity, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * 초기 용량과 동시성 수준을 지정하여 생성합니다.
+     *
+     * @param initialCapacity  초기 용량 (세그먼트들에 나누어 할당됩니다)
+     * @param concurrencyLevel 동시에 쓰기를 수행할 것으로 예상되는 스레드 수 (세그먼트 수의 기준)
+     */
+    @SuppressWarnings("unchecked")
+    public MyConcurrentHashMap(int initialCapacity, int concurrencyLevel) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal initial capacity: " + initialCapacity);
+        }
+        if (concurrencyLevel <= 0) {
+            throw new IllegalArgumentException("Illegal concurrency level: " + concurrencyLevel);
+        }
+
+        int segmentCount = 1;
+        int shift = 0;
+        while (segmentCount < Math.min(concurrencyLevel, MAX_SEGMENTS)) {
+            segmentCount <<= 1;
+            shift++;
+        }
+        this.segmentShift = 32 - shift;
+        this.segmentMask = segmentCount - 1;
+
+        int perSegment = 2;
+        while (perSegment * segmentCount < initialCapacity && perSegment < MAXIMUM_SEGMENT_CAPACITY) {
+            perSegment <<= 1;
+        }
+        this.segments = (Segment<K, V>[]) new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(perSegment);
+        }
+    }
+
+    /**
+     * Key에 해당하는 Value를 저장합니다.
+     * 이미 Key가 존재하면 Value를 덮어씁니다.
+     *
+     * @param key   저장할 키
+     * @param value 저장할 값
+     * @return 이전 값, 없었으면 null
+     */
+    public V put(K key, V value) {
+        checkValue(value);
+        int hash = hash(key);
+        Segment<K, V> segment = segmentFor(hash);
+        segment.lock();
+        try {
+            Node<K, V> node = segment.findLocked(hash, key);
+            if (node != null) {
+                V oldValue = node.value;
+                node.value = value;
+                return oldValue;
+            }
+            segment.insertLocked(hash, key, value);
+            return null;
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    /**
+     * Key가 없을 때만 저장합니다. (원자적 연산)
+     *
+     * @param key   저장할 키
+     * @param value 저장할 값
+     * @return 이미 존재하던 값, 새로 저장했으면 null
+     */
+    public V putIfAbsent(K key, V value) {
+        checkValue(value);
+        int hash = hash(key);
+        Segment<K, V> segment = segmentFor(hash);
+        segment.lock();
+        try {
+            Node<K, V> node = segment.findLocked(hash, key);
+            if (node != null) {
+                return node.value;
+            }
+            segment.insertLocked(hash, key, value);
+            return null;
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    /**
+     * Key가 없을 때만 함수로 값을 계산하여 저장합니다. (원자적 연산)
+     * 같은 Key에 대해 여러 스레드가 동시에 호출해도 함수는 한 번만 실행됩니다.
+     * 함수는 세그먼트 락을 잡은 채 실행되므로, 함수 안에서 같은 Key를 저장하면 안 됩니다.
+     *
+     * @param key             키
+     * @param mappingFunction 값을 계산할 함수 (null을 반환하면 저장하지 않음)
+     * @return 현재(기존 또는 새로 계산된) 값
+     * @throws IllegalStateException 함수가 실행 중에 같은 Key를 저장한 경우 (재귀 갱신)
+     */
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        int hash = hash(key);
+        Segment<K, V> segment = segmentFor(hash);
+
+        // 빠른 경로: 이미 있으면 락 없이 반환
+        V value = segment.get(hash, key);
+        if (value != null) {
+            return value;
+        }
+
+        segment.lock();
+        try {
+            Node<K, V> node = segment.findLocked(hash, key);
+            if (node != null) {
+                return node.value;
+            }
+            value = mappingFunction.apply(key);
+            // 락은 재진입 가능하므로 함수 안의 put이 막히지 않음. 그대로 넣으면 같은 Key의 노드가 둘이 됨
+            if (segment.findLocked(hash, key) != null) {
+                throw new IllegalStateException("Recursive update");
+            }
+            if (value != null) {
+                segment.insertLocked(hash, key, value);
+            }
+            return value;
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    /**
+     * Key가 없으면 주어진 값을 저장하고, 있으면 기존 값과 합친 결과를 저장합니다. (원자적 연산)
+     *
+     * @param key               키
+     * @param value             저장하거나 합칠 값
+     * @param remappingFunction (기존 값, 주어진 값)으로 새 값을 계산하는 함수 (null을 반환하면 삭제)
+     * @return 새 값, 삭제되었으면 null
+     * @throws IllegalStateException 함수가 실행 중에 같은 Key를 바꾼 경우 (재귀 갱신)
+     */
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        checkValue(value);
+        int hash = hash(key);
+        Segment<K, V> segment = segmentFor(hash);
+        segment.lock();
+        try {
+            Node<K, V> node = segment.findLocked(hash, key);
+            if (node == null) {
+                segment.insertLocked(hash, key, value);
+                return value;
+            }
+            V newValue = remappingFunction.apply(node.value, value);
+            if (segment.findLocked(hash, key) != node) {
+                throw new IllegalStateException("Recursive update");
+            }
+            if (newValue == null) {
+                segment.removeLocked(hash, key);
+            } else {
+                node.value = newValue;
+            }
+            return newValue;
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    /**
+     * Key에 해당하는 Value를 반환합니다. 락을 잡지 않습니다.
+     *
+     * @param key 찾을 키
+     * @return 키에 해당하는 값, 없으면 null
+     */
+    public V get(K key) {
+        int hash = hash(key);
+        return segmentFor(hash).get(hash, key);
+    }
+
+    /**
+     * Key가 존재하는지 확인합니다. 락을 잡지 않습니다.
+     *
+     * @param key 찾을 키
+     * @return 존재하면 true, 아니면 false
+     */
+    public boolean containsKey(K key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Key에 해당하는 엔트리를 삭제합니다.
+     *
+     * @param key 삭제할 키
+     * @return 삭제된 값, 없었으면 null
+     */
+    public V remove(K key) {
+        int hash = hash(key);
+        Segment<K, V> segment = segmentFor(hash);
+        segment.lock();
+        try {
+            return segment.removeLocked(hash, key);
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    /**
+     * 맵에 저장된 엔트리의 개수를 반환합니다.
+     * 다른 스레드가 동시에 수정 중이라면 근사값일 수 있습니다.
+     *
+     * @return 저장된 개수
+     */
+    public int size() {
+        long sum = 0;
+        for (Segment<K, V> segment : segments) {
+            sum += segment.count;
+        }
+        return (int) Math.min(sum, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 맵이 비어있는지 확인합니다.
+     *
+     * @return 비어있으면 true, 아니면 false
+     */
+    public boolean isEmpty() {
+        for (Segment<K, V> segment : segments) {
+            if (segment.count != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // --- 내부 헬퍼 메소드 ---
+
+    private Segment<K, V> segmentFor(int hash) {
+        // 버킷 인덱스는 하위 비트, 세그먼트는 상위 비트를 사용하여 서로 독립적으로 분산
+        return segments[(hash >>> segmentShift) & segmentMask];
+    }
+
+    /**
+     * hashCode()의 비트를 골고루 섞습니다 (MurmurHash3 fmix32).
+     * 세그먼트 선택에 상위 비트를 쓰므로 하위 비트만 다른 키도 상위 비트까지 퍼져야 합니다.
+     */
+    private static int hash(Object key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        int h = key.hashCode();
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    /**
+     * 값이 null이면 "없음"과 구분할 수 없으므로 허용하지 않습니다.
+     */
+    private static void checkValue(Object value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package datastructures;
+
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 여러 스레드가 동시에 사용할 수 있는 우선순위 큐입니다 (MultiQueue 방식).
+ * MyHeap 하나를 락 하나로 감싸면 모든 poll이 같은 락에서 줄을 서게 되므로,
+ * 힙을 여러 샤드(Shard)로 나누고 샤드마다 락을 둡니다.
+ *
+ * <ul>
+ * <li>insert: 무작위 샤드 하나에 넣습니다. 락이 잡혀 있으면 기다리지 않고 다른 샤드를 고릅니다.</li>
+ * <li>poll: 무작위로 고른 choices개 샤드의 최상위 요소를 락 없이 비교하고, 가장 우선순위가 높은 샤드에서 꺼냅니다.</li>
+ * </ul>
+ *
+ * <p><b>완화(Relaxation)</b>: poll이 전체에서 가장 우선순위가 높은 요소가 아니라 "거의" 가장 높은 요소를 반환할 수 있습니다.
+ * 샤드가 많을수록(처리량↑) 순서 오차가 커지고, choices가 클수록(비교 비용↑) 오차가 줄어듭니다.
+ * choices가 샤드 수 이상이면 모든 샤드를 비교하는 엄격(Strict) 모드가 되어,
+ * 동시에 삽입 중인 요소가 없다면 항상 전체 최상위 요소를 반환합니다.
+ *
+ * <p>MyConcurrentQueue와 마찬가지로 비어 있으면 poll이 null을 반환하므로, null 요소는 저장할 수 없습니다.
+ *
+ * @param <T> 데이터 타입 (Comparator를 주지 않으면 Comparable 구현 필요)
+ */
+public class MyConcurrentPriorityQueue<T> {
+
+    private static final int DEFAULT_CHOICES = 2;
+    private static final int MAX_TRY_LOCK_ATTEMPTS = 4;
+
+    /**
+     * 독립적인 락과 힙을 가진 큐의 한 조각입니다.
+     * 최상위 요소와 크기를 volatile로 따로 보관해, 다른 스레드가 락 없이 샤드를 비교할 수 있게 합니다.
+     */
+    private static final class Shard<T> extends ReentrantLock {
+        final MyHeap<T> heap;
+        volatile T top; // 비어 있으면 null
+        volatile int count;
+
+        Shard(Comparator<? super T> comparator) {
+            this.heap = new MyHeap<>(comparator);
+        }
+
+        /**
+         * 락을 잡은 상태에서, 힙이 바뀐 뒤 호출해야 합니다.
+         */
+        void publish() {
+            top = heap.isEmpty() ? null : heap.peek();
+            count = heap.size();
+        }
+    }
+
+    private final Shard<T>[] shards;
+    private final int choices;
+    private final Comparator<? super T> comparator;
+
+    /**
+     * 기본 생성자. 자연 순서의 최소 우선순위 큐로, 샤드 수는 코어 수의 2배, choices는 2입니다.
+     */
+    @SuppressWarnings("unchecked")
+    public MyConcurrentPriorityQueue() {
+        this((Comparator<? super T>) Comparator.naturalOrder());
+    }
+
+    /**
+     * 우선순위를 정할 Comparator를 지정하여 생성합니다. 샤드 수는 코어 수의 2배, choices는 2입니다.
+     *
+     * @param comparator 우선순위 비교에 사용할 Comparator (가장 작은 값이 최상위)
+     */
+    public MyConcurrentPriorityQueue(Comparator<? super T> comparator) {
+        this(false, comparator);
+    }
+
+    /**
+     * 엄격 모드 여부를 지정하여 생성합니다.
+     *
+     * @param strict     true면 poll이 모든 샤드를 비교합니다 (정확한 순서, 대신 poll마다 샤드 수만큼 비교)
+     * @param comparator 우선순위 비교에 사용할 Comparator (가장 작은 값이 최상위)
+     */
+    public MyConcurrentPriorityQueue(boolean strict, Comparator<? super T> comparator) {
+        this(defaultShardCount(), strict ? Integer.MAX_VALUE : DEFAULT_CHOICES, comparator);
+    }
+
+    /**
+     * 샤드 수와 poll이 비교할 샤드 수(choices)를 지정하여 생성합니다.
+     *
+     * @param shardCount 샤드 수 (1 이상). 많을수록 경합이 줄지만 순서 오차가 커집니다.
+     * @param choices    poll 한 번에 비교할 샤드 수 (1 이상). 샤드 수 이상이면 엄격 모드입니다.
+     * @param comparator 우선순위 비교에 사용할 Comparator (가장 작은 값이 최상위)
+     * @throws IllegalArgumentException shardCount나 choices가 1 미만이거나 comparator가 null인 경우
+     */
+    @SuppressWarnings("unchecked")
+    public MyConcurrentPriorityQueue(int shardCount, int choices, Comparator<? super T> comparator) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Illegal shard count: " + shardCount);
+        }
+        if (choices < 1) {
+            throw new IllegalArgumentException("Illegal choices: " + choices);
+        }
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator cannot be null");
+        }
+        this.comparator = comparator;
+        this.choices = Math.min(choices, shardCount);
+        this.shards = (Shard<T>[]) new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard<>(comparator);
+        }
+    }
+
+    /**
+     * 요소를 추가합니다.
+     *
+     * @param element 추가할 요소 (null 불가)
+     * @throws IllegalArgumentException element가 null인 경우
+     */
+    public void insert(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Element cannot be null");
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Shard<T> shard = shards[random.nextInt(shards.length)];
+        // 잡혀 있는 락을 기다리지 않고 다른 샤드를 시도. 몇 번 실패하면 그냥 기다림
+        for (int attempt = 1; !shard.tryLock(); attempt++) {
+            if (attempt >= MAX_TRY_LOCK_ATTEMPTS) {
+                shard.lock();
+                break;
+            }
+            shard = shards[random.nextInt(shards.length)];
+        }
+        try {
+            shard.heap.insert(element);
+            shard.publish();
+        } finally {
+            shard.unlock();
+        }
+    }
+
+    /**
+     * 우선순위가 (거의) 가장 높은 요소를 제거하고 반환합니다.
+     *
+     * @return 제거된 요소, 비어 있으면 null
+     */
+    public T poll() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        boolean strict = choices == shards.length;
+        while (true) {
+            Shard<T> best = strict ? bestOfAll() : bestOfRandom(random);
+            if (best == null) {
+                best = bestOfAll(); // 고른 샤드가 모두 비었으면 전체를 확인
+                if (best == null) {
+                    return null;
+                }
+            }
+            T seen = best.top;
+            // 엄격 모드는 고른 샤드를 기다려서라도 잡고, 완화 모드는 잡혀 있으면 다시 고름
+            if (strict) {
+                best.lock();
+            } else if (!best.tryLock()) {
+                continue;
+            }
+            try {
+                if (best.heap.isEmpty()) {
+                    continue; // 그 사이 다른 스레드가 비움
+                }
+                if (strict && seen != null && comparator.compare(best.heap.peek(), seen) > 0) {
+                    continue; // 그 사이 최상위가 꺼내져 다른 샤드가 더 나을 수 있음
+                }
+                T element = best.heap.poll();
+                best.publish();
+                return element;
+            } finally {
+                best.unlock();
+            }
+        }
+    }
+
+    /**
+     * 모든 샤드의 최상위 요소 중 우선순위가 가장 높은 것을 반환합니다. 락을 잡지 않으므로 근삿값입니다.
+     *
+     * @return 최상위 요소, 비어 있으면 null
+     */
+    public T peek() {
+        Shard<T> best = bestOfAll();
+        return best == null ? null : best.top;
+    }
+
+    /**
+     * 저장된 요소의 개수를 반환합니다. 다른 스레드가 동시에 변경 중이면 근삿값입니다.
+     *
+     * @return 요소 개수
+     */
+    public int size() {
+        int size = 0;
+        for (Shard<T> shard : shards) {
+            size += shard.count;
+        }
+        return size;
+    }
+
+    /**
+     * 비어있는지 확인합니다.
+     *
+     * @return 비어있으면 true, 아니면 false
+     */
+    public boolean isEmpty() {
+        for (Shard<T> shard : shards) {
+            if (shard.top != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 샤드 수를 반환합니다.
+     *
+     * @return 샤드 수
+     */
+    public int shardCount() {
+        return shards.length;
+    }
+
+    private Shard<T> bestOfRandom(ThreadLocalRandom random) {
+        Shard<T> best = null;
+        T bestTop = null;
+        for (int i = 0; i < choices; i++) {
+            Shard<T> shard = shards[random.nextInt(shards.length)];
+            T top = shard.top;
+            if (top != null && (bestTop == null || comparator.compare(top, bestTop) < 0)) {
+                best = shard;
+                bestTop = top;
+            }
+        }
+        return best;
+    }
+
+    private Shard<T> bestOfAll() {
+        Shard<T> best = null;
+        T bestTop = null;
+        for (Shard<T> shard : shards) {
+            T top = shard.top;
+            if (top != null && (bestTop == null || comparator.compare(top, bestTop) < 0)) {
+                best = shard;
+                bestTop = top;
+            }
+        }
+        return best;
+    }
+
+    private static int defaultShardCount() {
+        return Math.max(2, Runtime.getRuntime().availableProcessors() * 2);
+    }
+}
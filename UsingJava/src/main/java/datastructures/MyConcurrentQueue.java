@@ -0,0 +1,74 @@
+package datastructures;
+
+import java.util.function.Consumer;
+
+/**
+ * 스레드 사이에서 작업을 주고받는 크기 제한(Bounded) 동시성 큐의 공통 연산입니다.
+ * 생산자/소비자 스레드 수(토폴로지)에 따라 MySpscQueue, MyMpscQueue, MyMpmcQueue 중 하나를 고릅니다.
+ *
+ * <p>MyQueue와 달리 확인 후 동작(isEmpty → poll)이 다른 스레드 때문에 깨질 수 있으므로,
+ * 가득 차면 offer가 false를, 비어 있으면 poll이 null을 반환합니다. 그래서 null 요소는 저장할 수 없습니다.
+ *
+ * @param <T> 큐에 저장할 데이터의 타입
+ */
+public interface MyConcurrentQueue<T> {
+
+    /**
+     * 큐의 뒤쪽에 요소를 추가합니다. 기다리지 않습니다.
+     *
+     * @param element 추가할 요소 (null 불가)
+     * @return 추가했으면 true, 큐가 가득 찼으면 false
+     * @throws IllegalArgumentException element가 null인 경우
+     */
+    boolean offer(T element);
+
+    /**
+     * 큐의 앞쪽 요소를 제거하고 반환합니다. 기다리지 않습니다.
+     *
+     * @return 제거된 요소, 비어 있으면 null
+     */
+    T poll();
+
+    /**
+     * 여러 요소를 순서대로 한 번에 추가합니다. 공간이 모자라면 앞에서부터 들어갈 수 있는 만큼만 추가합니다.
+     * 인덱스 갱신을 묶어서 하므로 offer를 반복 호출하는 것보다 동기화 비용이 적습니다.
+     *
+     * @param elements 추가할 요소들 (null 불가)
+     * @return 실제로 추가한 요소 수 (elements의 앞에서부터)
+     * @throws IllegalArgumentException null 요소가 있는 경우 (아무것도 추가하지 않음)
+     */
+    int offerBatch(MyArrayList<? extends T> elements);
+
+    /**
+     * 최대 maxElements개의 요소를 꺼내 순서대로 sink에 넘깁니다. 기다리지 않습니다.
+     * sink가 예외를 던지면 그 요소까지는 꺼낸 것으로 보고, 아직 넘기지 않은 요소는 큐에 그대로 남긴 채
+     * 예외를 전파합니다. 모든 구현이 이 계약을 따르므로, 예외가 나도 요소가 사라지지 않습니다.
+     *
+     * @param sink        꺼낸 요소를 받을 함수
+     * @param maxElements 꺼낼 최대 개수
+     * @return 실제로 꺼낸 요소 수
+     */
+    int drainTo(Consumer<? super T> sink, int maxElements);
+
+    /**
+     * 큐에 저장된 요소의 개수를 반환합니다.
+     * 다른 스레드가 동시에 변경 중이면 근삿값입니다.
+     *
+     * @return 요소 개수
+     */
+    int size();
+
+    /**
+     * 큐가 비어있는지 확인합니다.
+     *
+     * @return 비어있으면 true, 아니면 false
+     */
+    boolean isEmpty();
+
+    /**
+     * 큐에 저장할 수 있는 최대 요소 수를 반환합니다.
+     *
+     * @return 용량 (2의 거듭제곱)
+     */
+    int capacity();
+}
@@ -0,0 +1,1160 @@
+package datastructures;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.AbstractMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 여러 스레드가 동시에 사용할 수 있는 정렬 맵 구현체입니다.
+ * 레드-블랙 트리는 회전 한 번에 여러 노드의 링크가 함께 바뀌므로 동시 쓰기에는 전역 락이 필요하지만,
+ * 스킵 리스트(Skip List)는 삽입/삭제가 링크 하나를 CAS로 바꾸는 것으로 끝나므로 락 없이(Lock-free) 구현할 수 있습니다.
+ *
+ * <ul>
+ * <li>구조: 맨 아래 층은 모든 노드를 정렬된 순서로 잇는 연결 리스트이고,
+ * 위 층의 인덱스는 탐색을 건너뛰기 위한 지름길입니다. 각 노드는 1/4 확률로 한 층씩 더 올라갑니다.</li>
+ * <li>삭제: 값을 null로 CAS하여 논리적으로 지운 뒤, 바로 뒤에 마커(Marker) 노드를 붙여
+ * 그 사이에 새 노드가 끼어들지 못하게 하고 나서 링크를 끊습니다.</li>
+ * <li>돕기(Helping): 삭제 중인 노드를 만난 스레드는 누구든 마저 끊어주므로, 한 스레드가 멈춰도 다른 스레드는 막히지 않습니다.</li>
+ * <li>반복자: 약한 일관성(Weakly Consistent)을 가집니다. ConcurrentModificationException을 던지지 않으며,
+ * 순회 도중의 변경은 반영될 수도 있고 안 될 수도 있지만 같은 키를 두 번 반환하지는 않습니다.</li>
+ * </ul>
+ *
+ * <p>MyTreeMap과 같은 탐색 연산과 subMap/headMap/tailMap 범위 뷰를 제공합니다.
+ * 뷰는 같은 스킵 리스트를 공유하며, 뷰의 size()는 범위를 순회하므로 O(k)입니다.
+ *
+ * @param <K> Key의 타입 (Comparable 구현 필요)
+ * @param <V> Value의 타입
+ */
+public class MyConcurrentSkipListMap<K extends Comparable<K>, V> {
+
+    // 맨 아래 층 헤더 노드의 값. 실제 값과 구분하기 위한 표식입니다.
+    private static final Object BASE_HEADER = new Object();
+
+    /**
+     * 맨 아래 층의 데이터 노드입니다.
+     * value가 null이면 삭제된 노드, value가 자기 자신이면 마커 노드입니다.
+     */
+    private static final class Node<K, V> {
+        final K key; // 헤더와 마커는 null
+        volatile Object value;
+        volatile Node<K, V> next;
+
+        Node(K key, Object value, Node<K, V> next) {
+            this.key = key;
+            this.value = value;
+            this.next = next;
+        }
+
+        /**
+         * 마커 노드를 생성합니다.
+         */
+        Node(Node<K, V> next) {
+            this.key = null;
+            this.value = this;
+            this.next = next;
+        }
+
+        boolean casValue(Object expect, Object update) {
+            return VALUE.compareAndSet(this, expect, update);
+        }
+
+        boolean casNext(Node<K, V> expect, Node<K, V> update) {
+            return NEXT.compareAndSet(this, expect, update);
+        }
+
+        boolean isBaseHeader() {
+            return value == BASE_HEADER;
+        }
+
+        /**
+         * 삭제된 노드 뒤에 마커를 붙입니다. 마커가 붙은 뒤에는 이 노드 뒤로 삽입할 수 없습니다.
+         */
+        boolean appendMarker(Node<K, V> f) {
+            return casNext(f, new Node<>(f));
+        }
+
+        /**
+         * 삭제된(value가 null인) 이 노드를 리스트에서 끊는 것을 돕습니다.
+         * 마커가 없으면 먼저 붙이고, 있으면 앞 노드 b의 링크를 마커 다음으로 건너뜁니다.
+         *
+         * @param b 앞 노드
+         * @param f 다음 노드
+         */
+        void helpDelete(Node<K, V> b, Node<K, V> f) {
+            if (f == next && this == b.next) {
+                if (f == null || f.value != f) {
+                    casNext(f, new Node<>(f));
+                } else {
+                    b.casNext(this, f.next);
+                }
+            }
+        }
+
+        /**
+         * 살아있는 데이터 노드면 값을, 아니면 null을 반환합니다.
+         */
+        @SuppressWarnings("unchecked")
+        V getValidValue() {
+            Object v = value;
+            if (v == this || v == BASE_HEADER) {
+                return null;
+            }
+            return (V) v;
+        }
+
+        private static final VarHandle VALUE;
+        private static final VarHandle NEXT;
+
+        static {
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                VALUE = lookup.findVarHandle(Node.class, "value", Object.class);
+                NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+    }
+
+    /**
+     * 위 층의 인덱스입니다. 같은 노드를 가리키는 인덱스가 층마다 하나씩 아래로 연결됩니다.
+     */
+    private static class Index<K, V> {
+        final Node<K, V> node;
+        final Index<K, V> down;
+        volatile Index<K, V> right;
+
+        Index(Node<K, V> node, Index<K, V> down, Index<K, V> right) {
+            this.node = node;
+            this.down = down;
+            this.right = right;
+        }
+
+        boolean casRight(Index<K, V> expect, Index<K, V> update) {
+            return RIGHT.compareAndSet(this, expect, update);
+        }
+
+        /**
+         * succ 앞에 newSucc를 끼워 넣습니다. 이 인덱스의 노드가 삭제되었으면 실패합니다.
+         */
+        boolean link(Index<K, V> succ, Index<K, V> newSucc) {
+            newSucc.right = succ;
+            return node.value != null && casRight(succ, newSucc);
+        }
+
+        /**
+         * 오른쪽 인덱스 succ를 건너뜁니다. 이 인덱스의 노드가 삭제되었으면 실패합니다.
+         */
+        boolean unlink(Index<K, V> succ) {
+            return node.value != null && casRight(succ, succ.right);
+        }
+
+        private static final VarHandle RIGHT;
+
+        static {
+            try {
+                RIGHT = MethodHandles.lookup().findVarHandle(Index.class, "right", Index.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+    }
+
+    /**
+     * 각 층의 맨 왼쪽 인덱스입니다. 자신이 몇 번째 층인지 기억합니다.
+     */
+    private static final class HeadIndex<K, V> extends Index<K, V> {
+        final int level;
+
+        HeadIndex(Node<K, V> node, Index<K, V> down, Index<K, V> right, int level) {
+            super(node, down, right);
+            this.level = level;
+        }
+    }
+
+    // findNear의 관계 비트
+    private static final int EQ = 1;
+    private static final int LT = 2;
+    private static final int GT = 0;
+
+    /**
+     * 모든 뷰가 공유하는 스킵 리스트 본체입니다.
+     */
+    private static final class SkipList<K extends Comparable<K>, V> {
+        volatile HeadIndex<K, V> head = new HeadIndex<>(new Node<>(null, BASE_HEADER, null), null, null, 1);
+        final LongAdder count = new LongAdder();
+
+        boolean casHead(HeadIndex<K, V> expect, HeadIndex<K, V> update) {
+            return HEAD.compareAndSet(this, expect, update);
+        }
+
+        /**
+         * key보다 작은 맨 아래 층 노드 하나를 찾습니다. 내려가는 길에 삭제된 노드의 인덱스를 정리합니다.
+         */
+        Node<K, V> findPredecessor(K key) {
+            for (;;) {
+                for (Index<K, V> q = head, r = q.right;;) {
+                    if (r != null) {
+                        Node<K, V> n = r.node;
+                        if (n.value == null) {
+                            if (!q.unlink(r)) {
+                                break; // 다시 시작
+                            }
+                            r = q.right;
+                            continue;
+                        }
+                        if (key.compareTo(n.key) > 0) {
+                            q = r;
+                            r = r.right;
+                            continue;
+                        }
+                    }
+                    Index<K, V> d = q.down;
+                    if (d == null) {
+                        return q.node;
+                    }
+                    q = d;
+                    r = d.right;
+                }
+            }
+        }
+
+        /**
+         * key를 가진 살아있는 노드를 찾습니다. 없으면 null을 반환합니다.
+         */
+        Node<K, V> findNode(K key) {
+            outer:
+            for (;;) {
+                for (Node<K, V> b = findPredecessor(key), n = b.next;;) {
+                    if (n == null) {
+                        break outer;
+                    }
+                    Node<K, V> f = n.next;
+                    if (n != b.next) { // 읽는 사이 바뀜
+                        break;
+                    }
+                    Object v = n.value;
+                    if (v == null) { // n이 삭제 중
+                        n.helpDelete(b, f);
+                        break;
+                    }
+                    if (b.value == null || v == n) { // b가 삭제됨
+                        break;
+                    }
+                    int cmp = key.compareTo(n.key);
+                    if (cmp == 0) {
+                        return n;
+                    }
+                    if (cmp < 0) {
+                        break outer;
+                    }
+                    b = n;
+                    n = f;
+                }
+            }
+            return null;
+        }
+
+        V get(K key) {
+            for (;;) {
+                Node<K, V> n = findNode(key);
+                if (n == null) {
+                    return null;
+                }
+                V v = n.getValidValue();
+                if (v != null) {
+                    return v;
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        V put(K key, V value, boolean onlyIfAbsent) {
+            Node<K, V> z;
+            outer:
+            for (;;) {
+                for (Node<K, V> b = findPredecessor(key), n = b.next;;) {
+                    if (n != null) {
+                        Node<K, V> f = n.next;
+                        if (n != b.next) {
+                            break;
+                        }
+                        Object v = n.value;
+                        if (v == null) {
+                            n.helpDelete(b, f);
+                            break;
+                        }
+                        if (b.value == null || v == n) {
+                            break;
+                        }
+                        int cmp = key.compareTo(n.key);
+                        if (cmp > 0) {
+                            b = n;
+                            n = f;
+                            continue;
+                        }
+                        if (cmp == 0) {
+                            if (onlyIfAbsent || n.casValue(v, value)) {
+                                return (V) v;
+                            }
+                            break; // 다른 스레드와 경쟁에서 졌으면 처음부터 다시
+                        }
+                    }
+                    z = new Node<>(key, value, n);
+                    if (!b.casNext(n, z)) {
+                        break;
+                    }
+                    break outer;
+                }
+            }
+            count.increment();
+            addIndices(z);
+            return null;
+        }
+
+        /**
+         * 새 노드의 층을 무작위로 정하고 위 층 인덱스를 연결합니다.
+         * 맨 아래 층에 이미 들어갔으므로, 여기서 경쟁에 져도 맵의 내용에는 영향이 없습니다.
+         */
+        private void addIndices(Node<K, V> z) {
+            int random = ThreadLocalRandom.current().nextInt();
+            if ((random & 0x80000001) != 0) { // 최상위/최하위 비트가 모두 0일 때만(1/4) 인덱스를 만듦
+                return;
+            }
+            int level = 1;
+            while (((random >>>= 1) & 1) != 0) {
+                level++;
+            }
+            K key = z.key;
+            Index<K, V> idx = null;
+            HeadIndex<K, V> h = head;
+            if (level <= h.level) {
+                for (int i = 1; i <= level; i++) {
+                    idx = new Index<>(z, idx, null);
+                }
+            } else {
+                // 층을 하나 늘림
+                level = h.level + 1;
+                @SuppressWarnings("unchecked")
+                Index<K, V>[] idxs = (Index<K, V>[]) new Index[level + 1];
+                for (int i = 1; i <= level; i++) {
+                    idxs[i] = idx = new Index<>(z, idx, null);
+                }
+                for (;;) {
+                    h = head;
+                    int oldLevel = h.level;
+                    if (level <= oldLevel) { // 다른 스레드가 먼저 늘림
+                        break;
+                    }
+                    HeadIndex<K, V> newHead = h;
+                    Node<K, V> baseHeader = h.node;
+                    for (int j = oldLevel + 1; j <= level; j++) {
+                        newHead = new HeadIndex<>(baseHeader, newHead, idxs[j], j);
+                    }
+                    if (casHead(h, newHead)) {
+                        h = newHead;
+                        level = oldLevel;
+                        idx = idxs[level];
+                        break;
+                    }
+                }
+            }
+
+            // 위 층부터 내려오며 idx를 각 층에 연결
+            splice:
+            for (int insertionLevel = level;;) {
+                int j = h.level;
+                for (Index<K, V> q = h, r = q.right, t = idx;;) {
+                    if (q == null || t == null) {
+                        break splice;
+                    }
+                    if (r != null) {
+                        Node<K, V> n = r.node;
+                        int cmp = key.compareTo(n.key);
+                        if (n.value == null) {
+                            if (!q.unlink(r)) {
+                                break;
+                            }
+                            r = q.right;
+                            continue;
+                        }
+                        if (cmp > 0) {
+                            q = r;
+                            r = r.right;
+                            continue;
+                        }
+                    }
+                    if (j == insertionLevel) {
+                        if (!q.link(r, t)) {
+                            break; // 다시 시작
+                        }
+                        if (t.node.value == null) { // 연결하는 사이 삭제됨. 인덱스 정리를 맡김
+                            findNode(key);
+                            break splice;
+                        }
+                        if (--insertionLevel == 0) {
+                            break splice;
+                        }
+                    }
+                    if (--j >= insertionLevel && j < level) {
+                        t = t.down;
+                    }
+                    q = q.down;
+                    r = q.right;
+                }
+            }
+        }
+
+        /**
+         * key를 삭제합니다. expected가 null이 아니면 값이 같을 때만 삭제합니다.
+         *
+         * @return 삭제된 값, 삭제하지 않았으면 null
+         */
+        @SuppressWarnings("unchecked")
+        V remove(K key, Object expected) {
+            outer:
+            for (;;) {
+                for (Node<K, V> b = findPredecessor(key), n = b.next;;) {
+                    if (n == null) {
+                        break outer;
+                    }
+                    Node<K, V> f = n.next;
+                    if (n != b.next) {
+                        break;
+                    }
+                    Object v = n.value;
+                    if (v == null) {
+                        n.helpDelete(b, f);
+                        break;
+                    }
+                    if (b.value == null || v == n) {
+                        break;
+                    }
+                    int cmp = key.compareTo(n.key);
+                    if (cmp < 0) {
+                        break outer;
+                    }
+                    if (cmp > 0) {
+                        b = n;
+                        n = f;
+                        continue;
+                    }
+                    if (expected != null && !expected.equals(v)) {
+                        break outer;
+                    }
+                    if (!n.casValue(v, null)) { // 논리적 삭제
+                        break;
+                    }
+                    count.decrement();
+                    if (!n.appendMarker(f) || !b.casNext(n, f)) {
+                        findNode(key); // 물리적 삭제는 탐색 중 돕기에 맡김
+                    } else {
+                        findPredecessor(key); // 인덱스 정리
+                    }
+                    return (V) v;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * key와 주어진 관계(rel)에 있는 가장 가까운 노드를 찾습니다.
+         * 예를 들어 LT|EQ면 key 이하인 가장 큰 노드, GT면 key보다 큰 가장 작은 노드입니다.
+         */
+        Node<K, V> findNear(K key, int rel) {
+            for (;;) {
+                for (Node<K, V> b = findPredecessor(key), n = b.next;;) {
+                    if (n == null) {
+                        return ((rel & LT) == 0 || b.isBaseHeader()) ? null : b;
+                    }
+                    Node<K, V> f = n.next;
+                    if (n != b.next) {
+                        break;
+                    }
+                    Object v = n.value;
+                    if (v == null) {
+                        n.helpDelete(b, f);
+                        break;
+                    }
+                    if (b.value == null || v == n) {
+                        break;
+                    }
+                    int cmp = key.compareTo(n.key);
+                    if ((cmp == 0 && (rel & EQ) != 0) || (cmp < 0 && (rel & LT) == 0)) {
+                        return n;
+                    }
+                    if (cmp <= 0 && (rel & LT) != 0) {
+                        return b.isBaseHeader() ? null : b;
+                    }
+                    b = n;
+                    n = f;
+                }
+            }
+        }
+
+        /**
+         * 가장 작은 살아있는 노드를 찾습니다.
+         */
+        Node<K, V> findFirst() {
+            for (;;) {
+                Node<K, V> b = head.node;
+                Node<K, V> n = b.next;
+                if (n == null) {
+                    return null;
+                }
+                if (n.value != null) {
+                    return n;
+                }
+                n.helpDelete(b, n.next);
+            }
+        }
+
+        /**
+         * 가장 큰 살아있는 노드를 찾습니다. 인덱스를 타고 오른쪽 끝까지 간 뒤 맨 아래 층을 따라갑니다.
+         */
+        Node<K, V> findLast() {
+            Index<K, V> q = head;
+            for (;;) {
+                Index<K, V> r = q.right;
+                if (r != null) {
+                    if (r.node.value == null) {
+                        q.unlink(r);
+                        q = head; // 다시 시작
+                    } else {
+                        q = r;
+                    }
+                } else if (q.down != null) {
+                    q = q.down;
+                } else {
+                    for (Node<K, V> b = q.node, n = b.next;;) {
+                        if (n == null) {
+                            return b.isBaseHeader() ? null : b;
+                        }
+                        Node<K, V> f = n.next;
+                        if (n != b.next) {
+                            break;
+                        }
+                        Object v = n.value;
+                        if (v == null) {
+                            n.helpDelete(b, f);
+                            break;
+                        }
+                        if (b.value == null || v == n) {
+                            break;
+                        }
+                        b = n;
+                        n = f;
+                    }
+                    q = head; // 다시 시작
+                }
+            }
+        }
+
+        private static final VarHandle HEAD;
+
+        static {
+            try {
+                HEAD = MethodHandles.lookup().findVarHandle(SkipList.class, "head", HeadIndex.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+    }
+
+    private final SkipList<K, V> list;
+
+    // 범위 뷰의 경계. fromStart/toEnd가 true면 해당 방향으로 제한이 없습니다.
+    private final boolean fromStart;
+    private final K lo;
+    private final boolean loInclusive;
+    private final boolean toEnd;
+    private final K hi;
+    private final boolean hiInclusive;
+
+    public MyConcurrentSkipListMap() {
+        this(new SkipList<>(), true, null, true, true, null, true);
+    }
+
+    /**
+     * 같은 스킵 리스트를 공유하는 범위 뷰를 생성합니다.
+     */
+    private MyConcurrentSkipListMap(SkipList<K, V> list,
+                                    boolean fromStart, K lo, boolean loInclusive,
+                                    boolean toEnd, K hi, boolean hiInclusive) {
+        this.list = list;
+        this.fromStart = fromStart;
+        this.lo = lo;
+        this.loInclusive = loInclusive;
+        this.toEnd = toEnd;
+        this.hi = hi;
+        this.hiInclusive = hiInclusive;
+    }
+
+    /**
+     * Key에 해당하는 Value를 저장합니다. 락을 잡지 않습니다.
+     * 이미 Key가 존재하면 Value를 덮어씁니다.
+     *
+     * @param key   저장할 키
+     * @param value 저장할 값
+     * @return 이전 값, 없었으면 null
+     * @throws IllegalArgumentException 키나 값이 null이거나, 범위 뷰에서 범위 밖의 키를 저장하려는 경우
+     */
+    public V put(K key, V value) {
+        checkKeyInRange(key);
+        checkValue(value);
+        return list.put(key, value, false);
+    }
+
+    /**
+     * Key가 없을 때만 저장합니다. (원자적 연산)
+     *
+     * @param key   저장할 키
+     * @param value 저장할 값
+     * @return 이미 존재하던 값, 새로 저장했으면 null
+     */
+    public V putIfAbsent(K key, V value) {
+        checkKeyInRange(key);
+        checkValue(value);
+        return list.put(key, value, true);
+    }
+
+    /**
+     * Key에 해당하는 Value를 반환합니다. 락을 잡지 않습니다.
+     *
+     * @param key 찾을 키
+     * @return 키에 해당하는 값, 없으면 null
+     */
+    public V get(K key) {
+        checkKey(key);
+        return inRange(key) ? list.get(key) : null;
+    }
+
+    /**
+     * Key가 존재하는지 확인합니다.
+     *
+     * @param key 찾을 키
+     * @return 존재하면 true, 아니면 false
+     */
+    public boolean containsKey(K key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Key에 해당하는 엔트리를 삭제합니다.
+     *
+     * @param key 삭제할 키
+     * @return 삭제된 값, 없었으면 null
+     */
+    public V remove(K key) {
+        checkKey(key);
+        return inRange(key) ? list.remove(key, null) : null;
+    }
+
+    /**
+     * Key의 현재 값이 value와 같을 때만 삭제합니다. (원자적 연산)
+     *
+     * @param key   삭제할 키
+     * @param value 기대하는 값
+     * @return 삭제했으면 true
+     */
+    public boolean remove(K key, V value) {
+        checkKey(key);
+        checkValue(value);
+        return inRange(key) && list.remove(key, value) != null;
+    }
+
+    /**
+     * 저장된 엔트리의 개수를 반환합니다.
+     * 다른 스레드가 동시에 수정 중이라면 근사값일 수 있습니다.
+     * 전체 맵은 O(1)이고, 범위 뷰는 범위를 순회하므로 O(k)입니다.
+     *
+     * @return 저장된 개수
+     */
+    public int size() {
+        if (isFullRange()) {
+            return (int) Math.max(0, Math.min(list.count.sum(), Integer.MAX_VALUE));
+        }
+        int count = 0;
+        for (Iterator<K> it = keyIterator(); it.hasNext(); it.next()) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * 맵이 비어있는지 확인합니다.
+     *
+     * @return 비어있으면 true, 아니면 false
+     */
+    public boolean isEmpty() {
+        return lowestNode() == null;
+    }
+
+    /**
+     * 모든 Key를 정렬된 순서로 반환합니다.
+     * 순회하는 동안 다른 스레드의 변경은 반영될 수도 있고 안 될 수도 있습니다.
+     *
+     * @return 정렬된 키 리스트
+     */
+    public MyArrayList<K> keys() {
+        MyArrayList<K> keys = new MyArrayList<>();
+        for (Iterator<K> it = keyIterator(); it.hasNext();) {
+            keys.add(it.next());
+        }
+        return keys;
+    }
+
+    /**
+     * 모든 Value를 Key의 정렬 순서대로 반환합니다.
+     *
+     * @return 값 리스트
+     */
+    public MyArrayList<V> values() {
+        MyArrayList<V> values = new MyArrayList<>();
+        for (Iterator<V> it = valueIterator(); it.hasNext();) {
+            values.add(it.next());
+        }
+        return values;
+    }
+
+    // --- 반복자 (Iterator) ---
+
+    /**
+     * Key를 오름차순으로 순회하는 약한 일관성 반복자를 반환합니다.
+     * 순회 중 다른 스레드가 맵을 변경해도 예외를 던지지 않습니다.
+     *
+     * @return 오름차순 키 반복자
+     */
+    public Iterator<K> keyIterator() {
+        return new KeyIterator(false);
+    }
+
+    /**
+     * Key를 내림차순으로 순회하는 반복자를 반환합니다.
+     * 맨 아래 층은 한 방향 리스트이므로 한 단계마다 O(log n) 탐색을 합니다.
+     *
+     * @return 내림차순 키 반복자
+     */
+    public Iterator<K> descendingKeyIterator() {
+        return new KeyIterator(true);
+    }
+
+    /**
+     * Value를 Key의 오름차순으로 순회하는 반복자를 반환합니다.
+     *
+     * @return 값 반복자
+     */
+    public Iterator<V> valueIterator() {
+        return new ValueIterator();
+    }
+
+    /**
+     * 엔트리를 Key의 오름차순으로 순회하는 반복자를 반환합니다.
+     * 반환되는 엔트리는 순회 시점의 스냅샷이며 setValue를 지원하지 않습니다.
+     *
+     * @return 엔트리 반복자
+     */
+    public Iterator<Map.Entry<K, V>> entryIterator() {
+        return new EntryIterator(false);
+    }
+
+    /**
+     * 엔트리를 Key의 내림차순으로 순회하는 반복자를 반환합니다.
+     *
+     * @return 내림차순 엔트리 반복자
+     */
+    public Iterator<Map.Entry<K, V>> descendingEntryIterator() {
+        return new EntryIterator(true);
+    }
+
+    // --- 탐색(Navigation) 연산 ---
+
+    /**
+     * 가장 작은 키를 반환합니다.
+     *
+     * @return 가장 작은 키
+     * @throws NoSuchElementException 맵이 비어있는 경우
+     */
+    public K firstKey() {
+        Node<K, V> n = lowestNode();
+        if (n == null) {
+            throw new NoSuchElementException("Map is empty");
+        }
+        return n.key;
+    }
+
+    /**
+     * 가장 큰 키를 반환합니다.
+     *
+     * @return 가장 큰 키
+     * @throws NoSuchElementException 맵이 비어있는 경우
+     */
+    public K lastKey() {
+        Node<K, V> n = highestNode();
+        if (n == null) {
+            throw new NoSuchElementException("Map is empty");
+        }
+        return n.key;
+    }
+
+    /**
+     * 주어진 키 이하인 가장 큰 키를 반환합니다.
+     *
+     * @param key 기준 키
+     * @return 조건을 만족하는 키, 없으면 null
+     */
+    public K floorKey(K key) {
+        return nearKey(key, LT | EQ);
+    }
+
+    /**
+     * 주어진 키 이상인 가장 작은 키를 반환합니다.
+     *
+     * @param key 기준 키
+     * @return 조건을 만족하는 키, 없으면 null
+     */
+    public K ceilingKey(K key) {
+        return nearKey(key, GT | EQ);
+    }
+
+    /**
+     * 주어진 키보다 큰 키 중 가장 작은 키를 반환합니다.
+     *
+     * @param key 기준 키
+     * @return 조건을 만족하는 키, 없으면 null
+     */
+    public K higherKey(K key) {
+        return nearKey(key, GT);
+    }
+
+    /**
+     * 주어진 키보다 작은 키 중 가장 큰 키를 반환합니다.
+     *
+     * @param key 기준 키
+     * @return 조건을 만족하는 키, 없으면 null
+     */
+    public K lowerKey(K key) {
+        return nearKey(key, LT);
+    }
+
+    /**
+     * 가장 작은 키의 엔트리를 원자적으로 제거하고 반환합니다.
+     * 여러 스레드가 동시에 호출해도 같은 엔트리를 두 번 반환하지 않습니다.
+     *
+     * @return 제거된 엔트리, 비어있으면 null
+     */
+    public Map.Entry<K, V> pollFirst() {
+        for (;;) {
+            Node<K, V> n = lowestNode();
+            if (n == null) {
+                return null;
+            }
+            V removed = list.remove(n.key, null);
+            if (removed != null) {
+                return new AbstractMap.SimpleImmutableEntry<>(n.key, removed);
+            }
+        }
+    }
+
+    /**
+     * 가장 큰 키의 엔트리를 원자적으로 제거하고 반환합니다.
+     *
+     * @return 제거된 엔트리, 비어있으면 null
+     */
+    public Map.Entry<K, V> pollLast() {
+        for (;;) {
+            Node<K, V> n = highestNode();
+            if (n == null) {
+                return null;
+            }
+            V removed = list.remove(n.key, null);
+            if (removed != null) {
+                return new AbstractMap.SimpleImmutableEntry<>(n.key, removed);
+            }
+        }
+    }
+
+    // --- 범위 뷰(View) ---
+
+    /**
+     * fromKey 이상, toKey 미만 범위의 뷰를 반환합니다.
+     *
+     * @param fromKey 하한 (포함)
+     * @param toKey   상한 (미포함)
+     * @return 범위 뷰
+     */
+    public MyConcurrentSkipListMap<K, V> subMap(K fromKey, K toKey) {
+        return subMap(fromKey, true, toKey, false);
+    }
+
+    /**
+     * 지정한 범위의 뷰를 반환합니다. 데이터를 복사하지 않으므로 O(1)에 생성됩니다.
+     *
+     * @param fromKey       하한
+     * @param fromInclusive 하한 포함 여부
+     * @param toKey         상한
+     * @param toInclusive   상한 포함 여부
+     * @return 범위 뷰
+     * @throws IllegalArgumentException fromKey가 toKey보다 크거나, 현재 뷰의 범위를 벗어나는 경우
+     */
+    public MyConcurrentSkipListMap<K, V> subMap(K fromKey, boolean fromInclusive, K toKey, boolean toInclusive) {
+        checkBound(fromKey, fromInclusive);
+        checkBound(toKey, toInclusive);
+        if (fromKey.compareTo(toKey) > 0) {
+            throw new IllegalArgumentException("fromKey > toKey");
+        }
+        return new MyConcurrentSkipListMap<>(list, false, fromKey, fromInclusive, false, toKey, toInclusive);
+    }
+
+    /**
+     * toKey 미만 범위의 뷰를 반환합니다.
+     */
+    public MyConcurrentSkipListMap<K, V> headMap(K toKey) {
+        return headMap(toKey, false);
+    }
+
+    /**
+     * toKey 이하(inclusive가 false면 미만) 범위의 뷰를 반환합니다.
+     */
+    public MyConcurrentSkipListMap<K, V> headMap(K toKey, boolean inclusive) {
+        checkBound(toKey, inclusive);
+        return new MyConcurrentSkipListMap<>(list, fromStart, lo, loInclusive, false, toKey, inclusive);
+    }
+
+    /**
+     * fromKey 이상 범위의 뷰를 반환합니다.
+     */
+    public MyConcurrentSkipListMap<K, V> tailMap(K fromKey) {
+        return tailMap(fromKey, true);
+    }
+
+    /**
+     * fromKey 이상(inclusive가 false면 초과) 범위의 뷰를 반환합니다.
+     */
+    public MyConcurrentSkipListMap<K, V> tailMap(K fromKey, boolean inclusive) {
+        checkBound(fromKey, inclusive);
+        return new MyConcurrentSkipListMap<>(list, false, fromKey, inclusive, toEnd, hi, hiInclusive);
+    }
+
+    // --- 반복자 구현 ---
+
+    /**
+     * 범위 안의 살아있는 노드를 차례로 방문하는 반복자의 공통 부분입니다.
+     * 다음 노드와 그 값을 미리 읽어두므로, hasNext()가 true를 반환한 뒤 삭제되더라도 next()는 그 값을 반환합니다.
+     */
+    private abstract class SkipListIterator<T> implements Iterator<T> {
+        private final boolean descending;
+        Node<K, V> nextNode;
+        V nextValue;
+        private Node<K, V> lastReturned;
+
+        SkipListIterator(boolean descending) {
+            this.descending = descending;
+            Node<K, V> n = descending ? highestNode() : lowestNode();
+            settle(n);
+        }
+
+        /**
+         * n부터 시작해서 값이 살아있는 범위 안의 노드를 찾아 다음 위치로 정합니다.
+         * 내림차순에서 n이 그 사이 삭제되었다면 n.next(더 큰 키, 이미 반환했을 수 있음)가 아니라
+         * n.key보다 작은 노드를 다시 찾아야 순서가 유지됩니다.
+         */
+        private void settle(Node<K, V> n) {
+            for (;;) {
+                if (n == null) {
+                    break;
+                }
+                V v = n.getValidValue();
+                if (v == null) { // 삭제된 노드나 마커는 건너뜀
+                    n = descending ? list.findNear(n.key, LT) : n.next;
+                    continue;
+                }
+                if (descending ? tooLow(n.key) : tooHigh(n.key)) {
+                    break;
+                }
+                nextNode = n;
+                nextValue = v;
+                return;
+            }
+            nextNode = null;
+            nextValue = null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextNode != null;
+        }
+
+        final Node<K, V> advance() {
+            Node<K, V> n = nextNode;
+            if (n == null) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = n;
+            settle(descending ? list.findNear(n.key, LT) : n.next);
+            return n;
+        }
+
+        /**
+         * 마지막으로 반환한 키를 맵에서 삭제합니다.
+         */
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            list.remove(lastReturned.key, null);
+            lastReturned = null;
+        }
+    }
+
+    private final class KeyIterator extends SkipListIterator<K> {
+        KeyIterator(boolean descending) {
+            super(descending);
+        }
+
+        @Override
+        public K next() {
+            return advance().key;
+        }
+    }
+
+    private final class ValueIterator extends SkipListIterator<V> {
+        ValueIterator() {
+            super(false);
+        }
+
+        @Override
+        public V next() {
+            V value = nextValue;
+            advance();
+            return value;
+        }
+    }
+
+    private final class EntryIterator extends SkipListIterator<Map.Entry<K, V>> {
+        EntryIterator(boolean descending) {
+            super(descending);
+        }
+
+        @Override
+        public Map.Entry<K, V> next() {
+            V value = nextValue;
+            return new AbstractMap.SimpleImmutableEntry<>(advance().key, value);
+        }
+    }
+
+    // --- 내부 헬퍼 메소드 ---
+
+    private boolean isFullRange() {
+        return fromStart && toEnd;
+    }
+
+    private boolean tooLow(K key) {
+        if (fromStart) {
+            return false;
+        }
+        int cmp = key.compareTo(lo);
+        return cmp < 0 || (cmp == 0 && !loInclusive);
+    }
+
+    private boolean tooHigh(K key) {
+        if (toEnd) {
+            return false;
+        }
+        int cmp = key.compareTo(hi);
+        return cmp > 0 || (cmp == 0 && !hiInclusive);
+    }
+
+    private boolean inRange(K key) {
+        return !tooLow(key) && !tooHigh(key);
+    }
+
+    /**
+     * 새 뷰의 경계가 현재 뷰의 범위 안에 있는지 확인합니다.
+     * 경계를 포함하지 않는(exclusive) 경우에는 현재 범위의 끝과 같아도 허용합니다.
+     */
+    private void checkBound(K key, boolean inclusive) {
+        checkKey(key);
+        if (!fromStart) {
+            int cmp = key.compareTo(lo);
+            if (cmp < 0 || (cmp == 0 && !loInclusive && inclusive)) {
+                throw new IllegalArgumentException("Key out of range: " + key);
+            }
+        }
+        if (!toEnd) {
+            int cmp = key.compareTo(hi);
+            if (cmp > 0 || (cmp == 0 && !hiInclusive && inclusive)) {
+                throw new IllegalArgumentException("Key out of range: " + key);
+            }
+        }
+    }
+
+    private void checkKeyInRange(K key) {
+        checkKey(key);
+        if (!inRange(key)) {
+            throw new IllegalArgumentException("Key out of range: " + key);
+        }
+    }
+
+    /**
+     * 범위 안에서 가장 작은 노드를 찾습니다. 없으면 null입니다.
+     */
+    private Node<K, V> lowestNode() {
+        Node<K, V> n = fromStart ? list.findFirst() : list.findNear(lo, loInclusive ? GT | EQ : GT);
+        return n == null || tooHigh(n.key) ? null : n;
+    }
+
+    /**
+     * 범위 안에서 가장 큰 노드를 찾습니다. 없으면 null입니다.
+     */
+    private Node<K, V> highestNode() {
+        Node<K, V> n = toEnd ? list.findLast() : list.findNear(hi, hiInclusive ? LT | EQ : LT);
+        return n == null || tooLow(n.key) ? null : n;
+    }
+
+    /**
+     * key와 주어진 관계에 있는 범위 안의 가장 가까운 키를 찾습니다.
+     * 찾은 노드가 그 사이 삭제되었으면 다시 찾습니다.
+     */
+    private K nearKey(K key, int rel) {
+        checkKey(key);
+        // 기준 키가 범위 밖이면 범위의 끝이 답이거나 답이 없음
+        if (tooLow(key)) {
+            return (rel & LT) != 0 ? null : keyOf(lowestNode());
+        }
+        if (tooHigh(key)) {
+            return (rel & LT) != 0 ? keyOf(highestNode()) : null;
+        }
+        for (;;) {
+            Node<K, V> n = list.findNear(key, rel);
+            if (n == null || !inRange(n.key)) {
+                return null;
+            }
+            if (n.getValidValue() != null) {
+                return n.key;
+            }
+        }
+    }
+
+    private K keyOf(Node<K, V> n) {
+        return n == null ? null : n.key;
+    }
+
+    private static void checkKey(Object key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+    }
+
+    private static void checkValue(Object value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package datastructures;
+
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * 여러 스레드가 동시에 사용할 수 있는 정렬 셋 구현체입니다.
+ * 내부적으로 `MyConcurrentSkipListMap`을 사용하므로 모든 연산이 락 없이 수행됩니다.
+ *
+ * <p>MyTreeSet과 같은 탐색 연산과 subSet/headSet/tailSet 범위 뷰를 제공합니다.
+ * 반복자는 약한 일관성을 가지므로 다른 스레드가 추가/삭제하는 중에도 순회할 수 있습니다.
+ *
+ * @param <T> 저장할 요소의 타입 (Comparable 구현 필요)
+ */
+public class MyConcurrentSkipListSet<T extends Comparable<T>> implements Iterable<T> {
+
+    // Set의 요소는 Map의 Key로 저장됩니다.
+    private final MyConcurrentSkipListMap<T, Object> map;
+
+    private static final Object PRESENT = new Object();
+
+    public MyConcurrentSkipListSet() {
+        this(new MyConcurrentSkipListMap<>());
+    }
+
+    /**
+     * 주어진 맵(또는 맵의 범위 뷰)을 감싸는 셋을 생성합니다.
+     */
+    private MyConcurrentSkipListSet(MyConcurrentSkipListMap<T, Object> map) {
+        this.map = map;
+    }
+
+    /**
+     * 요소를 추가합니다. (원자적 연산)
+     *
+     * @param element 추가할 요소
+     * @return 새로 추가되었으면 true, 이미 있었으면 false
+     * @throws IllegalArgumentException 범위 뷰에서 범위 밖의 요소를 추가하려는 경우
+     */
+    public boolean add(T element) {
+        return map.putIfAbsent(element, PRESENT) == null;
+    }
+
+    /**
+     * 요소가 포함되어 있는지 확인합니다.
+     *
+     * @param element 찾을 요소
+     * @return 포함되어 있으면 true, 아니면 false
+     */
+    public boolean contains(T element) {
+        return map.containsKey(element);
+    }
+
+    /**
+     * 요소를 제거합니다.
+     *
+     * @param element 제거할 요소
+     * @return 제거되었으면 true, 없었으면 false
+     */
+    public boolean remove(T element) {
+        return map.remove(element) != null;
+    }
+
+    /**
+     * 저장된 모든 요소를 정렬된 순서로 반환합니다.
+     *
+     * @return 정렬된 요소 리스트
+     */
+    public MyArrayList<T> toList() {
+        return map.keys();
+    }
+
+    /**
+     * 요소를 오름차순으로 순회하는 약한 일관성 반복자를 반환합니다.
+     *
+     * @return 오름차순 반복자
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return map.keyIterator();
+    }
+
+    /**
+     * 요소를 내림차순으로 순회하는 반복자를 반환합니다.
+     *
+     * @return 내림차순 반복자
+     */
+    public Iterator<T> descendingIterator() {
+        return map.descendingKeyIterator();
+    }
+
+    /**
+     * 저장된 요소의 개수를 반환합니다.
+     * 다른 스레드가 동시에 수정 중이라면 근사값일 수 있습니다.
+     *
+     * @return 요소 개수
+     */
+    public int size() {
+        return map.size();
+    }
+
+    /**
+     * 셋이 비어있는지 확인합니다.
+     *
+     * @return 비어있으면 true, 아니면 false
+     */
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    // --- 탐색(Navigation) 연산 ---
+
+    /**
+     * 가장 작은 요소를 반환합니다.
+     *
+     * @return 가장 작은 요소
+     * @throws java.util.NoSuchElementException 셋이 비어있는 경우
+     */
+    public T first() {
+        return map.firstKey();
+    }
+
+    /**
+     * 가장 큰 요소를 반환합니다.
+     *
+     * @return 가장 큰 요소
+     * @throws java.util.NoSuchElementException 셋이 비어있는 경우
+     */
+    public T last() {
+        return map.lastKey();
+    }
+
+    /**
+     * 주어진 요소 이하인 가장 큰 요소를 반환합니다. 없으면 null입니다.
+     */
+    public T floor(T element) {
+        return map.floorKey(element);
+    }
+
+    /**
+     * 주어진 요소 이상인 가장 작은 요소를 반환합니다. 없으면 null입니다.
+     */
+    public T ceiling(T element) {
+        return map.ceilingKey(element);
+    }
+
+    /**
+     * 주어진 요소보다 큰 요소 중 가장 작은 요소를 반환합니다. 없으면 null입니다.
+     */
+    public T higher(T element) {
+        return map.higherKey(element);
+    }
+
+    /**
+     * 주어진 요소보다 작은 요소 중 가장 큰 요소를 반환합니다. 없으면 null입니다.
+     */
+    public T lower(T element) {
+        return map.lowerKey(element);
+    }
+
+    /**
+     * 가장 작은 요소를 원자적으로 제거하고 반환합니다.
+     *
+     * @return 제거된 요소, 비어있으면 null
+     */
+    public T pollFirst() {
+        Map.Entry<T, Object> entry = map.pollFirst();
+        return entry == null ? null : entry.getKey();
+    }
+
+    /**
+     * 가장 큰 요소를 원자적으로 제거하고 반환합니다.
+     *
+     * @return 제거된 요소, 비어있으면 null
+     */
+    public T pollLast() {
+        Map.Entry<T, Object> entry = map.pollLast();
+        return entry == null ? null : entry.getKey();
+    }
+
+    // --- 범위 뷰(View) ---
+
+    /**
+     * fromElement 이상, toElement 미만 범위의 뷰를 반환합니다.
+     */
+    public MyConcurrentSkipListSet<T> subSet(T fromElement, T toElement) {
+        return new MyConcurrentSkipListSet<>(map.subMap(fromElement, toElement));
+    }
+
+    /**
+     * 지정한 범위의 뷰를 반환합니다.
+     *
+     * @param fromElement   하한
+     * @param fromInclusive 하한 포함 여부
+     * @param toElement     상한
+     * @param toInclusive   상한 포함 여부
+     * @return 범위 뷰
+     */
+    public MyConcurrentSkipListSet<T> subSet(T fromElement, boolean fromInclusive, T toElement, boolean toInclusive) {
+        return new MyConcurrentSkipListSet<>(map.subMap(fromElement, fromInclusive, toElement, toInclusive));
+    }
+
+    /**
+     * toElement 미만 범위의 뷰를 반환합니다.
+     */
+    public MyConcurrentSkipListSet<T> headSet(T toElement) {
+        return new MyConcurrentSkipListSet<>(map.headMap(toElement));
+    }
+
+    /**
+     * toElement 이하(inclusive가 false면 미만) 범위의 뷰를 반환합니다.
+     */
+    public MyConcurrentSkipListSet<T> headSet(T toElement, boolean inclusive) {
+        return new MyConcurrentSkipListSet<>(map.headMap(toElement, inclusive));
+    }
+
+    /**
+     * fromElement 이상 범위의 뷰를 반환합니다.
+     */
+    public MyConcurrentSkipListSet<T> tailSet(T fromElement) {
+        return new MyConcurrentSkipListSet<>(map.tailMap(fromElement));
+    }
+
+    /**
+     * fromElement 이상(inclusive가 false면 초과) 범위의 뷰를 반환합니다.
+     */
+    public MyConcurrentSkipListSet<T> tailSet(T fromElement, boolean inclusive) {
+        return new MyConcurrentSkipListSet<>(map.tailMap(fromElement, inclusive));
+    }
+}
@@ -0,0 +1,251 @@
+package datastructures;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * 원형 배열(Ring Buffer) 기반의 덱(Deque, Double-Ended Queue) 구현체입니다.
+ * 양쪽 끝에서 O(1)에 추가/삭제할 수 있으며, 요소마다 노드를 만들지 않으므로
+ * 삽입/삭제 시 객체 할당이 없습니다 (용량을 늘릴 때만 배열을 새로 만듭니다).
+ * <p>
+ * 배열 길이를 항상 2의 거듭제곱으로 유지하여, 인덱스가 배열 끝을 넘어갈 때
+ * 나머지 연산(%) 대신 비트 마스크(&amp; (length - 1))로 감쌉니다.
+ *
+ * @param <T> 저장할 요소의 타입
+ */
+public class MyDeque<T> implements Iterable<T> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private Object[] elements; // 길이는 항상 2의 거듭제곱
+    private int head; // 첫 번째 요소의 위치
+    private int size;
+    private int modCount; // 구조 변경 횟수 (Fail-Fast 반복자용)
+
+    /**
+     * 기본 생성자. 초기 용량은 16입니다.
+     */
+    public MyDeque() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * 초기 용량을 지정하는 생성자입니다.
+     * 용량은 지정한 값 이상인 가장 작은 2의 거듭제곱으로 올림됩니다.
+     *
+     * @param initialCapacity 초기 용량
+     */
+    public MyDeque(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal initial capacity: " + initialCapacity);
+        }
+        this.elements = new Object[tableSizeFor(initialCapacity)];
+    }
+
+    /**
+     * 덱의 앞쪽에 요소를 추가합니다.
+     *
+     * @param element 추가할 요소
+     */
+    public void offerFirst(T element) {
+        if (size == elements.length) {
+            grow();
+        }
+        head = (head - 1) & (elements.length - 1);
+        elements[head] = element;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * 덱의 뒤쪽에 요소를 추가합니다.
+     *
+     * @param element 추가할 요소
+     */
+    public void offerLast(T element) {
+        if (size == elements.length) {
+            grow();
+        }
+        elements[(head + size) & (elements.length - 1)] = element;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * 덱의 앞쪽 요소를 제거하고 반환합니다.
+     *
+     * @return 제거된 요소
+     * @throws NoSuchElementException 덱이 비어있는 경우 발생
+     */
+    @SuppressWarnings("unchecked")
+    public T pollFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException("Deque is empty");
+        }
+        T element = (T) elements[head];
+        elements[head] = null; // 참조 해제 (GC 유도)
+        head = (head + 1) & (elements.length - 1);
+        size--;
+        modCount++;
+        return element;
+    }
+
+    /**
+     * 덱의 뒤쪽 요소를 제거하고 반환합니다.
+     *
+     * @return 제거된 요소
+     * @throws NoSuchElementException 덱이 비어있는 경우 발생
+     */
+    @SuppressWarnings("unchecked")
+    public T pollLast() {
+        if (size == 0) {
+            throw new NoSuchElementException("Deque is empty");
+        }
+        int tail = (head + size - 1) & (elements.length - 1);
+        T element = (T) elements[tail];
+        elements[tail] = null; // 참조 해제 (GC 유도)
+        size--;
+        modCount++;
+        return element;
+    }
+
+    /**
+     * 덱의 앞쪽 요소를 제거하지 않고 반환합니다.
+     *
+     * @return 앞쪽 요소
+     * @throws NoSuchElementException 덱이 비어있는 경우 발생
+     */
+    @SuppressWarnings("unchecked")
+    public T peekFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException("Deque is empty");
+        }
+        return (T) elements[head];
+    }
+
+    /**
+     * 덱의 뒤쪽 요소를 제거하지 않고 반환합니다.
+     *
+     * @return 뒤쪽 요소
+     * @throws NoSuchElementException 덱이 비어있는 경우 발생
+     */
+    @SuppressWarnings("unchecked")
+    public T peekLast() {
+        if (size == 0) {
+            throw new NoSuchElementException("Deque is empty");
+        }
+        return (T) elements[(head + size - 1) & (elements.length - 1)];
+    }
+
+    /**
+     * 앞에서부터 index번째 요소를 반환합니다.
+     *
+     * @param index 가져올 위치 (0 ~ size-1)
+     * @return 해당 위치의 요소
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return (T) elements[(head + index) & (elements.length - 1)];
+    }
+
+    /**
+     * 덱이 비어있는지 확인합니다.
+     *
+     * @return 비어있으면 true, 아니면 false
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 덱에 저장된 요소의 개수를 반환합니다.
+     *
+     * @return 요소 개수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 현재 내부 배열의 용량을 반환합니다.
+     *
+     * @return 용량 (항상 2의 거듭제곱)
+     */
+    public int capacity() {
+        return elements.length;
+    }
+
+    /**
+     * 모든 요소를 삭제합니다. 용량은 그대로 유지됩니다.
+     */
+    public void clear() {
+        int mask = elements.length - 1;
+        for (int i = 0; i < size; i++) {
+            elements[(head + i) & mask] = null;
+        }
+        head = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * 앞에서 뒤 순서로 순회하는 반복자를 반환합니다.
+     * 순회 중 덱이 (반복자 밖에서) 변경되면 ConcurrentModificationException이 발생합니다.
+     *
+     * @return 반복자
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int index = 0;
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                return (T) elements[(head + index++) & (elements.length - 1)];
+            }
+        };
+    }
+
+    /**
+     * 배열이 가득 찼을 때 용량을 2배로 늘립니다.
+     * 원형으로 감긴 요소들을 새 배열의 0번 위치부터 순서대로 펼쳐 담습니다.
+     */
+    private void grow() {
+        int oldCapacity = elements.length;
+        if (oldCapacity == MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("Deque capacity exceeded");
+        }
+        Object[] newElements = new Object[oldCapacity << 1];
+        int firstPart = oldCapacity - head; // head부터 배열 끝까지
+        System.arraycopy(elements, head, newElements, 0, firstPart);
+        System.arraycopy(elements, 0, newElements, firstPart, head);
+        elements = newElements;
+        head = 0;
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int n = 2;
+        while (n < capacity && n < MAXIMUM_CAPACITY) {
+            n <<= 1;
+        }
+        return n;
+    }
+}
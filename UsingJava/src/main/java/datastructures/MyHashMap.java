@@ -1,9 +1,19 @@
 package datastructures;
 
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+
 /**
  * 해시 맵(Hash Map) 구현체입니다.
  * Key-Value 쌍으로 데이터를 저장하며, Key의 중복은 허용하지 않습니다.
  * 해시 충돌 해결을 위해 Separate Chaining 방식(연결 리스트 사용)을 사용합니다.
+ * 한 버킷의 연결 리스트가 너무 길어지면 MyRedBlackTree 기반의 트리 버킷으로 바꾸어
+ * 충돌이 몰려도 해당 버킷의 탐색이 O(log n)을 넘지 않도록 합니다 (Treeify).
+ * 저장된 개수가 (용량 * 부하율)을 넘으면 버킷 배열을 2배로 늘리고,
+ * 대량 삭제로 너무 비게 되면 절반으로 줄입니다.
+ * 재해싱(Rehash)은 한 번에 하지 않고 연산마다 조금씩 나누어 수행합니다 (Incremental Rehash).
+ * 생성 시 openAddressing 옵션을 주면 엔트리 객체 없이 병렬 배열에 저장하는
+ * {@link MyOpenHashMap} 엔진을 대신 사용합니다 (읽기 위주의 테이블에 적합).
  *
  * @param <K> Key의 타입
  * @param <V> Value의 타입
@@ -15,74 +25,332 @@ public class MyHashMap<K, V> {
      * 연결 리스트의 노드 역할을 합니다.
      */
     private static class Entry<K, V> {
+        final int hash; // 재해싱 시 hashCode()를 다시 호출하지 않기 위해 저장
         final K key;
         V value;
         Entry<K, V> next;
 
-        Entry(K key, V value, Entry<K, V> next) {
+        Entry(int hash, K key, V value, Entry<K, V> next) {
+            this.hash = hash;
             this.key = key;
             this.value = value;
             this.next = next;
         }
     }
 
+    /**
+     * 충돌이 심한 버킷을 대신하는 트리 버킷(Tree Bin)입니다.
+     * 버킷 배열에 연결 리스트 대신 이 객체 하나만 들어가며,
+     * 내부의 MyRedBlackTree가 (해시, 키) 순서로 엔트리를 정렬하여 O(log n) 탐색을 보장합니다.
+     * 순서상 구분되지 않는 키(해시가 같고 Comparable이 아닌 키 등)는 같은 트리 노드에 next로 연결됩니다.
+     */
+    private static final class TreeBin<K, V> extends Entry<K, V> {
+        final MyRedBlackTree<BinKey<K>, Entry<K, V>> tree = new MyRedBlackTree<>();
+        int count; // 트리 버킷에 들어있는 엔트리 수
+
+        TreeBin() {
+            super(0, null, null, null);
+        }
+
+        Entry<K, V> find(int hash, K key) {
+            Entry<K, V> current = tree.get(new BinKey<>(hash, key));
+            while (current != null) {
+                if (current.hash == hash && current.key.equals(key)) {
+                    return current;
+                }
+                current = current.next;
+            }
+            return null;
+        }
+
+        void add(Entry<K, V> entry) {
+            BinKey<K> binKey = new BinKey<>(entry.hash, entry.key);
+            Entry<K, V> head = tree.get(binKey);
+            if (head == null) {
+                entry.next = null;
+                tree.put(binKey, entry);
+            } else {
+                // 순서상 같은 자리의 키는 트리 노드를 새로 만들지 않고 뒤에 연결
+                entry.next = head.next;
+                head.next = entry;
+            }
+            count++;
+        }
+
+        boolean remove(int hash, K key) {
+            BinKey<K> probe = new BinKey<>(hash, key);
+            Entry<K, V> prev = null;
+            Entry<K, V> current = tree.get(probe);
+            while (current != null) {
+                if (current.hash == hash && current.key.equals(key)) {
+                    if (prev != null) {
+                        prev.next = current.next;
+                    } else {
+                        // 트리 노드의 대표 엔트리가 삭제되면 다음 엔트리를 대표로 다시 등록
+                        tree.remove(probe);
+                        Entry<K, V> next = current.next;
+                        if (next != null) {
+                            tree.put(new BinKey<>(next.hash, next.key), next);
+                        }
+                    }
+                    count--;
+                    return true;
+                }
+                prev = current;
+                current = current.next;
+            }
+            return false;
+        }
+
+        /**
+         * 트리 버킷의 모든 엔트리를 하나의 연결 리스트로 풀어서 반환합니다.
+         */
+        Entry<K, V> toChain() {
+            Entry<K, V> chain = null;
+            MyArrayList<Entry<K, V>> heads = tree.values();
+            for (int i = 0; i < heads.size(); i++) {
+                Entry<K, V> current = heads.get(i);
+                while (current != null) {
+                    Entry<K, V> next = current.next;
+                    current.next = chain;
+                    chain = current;
+                    current = next;
+                }
+            }
+            return chain;
+        }
+    }
+
+    /**
+     * 트리 버킷 안에서의 정렬 기준입니다.
+     * 해시 값으로 먼저 비교하고, 해시가 같으면 클래스 이름, 자기 자신과 비교하는 Comparable 클래스라면 compareTo 순으로 비교합니다.
+     * (예: "Aa"와 "BB"처럼 hashCode가 완전히 같은 String 키도 compareTo로 구분됩니다)
+     * Comparable&lt;다른 타입&gt;을 구현한 키처럼 같은 클래스끼리 compareTo를 부를 수 없는 키는 같은 트리 노드에 연결됩니다.
+     */
+    private static final class BinKey<K> implements Comparable<BinKey<K>> {
+        final int hash;
+        final K key;
+
+        BinKey(int hash, K key) {
+            this.hash = hash;
+            this.key = key;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public int compareTo(BinKey<K> other) {
+            if (hash != other.hash) {
+                return Integer.compare(hash, other.hash);
+            }
+            Class<?> c1 = key.getClass();
+            Class<?> c2 = other.key.getClass();
+            if (c1 != c2) {
+                int cmp = c1.getName().compareTo(c2.getName());
+                return cmp != 0 ? cmp : Integer.compare(System.identityHashCode(c1), System.identityHashCode(c2));
+            }
+            if (SELF_COMPARABLE.get(c1)) {
+                return ((Comparable<Object>) key).compareTo(other.key);
+            }
+            return 0; // 구분할 수 없는 키는 같은 트리 노드에 연결
+        }
+    }
+
+    /**
+     * 클래스 C가 Comparable&lt;C&gt;를 직접 구현하는지 (자기 자신과 비교할 수 있는지) 클래스별로 한 번만 검사해 둡니다.
+     * java.util.HashMap의 comparableClassFor와 같은 기준이며, 조건을 만족하지 않으면 compareTo를 부르지 않습니다.
+     */
+    private static final ClassValue<Boolean> SELF_COMPARABLE = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> c) {
+            if (c == String.class) {
+                return true;
+            }
+            if (!Comparable.class.isAssignableFrom(c)) {
+                return false;
+            }
+            for (Type type : c.getGenericInterfaces()) {
+                if (type instanceof ParameterizedType) {
+                    ParameterizedType p = (ParameterizedType) type;
+                    Type[] args = p.getActualTypeArguments();
+                    if (p.getRawType() == Comparable.class && args.length == 1 && args[0] == c) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    };
+
     private static final int DEFAULT_CAPACITY = 16;
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    // 한 버킷의 연결 리스트가 이 길이에 도달하면 트리 버킷으로 변환
+    private static final int TREEIFY_THRESHOLD = 8;
+    // 트리 버킷의 엔트리 수가 이 이하로 줄어들면 다시 연결 리스트로 변환
+    private static final int UNTREEIFY_THRESHOLD = 6;
+
+    // 연산 한 번마다 이전 테이블에서 새 테이블로 옮기는 버킷 수
+    private static final int REHASH_STEP = 4;
+
     private Entry<K, V>[] buckets;
     private int size;
 
-    @SuppressWarnings("unchecked")
+    // 점진적 재해싱 중일 때의 이전 테이블 (재해싱 중이 아니면 null)
+    private Entry<K, V>[] oldBuckets;
+    // oldBuckets에서 다음으로 옮길 버킷의 인덱스 (이보다 작은 인덱스는 이미 옮겨짐)
+    private int rehashIndex;
+
+    private final float loadFactor;
+    private final int minCapacity; // 축소(Shrink) 시 내려갈 수 있는 최소 용량
+    private int threshold; // 이 개수를 넘으면 테이블을 확장
+
+    // 개방 주소법 엔진 (체이닝 방식으로 생성된 경우 null)
+    private final MyOpenHashMap<K, V> openMap;
+
     public MyHashMap() {
-        // 제네릭 배열 생성이 불가능하므로 Object 배열 생성 후 형변환
-        this.buckets = (Entry<K, V>[]) new Entry[DEFAULT_CAPACITY];
+        this(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * 내부 저장 방식을 지정하여 생성합니다.
+     *
+     * @param openAddressing true면 개방 주소법(병렬 배열), false면 체이닝(연결 리스트) 방식으로 동작합니다.
+     */
+    public MyHashMap(boolean openAddressing) {
+        this(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR, openAddressing);
+    }
+
+    /**
+     * 초기 용량을 지정하여 생성합니다.
+     *
+     * @param initialCapacity 초기 용량 (2의 거듭제곱으로 올림됩니다)
+     */
+    public MyHashMap(int initialCapacity) {
+        this(initialCapacity, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * 초기 용량과 부하율(Load Factor)을 지정하여 생성합니다.
+     *
+     * @param initialCapacity 초기 용량 (2의 거듭제곱으로 올림됩니다)
+     * @param loadFactor      확장 기준이 되는 부하율 (size / capacity)
+     */
+    public MyHashMap(int initialCapacity, float loadFactor) {
+        this(initialCapacity, loadFactor, false);
+    }
+
+    /**
+     * 초기 용량, 부하율, 내부 저장 방식을 모두 지정하여 생성합니다.
+     *
+     * @param initialCapacity 초기 용량 (2의 거듭제곱으로 올림됩니다)
+     * @param loadFactor      확장 기준이 되는 부하율 (개방 주소법은 1 미만이어야 함)
+     * @param openAddressing  true면 개방 주소법(병렬 배열), false면 체이닝(연결 리스트) 방식으로 동작합니다.
+     */
+    @SuppressWarnings("unchecked")
+    public MyHashMap(int initialCapacity, float loadFactor, boolean openAddressing) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal initial capacity: " + initialCapacity);
+        }
+        if (loadFactor <= 0 || Float.isNaN(loadFactor)) {
+            throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+        }
+        this.loadFactor = loadFactor;
+        this.minCapacity = tableSizeFor(initialCapacity);
         this.size = 0;
+
+        if (openAddressing) {
+            this.openMap = new MyOpenHashMap<>(initialCapacity, loadFactor);
+        } else {
+            this.openMap = null;
+            // 제네릭 배열 생성이 불가능하므로 Object 배열 생성 후 형변환
+            this.buckets = (Entry<K, V>[]) new Entry[minCapacity];
+            this.threshold = thresholdFor(minCapacity);
+        }
     }
 
     /**
      * Key에 해당하는 Value를 저장합니다.
      * 이미 Key가 존재하면 Value를 덮어씁니다.
-     * 
+     *
      * @param key   저장할 키
      * @param value 저장할 값
      */
     public void put(K key, V value) {
+        if (openMap != null) {
+            openMap.put(key, value);
+            return;
+        }
         if (key == null) {
             throw new IllegalArgumentException("Key cannot be null");
         }
+        rehashStep();
 
-        int index = getIndex(key);
-        Entry<K, V> current = buckets[index];
+        int hash = hash(key);
+        Entry<K, V>[] table = tableFor(hash);
+        int index = indexFor(hash, table.length);
+        Entry<K, V> head = table[index];
 
-        // 해당 인덱스의 연결 리스트를 순회하며 Key가 이미 존재하는지 확인
-        while (current != null) {
-            if (current.key.equals(key)) {
-                current.value = value; // 이미 존재하면 값 업데이트
+        if (head instanceof TreeBin) {
+            TreeBin<K, V> bin = (TreeBin<K, V>) head;
+            Entry<K, V> existing = bin.find(hash, key);
+            if (existing != null) {
+                existing.value = value; // 이미 존재하면 값 업데이트
                 return;
             }
-            current = current.next;
-        }
+            bin.add(new Entry<>(hash, key, value, null));
+        } else {
+            // 해당 인덱스의 연결 리스트를 순회하며 Key가 이미 존재하는지 확인
+            int binCount = 0;
+            Entry<K, V> current = head;
+            while (current != null) {
+                if (current.hash == hash && current.key.equals(key)) {
+                    current.value = value; // 이미 존재하면 값 업데이트
+                    return;
+                }
+                binCount++;
+                current = current.next;
+            }
 
-        // Key가 존재하지 않으면 새 노드를 리스트의 맨 앞에 추가 (Collision 발생 시 chaining)
-        Entry<K, V> newEntry = new Entry<>(key, value, buckets[index]);
-        buckets[index] = newEntry;
+            // Key가 존재하지 않으면 새 노드를 리스트의 맨 앞에 추가 (Collision 발생 시 chaining)
+            table[index] = new Entry<>(hash, key, value, head);
+            if (binCount + 1 >= TREEIFY_THRESHOLD) {
+                treeify(table, index);
+            }
+        }
         size++;
+
+        if (size > threshold) {
+            resize(buckets.length * 2);
+        }
     }
 
     /**
      * Key에 해당하는 Value를 반환합니다.
-     * 
+     *
      * @param key 찾을 키
      * @return 키에 해당하는 값, 없으면 null
      */
     public V get(K key) {
+        if (openMap != null) {
+            return openMap.get(key);
+        }
         if (key == null) {
             throw new IllegalArgumentException("Key cannot be null");
         }
+        rehashStep();
 
-        int index = getIndex(key);
-        Entry<K, V> current = buckets[index];
+        int hash = hash(key);
+        Entry<K, V>[] table = tableFor(hash);
+        Entry<K, V> current = table[indexFor(hash, table.length)];
+
+        if (current instanceof TreeBin) {
+            Entry<K, V> found = ((TreeBin<K, V>) current).find(hash, key);
+            return found == null ? null : found.value;
+        }
 
         while (current != null) {
-            if (current.key.equals(key)) {
+            if (current.hash == hash && current.key.equals(key)) {
                 return current.value;
             }
             current = current.next;
@@ -93,28 +361,46 @@ public class MyHashMap<K, V> {
 
     /**
      * Key에 해당하는 엔트리를 삭제합니다.
-     * 
+     *
      * @param key 삭제할 키
      */
     public void remove(K key) {
+        if (openMap != null) {
+            openMap.remove(key);
+            return;
+        }
         if (key == null) {
             throw new IllegalArgumentException("Key cannot be null");
         }
+        rehashStep();
 
-        int index = getIndex(key);
-        Entry<K, V> current = buckets[index];
+        int hash = hash(key);
+        Entry<K, V>[] table = tableFor(hash);
+        int index = indexFor(hash, table.length);
+        Entry<K, V> current = table[index];
         Entry<K, V> prev = null;
 
+        if (current instanceof TreeBin) {
+            TreeBin<K, V> bin = (TreeBin<K, V>) current;
+            if (bin.remove(hash, key)) {
+                if (bin.count <= UNTREEIFY_THRESHOLD) {
+                    table[index] = bin.toChain(); // 충분히 작아졌으면 다시 연결 리스트로
+                }
+                afterRemove();
+            }
+            return;
+        }
+
         while (current != null) {
-            if (current.key.equals(key)) {
+            if (current.hash == hash && current.key.equals(key)) {
                 if (prev == null) {
                     // 삭제할 노드가 리스트의 첫 번째 노드인 경우
-                    buckets[index] = current.next;
+                    table[index] = current.next;
                 } else {
                     // 중간이나 끝에 있는 노드인 경우
                     prev.next = current.next;
                 }
-                size--;
+                afterRemove();
                 return;
             }
             prev = current;
@@ -122,28 +408,183 @@ public class MyHashMap<K, V> {
         }
     }
 
+    private void afterRemove() {
+        size--;
+        // 대량 삭제 후 테이블이 너무 비었다면 절반으로 축소 (확장 기준의 1/4 미만)
+        if (size < threshold / 4 && buckets.length > minCapacity) {
+            resize(buckets.length / 2);
+        }
+    }
+
     /**
      * 맵에 저장된 엔트리의 개수를 반환합니다.
-     * 
+     *
      * @return 저장된 개수
      */
     public int size() {
-        return size;
+        return openMap != null ? openMap.size() : size;
     }
 
     /**
      * 맵이 비어있는지 확인합니다.
-     * 
+     *
      * @return 비어있으면 true, 아니면 false
      */
     public boolean isEmpty() {
-        return size == 0;
+        return size() == 0;
+    }
+
+    /**
+     * 현재 버킷 배열의 크기를 반환합니다. (재해싱 중이라면 옮겨가는 새 테이블의 크기)
+     */
+    int capacity() {
+        return openMap != null ? openMap.capacity() : buckets.length;
+    }
+
+    // --- 내부 헬퍼 메소드 ---
+
+    /**
+     * Key의 해시 코드를 계산합니다.
+     * 인덱스는 하위 비트만 사용하므로, 상위 16비트를 하위 16비트에 XOR하여
+     * 하위 비트가 나쁜 hashCode(예: 상위 비트만 다른 키들)도 고르게 퍼지도록 합니다 (Bit Spreading).
+     */
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * 해시 값을 배열 인덱스로 변환합니다.
+     * 테이블 크기가 항상 2의 거듭제곱이므로 나머지 연산(%) 대신 비트 마스크를 사용합니다.
+     */
+    private static int indexFor(int hash, int length) {
+        return hash & (length - 1);
+    }
+
+    /**
+     * 해시 값에 해당하는 엔트리가 들어있는 테이블을 반환합니다.
+     * 재해싱 중이라면 아직 옮겨지지 않은 버킷은 이전 테이블에 남아 있습니다.
+     */
+    private Entry<K, V>[] tableFor(int hash) {
+        if (oldBuckets != null && indexFor(hash, oldBuckets.length) >= rehashIndex) {
+            return oldBuckets;
+        }
+        return buckets;
+    }
+
+    /**
+     * 테이블 크기를 변경합니다.
+     * 새 배열만 할당하고, 실제 엔트리 이동은 이후 연산에서 rehashStep()이 나누어 수행합니다.
+     */
+    @SuppressWarnings("unchecked")
+    private void resize(int newCapacity) {
+        if (newCapacity > MAXIMUM_CAPACITY || newCapacity == buckets.length) {
+            return;
+        }
+        // 이전 재해싱이 끝나지 않았다면 먼저 마무리 (테이블은 최대 두 개만 유지)
+        finishRehash();
+
+        oldBuckets = buckets;
+        rehashIndex = 0;
+        buckets = (Entry<K, V>[]) new Entry[newCapacity];
+        threshold = thresholdFor(newCapacity);
+    }
+
+    /**
+     * 이전 테이블의 버킷을 REHASH_STEP개씩 새 테이블로 옮깁니다.
+     * 확장 직후 다음 확장까지 최소 (용량 * 부하율)번의 삽입이 필요하므로,
+     * 그 전에 모든 버킷이 옮겨집니다.
+     */
+    private void rehashStep() {
+        if (oldBuckets == null) {
+            return;
+        }
+        int end = Math.min(rehashIndex + REHASH_STEP, oldBuckets.length);
+        while (rehashIndex < end) {
+            moveBucket(rehashIndex++);
+        }
+        if (rehashIndex == oldBuckets.length) {
+            oldBuckets = null;
+        }
+    }
+
+    /**
+     * 남아 있는 모든 버킷을 한 번에 옮겨 재해싱을 끝냅니다.
+     */
+    private void finishRehash() {
+        if (oldBuckets == null) {
+            return;
+        }
+        while (rehashIndex < oldBuckets.length) {
+            moveBucket(rehashIndex++);
+        }
+        oldBuckets = null;
+    }
+
+    /**
+     * 이전 테이블의 버킷 하나에 있는 엔트리들을 새 테이블로 옮깁니다.
+     * 트리 버킷은 연결 리스트로 풀어서 옮기고, 옮긴 곳에서 다시 길어지면 그때 트리로 바꿉니다.
+     */
+    private void moveBucket(int oldIndex) {
+        Entry<K, V> current = oldBuckets[oldIndex];
+        oldBuckets[oldIndex] = null;
+        if (current instanceof TreeBin) {
+            current = ((TreeBin<K, V>) current).toChain();
+        }
+        while (current != null) {
+            Entry<K, V> next = current.next;
+            link(buckets, current);
+            current = next;
+        }
+    }
+
+    /**
+     * 이미 만들어진 엔트리를 테이블의 해당 버킷에 연결합니다. (중복 검사 없음)
+     */
+    private void link(Entry<K, V>[] table, Entry<K, V> entry) {
+        int index = indexFor(entry.hash, table.length);
+        Entry<K, V> head = table[index];
+        if (head instanceof TreeBin) {
+            ((TreeBin<K, V>) head).add(entry);
+            return;
+        }
+        int binCount = 0;
+        for (Entry<K, V> current = head; current != null; current = current.next) {
+            binCount++;
+        }
+        entry.next = head;
+        table[index] = entry;
+        if (binCount + 1 >= TREEIFY_THRESHOLD) {
+            treeify(table, index);
+        }
     }
 
     /**
-     * Key의 해시 코드를 이용하여 배열 인덱스를 계산합니다.
+     * 버킷의 연결 리스트를 트리 버킷으로 변환합니다.
      */
-    private int getIndex(K key) {
-        return Math.abs(key.hashCode()) % buckets.length;
+    private void treeify(Entry<K, V>[] table, int index) {
+        TreeBin<K, V> bin = new TreeBin<>();
+        Entry<K, V> current = table[index];
+        while (current != null) {
+            Entry<K, V> next = current.next;
+            bin.add(current);
+            current = next;
+        }
+        table[index] = bin;
+    }
+
+    private int thresholdFor(int capacity) {
+        return (int) Math.min(capacity * (double) loadFactor, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 주어진 용량 이상인 가장 작은 2의 거듭제곱을 반환합니다.
+     */
+    private static int tableSizeFor(int capacity) {
+        int n = 1;
+        while (n < capacity && n < MAXIMUM_CAPACITY) {
+            n <<= 1;
+        }
+        return n;
     }
 }
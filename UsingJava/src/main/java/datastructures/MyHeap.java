@@ -1,5 +1,6 @@
 package datastructures;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.NoSuchElementException;
@@ -7,14 +8,18 @@ import java.util.NoSuchElementException;
 /**
  * 제네릭 힙(Heap) 구현체입니다.
  * 생성자 옵션에 따라 최소 힙(Min Heap) 또는 최대 힙(Max Heap)으로 동작합니다.
- * MyArrayList를 사용하여 완전 이진 트리를 표현합니다.
+ * 배열 하나로 완전 이진 트리를 표현합니다 (i의 자식은 2i+1, 2i+2).
+ * Comparator를 지정하면 그 기준으로 가장 작은 값이 최상위에 옵니다.
  *
- * @param <T> 비교 가능한(Comparable) 데이터 타입
+ * @param <T> 데이터 타입 (Comparator를 주지 않으면 Comparable 구현 필요)
  */
-public class MyHeap<T extends Comparable<T>> {
+public class MyHeap<T> {
 
-    private final MyArrayList<T> heap;
-    private final Comparator<T> comparator;
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private Object[] heap;
+    private int size;
+    private final Comparator<? super T> comparator;
 
     /**
      * 기본 생성자. 최소 힙(Min Heap)으로 생성됩니다.
@@ -28,15 +33,77 @@ public class MyHeap<T extends Comparable<T>> {
      * 
      * @param isMaxHeap true면 최대 힙, false면 최소 힙으로 동작합니다.
      */
+    @SuppressWarnings("unchecked")
     public MyHeap(boolean isMaxHeap) {
-        this.heap = new MyArrayList<>();
+        this.heap = new Object[DEFAULT_CAPACITY];
         if (isMaxHeap) {
             // 최대 힙: 내림차순 정렬 (큰 값이 위로)
             this.comparator = Collections.reverseOrder();
         } else {
             // 최소 힙: 오름차순 정렬 (작은 값이 위로) - 기본
-            this.comparator = Comparator.naturalOrder();
+            this.comparator = (Comparator<? super T>) Comparator.naturalOrder();
+        }
+    }
+
+    /**
+     * 우선순위를 정할 Comparator를 지정하여 생성합니다.
+     * comparator 기준으로 가장 작은 값이 최상위 노드가 됩니다.
+     *
+     * @param comparator 우선순위 비교에 사용할 Comparator
+     * @throws IllegalArgumentException comparator가 null인 경우
+     */
+    public MyHeap(Comparator<? super T> comparator) {
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator cannot be null");
+        }
+        this.heap = new Object[DEFAULT_CAPACITY];
+        this.comparator = comparator;
+    }
+
+    /**
+     * 초기 용량과 Comparator를 지정하여 생성합니다.
+     * 담을 최대 개수를 미리 알면, 그 개수까지는 insert 중에 배열을 늘리지 않습니다.
+     *
+     * @param initialCapacity 초기 용량 (0 이상)
+     * @param comparator      우선순위 비교에 사용할 Comparator
+     * @throws IllegalArgumentException initialCapacity가 음수이거나 comparator가 null인 경우
+     */
+    public MyHeap(int initialCapacity, Comparator<? super T> comparator) {
+        this(comparator);
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        this.heap = new Object[initialCapacity];
+    }
+
+    /**
+     * 주어진 요소들로 최소 힙을 한 번에 만듭니다 (Floyd의 Bottom-up Heapify, O(n)).
+     *
+     * @param elements 힙에 넣을 요소들
+     */
+    @SuppressWarnings("unchecked")
+    public MyHeap(MyArrayList<? extends T> elements) {
+        this(elements, (Comparator<? super T>) Comparator.naturalOrder());
+    }
+
+    /**
+     * 주어진 요소들로 comparator 기준의 힙을 한 번에 만듭니다 (Floyd의 Bottom-up Heapify, O(n)).
+     * insert를 n번 호출하면 O(n log n)이지만, 배열에 그대로 담은 뒤 마지막 부모부터 거꾸로
+     * heapifyDown하면 대부분의 노드가 바닥 근처에 있어 전체 이동 횟수가 O(n)이 됩니다.
+     *
+     * @param elements   힙에 넣을 요소들
+     * @param comparator 우선순위 비교에 사용할 Comparator
+     * @throws IllegalArgumentException comparator가 null인 경우
+     */
+    public MyHeap(MyArrayList<? extends T> elements, Comparator<? super T> comparator) {
+        this(comparator);
+        int n = elements.size();
+        heap = new Object[Math.max(n, DEFAULT_CAPACITY)];
+        for (int i = 0; i < n; i++) {
+            heap[i] = elements.get(i);
         }
+        size = n;
+        heapify();
     }
 
     /**
@@ -46,8 +113,31 @@ public class MyHeap<T extends Comparable<T>> {
      * @param element 추가할 데이터
      */
     public void insert(T element) {
-        heap.add(element);
-        heapifyUp(heap.size() - 1);
+        ensureCapacity(size + 1);
+        heapifyUp(size++, element);
+    }
+
+    /**
+     * 여러 요소를 한 번에 추가합니다.
+     * 추가할 개수가 현재 크기 이상이면 모두 뒤에 붙인 뒤 전체를 다시 heapify하고 (O(n + k)),
+     * 적으면 하나씩 heapifyUp합니다 (O(k log n)).
+     *
+     * @param elements 추가할 요소들
+     */
+    public void addAll(MyArrayList<? extends T> elements) {
+        int k = elements.size();
+        ensureCapacity(size + k);
+        if (k >= size) {
+            for (int i = 0; i < k; i++) {
+                heap[size + i] = elements.get(i);
+            }
+            size += k;
+            heapify();
+        } else {
+            for (int i = 0; i < k; i++) {
+                heapifyUp(size++, elements.get(i));
+            }
+        }
     }
 
     /**
@@ -57,33 +147,73 @@ public class MyHeap<T extends Comparable<T>> {
      * @return 최상위 값
      * @throws NoSuchElementException 힙이 비어있는 경우 발생
      */
+    @SuppressWarnings("unchecked")
     public T poll() {
         if (isEmpty()) {
             throw new NoSuchElementException("Heap is empty");
         }
 
-        T root = heap.get(0);
-        T lastElement = heap.remove(heap.size() - 1);
+        T root = (T) heap[0];
+        T lastElement = (T) heap[--size];
+        heap[size] = null; // 참조 해제 (GC 유도)
 
         if (!isEmpty()) {
-            heap.set(0, lastElement);
-            heapifyDown(0);
+            heapifyDown(0, lastElement);
         }
 
         return root;
     }
 
+    /**
+     * 최상위 노드를 element로 바꾸고, 원래 최상위 값을 반환합니다.
+     * poll 후 insert하면 Heapify Down과 Heapify Up을 한 번씩 하지만, 이 메소드는 루트 자리에서
+     * Heapify Down 한 번만 합니다. 크기가 변하지 않으므로 배열을 늘리지도 않습니다.
+     * 최상위 요소의 필드를 바꾼 뒤 그 요소 자체를 다시 넘겨 제자리를 찾게 할 수도 있습니다.
+     *
+     * @param element 새로 넣을 데이터
+     * @return 원래 최상위 값
+     * @throws NoSuchElementException 힙이 비어있는 경우 발생
+     */
+    @SuppressWarnings("unchecked")
+    public T replaceTop(T element) {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        T root = (T) heap[0];
+        heapifyDown(0, element);
+        return root;
+    }
+
+    /**
+     * 최상위 노드부터 최대 k개를 차례로 제거하여 우선순위 순서대로 반환합니다.
+     *
+     * @param k 꺼낼 최대 개수
+     * @return 꺼낸 요소들 (힙에 k개보다 적으면 전부)
+     */
+    public MyArrayList<T> pollBatch(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("Illegal batch size: " + k);
+        }
+        MyArrayList<T> result = new MyArrayList<>();
+        int count = Math.min(k, size);
+        for (int i = 0; i < count; i++) {
+            result.add(poll());
+        }
+        return result;
+    }
+
     /**
      * 힙의 최상위 노드를 제거하지 않고 반환합니다.
      * 
      * @return 최상위 값
      * @throws NoSuchElementException 힙이 비어있는 경우 발생
      */
+    @SuppressWarnings("unchecked")
     public T peek() {
         if (isEmpty()) {
             throw new NoSuchElementException("Heap is empty");
         }
-        return heap.get(0);
+        return (T) heap[0];
     }
 
     /**
@@ -92,7 +222,7 @@ public class MyHeap<T extends Comparable<T>> {
      * @return 비어있으면 true, 아니면 false
      */
     public boolean isEmpty() {
-        return heap.isEmpty();
+        return size == 0;
     }
 
     /**
@@ -101,59 +231,76 @@ public class MyHeap<T extends Comparable<T>> {
      * @return 데이터 개수
      */
     public int size() {
-        return heap.size();
+        return size;
     }
 
     /**
-     * 새로운 노드가 추가된 후, 힙의 성질을 만족하도록 위로 이동시킵니다.
-     * 
-     * @param index 추가된 노드의 인덱스
+     * element를 index 위치에 두고, 힙의 성질을 만족하도록 위로 이동시킵니다.
+     * 교환(swap) 대신 부모를 한 칸씩 내리며 빈 자리(hole)를 올리고, 마지막에 한 번만 씁니다.
+     *
+     * @param index   빈 자리의 인덱스
+     * @param element 넣을 데이터
      */
-    private void heapifyUp(int index) {
-        int parentIndex = (index - 1) / 2;
-
-        // comparator.compare(child, parent) < 0 이면 자식이 부모보다 "우선순위가 높다"는 뜻 (MinHeap: 더
-        // 작음, MaxHeap: 더 큼)
-        while (index > 0 && comparator.compare(heap.get(index), heap.get(parentIndex)) < 0) {
-            swap(index, parentIndex);
+    @SuppressWarnings("unchecked")
+    private void heapifyUp(int index, T element) {
+        while (index > 0) {
+            int parentIndex = (index - 1) >>> 1;
+            T parent = (T) heap[parentIndex];
+            // comparator.compare(child, parent) < 0 이면 자식이 부모보다 "우선순위가 높다"는 뜻 (MinHeap: 더
+            // 작음, MaxHeap: 더 큼)
+            if (comparator.compare(element, parent) >= 0) {
+                break;
+            }
+            heap[index] = parent;
             index = parentIndex;
-            parentIndex = (index - 1) / 2;
         }
+        heap[index] = element;
     }
 
     /**
-     * 루트 노드가 변경된 후, 힙의 성질을 만족하도록 아래로 이동시킵니다.
-     * 
-     * @param index 변경된 노드의 인덱스 (보통 0)
+     * element를 index 위치에 두고, 힙의 성질을 만족하도록 아래로 이동시킵니다.
+     * 우선순위가 더 높은 자식을 한 칸씩 끌어올리며 빈 자리를 내리고, 마지막에 한 번만 씁니다.
+     *
+     * @param index   빈 자리의 인덱스 (보통 0)
+     * @param element 넣을 데이터
      */
-    private void heapifyDown(int index) {
-        int leftChildIndex = 2 * index + 1;
-        int rightChildIndex = 2 * index + 2;
-        int targetIndex = index;
-
-        // 왼쪽 자식과 비교
-        if (leftChildIndex < heap.size() && comparator.compare(heap.get(leftChildIndex), heap.get(targetIndex)) < 0) {
-            targetIndex = leftChildIndex;
-        }
-
-        // 오른쪽 자식과 비교
-        if (rightChildIndex < heap.size() && comparator.compare(heap.get(rightChildIndex), heap.get(targetIndex)) < 0) {
-            targetIndex = rightChildIndex;
+    @SuppressWarnings("unchecked")
+    private void heapifyDown(int index, T element) {
+        int half = size >>> 1; // 이 인덱스부터는 자식이 없는 리프
+        while (index < half) {
+            int childIndex = 2 * index + 1;
+            T child = (T) heap[childIndex];
+            int rightChildIndex = childIndex + 1;
+            // 두 자식 중 우선순위가 더 높은(Comparator 기준 더 작은) 쪽을 고름
+            if (rightChildIndex < size && comparator.compare((T) heap[rightChildIndex], child) < 0) {
+                childIndex = rightChildIndex;
+                child = (T) heap[childIndex];
+            }
+            if (comparator.compare(element, child) <= 0) {
+                break;
+            }
+            heap[index] = child;
+            index = childIndex;
         }
+        heap[index] = element;
+    }
 
-        // 우선순위가 더 높은(Comparator 기준 더 작은) 자식이 있다면 교환하고 계속 진행
-        if (targetIndex != index) {
-            swap(index, targetIndex);
-            heapifyDown(targetIndex);
+    /**
+     * 마지막 부모 노드부터 루트까지 거꾸로 heapifyDown하여 배열 전체를 힙으로 만듭니다 (O(n)).
+     */
+    @SuppressWarnings("unchecked")
+    private void heapify() {
+        for (int i = (size >>> 1) - 1; i >= 0; i--) {
+            heapifyDown(i, (T) heap[i]);
         }
     }
 
     /**
-     * 두 인덱스의 데이터를 서로 교환합니다.
+     * 배열에 minCapacity개를 담을 수 없으면 용량을 (필요하면 그 이상으로) 2배로 늘립니다.
      */
-    private void swap(int i, int j) {
-        T temp = heap.get(i);
-        heap.set(i, heap.get(j));
-        heap.set(j, temp);
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > heap.length) {
+            heap = Arrays.copyOf(heap, Math.max(heap.length * 2, minCapacity));
+        }
     }
 }
@@ -0,0 +1,370 @@
+package datastructures;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+
+/**
+ * 핸들(Handle)로 요소를 가리켜 우선순위를 제자리에서 바꿀 수 있는 인덱스 힙(Indexed Priority Queue)입니다.
+ * insert가 돌려주는 int 핸들로 decreaseKey/increaseKey/remove를 O(log n)에 할 수 있으므로,
+ * 우선순위가 바뀔 때마다 중복 요소를 다시 넣고 꺼낼 때 오래된 것을 걸러낼 필요가 없습니다 (Dijkstra, 스케줄러 등).
+ *
+ * <p>자식을 d개씩 두는 d-ary 힙입니다. d가 크면 트리 높이(log_d n)가 낮아져 insert/decreaseKey가 빨라지고,
+ * heapifyDown은 한 층에서 비교할 자식이 늘어나지만 자식들이 배열에 연속으로 있어 캐시 효율이 좋습니다.
+ * 보통 4가 균형이 좋습니다.
+ *
+ * <p>내부 배열:
+ * <ul>
+ * <li>heap[slot] = 그 위치에 있는 핸들</li>
+ * <li>slotOf[handle] = 핸들이 있는 위치 (-1이면 비어 있는 핸들)</li>
+ * <li>elements[handle] = 핸들의 요소</li>
+ * </ul>
+ * 삭제된 핸들 번호는 다음 insert에서 재사용됩니다.
+ *
+ * @param <T> 데이터 타입 (Comparator를 주지 않으면 Comparable 구현 필요)
+ */
+public class MyIndexedHeap<T> {
+
+    private static final int DEFAULT_ARITY = 4;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final int arity;
+    private final Comparator<? super T> comparator;
+
+    private int[] heap;
+    private int[] slotOf;
+    private Object[] elements;
+    private int size;
+
+    private int[] freeHandles; // 재사용할 핸들 번호 스택
+    private int freeCount;
+    private int nextHandle; // 한 번도 쓰지 않은 가장 작은 핸들 번호
+
+    /**
+     * 기본 생성자. 4-ary 최소 힙(Min Heap)으로 생성됩니다.
+     */
+    public MyIndexedHeap() {
+        this(false);
+    }
+
+    /**
+     * 힙의 종류를 지정하여 4-ary 힙으로 생성합니다.
+     *
+     * @param isMaxHeap true면 최대 힙, false면 최소 힙으로 동작합니다.
+     */
+    @SuppressWarnings("unchecked")
+    public MyIndexedHeap(boolean isMaxHeap) {
+        this(DEFAULT_ARITY, isMaxHeap ? Collections.reverseOrder() : (Comparator<? super T>) Comparator.naturalOrder());
+    }
+
+    /**
+     * 우선순위를 정할 Comparator를 지정하여 4-ary 힙으로 생성합니다.
+     *
+     * @param comparator 우선순위 비교에 사용할 Comparator (가장 작은 값이 최상위)
+     */
+    public MyIndexedHeap(Comparator<? super T> comparator) {
+        this(DEFAULT_ARITY, comparator);
+    }
+
+    /**
+     * 자식 수(arity)와 Comparator를 지정하여 생성합니다.
+     *
+     * @param arity      노드당 자식 수 (2 이상, 보통 2/4/8)
+     * @param comparator 우선순위 비교에 사용할 Comparator (가장 작은 값이 최상위)
+     * @throws IllegalArgumentException arity가 2 미만이거나 comparator가 null인 경우
+     */
+    public MyIndexedHeap(int arity, Comparator<? super T> comparator) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Illegal arity: " + arity);
+        }
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator cannot be null");
+        }
+        this.arity = arity;
+        this.comparator = comparator;
+        this.heap = new int[DEFAULT_CAPACITY];
+        this.slotOf = new int[DEFAULT_CAPACITY];
+        this.elements = new Object[DEFAULT_CAPACITY];
+        this.freeHandles = new int[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * 힙에 데이터를 추가하고, 이 요소를 가리키는 핸들을 반환합니다.
+     * 핸들은 요소가 poll/remove될 때까지 유효합니다.
+     *
+     * @param element 추가할 데이터
+     * @return 요소의 핸들
+     */
+    public int insert(T element) {
+        int handle = allocateHandle();
+        elements[handle] = element;
+        siftUp(size++, handle);
+        return handle;
+    }
+
+    /**
+     * 최상위 요소를 제거하고 반환합니다.
+     *
+     * @return 최상위 값
+     * @throws NoSuchElementException 힙이 비어있는 경우 발생
+     */
+    public T poll() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        return remove(heap[0]);
+    }
+
+    /**
+     * 최상위 요소를 제거하지 않고 반환합니다.
+     *
+     * @return 최상위 값
+     * @throws NoSuchElementException 힙이 비어있는 경우 발생
+     */
+    @SuppressWarnings("unchecked")
+    public T peek() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        return (T) elements[heap[0]];
+    }
+
+    /**
+     * 최상위 요소의 핸들을 반환합니다.
+     *
+     * @return 최상위 요소의 핸들
+     * @throws NoSuchElementException 힙이 비어있는 경우 발생
+     */
+    public int peekHandle() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        return heap[0];
+    }
+
+    /**
+     * 핸들이 가리키는 요소를 반환합니다.
+     *
+     * @param handle 요소의 핸들
+     * @return 요소
+     * @throws IllegalArgumentException 힙에 없는 핸들인 경우
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int handle) {
+        checkHandle(handle);
+        return (T) elements[handle];
+    }
+
+    /**
+     * 핸들이 가리키는 요소가 아직 힙에 있는지 확인합니다.
+     *
+     * @param handle 확인할 핸들
+     * @return 힙에 있으면 true
+     */
+    public boolean contains(int handle) {
+        return handle >= 0 && handle < nextHandle && slotOf[handle] >= 0;
+    }
+
+    /**
+     * 핸들의 요소를 우선순위가 더 높은(Comparator 기준 같거나 더 작은) 요소로 바꿉니다. 요소는 위로만 이동합니다.
+     *
+     * @param handle  바꿀 요소의 핸들
+     * @param element 새 요소
+     * @throws IllegalArgumentException 힙에 없는 핸들이거나, 새 요소의 우선순위가 더 낮은 경우
+     */
+    @SuppressWarnings("unchecked")
+    public void decreaseKey(int handle, T element) {
+        checkHandle(handle);
+        if (comparator.compare(element, (T) elements[handle]) > 0) {
+            throw new IllegalArgumentException("New element has lower priority than the current one");
+        }
+        elements[handle] = element;
+        siftUp(slotOf[handle], handle);
+    }
+
+    /**
+     * 핸들의 요소를 우선순위가 더 낮은(Comparator 기준 같거나 더 큰) 요소로 바꿉니다. 요소는 아래로만 이동합니다.
+     *
+     * @param handle  바꿀 요소의 핸들
+     * @param element 새 요소
+     * @throws IllegalArgumentException 힙에 없는 핸들이거나, 새 요소의 우선순위가 더 높은 경우
+     */
+    @SuppressWarnings("unchecked")
+    public void increaseKey(int handle, T element) {
+        checkHandle(handle);
+        if (comparator.compare(element, (T) elements[handle]) < 0) {
+            throw new IllegalArgumentException("New element has higher priority than the current one");
+        }
+        elements[handle] = element;
+        siftDown(slotOf[handle], handle);
+    }
+
+    /**
+     * 핸들의 요소를 바꿉니다. 우선순위가 오르든 내리든 알맞은 방향으로 이동합니다.
+     *
+     * @param handle  바꿀 요소의 핸들
+     * @param element 새 요소
+     * @throws IllegalArgumentException 힙에 없는 핸들인 경우
+     */
+    @SuppressWarnings("unchecked")
+    public void update(int handle, T element) {
+        checkHandle(handle);
+        int cmp = comparator.compare(element, (T) elements[handle]);
+        elements[handle] = element;
+        if (cmp < 0) {
+            siftUp(slotOf[handle], handle);
+        } else if (cmp > 0) {
+            siftDown(slotOf[handle], handle);
+        }
+    }
+
+    /**
+     * 핸들의 요소를 힙에서 제거하고 반환합니다. 이후 이 핸들은 무효가 됩니다.
+     * 마지막 요소를 빈 자리로 옮긴 뒤, 위나 아래 중 필요한 방향으로 이동시킵니다.
+     *
+     * @param handle 제거할 요소의 핸들
+     * @return 제거된 요소
+     * @throws IllegalArgumentException 힙에 없는 핸들인 경우
+     */
+    @SuppressWarnings("unchecked")
+    public T remove(int handle) {
+        checkHandle(handle);
+        T removed = (T) elements[handle];
+        int slot = slotOf[handle];
+        int last = heap[--size];
+        if (slot != size) {
+            // 마지막 요소로 빈 자리를 채움. 부모보다 우선순위가 높으면 위로, 아니면 아래로
+            if (slot > 0 && comparator.compare((T) elements[last], (T) elements[heap[(slot - 1) / arity]]) < 0) {
+                siftUp(slot, last);
+            } else {
+                siftDown(slot, last);
+            }
+        }
+        elements[handle] = null; // 참조 해제 (GC 유도)
+        slotOf[handle] = -1;
+        freeHandles[freeCount++] = handle;
+        return removed;
+    }
+
+    /**
+     * 힙이 비어있는지 확인합니다.
+     *
+     * @return 비어있으면 true, 아니면 false
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 힙에 저장된 데이터의 개수를 반환합니다.
+     *
+     * @return 데이터 개수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 노드당 자식 수를 반환합니다.
+     *
+     * @return arity
+     */
+    public int arity() {
+        return arity;
+    }
+
+    /**
+     * handle을 slot에서 시작해 부모보다 우선순위가 낮아질 때까지 위로 올립니다.
+     * 교환(swap) 대신 부모를 한 칸씩 내려 빈 자리(hole)를 올리고, 마지막에 한 번만 씁니다.
+     */
+    @SuppressWarnings("unchecked")
+    private void siftUp(int slot, int handle) {
+        T element = (T) elements[handle];
+        while (slot > 0) {
+            int parentSlot = (slot - 1) / arity;
+            int parent = heap[parentSlot];
+            if (comparator.compare(element, (T) elements[parent]) >= 0) {
+                break;
+            }
+            heap[slot] = parent;
+            slotOf[parent] = slot;
+            slot = parentSlot;
+        }
+        heap[slot] = handle;
+        slotOf[handle] = slot;
+    }
+
+    /**
+     * handle을 slot에서 시작해 가장 우선순위가 높은 자식보다 높아질 때까지 아래로 내립니다.
+     * 자식 d개는 heap[d*slot+1 .. d*slot+d]에 연속으로 있습니다.
+     */
+    @SuppressWarnings("unchecked")
+    private void siftDown(int slot, int handle) {
+        T element = (T) elements[handle];
+        while (true) {
+            int firstChild = slot * arity + 1;
+            if (firstChild >= size) {
+                break;
+            }
+            int end = Math.min(firstChild + arity, size);
+            int bestSlot = firstChild;
+            T best = (T) elements[heap[firstChild]];
+            for (int c = firstChild + 1; c < end; c++) {
+                T candidate = (T) elements[heap[c]];
+                if (comparator.compare(candidate, best) < 0) {
+                    bestSlot = c;
+                    best = candidate;
+                }
+            }
+            if (comparator.compare(best, element) >= 0) {
+                break;
+            }
+            int child = heap[bestSlot];
+            heap[slot] = child;
+            slotOf[child] = slot;
+            slot = bestSlot;
+        }
+        heap[slot] = handle;
+        slotOf[handle] = slot;
+    }
+
+    private int allocateHandle() {
+        if (freeCount > 0) {
+            return freeHandles[--freeCount];
+        }
+        if (nextHandle == elements.length) {
+            int newCapacity = elements.length * 2;
+            heap = Arrays.copyOf(heap, newCapacity);
+            slotOf = Arrays.copyOf(slotOf, newCapacity);
+            elements = Arrays.copyOf(elements, newCapacity);
+            freeHandles = Arrays.copyOf(freeHandles, newCapacity);
+        }
+        return nextHandle++;
+    }
+
+    private void checkHandle(int handle) {
+        if (!contains(handle)) {
+            throw new IllegalArgumentException("Handle not in heap: " + handle);
+        }
+    }
+
+    /**
+     * 모든 부모가 자식보다 우선순위가 같거나 높은지, 핸들과 위치가 서로 맞는지 검사합니다. (테스트용)
+     */
+    @SuppressWarnings("unchecked")
+    void checkInvariants() {
+        for (int slot = 0; slot < size; slot++) {
+            int handle = heap[slot];
+            if (slotOf[handle] != slot) {
+                throw new IllegalStateException("slotOf mismatch at slot " + slot);
+            }
+            if (slot > 0 && comparator.compare((T) elements[heap[(slot - 1) / arity]], (T) elements[handle]) > 0) {
+                throw new IllegalStateException("Heap order violated at slot " + slot);
+            }
+        }
+        if (size + freeCount != nextHandle) {
+            throw new IllegalStateException("Handle count mismatch");
+        }
+    }
+}
@@ -1,10 +1,27 @@
 package datastructures;
 
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.ToIntBiFunction;
+
 /**
  * 연결 해시 맵(Linked Hash Map) 구현체입니다.
  * HashMap의 기능에 입력된 순서(Insertion Order)를 유지하는 기능을 추가했습니다.
  * 내부적으로 해시 테이블(배열 + 체이닝)과 이중 연결 리스트(Doubly Linked List)를 함께 사용합니다.
  *
+ * <p>접근 순서(Access Order) 모드로 생성하면 get/put으로 접근한 엔트리가 리스트의 맨 뒤로 이동하므로,
+ * 리스트의 맨 앞(head)이 가장 오랫동안 사용되지 않은 엔트리가 됩니다.
+ * 최대 크기를 지정하거나 {@link #removeEldestEntry(Object, Object)}를 재정의하면
+ * 새 엔트리를 넣을 때 head를 제거하는 O(1) LRU 캐시로 사용할 수 있습니다.
+ *
+ * <p>캐시 용도로 엔트리별 만료 시간(TTL)과 가중치 기반 용량을 설정할 수 있습니다.
+ * 만료는 계층형 타이머 휠(Hierarchical Timer Wheel)로 관리하므로 리스트 전체를 훑지 않고
+ * 시간이 흐른 버킷만 처리하여 상각 O(1)에 제거됩니다.
+ * 시간은 {@link #ticker(LongSupplier)}로 바꿀 수 있어 테스트에서 결정적으로 검증할 수 있습니다.
+ *
  * @param <K> Key의 타입
  * @param <V> Value의 타입
  */
@@ -14,6 +31,7 @@ public class MyLinkedHashMap<K, V> {
      * 해시 맵의 엔트리이자, 이중 연결 리스트의 노드입니다.
      */
     private static class Entry<K, V> {
+        final int hash;
         final K key;
         V value;
         Entry<K, V> next; // 해시 충돌 해결용 (HashMap의 next)
@@ -22,33 +40,174 @@ public class MyLinkedHashMap<K, V> {
         Entry<K, V> before;
         Entry<K, V> after;
 
-        Entry(K key, V value, Entry<K, V> next) {
+        Entry(int hash, K key, V value, Entry<K, V> next) {
+            this.hash = hash;
             this.key = key;
             this.value = value;
             this.next = next;
         }
     }
 
+    /**
+     * 만료 시간이나 가중치 기반 용량을 설정한 맵에서만 사용하는 엔트리입니다.
+     * 설정은 엔트리를 추가하기 전에만 바꿀 수 있으므로, 한 맵의 엔트리는 모두 Entry이거나 모두 TimedEntry입니다.
+     * 기능을 켜지 않은 맵(MyConcurrentCache의 세그먼트 등)은 엔트리마다 이 필드들을 들고 다니지 않습니다.
+     */
+    private static final class TimedEntry<K, V> extends Entry<K, V> {
+        // 만료 시각(나노초)과 가중치
+        long writeExpirationTime;
+        long expirationTime;
+        int weight;
+
+        // 타이머 휠 버킷의 원형 이중 연결 리스트 포인터 (스케줄되지 않았으면 null)
+        TimedEntry<K, V> previousInWheel;
+        TimedEntry<K, V> nextInWheel;
+
+        TimedEntry(int hash, K key, V value, Entry<K, V> next) {
+            super(hash, key, value, next);
+        }
+    }
+
     private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    // 타이머 휠 단계별 버킷 수와 버킷 한 칸의 시간 폭(2^SHIFT 나노초: 약 1초, 1분, 1시간, 1.6일, 6.5일)
+    private static final int[] WHEEL_BUCKETS = {64, 64, 32, 4, 1};
+    private static final int[] WHEEL_SHIFT = {30, 36, 42, 47, 49};
+    // 오버플로 걱정 없이 now + duration을 계산할 수 있는 최대 만료 시간
+    private static final long MAXIMUM_DURATION = Long.MAX_VALUE >>> 2;
+
     private Entry<K, V>[] buckets;
     private int size;
 
     // 순서 유지를 위한 헤드(가장 오래된 항목)와 테일(가장 최근 항목)
     private Entry<K, V> head;
     private Entry<K, V> tail;
+    // 구조 변경(추가/삭제/순서 이동) 횟수. 반복자의 Fail-Fast 검사에 사용합니다.
+    private int modCount;
+
+    // true면 접근 순서(LRU), false면 입력 순서
+    private final boolean accessOrder;
+    // 최대 엔트리 수 (제한이 없으면 Integer.MAX_VALUE)
+    private final int maxSize;
+
+    // 시간 기반 만료 설정 (0이면 사용하지 않음)
+    private long expireAfterWriteNanos;
+    private long expireAfterAccessNanos;
+    private LongSupplier ticker = System::nanoTime;
+    private TimerWheel wheel;
+
+    // 가중치 기반 용량 설정 (weigher가 null이면 사용하지 않음)
+    private ToIntBiFunction<? super K, ? super V> weigher;
+    private long maximumWeight;
+    private long totalWeight;
 
-    @SuppressWarnings("unchecked")
     public MyLinkedHashMap() {
+        this(false);
+    }
+
+    /**
+     * 순서 모드를 지정하여 생성합니다.
+     *
+     * @param accessOrder true면 접근 순서(LRU), false면 입력 순서를 유지합니다.
+     */
+    public MyLinkedHashMap(boolean accessOrder) {
+        this(Integer.MAX_VALUE, accessOrder);
+    }
+
+    /**
+     * 최대 크기가 정해진 맵을 생성합니다.
+     * 크기를 넘으면 가장 오래된(head) 엔트리가 제거됩니다.
+     *
+     * @param maxSize     최대 엔트리 수
+     * @param accessOrder true면 접근 순서(LRU), false면 입력 순서(FIFO)로 제거합니다.
+     */
+    @SuppressWarnings("unchecked")
+    public MyLinkedHashMap(int maxSize, boolean accessOrder) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Illegal max size: " + maxSize);
+        }
         this.buckets = (Entry<K, V>[]) new Entry[DEFAULT_CAPACITY];
         this.size = 0;
         this.head = null;
         this.tail = null;
+        this.maxSize = maxSize;
+        this.accessOrder = accessOrder;
+    }
+
+    /**
+     * 마지막으로 값을 쓴(put) 시점부터 지정한 시간이 지나면 엔트리가 만료되도록 설정합니다.
+     * 엔트리를 추가하기 전에 호출해야 합니다.
+     *
+     * @param duration 만료 시간 (양수)
+     * @param unit     시간 단위
+     * @return 이 맵 (설정 메소드를 이어서 호출할 수 있습니다)
+     */
+    public MyLinkedHashMap<K, V> expireAfterWrite(long duration, TimeUnit unit) {
+        expireAfterWriteNanos = toExpirationNanos(duration, unit);
+        return this;
+    }
+
+    /**
+     * 마지막으로 읽거나 쓴 시점부터 지정한 시간이 지나면 엔트리가 만료되도록 설정합니다.
+     * 엔트리를 추가하기 전에 호출해야 합니다.
+     *
+     * @param duration 만료 시간 (양수)
+     * @param unit     시간 단위
+     * @return 이 맵
+     */
+    public MyLinkedHashMap<K, V> expireAfterAccess(long duration, TimeUnit unit) {
+        expireAfterAccessNanos = toExpirationNanos(duration, unit);
+        return this;
+    }
+
+    /**
+     * 엔트리 개수 대신 가중치 합으로 용량을 제한합니다.
+     * 가중치 합이 최대값을 넘으면 가장 오래된(head) 엔트리부터 제거합니다.
+     * 엔트리를 추가하기 전에 호출해야 합니다.
+     *
+     * @param maximumWeight 최대 가중치 합 (0 이상)
+     * @param weigher       엔트리의 가중치(0 이상)를 계산하는 함수 (예: 바이트 크기)
+     * @return 이 맵
+     */
+    public MyLinkedHashMap<K, V> maximumWeight(long maximumWeight, ToIntBiFunction<? super K, ? super V> weigher) {
+        if (maximumWeight < 0) {
+            throw new IllegalArgumentException("Illegal maximum weight: " + maximumWeight);
+        }
+        if (weigher == null) {
+            throw new IllegalArgumentException("Weigher cannot be null");
+        }
+        checkConfigurable();
+        this.maximumWeight = maximumWeight;
+        this.weigher = weigher;
+        return this;
+    }
+
+    /**
+     * 만료 계산에 사용할 시계(나노초)를 지정합니다. 기본값은 {@link System#nanoTime()}입니다.
+     * 테스트에서는 직접 시간을 움직일 수 있는 시계를 넣어 만료를 결정적으로 검증할 수 있습니다.
+     *
+     * @param ticker 현재 시각을 나노초로 반환하는 함수
+     * @return 이 맵
+     */
+    public MyLinkedHashMap<K, V> ticker(LongSupplier ticker) {
+        if (ticker == null) {
+            throw new IllegalArgumentException("Ticker cannot be null");
+        }
+        checkConfigurable();
+        this.ticker = ticker;
+        if (wheel != null) {
+            wheel.nanos = ticker.getAsLong();
+        }
+        return this;
     }
 
     /**
      * Key에 해당하는 Value를 저장합니다.
      * 새로운 키라면 리스트의 맨 뒤(tail)에 추가되어 순서를 유지합니다.
-     * 
+     * 접근 순서 모드에서는 기존 키를 업데이트해도 맨 뒤로 이동합니다.
+     *
      * @param key   저장할 키
      * @param value 저장할 값
      */
@@ -57,56 +216,86 @@ public class MyLinkedHashMap<K, V> {
             throw new IllegalArgumentException("Key cannot be null");
         }
 
-        int index = getIndex(key);
+        int weight = weigh(key, value);
+        long now = expireTimers();
+        int hash = hash(key);
+        int index = indexFor(hash, buckets.length);
         Entry<K, V> current = buckets[index];
 
         // 1. 이미 존재하는 키인지 확인 (Update)
         while (current != null) {
-            if (current.key.equals(key)) {
+            if (current.hash == hash && current.key.equals(key)) {
                 current.value = value;
-                return; // 값만 업데이트하고 순서는 변경하지 않음
+                afterWrite(current, weight, now);
+                afterAccess(current); // 입력 순서 모드에서는 순서를 변경하지 않음
+                evictByWeight();
+                return;
             }
             current = current.next;
         }
 
         // 2. 새로운 키라면 추가 (Insert)
-        Entry<K, V> newEntry = new Entry<>(key, value, buckets[index]);
+        Entry<K, V> newEntry = wheel != null || weigher != null
+                ? new TimedEntry<>(hash, key, value, buckets[index])
+                : new Entry<>(hash, key, value, buckets[index]);
         buckets[index] = newEntry;
 
         // 이중 연결 리스트의 마지막(Tail)에 연결
         linkLast(newEntry);
+        afterWrite(newEntry, weight, now);
 
         size++;
+        modCount++;
+
+        // 3. 제거 정책 확인 (가장 오래된 엔트리 제거)
+        Entry<K, V> eldest = head;
+        if (removeEldestEntry(eldest.key, eldest.value)) {
+            remove(eldest.key);
+        }
+        evictByWeight();
+
+        if (size > buckets.length * LOAD_FACTOR) {
+            resize();
+        }
     }
 
     /**
      * Key에 해당하는 Value를 반환합니다.
-     * 
+     * 접근 순서 모드에서는 찾은 엔트리를 리스트의 맨 뒤로 이동합니다.
+     * 만료된 엔트리는 아직 타이머 휠에서 제거되지 않았더라도 반환하지 않습니다.
+     *
      * @param key 찾을 키
      * @return 키에 해당하는 값
      */
     public V get(K key) {
-        if (key == null) {
-            throw new IllegalArgumentException("Key cannot be null");
+        long now = expireTimers();
+        Entry<K, V> entry = getLiveEntry(key, now);
+        if (entry == null) {
+            return null;
         }
-
-        int index = getIndex(key);
-        Entry<K, V> current = buckets[index];
-
-        while (current != null) {
-            if (current.key.equals(key)) {
-                return current.value;
-            }
-            current = current.next;
+        if (expireAfterAccessNanos > 0) {
+            TimedEntry<K, V> timed = (TimedEntry<K, V>) entry;
+            timed.expirationTime = Math.min(timed.writeExpirationTime, now + expireAfterAccessNanos);
+            wheel.reschedule(timed);
         }
+        afterAccess(entry);
+        return entry.value;
+    }
 
-        return null;
+    /**
+     * Key가 존재하는지 확인합니다. 접근 순서와 접근 기준 만료 시간에는 영향을 주지 않습니다.
+     *
+     * @param key 찾을 키
+     * @return 존재하면 true, 아니면 false
+     */
+    public boolean containsKey(K key) {
+        return getLiveEntry(key, expireTimers()) != null;
     }
 
     /**
      * Key에 해당하는 엔트리를 삭제합니다.
      * 해시 테이블과 이중 연결 리스트 모두에서 제거해야 합니다.
-     * 
+     *
      * @param key 삭제할 키
      */
     public void remove(K key) {
@@ -114,12 +303,13 @@ public class MyLinkedHashMap<K, V> {
             throw new IllegalArgumentException("Key cannot be null");
         }
 
-        int index = getIndex(key);
+        int hash = hash(key);
+        int index = indexFor(hash, buckets.length);
         Entry<K, V> current = buckets[index];
         Entry<K, V> prev = null;
 
         while (current != null) {
-            if (current.key.equals(key)) {
+            if (current.hash == hash && current.key.equals(key)) {
                 // 해시 테이블(버킷)에서 제거
                 if (prev == null) {
                     buckets[index] = current.next;
@@ -129,8 +319,16 @@ public class MyLinkedHashMap<K, V> {
 
                 // 이중 연결 리스트에서 제거 (순서 정보 끊기)
                 unlink(current);
+                if (current instanceof TimedEntry) {
+                    TimedEntry<K, V> timed = (TimedEntry<K, V>) current;
+                    if (wheel != null) {
+                        wheel.deschedule(timed);
+                    }
+                    totalWeight -= timed.weight;
+                }
 
                 size--;
+                modCount++;
                 return;
             }
             prev = current;
@@ -139,32 +337,303 @@ public class MyLinkedHashMap<K, V> {
     }
 
     /**
-     * 입력된 순서대로 모든 키를 반환합니다.
-     * 
+     * 가장 오래된(리스트 맨 앞) 키를 반환합니다.
+     * 접근 순서 모드에서는 가장 오랫동안 사용되지 않은 키입니다.
+     *
+     * @return 가장 오래된 키, 비어있으면 null
+     */
+    public K eldestKey() {
+        return head == null ? null : head.key;
+    }
+
+    /**
+     * 순서대로 모든 키를 반환합니다.
+     *
      * @return 키 리스트
      */
     public MyArrayList<K> keys() {
+        long now = expireTimers();
         MyArrayList<K> keyList = new MyArrayList<>();
         Entry<K, V> current = head;
         while (current != null) {
-            keyList.add(current.key);
+            if (!isExpired(current, now)) {
+                keyList.add(current.key);
+            }
             current = current.after;
         }
         return keyList;
     }
 
+    /**
+     * 저장된 엔트리 수를 반환합니다.
+     * 만료 기능을 사용할 때는 만료되었지만 아직 정리되지 않은 엔트리(최대 타이머 휠 한 칸, 약 1초)가
+     * 포함될 수 있습니다. 정확한 값이 필요하면 {@link #cleanUp()}을 먼저 호출합니다.
+     *
+     * @return 엔트리 수
+     */
     public int size() {
         return size;
     }
 
+    /**
+     * 가중치 기반 용량을 사용할 때 현재 가중치의 합을 반환합니다.
+     *
+     * @return 가중치 합 (사용하지 않으면 0)
+     */
+    public long weight() {
+        return totalWeight;
+    }
+
+    /**
+     * 현재 시각까지 타이머 휠을 진행시키고, 만료된 엔트리를 모두 제거합니다.
+     * 만료된 엔트리는 다른 연산을 할 때도 정리되므로, 보통은 직접 호출할 필요가 없습니다.
+     */
+    public void cleanUp() {
+        expireTimers();
+        if (wheel != null) {
+            // 아직 지나가지 않은 현재 버킷에 남아있는 만료 엔트리까지 정리
+            wheel.expireCurrentBucket();
+        }
+    }
+
     public boolean isEmpty() {
         return size == 0;
     }
 
+    /**
+     * 새 엔트리를 추가한 직후 호출되어, 가장 오래된 엔트리를 제거할지 결정합니다.
+     * 기본 구현은 최대 크기가 지정된 경우 크기를 넘었을 때 true를 반환합니다.
+     * 하위 클래스에서 재정의하여 원하는 제거 정책을 적용할 수 있습니다.
+     *
+     * @param eldestKey   가장 오래된 엔트리의 키
+     * @param eldestValue 가장 오래된 엔트리의 값
+     * @return 제거해야 하면 true
+     */
+    protected boolean removeEldestEntry(K eldestKey, V eldestValue) {
+        return size > maxSize;
+    }
+
+    /**
+     * 키를 순서대로(head → tail) 순회하는 반복자를 반환합니다.
+     * 리스트로 복사하지 않고 연결 리스트를 직접 따라갑니다.
+     * 순회 중 반복자 밖에서 맵을 변경하면 ConcurrentModificationException이 발생하며,
+     * 접근 순서 모드에서는 get()도 순서를 바꾸므로 변경에 해당합니다.
+     *
+     * @return 키 반복자
+     */
+    public Iterator<K> keyIterator() {
+        return new LinkedIterator<K>() {
+            @Override
+            public K next() {
+                return nextEntry().key;
+            }
+        };
+    }
+
+    /**
+     * 값을 순서대로 순회하는 반복자를 반환합니다.
+     *
+     * @return 값 반복자
+     */
+    public Iterator<V> valueIterator() {
+        return new LinkedIterator<V>() {
+            @Override
+            public V next() {
+                return nextEntry().value;
+            }
+        };
+    }
+
+    /**
+     * 이중 연결 리스트를 따라가는 반복자입니다. 만료 기능을 사용하면 생성 시점 기준으로 만료된 엔트리는 건너뜁니다.
+     */
+    private abstract class LinkedIterator<E> implements Iterator<E> {
+        private final long now = expireTimers();
+        private Entry<K, V> next = skipExpired(head);
+        private Entry<K, V> lastReturned;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        Entry<K, V> nextEntry() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = next;
+            next = skipExpired(next.after);
+            return lastReturned;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            MyLinkedHashMap.this.remove(lastReturned.key);
+            expectedModCount = modCount;
+            lastReturned = null;
+        }
+
+        private Entry<K, V> skipExpired(Entry<K, V> entry) {
+            while (entry != null && isExpired(entry, now)) {
+                entry = entry.after;
+            }
+            return entry;
+        }
+    }
+
     // --- 내부 헬퍼 메소드 ---
 
-    private int getIndex(K key) {
-        return Math.abs(key.hashCode()) % buckets.length;
+    private void checkConfigurable() {
+        if (size > 0) {
+            throw new IllegalStateException("Must be configured before adding entries");
+        }
+    }
+
+    private long toExpirationNanos(long duration, TimeUnit unit) {
+        if (duration <= 0) {
+            throw new IllegalArgumentException("Illegal expiration: " + duration);
+        }
+        checkConfigurable();
+        if (wheel == null) {
+            wheel = new TimerWheel(ticker.getAsLong());
+        }
+        return Math.min(unit.toNanos(duration), MAXIMUM_DURATION);
+    }
+
+    private int weigh(K key, V value) {
+        if (weigher == null) {
+            return 0;
+        }
+        int weight = weigher.applyAsInt(key, value);
+        if (weight < 0) {
+            throw new IllegalArgumentException("Weight cannot be negative: " + weight);
+        }
+        return weight;
+    }
+
+    /**
+     * 만료 기능을 사용하면 현재 시각까지 타이머 휠을 진행시켜 만료된 엔트리를 제거하고, 현재 시각을 반환합니다.
+     */
+    private long expireTimers() {
+        if (wheel == null) {
+            return 0L;
+        }
+        long now = ticker.getAsLong();
+        wheel.advance(now);
+        return now;
+    }
+
+    /**
+     * 값을 쓴 엔트리의 가중치와 만료 시각을 갱신합니다.
+     */
+    private void afterWrite(Entry<K, V> entry, int weight, long now) {
+        if (!(entry instanceof TimedEntry)) {
+            return;
+        }
+        TimedEntry<K, V> timed = (TimedEntry<K, V>) entry;
+        totalWeight += weight - timed.weight;
+        timed.weight = weight;
+        if (wheel != null) {
+            timed.writeExpirationTime = now + (expireAfterWriteNanos > 0 ? expireAfterWriteNanos : MAXIMUM_DURATION);
+            timed.expirationTime = expireAfterAccessNanos > 0
+                    ? Math.min(timed.writeExpirationTime, now + expireAfterAccessNanos)
+                    : timed.writeExpirationTime;
+            wheel.reschedule(timed);
+        }
+    }
+
+    /**
+     * 가중치 합이 최대값 이하가 될 때까지 가장 오래된 엔트리부터 제거합니다.
+     */
+    private void evictByWeight() {
+        while (weigher != null && totalWeight > maximumWeight && head != null) {
+            remove(head.key);
+        }
+    }
+
+    private boolean isExpired(Entry<K, V> entry, long now) {
+        return wheel != null && ((TimedEntry<K, V>) entry).expirationTime - now <= 0;
+    }
+
+    /**
+     * 만료되지 않은 엔트리를 찾습니다. 만료된 엔트리를 만나면 바로 제거합니다.
+     */
+    private Entry<K, V> getLiveEntry(K key, long now) {
+        Entry<K, V> entry = getEntry(key);
+        if (entry != null && isExpired(entry, now)) {
+            remove(key);
+            return null;
+        }
+        return entry;
+    }
+
+    private Entry<K, V> getEntry(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+
+        int hash = hash(key);
+        Entry<K, V> current = buckets[indexFor(hash, buckets.length)];
+
+        while (current != null) {
+            if (current.hash == hash && current.key.equals(key)) {
+                return current;
+            }
+            current = current.next;
+        }
+
+        return null;
+    }
+
+    /**
+     * 상위 비트를 하위 비트에 섞어 비트 마스크 인덱싱에서도 고르게 퍼지도록 합니다.
+     */
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static int indexFor(int hash, int length) {
+        return hash & (length - 1);
+    }
+
+    /**
+     * 버킷 배열을 2배로 늘립니다.
+     * 이중 연결 리스트를 따라가며 다시 배치하므로 순서 정보는 그대로 유지됩니다.
+     */
+    @SuppressWarnings("unchecked")
+    private void resize() {
+        if (buckets.length >= MAXIMUM_CAPACITY) {
+            return;
+        }
+        Entry<K, V>[] newBuckets = (Entry<K, V>[]) new Entry[buckets.length * 2];
+        for (Entry<K, V> e = head; e != null; e = e.after) {
+            int index = indexFor(e.hash, newBuckets.length);
+            e.next = newBuckets[index];
+            newBuckets[index] = e;
+        }
+        buckets = newBuckets;
+    }
+
+    /**
+     * 접근 순서 모드라면 엔트리를 리스트의 맨 뒤(가장 최근)로 옮깁니다.
+     */
+    private void afterAccess(Entry<K, V> entry) {
+        if (accessOrder && entry != tail) {
+            unlink(entry);
+            linkLast(entry);
+            modCount++;
+        }
     }
 
     /**
@@ -206,4 +675,132 @@ public class MyLinkedHashMap<K, V> {
             entry.after = null;
         }
     }
+    /**
+     * 계층형 타이머 휠입니다.
+     * 단계마다 버킷 한 칸이 나타내는 시간 폭이 다르며(약 1초, 1분, 1시간, 1.6일, 6.5일),
+     * 엔트리는 남은 시간에 맞는 단계의 버킷에 들어갑니다.
+     * 시간이 흐르면 지나간 버킷만 꺼내어 만료된 엔트리는 제거하고, 아직 남은 엔트리는
+     * 더 촘촘한 하위 단계로 다시 배치(cascade)합니다.
+     */
+    private final class TimerWheel {
+        // wheel[단계][버킷] = 원형 이중 연결 리스트의 sentinel
+        private final TimedEntry<K, V>[][] wheel;
+        // 휠이 마지막으로 진행된 시각
+        long nanos;
+
+        @SuppressWarnings("unchecked")
+        TimerWheel(long now) {
+            this.nanos = now;
+            this.wheel = (TimedEntry<K, V>[][]) new TimedEntry[WHEEL_BUCKETS.length][];
+            for (int i = 0; i < wheel.length; i++) {
+                wheel[i] = (TimedEntry<K, V>[]) new TimedEntry[WHEEL_BUCKETS[i]];
+                for (int j = 0; j < wheel[i].length; j++) {
+                    TimedEntry<K, V> sentinel = new TimedEntry<>(0, null, null, null);
+                    sentinel.previousInWheel = sentinel;
+                    sentinel.nextInWheel = sentinel;
+                    wheel[i][j] = sentinel;
+                }
+            }
+        }
+
+        /**
+         * 휠을 현재 시각까지 진행시킵니다.
+         * 상위 단계는 자신의 틱이 바뀌었을 때만 처리하므로 대부분의 호출은 비교 몇 번으로 끝납니다.
+         */
+        void advance(long now) {
+            long previous = nanos;
+            nanos = now;
+            for (int i = 0; i < WHEEL_SHIFT.length; i++) {
+                long previousTicks = previous >>> WHEEL_SHIFT[i];
+                long currentTicks = now >>> WHEEL_SHIFT[i];
+                if (currentTicks - previousTicks <= 0) {
+                    break;
+                }
+                expire(i, previousTicks, currentTicks - previousTicks);
+            }
+        }
+
+        /**
+         * 이전 틱부터 현재 틱까지의 버킷을 비우고, 각 엔트리를 제거하거나 다시 배치합니다.
+         */
+        private void expire(int level, long previousTicks, long delta) {
+            TimedEntry<K, V>[] timerWheel = wheel[level];
+            int mask = timerWheel.length - 1;
+            int start;
+            int end;
+            if (delta >= timerWheel.length) {
+                start = 0;
+                end = timerWheel.length;
+            } else {
+                start = (int) (previousTicks & mask);
+                end = start + (int) delta + 1;
+            }
+            for (int i = start; i < end; i++) {
+                expireBucket(timerWheel[i & mask]);
+            }
+        }
+
+        /**
+         * 현재 시각이 속한 가장 촘촘한 버킷을 처리합니다.
+         */
+        void expireCurrentBucket() {
+            expireBucket(wheel[0][(int) ((nanos >>> WHEEL_SHIFT[0]) & (WHEEL_BUCKETS[0] - 1))]);
+        }
+
+        private void expireBucket(TimedEntry<K, V> sentinel) {
+            // 버킷을 통째로 떼어낸 뒤 처리 (다시 배치되는 엔트리가 같은 버킷에 들어갈 수 있음)
+            TimedEntry<K, V> entry = sentinel.nextInWheel;
+            sentinel.previousInWheel = sentinel;
+            sentinel.nextInWheel = sentinel;
+            while (entry != sentinel) {
+                TimedEntry<K, V> next = entry.nextInWheel;
+                entry.previousInWheel = null;
+                entry.nextInWheel = null;
+                if (entry.expirationTime - nanos <= 0) {
+                    remove(entry.key);
+                } else {
+                    schedule(entry);
+                }
+                entry = next;
+            }
+        }
+
+        void reschedule(TimedEntry<K, V> entry) {
+            deschedule(entry);
+            schedule(entry);
+        }
+
+        void deschedule(TimedEntry<K, V> entry) {
+            if (entry.nextInWheel != null) {
+                entry.previousInWheel.nextInWheel = entry.nextInWheel;
+                entry.nextInWheel.previousInWheel = entry.previousInWheel;
+                entry.previousInWheel = null;
+                entry.nextInWheel = null;
+            }
+        }
+
+        /**
+         * 남은 시간이 다음 단계의 버킷 한 칸보다 짧은 가장 촘촘한 단계에 엔트리를 넣습니다.
+         */
+        private void schedule(TimedEntry<K, V> entry) {
+            TimedEntry<K, V> sentinel = findBucket(entry.expirationTime);
+            TimedEntry<K, V> last = sentinel.previousInWheel;
+            entry.previousInWheel = last;
+            entry.nextInWheel = sentinel;
+            last.nextInWheel = entry;
+            sentinel.previousInWheel = entry;
+        }
+
+        private TimedEntry<K, V> findBucket(long time) {
+            long duration = time - nanos;
+            int last = WHEEL_SHIFT.length - 1;
+            for (int i = 0; i < last; i++) {
+                if (duration < 1L << WHEEL_SHIFT[i + 1]) {
+                    long ticks = time >>> WHEEL_SHIFT[i];
+                    return wheel[i][(int) (ticks & (WHEEL_BUCKETS[i] - 1))];
+                }
+            }
+            return wheel[last][0];
+        }
+    }
 }
@@ -0,0 +1,231 @@
+package datastructures;
+
+/**
+ * long 키 전용 해시 맵 구현체입니다.
+ * 키를 long[] 배열에 그대로 저장하므로 박싱(Long)과 엔트리 객체 할당이 없고,
+ * hashCode()/equals() 가상 호출 없이 정수 비교만으로 탐색합니다.
+ * 충돌은 선형 탐사(Linear Probing)로 해결하며, 삭제 시 뒤쪽 원소를 당겨와(Backward Shift)
+ * Tombstone 없이 탐색 경로를 유지합니다.
+ *
+ * <p>빈 슬롯을 키 0으로 표시하므로, 실제 키 0은 별도 필드에 저장합니다.
+ *
+ * @param <V> Value의 타입
+ */
+public class MyLongHashMap<V> {
+
+    private static final long FREE_KEY = 0L;
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private long[] keys;
+    private Object[] values;
+    private int size; // 키 0을 포함한 전체 개수
+    private int threshold;
+
+    // 키 0은 빈 슬롯 표시와 겹치므로 배열 밖에 따로 저장
+    private boolean hasZeroKey;
+    private V zeroValue;
+
+    public MyLongHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * 초기 용량을 지정하여 생성합니다.
+     *
+     * @param initialCapacity 초기 용량 (2의 거듭제곱으로 올림됩니다)
+     */
+    public MyLongHashMap(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal initial capacity: " + initialCapacity);
+        }
+        allocate(tableSizeFor((int) Math.min(initialCapacity / (double) LOAD_FACTOR + 1, MAXIMUM_CAPACITY)));
+    }
+
+    /**
+     * Key에 해당하는 Value를 저장합니다.
+     * 이미 Key가 존재하면 Value를 덮어씁니다.
+     *
+     * @param key   저장할 키
+     * @param value 저장할 값
+     */
+    public void put(long key, V value) {
+        if (key == FREE_KEY) {
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroValue = value;
+            return;
+        }
+
+        int mask = keys.length - 1;
+        int index = hash(key) & mask;
+        long current;
+        while ((current = keys[index]) != FREE_KEY) {
+            if (current == key) {
+                values[index] = value; // 이미 존재하면 값 업데이트
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+
+        keys[index] = key;
+        values[index] = value;
+        if (++size > threshold) {
+            rehash(keys.length * 2);
+        }
+    }
+
+    /**
+     * Key에 해당하는 Value를 반환합니다.
+     *
+     * @param key 찾을 키
+     * @return 키에 해당하는 값, 없으면 null
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        if (key == FREE_KEY) {
+            return zeroValue;
+        }
+        int index = find(key);
+        return index < 0 ? null : (V) values[index];
+    }
+
+    /**
+     * Key가 존재하는지 확인합니다.
+     *
+     * @param key 찾을 키
+     * @return 존재하면 true, 아니면 false
+     */
+    public boolean containsKey(long key) {
+        return key == FREE_KEY ? hasZeroKey : find(key) >= 0;
+    }
+
+    /**
+     * Key에 해당하는 엔트리를 삭제합니다.
+     *
+     * @param key 삭제할 키
+     */
+    public void remove(long key) {
+        if (key == FREE_KEY) {
+            if (hasZeroKey) {
+                hasZeroKey = false;
+                zeroValue = null;
+                size--;
+            }
+            return;
+        }
+        int index = find(key);
+        if (index >= 0) {
+            shiftKeys(index);
+            size--;
+        }
+    }
+
+    /**
+     * 맵에 저장된 엔트리의 개수를 반환합니다.
+     *
+     * @return 저장된 개수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 맵이 비어있는지 확인합니다.
+     *
+     * @return 비어있으면 true, 아니면 false
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // --- 내부 헬퍼 메소드 ---
+
+    private int find(long key) {
+        int mask = keys.length - 1;
+        int index = hash(key) & mask;
+        long current;
+        while ((current = keys[index]) != FREE_KEY) {
+            if (current == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * 삭제된 슬롯 뒤의 원소들을 당겨와 선형 탐사 경로가 끊기지 않도록 합니다 (Backward Shift Deletion).
+     * 원래 위치(home)가 빈 슬롯과 현재 슬롯 사이에 있는 원소는 당기면 안 되므로 건너뜁니다.
+     */
+    private void shiftKeys(int hole) {
+        int mask = keys.length - 1;
+        int index = hole;
+        while (true) {
+            index = (index + 1) & mask;
+            long current = keys[index];
+            if (current == FREE_KEY) {
+                break;
+            }
+            int home = hash(current) & mask;
+            // home이 (hole, index] 구간(원형)에 있으면 제자리에 둬야 함
+            boolean stays = hole <= index ? (hole < home && home <= index) : (hole < home || home <= index);
+            if (!stays) {
+                keys[hole] = current;
+                values[hole] = values[index];
+                hole = index;
+            }
+        }
+        keys[hole] = FREE_KEY;
+        values[hole] = null; // 참조 해제 (GC 유도)
+    }
+
+    private void rehash(int newCapacity) {
+        if (newCapacity > MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("Map is full");
+        }
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(newCapacity);
+
+        int mask = newCapacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key != FREE_KEY) {
+                int index = hash(key) & mask;
+                while (keys[index] != FREE_KEY) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        threshold = Math.min((int) (capacity * LOAD_FACTOR), capacity - 1);
+    }
+
+    /**
+     * 연속된 ID처럼 하위 비트만 다른 키가 한곳에 뭉치지 않도록 황금비 곱셈으로 비트를 섞고,
+     * 상위 32비트를 하위로 접어 넣어 int 인덱스로 만듭니다.
+     */
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 32;
+        return (int) (h ^ (h >>> 16));
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int n = 2;
+        while (n < capacity && n < MAXIMUM_CAPACITY) {
+            n <<= 1;
+        }
+        return n;
+    }
+}
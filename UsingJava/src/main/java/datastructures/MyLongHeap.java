@@ -0,0 +1,167 @@
+package datastructures;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * long 전용 힙 구현체입니다.
+ * 값을 long[] 배열에 그대로 저장하므로 삽입할 때 박싱(Long) 할당이 없고,
+ * Heapify Up/Down이 compareTo 가상 호출 없이 정수 비교만으로 진행됩니다.
+ * 타이머나 Top-K처럼 우선순위 자체가 숫자인 경우 Long을 담은 MyHeap 대신 사용합니다.
+ *
+ * <p>구조와 알고리즘은 MyHeap과 같습니다 (교환 없는 반복 Heapify, Floyd의 O(n) 일괄 생성).
+ */
+public class MyLongHeap {
+
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private long[] heap;
+    private int size;
+    private final boolean isMaxHeap;
+
+    /**
+     * 기본 생성자. 최소 힙(Min Heap)으로 생성됩니다.
+     */
+    public MyLongHeap() {
+        this(false);
+    }
+
+    /**
+     * 힙의 종류를 지정하여 생성합니다.
+     *
+     * @param isMaxHeap true면 최대 힙, false면 최소 힙으로 동작합니다.
+     */
+    public MyLongHeap(boolean isMaxHeap) {
+        this.heap = new long[DEFAULT_CAPACITY];
+        this.isMaxHeap = isMaxHeap;
+    }
+
+    /**
+     * 주어진 값들로 힙을 한 번에 만듭니다 (Floyd의 Bottom-up Heapify, O(n)).
+     * 배열은 복사해서 사용하므로 원본은 바뀌지 않습니다.
+     *
+     * @param values    힙에 넣을 값들
+     * @param isMaxHeap true면 최대 힙, false면 최소 힙으로 동작합니다.
+     */
+    public MyLongHeap(long[] values, boolean isMaxHeap) {
+        this.heap = Arrays.copyOf(values, Math.max(values.length, DEFAULT_CAPACITY));
+        this.size = values.length;
+        this.isMaxHeap = isMaxHeap;
+        for (int i = (size >>> 1) - 1; i >= 0; i--) {
+            heapifyDown(i, heap[i]);
+        }
+    }
+
+    /**
+     * 힙에 값을 추가합니다.
+     *
+     * @param value 추가할 값
+     */
+    public void insert(long value) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, heap.length * 2);
+        }
+        heapifyUp(size++, value);
+    }
+
+    /**
+     * 힙에서 최상위 값(Min Heap: 최솟값, Max Heap: 최댓값)을 제거하고 반환합니다.
+     *
+     * @return 최상위 값
+     * @throws NoSuchElementException 힙이 비어있는 경우 발생
+     */
+    public long poll() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        long root = heap[0];
+        long last = heap[--size];
+        if (size > 0) {
+            heapifyDown(0, last);
+        }
+        return root;
+    }
+
+    /**
+     * 힙의 최상위 값을 제거하지 않고 반환합니다.
+     *
+     * @return 최상위 값
+     * @throws NoSuchElementException 힙이 비어있는 경우 발생
+     */
+    public long peek() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        return heap[0];
+    }
+
+    /**
+     * 힙이 비어있는지 확인합니다.
+     *
+     * @return 비어있으면 true, 아니면 false
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 힙에 저장된 값의 개수를 반환합니다.
+     *
+     * @return 값 개수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 모든 값을 삭제합니다. 용량은 그대로 유지됩니다.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * a가 b보다 우선순위가 높은지 (Min Heap: 더 작은지, Max Heap: 더 큰지) 확인합니다.
+     */
+    private boolean higher(long a, long b) {
+        return isMaxHeap ? a > b : a < b;
+    }
+
+    /**
+     * value를 index 위치에 두고 위로 이동시킵니다. 부모를 한 칸씩 내리고 마지막에 한 번만 씁니다.
+     */
+    private void heapifyUp(int index, long value) {
+        while (index > 0) {
+            int parentIndex = (index - 1) >>> 1;
+            long parent = heap[parentIndex];
+            if (!higher(value, parent)) {
+                break;
+            }
+            heap[index] = parent;
+            index = parentIndex;
+        }
+        heap[index] = value;
+    }
+
+    /**
+     * value를 index 위치에 두고 아래로 이동시킵니다. 우선순위가 높은 자식을 한 칸씩 올리고 마지막에 한 번만 씁니다.
+     */
+    private void heapifyDown(int index, long value) {
+        int half = size >>> 1;
+        while (index < half) {
+            int childIndex = 2 * index + 1;
+            long child = heap[childIndex];
+            int rightChildIndex = childIndex + 1;
+            if (rightChildIndex < size && higher(heap[rightChildIndex], child)) {
+                childIndex = rightChildIndex;
+                child = heap[childIndex];
+            }
+            if (!higher(child, value)) {
+                break;
+            }
+            heap[index] = child;
+            index = childIndex;
+        }
+        heap[index] = value;
+    }
+}
@@ -0,0 +1,185 @@
+package datastructures;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * long 우선순위와 값(Payload)을 함께 저장하는 힙 구현체입니다.
+ * 우선순위는 long[]에, 값은 같은 인덱스의 Object[]에 나란히(Parallel Arrays) 저장합니다.
+ * 우선순위를 담는 래퍼 객체나 박싱(Long)이 필요 없고, Heapify Up/Down은 long 비교만 하므로
+ * 값 객체의 필드를 읽거나 Comparator를 호출하지 않습니다.
+ * 만료 시각 순으로 타이머 작업을 꺼내는 경우처럼 우선순위가 숫자인 객체를 다룰 때 사용합니다.
+ *
+ * <pre>
+ * while (!timers.isEmpty() &amp;&amp; timers.peekKey() &lt;= now) {
+ *     timers.poll().run();
+ * }
+ * </pre>
+ *
+ * @param <T> 값의 타입
+ */
+public class MyLongKeyHeap<T> {
+
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private long[] keys;
+    private Object[] values;
+    private int size;
+    private final boolean isMaxHeap;
+
+    /**
+     * 기본 생성자. 우선순위가 가장 작은 값이 먼저 나오는 최소 힙으로 생성됩니다.
+     */
+    public MyLongKeyHeap() {
+        this(false);
+    }
+
+    /**
+     * 힙의 종류를 지정하여 생성합니다.
+     *
+     * @param isMaxHeap true면 최대 힙, false면 최소 힙으로 동작합니다.
+     */
+    public MyLongKeyHeap(boolean isMaxHeap) {
+        this.keys = new long[DEFAULT_CAPACITY];
+        this.values = new Object[DEFAULT_CAPACITY];
+        this.isMaxHeap = isMaxHeap;
+    }
+
+    /**
+     * 우선순위 key로 값을 추가합니다.
+     *
+     * @param key   우선순위
+     * @param value 저장할 값
+     */
+    public void insert(long key, T value) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, keys.length * 2);
+            values = Arrays.copyOf(values, values.length * 2);
+        }
+        heapifyUp(size++, key, value);
+    }
+
+    /**
+     * 최상위 값을 제거하고 반환합니다. 우선순위가 필요하면 먼저 peekKey()로 읽습니다.
+     *
+     * @return 최상위 값
+     * @throws NoSuchElementException 힙이 비어있는 경우 발생
+     */
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        T root = (T) values[0];
+        int last = --size;
+        long lastKey = keys[last];
+        Object lastValue = values[last];
+        values[last] = null; // 참조 해제 (GC 유도)
+        if (size > 0) {
+            heapifyDown(0, lastKey, lastValue);
+        }
+        return root;
+    }
+
+    /**
+     * 최상위 값을 제거하지 않고 반환합니다.
+     *
+     * @return 최상위 값
+     * @throws NoSuchElementException 힙이 비어있는 경우 발생
+     */
+    @SuppressWarnings("unchecked")
+    public T peek() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        return (T) values[0];
+    }
+
+    /**
+     * 최상위 값의 우선순위를 반환합니다.
+     *
+     * @return 최상위 우선순위
+     * @throws NoSuchElementException 힙이 비어있는 경우 발생
+     */
+    public long peekKey() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        return keys[0];
+    }
+
+    /**
+     * 힙이 비어있는지 확인합니다.
+     *
+     * @return 비어있으면 true, 아니면 false
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 힙에 저장된 값의 개수를 반환합니다.
+     *
+     * @return 값 개수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 모든 값을 삭제합니다. 용량은 그대로 유지됩니다.
+     */
+    public void clear() {
+        Arrays.fill(values, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * 우선순위 a가 b보다 높은지 (Min Heap: 더 작은지, Max Heap: 더 큰지) 확인합니다.
+     */
+    private boolean higher(long a, long b) {
+        return isMaxHeap ? a > b : a < b;
+    }
+
+    /**
+     * (key, value)를 index 위치에 두고 위로 이동시킵니다. 부모를 한 칸씩 내리고 마지막에 한 번만 씁니다.
+     */
+    private void heapifyUp(int index, long key, Object value) {
+        while (index > 0) {
+            int parentIndex = (index - 1) >>> 1;
+            long parentKey = keys[parentIndex];
+            if (!higher(key, parentKey)) {
+                break;
+            }
+            keys[index] = parentKey;
+            values[index] = values[parentIndex];
+            index = parentIndex;
+        }
+        keys[index] = key;
+        values[index] = value;
+    }
+
+    /**
+     * (key, value)를 index 위치에 두고 아래로 이동시킵니다. 비교는 keys 배열만 읽습니다.
+     */
+    private void heapifyDown(int index, long key, Object value) {
+        int half = size >>> 1;
+        while (index < half) {
+            int childIndex = 2 * index + 1;
+            long childKey = keys[childIndex];
+            int rightChildIndex = childIndex + 1;
+            if (rightChildIndex < size && higher(keys[rightChildIndex], childKey)) {
+                childIndex = rightChildIndex;
+                childKey = keys[childIndex];
+            }
+            if (!higher(childKey, key)) {
+                break;
+            }
+            keys[index] = childKey;
+            values[index] = values[childIndex];
+            index = childIndex;
+        }
+        keys[index] = key;
+        values[index] = value;
+    }
+}
@@ -0,0 +1,110 @@
+package datastructures;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * 이미 정렬된 여러 입력(Iterator)을 하나의 정렬된 흐름으로 합치는 k-way 병합 반복자입니다.
+ * 입력마다 맨 앞 요소 하나만 MyHeap에 올려 두므로, 메모리는 입력 수 k에 비례하고 (전체 요소 수와 무관)
+ * next 한 번에 O(log k)가 걸립니다. 외부 정렬의 병합 단계나, 정렬된 로그 파일 여러 개를 합칠 때 사용합니다.
+ *
+ * <p>비교 결과가 같은 요소는 먼저 추가된 입력의 것이 먼저 나옵니다 (안정 병합).
+ * 이 클래스 자체도 정렬된 Iterator이므로, 병합 결과를 다른 MyMergeIterator의 입력으로 다시 넣을 수 있습니다.
+ *
+ * @param <T> 데이터 타입 (Comparator를 주지 않으면 Comparable 구현 필요)
+ */
+public class MyMergeIterator<T> implements Iterator<T> {
+
+    /**
+     * 입력 하나의 현재 위치입니다. head는 그 입력에서 아직 내보내지 않은 가장 앞 요소입니다.
+     */
+    private static final class Cursor<T> {
+        final Iterator<? extends T> source;
+        final int order; // 추가된 순서 (같은 값일 때의 우선순위)
+        T head;
+
+        Cursor(Iterator<? extends T> source, int order) {
+            this.source = source;
+            this.order = order;
+            this.head = source.next();
+        }
+    }
+
+    private final MyHeap<Cursor<T>> heap;
+    private int sourceCount;
+
+    /**
+     * 자연 순서로 정렬된 입력들을 병합합니다.
+     *
+     * @param sources 오름차순으로 정렬된 입력들
+     */
+    @SuppressWarnings("unchecked")
+    public MyMergeIterator(MyArrayList<? extends Iterator<? extends T>> sources) {
+        this(sources, (Comparator<? super T>) Comparator.naturalOrder());
+    }
+
+    /**
+     * comparator 기준으로 정렬된 입력들을 병합합니다.
+     *
+     * @param sources    comparator 기준 오름차순으로 정렬된 입력들
+     * @param comparator 정렬 기준
+     * @throws IllegalArgumentException comparator가 null인 경우
+     */
+    public MyMergeIterator(MyArrayList<? extends Iterator<? extends T>> sources, Comparator<? super T> comparator) {
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator cannot be null");
+        }
+        Comparator<Cursor<T>> byHead = (a, b) -> {
+            int cmp = comparator.compare(a.head, b.head);
+            return cmp != 0 ? cmp : Integer.compare(a.order, b.order);
+        };
+        this.heap = new MyHeap<>(Math.max(sources.size(), 1), byHead);
+        for (int i = 0; i < sources.size(); i++) {
+            addSource(sources.get(i));
+        }
+    }
+
+    /**
+     * 병합 도중에 정렬된 입력을 하나 더 추가합니다.
+     * 이미 내보낸 요소보다 작은 요소가 들어 있으면 결과의 정렬이 깨지므로, 그런 입력은 추가하지 않아야 합니다.
+     *
+     * @param source 정렬된 입력 (비어 있으면 무시됩니다)
+     */
+    public final void addSource(Iterator<? extends T> source) {
+        int order = sourceCount++;
+        if (source.hasNext()) {
+            heap.insert(new Cursor<>(source, order));
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !heap.isEmpty();
+    }
+
+    /**
+     * 남은 요소 중 가장 작은 요소를 반환합니다.
+     * 꺼낸 입력에 다음 요소가 있으면 head만 바꿔 replaceTop으로 제자리를 찾게 하고 (Heapify Down 한 번),
+     * 입력이 끝났으면 힙에서 뺍니다.
+     *
+     * @return 다음 요소
+     * @throws NoSuchElementException 더 이상 요소가 없는 경우 발생
+     */
+    @Override
+    public T next() {
+        if (heap.isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        Cursor<T> cursor = heap.peek();
+        T element = cursor.head;
+        if (cursor.source.hasNext()) {
+            cursor.head = cursor.source.next();
+            heap.replaceTop(cursor);
+        } else {
+            cursor.head = null; // 참조 해제 (GC 유도)
+            heap.poll();
+        }
+        return element;
+    }
+}
@@ -0,0 +1,71 @@
+package datastructures;
+
+import java.util.function.Consumer;
+
+/**
+ * 다중 생산자/다중 소비자(MPMC: Multi Producer Multi Consumer)용 락 없는 링 버퍼 큐입니다.
+ * 모든 메소드를 여러 스레드가 동시에 호출할 수 있습니다 (Dmitry Vyukov의 Bounded MPMC Queue 방식).
+ *
+ * <p>칸마다 시퀀스 번호가 있어, 생산자는 seq == p인 칸을, 소비자는 seq == c + 1인 칸을
+ * 각자의 인덱스에 대한 CAS로 차지합니다. 생산자와 소비자가 같은 변수를 두고 경쟁하지 않으므로
+ * 락으로 감싼 큐보다 경합이 훨씬 적습니다.
+ *
+ * @param <T> 큐에 저장할 데이터의 타입
+ */
+public class MyMpmcQueue<T> extends AbstractRingQueue<T> {
+
+    /**
+     * @param capacity 최대 요소 수 (2의 거듭제곱으로 올림됩니다)
+     */
+    public MyMpmcQueue(int capacity) {
+        super(capacity, true);
+    }
+
+    @Override
+    public boolean offer(T element) {
+        return offerSequenced(element);
+    }
+
+    @Override
+    public int offerBatch(MyArrayList<? extends T> batch) {
+        return offerBatchSequenced(batch);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        while (true) {
+            long c = getCounter(CONSUMER_INDEX);
+            long dif = sequence(c) - (c + 1);
+            if (dif == 0) {
+                if (casCounter(CONSUMER_INDEX, c, c + 1)) {
+                    int slot = (int) c & mask;
+                    T element = (T) elements[slot];
+                    elements[slot] = null; // 참조 해제 (GC 유도)
+                    setSequence(c, c + elements.length); // 다음 바퀴의 생산자에게 칸을 돌려줌
+                    return element;
+                }
+            } else if (dif < 0) {
+                return null; // 비어 있거나, 칸을 차지한 생산자가 아직 쓰는 중
+            }
+            // dif > 0: 다른 소비자가 먼저 가져감. 다시 시도
+        }
+    }
+
+    /**
+     * 칸마다 CAS로 하나씩 차지하고 곧바로 sink에 넘깁니다.
+     * 여러 칸을 CAS 한 번으로 차지하면, sink가 중간에 예외를 던졌을 때 나머지 칸을 큐에 되돌릴 방법이 없어
+     * 요소를 버리게 됩니다. 그래서 다른 소비자와 경쟁하는 MPMC에서는 배치 대신 MyConcurrentQueue의 계약
+     * (예외가 나면 넘기지 못한 요소는 큐에 남음)을 지킵니다.
+     */
+    @Override
+    public int drainTo(Consumer<? super T> sink, int maxElements) {
+        int drained = 0;
+        T element;
+        while (drained < maxElements && (element = poll()) != null) {
+            drained++;
+            sink.accept(element);
+        }
+        return drained;
+    }
+}
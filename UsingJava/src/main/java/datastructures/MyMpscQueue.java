@@ -0,0 +1,74 @@
+package datastructures;
+
+import java.util.function.Consumer;
+
+/**
+ * 다중 생산자/단일 소비자(MPSC: Multi Producer Single Consumer)용 락 없는 링 버퍼 큐입니다.
+ * offer/offerBatch는 여러 스레드가 동시에 호출할 수 있고, poll/drainTo는 한 스레드만 호출해야 합니다.
+ *
+ * <p>생산자끼리는 CAS로 칸을 차지하고, 칸의 시퀀스 번호로 쓰기 완료를 알립니다.
+ * 소비자는 하나뿐이므로 CAS 없이 시퀀스만 확인하고 꺼냅니다. 여러 작업 스레드가 하나의 이벤트 루프에
+ * 작업을 넘기는 경우에 알맞습니다.
+ *
+ * @param <T> 큐에 저장할 데이터의 타입
+ */
+public class MyMpscQueue<T> extends AbstractRingQueue<T> {
+
+    /**
+     * @param capacity 최대 요소 수 (2의 거듭제곱으로 올림됩니다)
+     */
+    public MyMpscQueue(int capacity) {
+        super(capacity, true);
+    }
+
+    @Override
+    public boolean offer(T element) {
+        return offerSequenced(element);
+    }
+
+    @Override
+    public int offerBatch(MyArrayList<? extends T> batch) {
+        return offerBatchSequenced(batch);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        long c = counters[CONSUMER_INDEX]; // 소비자만 쓰는 값이므로 그냥 읽음
+        if (sequence(c) != c + 1) {
+            return null; // 비어 있거나, 칸을 차지한 생산자가 아직 쓰는 중
+        }
+        int slot = (int) c & mask;
+        T element = (T) elements[slot];
+        elements[slot] = null; // 참조 해제 (GC 유도)
+        setSequence(c, c + elements.length); // 다음 바퀴의 생산자에게 칸을 돌려줌
+        setCounter(CONSUMER_INDEX, c + 1);
+        return element;
+    }
+
+    /**
+     * 쓰기가 끝난 칸을 차례로 꺼내고, 소비자 인덱스는 마지막에 한 번만 공개합니다.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public int drainTo(Consumer<? super T> sink, int maxElements) {
+        long c = counters[CONSUMER_INDEX];
+        int drained = 0;
+        try {
+            while (drained < maxElements && sequence(c + drained) == c + drained + 1) {
+                long index = c + drained;
+                int slot = (int) index & mask;
+                T element = (T) elements[slot];
+                elements[slot] = null;
+                setSequence(index, index + elements.length);
+                drained++;
+                sink.accept(element);
+            }
+        } finally {
+            if (drained > 0) {
+                setCounter(CONSUMER_INDEX, c + drained);
+            }
+        }
+        return drained;
+    }
+}
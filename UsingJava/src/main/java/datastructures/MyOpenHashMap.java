@@ -0,0 +1,283 @@
+package datastructures;
+
+import java.util.Arrays;
+
+/**
+ * 개방 주소법(Open Addressing) 해시 맵 구현체입니다.
+ * SwissTable 방식을 단순화하여, 키와 값을 평평한 병렬 배열(keys, values)에 저장하고
+ * 슬롯마다 1바이트 제어 값(Control Byte)을 둡니다.
+ * 엔트리 객체를 만들지 않으므로 put 시 할당이 없고, 조회 시 포인터를 따라가지 않아 캐시 친화적입니다.
+ *
+ * <p>제어 바이트의 의미:
+ * <ul>
+ * <li>EMPTY: 비어있는 슬롯 (탐색 종료 지점)</li>
+ * <li>DELETED: 삭제된 슬롯 (Tombstone, 탐색은 계속 진행)</li>
+ * <li>0 ~ 127: 사용 중인 슬롯. 해시의 하위 7비트(H2)를 저장하여 equals() 호출 전에 빠르게 걸러냅니다.</li>
+ * </ul>
+ *
+ * @param <K> Key의 타입
+ * @param <V> Value의 타입
+ */
+public class MyOpenHashMap<K, V> {
+
+    private static final byte EMPTY = (byte) 0x80;
+    private static final byte DELETED = (byte) 0xFE;
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float DEFAULT_LOAD_FACTOR = 0.875f;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private byte[] control;
+    private Object[] keys;
+    private Object[] values;
+
+    private int size;
+    private int tombstones; // DELETED 상태인 슬롯 수
+    private int threshold; // size + tombstones가 이 값을 넘으면 재해싱
+    private final float loadFactor;
+
+    public MyOpenHashMap() {
+        this(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * 초기 용량을 지정하여 생성합니다.
+     *
+     * @param initialCapacity 초기 용량 (2의 거듭제곱으로 올림됩니다)
+     */
+    public MyOpenHashMap(int initialCapacity) {
+        this(initialCapacity, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * 초기 용량과 부하율을 지정하여 생성합니다.
+     * 개방 주소법은 빈 슬롯이 반드시 남아 있어야 하므로 부하율은 1보다 작아야 합니다.
+     *
+     * @param initialCapacity 초기 용량 (2의 거듭제곱으로 올림됩니다)
+     * @param loadFactor      재해싱 기준 부하율 (0 < loadFactor < 1)
+     */
+    public MyOpenHashMap(int initialCapacity, float loadFactor) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal initial capacity: " + initialCapacity);
+        }
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+        }
+        this.loadFactor = loadFactor;
+        allocate(tableSizeFor(initialCapacity));
+    }
+
+    /**
+     * Key에 해당하는 Value를 저장합니다.
+     * 이미 Key가 존재하면 Value를 덮어씁니다.
+     *
+     * @param key   저장할 키
+     * @param value 저장할 값
+     */
+    public void put(K key, V value) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+
+        int hash = hash(key);
+        byte h2 = h2(hash);
+        int mask = control.length - 1;
+        int index = h1(hash) & mask;
+        int firstFree = -1; // 탐색 중 처음 만난 DELETED 슬롯 (재사용 후보)
+
+        while (true) {
+            byte c = control[index];
+            if (c == EMPTY) {
+                break;
+            }
+            if (c == h2 && keys[index].equals(key)) {
+                values[index] = value; // 이미 존재하면 값 업데이트
+                return;
+            }
+            if (c == DELETED && firstFree < 0) {
+                firstFree = index;
+            }
+            index = (index + 1) & mask;
+        }
+
+        if (firstFree >= 0) {
+            // Tombstone 재사용: 사용 중 슬롯 수(size + tombstones)는 그대로
+            index = firstFree;
+            tombstones--;
+        }
+        control[index] = h2;
+        keys[index] = key;
+        values[index] = value;
+        size++;
+
+        if (size + tombstones > threshold) {
+            // 실제 데이터가 많으면 2배 확장, Tombstone이 대부분이면 같은 크기로 정리
+            int capacity = control.length;
+            rehash(size > threshold / 2 && capacity < MAXIMUM_CAPACITY ? capacity * 2 : capacity);
+        }
+    }
+
+    /**
+     * Key에 해당하는 Value를 반환합니다.
+     *
+     * @param key 찾을 키
+     * @return 키에 해당하는 값, 없으면 null
+     */
+    @SuppressWarnings("unchecked")
+    public V get(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        int index = find(key);
+        return index < 0 ? null : (V) values[index];
+    }
+
+    /**
+     * Key에 해당하는 엔트리를 삭제합니다.
+     *
+     * @param key 삭제할 키
+     */
+    public void remove(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        int index = find(key);
+        if (index < 0) {
+            return;
+        }
+
+        // 다음 슬롯이 비어있다면 이 슬롯을 지나가는 탐색 경로가 없으므로 바로 EMPTY로 되돌릴 수 있음
+        int next = (index + 1) & (control.length - 1);
+        if (control[next] == EMPTY) {
+            control[index] = EMPTY;
+        } else {
+            control[index] = DELETED;
+            tombstones++;
+        }
+        keys[index] = null;
+        values[index] = null; // 참조 해제 (GC 유도)
+        size--;
+    }
+
+    /**
+     * 맵에 저장된 엔트리의 개수를 반환합니다.
+     *
+     * @return 저장된 개수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 맵이 비어있는지 확인합니다.
+     *
+     * @return 비어있으면 true, 아니면 false
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 현재 슬롯 배열의 크기를 반환합니다.
+     */
+    int capacity() {
+        return control.length;
+    }
+
+    // --- 내부 헬퍼 메소드 ---
+
+    /**
+     * Key가 저장된 슬롯의 인덱스를 찾습니다.
+     *
+     * @return 슬롯 인덱스, 없으면 -1
+     */
+    private int find(K key) {
+        int hash = hash(key);
+        byte h2 = h2(hash);
+        int mask = control.length - 1;
+        int index = h1(hash) & mask;
+
+        while (true) {
+            byte c = control[index];
+            if (c == EMPTY) {
+                return -1;
+            }
+            // 제어 바이트(H2)가 같을 때만 실제 equals() 비교
+            if (c == h2 && keys[index].equals(key)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    /**
+     * 새 크기의 배열을 만들고 모든 엔트리를 다시 배치합니다. (Tombstone은 사라짐)
+     */
+    private void rehash(int newCapacity) {
+        byte[] oldControl = control;
+        Object[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(newCapacity);
+
+        int mask = newCapacity - 1;
+        for (int i = 0; i < oldControl.length; i++) {
+            if (oldControl[i] >= 0) { // 사용 중인 슬롯 (EMPTY, DELETED는 음수)
+                @SuppressWarnings("unchecked")
+                int hash = hash((K) oldKeys[i]);
+                int index = h1(hash) & mask;
+                while (control[index] != EMPTY) {
+                    index = (index + 1) & mask;
+                }
+                control[index] = oldControl[i];
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+        tombstones = 0;
+    }
+
+    private void allocate(int capacity) {
+        control = new byte[capacity];
+        Arrays.fill(control, EMPTY);
+        keys = new Object[capacity];
+        values = new Object[capacity];
+        // 빈 슬롯이 최소 하나는 남도록 보장 (탐색 종료 조건)
+        threshold = Math.min((int) (capacity * loadFactor), capacity - 1);
+    }
+
+    /**
+     * hashCode()의 비트를 골고루 섞습니다 (MurmurHash3 fmix32).
+     * 개방 주소법은 인접 슬롯을 탐색하므로 해시가 뭉치면 성능이 크게 떨어집니다.
+     */
+    private int hash(K key) {
+        int h = key.hashCode();
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    /**
+     * 슬롯 위치를 결정하는 해시 부분 (H1: 하위 7비트를 제외한 나머지).
+     */
+    private static int h1(int hash) {
+        return hash >>> 7;
+    }
+
+    /**
+     * 제어 바이트에 저장되는 해시 부분 (H2: 하위 7비트, 0 ~ 127).
+     */
+    private static byte h2(int hash) {
+        return (byte) (hash & 0x7F);
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int n = 2;
+        while (n < capacity && n < MAXIMUM_CAPACITY) {
+            n <<= 1;
+        }
+        return n;
+    }
+}
@@ -0,0 +1,555 @@
+package datastructures;
+
+import java.util.AbstractMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * 영속(Persistent) 트리 맵 구현체입니다.
+ * 한 번 만든 맵은 절대 바뀌지 않으며, put/remove는 변경이 반영된 <b>새 버전</b>을 반환합니다.
+ *
+ * <ul>
+ * <li>경로 복사(Path Copying): 새 버전은 루트에서 바뀐 노드까지의 경로에 있는 O(log n)개 노드만 새로 만들고,
+ * 나머지 서브트리는 이전 버전과 그대로 공유합니다. 전체를 복사하는 O(n) 대신 O(log n)에 갱신됩니다.</li>
+ * <li>스냅샷: 모든 노드가 불변(final 필드)이므로, 읽는 쪽은 맵 참조 하나만 들고 있으면
+ * 락 없이도 다른 스레드가 다음 버전을 만드는 동안 일관된 상태를 볼 수 있습니다.</li>
+ * <li>균형: 좌편향 레드-블랙 트리(Left-Leaning Red-Black Tree)를 사용합니다.
+ * RED 링크가 항상 왼쪽에만 있으므로 회전 경우의 수가 적어 노드를 새로 만드는 방식과 잘 맞습니다.</li>
+ * </ul>
+ *
+ * <p>각 노드에 서브트리 크기를 저장하므로 size()는 O(1), select/rank는 O(log n)입니다.
+ *
+ * @param <K> Key의 타입 (Comparable 구현 필요)
+ * @param <V> Value의 타입
+ */
+public class MyPersistentTreeMap<K extends Comparable<K>, V> {
+
+    private static final boolean RED = true;
+    private static final boolean BLACK = false;
+
+    /**
+     * 불변 노드입니다. 한 번 만들어지면 여러 버전이 함께 공유할 수 있습니다.
+     */
+    private static final class Node<K, V> {
+        final K key;
+        final V value;
+        final Node<K, V> left;
+        final Node<K, V> right;
+        final boolean color; // 부모에서 이 노드로 오는 링크의 색
+        final int size;
+
+        Node(K key, V value, boolean color, Node<K, V> left, Node<K, V> right) {
+            this.key = key;
+            this.value = value;
+            this.color = color;
+            this.left = left;
+            this.right = right;
+            this.size = 1 + size(left) + size(right);
+        }
+
+        Node<K, V> withLeft(Node<K, V> newLeft) {
+            return new Node<>(key, value, color, newLeft, right);
+        }
+
+        Node<K, V> withRight(Node<K, V> newRight) {
+            return new Node<>(key, value, color, left, newRight);
+        }
+
+        Node<K, V> withValue(V newValue) {
+            return new Node<>(key, newValue, color, left, right);
+        }
+
+        Node<K, V> withColor(boolean newColor) {
+            return new Node<>(key, value, newColor, left, right);
+        }
+    }
+
+    private final Node<K, V> root;
+
+    /**
+     * 빈 맵을 생성합니다.
+     */
+    public MyPersistentTreeMap() {
+        this(null);
+    }
+
+    private MyPersistentTreeMap(Node<K, V> root) {
+        this.root = root;
+    }
+
+    /**
+     * Key에 Value를 저장한 새 버전을 반환합니다. 이 맵은 바뀌지 않습니다.
+     * 이미 같은 값이 저장되어 있으면 새 버전을 만들지 않고 자기 자신을 반환합니다.
+     *
+     * @param key   저장할 키
+     * @param value 저장할 값
+     * @return 변경이 반영된 맵
+     */
+    public MyPersistentTreeMap<K, V> put(K key, V value) {
+        checkKey(key);
+        Node<K, V> newRoot = blacken(insert(root, key, value));
+        return newRoot == root ? this : new MyPersistentTreeMap<>(newRoot);
+    }
+
+    /**
+     * Key를 삭제한 새 버전을 반환합니다. 이 맵은 바뀌지 않습니다.
+     * Key가 없으면 자기 자신을 반환합니다.
+     *
+     * @param key 삭제할 키
+     * @return 변경이 반영된 맵
+     */
+    public MyPersistentTreeMap<K, V> remove(K key) {
+        checkKey(key);
+        if (findNode(key) == null) {
+            return this;
+        }
+        Node<K, V> h = root;
+        // 루트의 두 자식이 모두 BLACK이면 루트를 RED로 두고 내려가야 삭제 중 빌려올 RED가 생김
+        if (!isRed(h.left) && !isRed(h.right)) {
+            h = h.withColor(RED);
+        }
+        return new MyPersistentTreeMap<>(blacken(delete(h, key)));
+    }
+
+    /**
+     * Key에 해당하는 Value를 반환합니다.
+     *
+     * @param key 찾을 키
+     * @return 키에 해당하는 값, 없으면 null
+     */
+    public V get(K key) {
+        checkKey(key);
+        Node<K, V> node = findNode(key);
+        return node == null ? null : node.value;
+    }
+
+    /**
+     * Key가 존재하는지 확인합니다.
+     *
+     * @param key 찾을 키
+     * @return 존재하면 true, 아니면 false
+     */
+    public boolean containsKey(K key) {
+        checkKey(key);
+        return findNode(key) != null;
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * 가장 작은 키를 반환합니다.
+     *
+     * @return 가장 작은 키
+     * @throws NoSuchElementException 맵이 비어있는 경우
+     */
+    public K firstKey() {
+        if (root == null) {
+            throw new NoSuchElementException("Map is empty");
+        }
+        return min(root).key;
+    }
+
+    /**
+     * 가장 큰 키를 반환합니다.
+     *
+     * @return 가장 큰 키
+     * @throws NoSuchElementException 맵이 비어있는 경우
+     */
+    public K lastKey() {
+        if (root == null) {
+            throw new NoSuchElementException("Map is empty");
+        }
+        Node<K, V> node = root;
+        while (node.right != null) {
+            node = node.right;
+        }
+        return node.key;
+    }
+
+    /**
+     * 주어진 키 이하인 가장 큰 키를 반환합니다.
+     *
+     * @param key 기준 키
+     * @return 조건을 만족하는 키, 없으면 null
+     */
+    public K floorKey(K key) {
+        checkKey(key);
+        K result = null;
+        Node<K, V> node = root;
+        while (node != null) {
+            int cmp = key.compareTo(node.key);
+            if (cmp == 0) {
+                return node.key;
+            }
+            if (cmp < 0) {
+                node = node.left;
+            } else {
+                result = node.key;
+                node = node.right;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 주어진 키 이상인 가장 작은 키를 반환합니다.
+     *
+     * @param key 기준 키
+     * @return 조건을 만족하는 키, 없으면 null
+     */
+    public K ceilingKey(K key) {
+        checkKey(key);
+        K result = null;
+        Node<K, V> node = root;
+        while (node != null) {
+            int cmp = key.compareTo(node.key);
+            if (cmp == 0) {
+                return node.key;
+            }
+            if (cmp > 0) {
+                node = node.right;
+            } else {
+                result = node.key;
+                node = node.left;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * k번째(0부터 시작)로 작은 키를 O(log n)에 반환합니다.
+     *
+     * @param k 순위 (0 ≤ k < size)
+     * @return k번째 키
+     * @throws IndexOutOfBoundsException k가 범위를 벗어난 경우
+     */
+    public K select(int k) {
+        if (k < 0 || k >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + k + ", Size: " + size());
+        }
+        Node<K, V> node = root;
+        for (;;) {
+            int leftSize = size(node.left);
+            if (k < leftSize) {
+                node = node.left;
+            } else if (k > leftSize) {
+                k -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.key;
+            }
+        }
+    }
+
+    /**
+     * 주어진 키보다 작은 키의 개수(순위)를 O(log n)에 반환합니다.
+     *
+     * @param key 기준 키
+     * @return key 미만인 키의 개수
+     */
+    public int rank(K key) {
+        checkKey(key);
+        int rank = 0;
+        Node<K, V> node = root;
+        while (node != null) {
+            int cmp = key.compareTo(node.key);
+            if (cmp < 0) {
+                node = node.left;
+            } else if (cmp > 0) {
+                rank += size(node.left) + 1;
+                node = node.right;
+            } else {
+                return rank + size(node.left);
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * 모든 Key를 정렬된 순서로 반환합니다.
+     *
+     * @return 정렬된 키 리스트
+     */
+    public MyArrayList<K> keys() {
+        MyArrayList<K> keys = new MyArrayList<>();
+        for (Iterator<K> it = keyIterator(); it.hasNext();) {
+            keys.add(it.next());
+        }
+        return keys;
+    }
+
+    /**
+     * 모든 Value를 Key의 정렬 순서대로 반환합니다.
+     *
+     * @return 값 리스트
+     */
+    public MyArrayList<V> values() {
+        MyArrayList<V> values = new MyArrayList<>();
+        for (Iterator<Map.Entry<K, V>> it = entryIterator(); it.hasNext();) {
+            values.add(it.next().getValue());
+        }
+        return values;
+    }
+
+    /**
+     * Key를 오름차순으로 순회하는 반복자를 반환합니다.
+     * 맵이 불변이므로 다른 스레드가 새 버전을 만들어도 이 반복자는 영향을 받지 않습니다.
+     *
+     * @return 키 반복자
+     */
+    public Iterator<K> keyIterator() {
+        return new InOrderIterator<>() {
+            @Override
+            public K next() {
+                return nextNode().key;
+            }
+        };
+    }
+
+    /**
+     * 엔트리를 Key의 오름차순으로 순회하는 반복자를 반환합니다.
+     *
+     * @return 엔트리 반복자
+     */
+    public Iterator<Map.Entry<K, V>> entryIterator() {
+        return new InOrderIterator<>() {
+            @Override
+            public Map.Entry<K, V> next() {
+                Node<K, V> node = nextNode();
+                return new AbstractMap.SimpleImmutableEntry<>(node.key, node.value);
+            }
+        };
+    }
+
+    // --- 반복자 구현 ---
+
+    /**
+     * 부모 포인터가 없으므로(노드를 공유하기 때문) 내려온 경로를 스택에 담아 중위 순회합니다.
+     */
+    private abstract class InOrderIterator<T> implements Iterator<T> {
+        private final MyStack<Node<K, V>> path = new MyStack<>();
+
+        InOrderIterator() {
+            pushLeft(root);
+        }
+
+        private void pushLeft(Node<K, V> node) {
+            while (node != null) {
+                path.push(node);
+                node = node.left;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        final Node<K, V> nextNode() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node<K, V> node = path.pop();
+            pushLeft(node.right);
+            return node;
+        }
+    }
+
+    // --- 좌편향 레드-블랙 트리 연산 (모두 새 노드를 반환하며 기존 노드는 건드리지 않음) ---
+
+    private Node<K, V> insert(Node<K, V> h, K key, V value) {
+        if (h == null) {
+            return new Node<>(key, value, RED, null, null);
+        }
+        int cmp = key.compareTo(h.key);
+        if (cmp < 0) {
+            Node<K, V> left = insert(h.left, key, value);
+            if (left == h.left) {
+                return h; // 바뀐 것이 없으면 경로도 복사하지 않음
+            }
+            h = h.withLeft(left);
+        } else if (cmp > 0) {
+            Node<K, V> right = insert(h.right, key, value);
+            if (right == h.right) {
+                return h;
+            }
+            h = h.withRight(right);
+        } else {
+            // 값만 바뀌면 구조가 그대로이므로 재조정이 필요 없음
+            return h.value == value ? h : h.withValue(value);
+        }
+        return balance(h);
+    }
+
+    /**
+     * h를 루트로 하는 서브트리에서 key를 삭제합니다. key가 반드시 존재해야 합니다.
+     * 내려가는 방향의 자식이 2-노드(BLACK)가 되지 않도록 RED를 미리 밀어 넣으며 내려갑니다.
+     */
+    private Node<K, V> delete(Node<K, V> h, K key) {
+        if (key.compareTo(h.key) < 0) {
+            if (!isRed(h.left) && !isRed(h.left.left)) {
+                h = moveRedLeft(h);
+            }
+            h = h.withLeft(delete(h.left, key));
+        } else {
+            if (isRed(h.left)) {
+                h = rotateRight(h);
+            }
+            if (key.compareTo(h.key) == 0 && h.right == null) {
+                return null;
+            }
+            if (!isRed(h.right) && !isRed(h.right.left)) {
+                h = moveRedRight(h);
+            }
+            if (key.compareTo(h.key) == 0) {
+                // 후속 노드(오른쪽 서브트리의 최솟값)로 자리를 채움
+                Node<K, V> successor = min(h.right);
+                h = new Node<>(successor.key, successor.value, h.color, h.left, deleteMin(h.right));
+            } else {
+                h = h.withRight(delete(h.right, key));
+            }
+        }
+        return balance(h);
+    }
+
+    private Node<K, V> deleteMin(Node<K, V> h) {
+        if (h.left == null) {
+            return null;
+        }
+        if (!isRed(h.left) && !isRed(h.left.left)) {
+            h = moveRedLeft(h);
+        }
+        return balance(h.withLeft(deleteMin(h.left)));
+    }
+
+    private Node<K, V> moveRedLeft(Node<K, V> h) {
+        h = flipColors(h);
+        if (isRed(h.right.left)) {
+            h = rotateLeft(h.withRight(rotateRight(h.right)));
+            h = flipColors(h);
+        }
+        return h;
+    }
+
+    private Node<K, V> moveRedRight(Node<K, V> h) {
+        h = flipColors(h);
+        if (isRed(h.left.left)) {
+            h = flipColors(rotateRight(h));
+        }
+        return h;
+    }
+
+    /**
+     * 올라오면서 좌편향 속성을 복구합니다.
+     * 오른쪽으로 기운 RED는 왼쪽으로 돌리고, 연속된 RED는 오른쪽으로 돌리고, 양쪽이 RED면 색을 뒤집습니다.
+     */
+    private Node<K, V> balance(Node<K, V> h) {
+        if (isRed(h.right) && !isRed(h.left)) {
+            h = rotateLeft(h);
+        }
+        if (isRed(h.left) && isRed(h.left.left)) {
+            h = rotateRight(h);
+        }
+        if (isRed(h.left) && isRed(h.right)) {
+            h = flipColors(h);
+        }
+        return h;
+    }
+
+    private Node<K, V> rotateLeft(Node<K, V> h) {
+        Node<K, V> x = h.right;
+        return new Node<>(x.key, x.value, h.color, new Node<>(h.key, h.value, RED, h.left, x.left), x.right);
+    }
+
+    private Node<K, V> rotateRight(Node<K, V> h) {
+        Node<K, V> x = h.left;
+        return new Node<>(x.key, x.value, h.color, x.left, new Node<>(h.key, h.value, RED, x.right, h.right));
+    }
+
+    private Node<K, V> flipColors(Node<K, V> h) {
+        return new Node<>(h.key, h.value, !h.color,
+                h.left.withColor(!h.left.color), h.right.withColor(!h.right.color));
+    }
+
+    private Node<K, V> blacken(Node<K, V> h) {
+        return isRed(h) ? h.withColor(BLACK) : h;
+    }
+
+    // --- 내부 헬퍼 메소드 ---
+
+    private Node<K, V> findNode(K key) {
+        Node<K, V> node = root;
+        while (node != null) {
+            int cmp = key.compareTo(node.key);
+            if (cmp == 0) {
+                return node;
+            }
+            node = cmp < 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    private static <K, V> Node<K, V> min(Node<K, V> node) {
+        while (node.left != null) {
+            node = node.left;
+        }
+        return node;
+    }
+
+    private static boolean isRed(Node<?, ?> node) {
+        return node != null && node.color == RED;
+    }
+
+    private static int size(Node<?, ?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static void checkKey(Object key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+    }
+
+    /**
+     * 좌편향 레드-블랙 트리의 모든 속성을 검사합니다. (테스트 및 디버깅용)
+     * 루트가 BLACK인지, RED 링크가 왼쪽에만 있고 연속되지 않는지, 모든 경로의 Black-Height가 같은지,
+     * BST 순서와 크기가 올바른지 확인하고 위반 시 IllegalStateException을 던집니다.
+     */
+    void checkInvariants() {
+        if (isRed(root)) {
+            throw new IllegalStateException("Root must be black");
+        }
+        checkSubtree(root, null, null);
+    }
+
+    private int checkSubtree(Node<K, V> node, K lo, K hi) {
+        if (node == null) {
+            return 1;
+        }
+        if ((lo != null && node.key.compareTo(lo) <= 0) || (hi != null && node.key.compareTo(hi) >= 0)) {
+            throw new IllegalStateException("BST order violated at key " + node.key);
+        }
+        if (isRed(node.right)) {
+            throw new IllegalStateException("Right-leaning red link at key " + node.key);
+        }
+        if (isRed(node) && isRed(node.left)) {
+            throw new IllegalStateException("Red node " + node.key + " has a red child");
+        }
+        if (node.size != 1 + size(node.left) + size(node.right)) {
+            throw new IllegalStateException("Subtree size mismatch at key " + node.key);
+        }
+        int leftBlackHeight = checkSubtree(node.left, lo, node.key);
+        int rightBlackHeight = checkSubtree(node.right, node.key, hi);
+        if (leftBlackHeight != rightBlackHeight) {
+            throw new IllegalStateException("Black height mismatch at key " + node.key);
+        }
+        return leftBlackHeight + (isRed(node) ? 0 : 1);
+    }
+}
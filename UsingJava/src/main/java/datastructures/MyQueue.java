@@ -4,33 +4,25 @@ import java.util.NoSuchElementException;
 
 /**
  * 제네릭 큐(Queue) 구현체입니다.
- * 연결 리스트(Linked List) 구조를 기반으로 하여 삽입/삭제 성능이 우수합니다.
+ * 내부적으로 원형 배열 기반의 MyDeque를 사용하므로, 삽입/삭제가 O(1)이면서도
+ * 요소마다 노드를 할당하지 않습니다.
  * 
  * @param <T> 큐에 저장할 데이터의 타입
  */
 public class MyQueue<T> {
+    private final MyDeque<T> elements;
 
-    /**
-     * 내부 노드 클래스입니다.
-     */
-    private static class Node<E> {
-        E data; // 데이터
-        Node<E> next; // 다음 노드 참조
-
-        Node(E data) {
-            this.data = data;
-            this.next = null;
-        }
+    public MyQueue() {
+        this.elements = new MyDeque<>();
     }
 
-    private Node<T> front; // 큐의 앞부분 (삭제 위치)
-    private Node<T> rear; // 큐의 뒷부분 (삽입 위치)
-    private int size; // 큐의 크기
-
-    public MyQueue() {
-        this.front = null;
-        this.rear = null;
-        this.size = 0;
+    /**
+     * 초기 용량을 지정하는 생성자입니다.
+     * 
+     * @param initialCapacity 초기 용량 (2의 거듭제곱으로 올림됩니다)
+     */
+    public MyQueue(int initialCapacity) {
+        this.elements = new MyDeque<>(initialCapacity);
     }
 
     /**
@@ -39,15 +31,7 @@ public class MyQueue<T> {
      * @param data 추가할 데이터
      */
     public void offer(T data) {
-        Node<T> newNode = new Node<>(data);
-        if (rear != null) {
-            rear.next = newNode;
-        }
-        rear = newNode;
-        if (front == null) {
-            front = rear;
-        }
-        size++;
+        elements.offerLast(data);
     }
 
     /**
@@ -60,13 +44,7 @@ public class MyQueue<T> {
         if (isEmpty()) {
             throw new NoSuchElementException("Queue is empty");
         }
-        T data = front.data;
-        front = front.next;
-        if (front == null) {
-            rear = null;
-        }
-        size--;
-        return data;
+        return elements.pollFirst();
     }
 
     /**
@@ -79,7 +57,7 @@ public class MyQueue<T> {
         if (isEmpty()) {
             throw new NoSuchElementException("Queue is empty");
         }
-        return front.data;
+        return elements.peekFirst();
     }
 
     /**
@@ -88,7 +66,7 @@ public class MyQueue<T> {
      * @return 비어있으면 true, 아니면 false
      */
     public boolean isEmpty() {
-        return size == 0;
+        return elements.isEmpty();
     }
 
     /**
@@ -97,6 +75,6 @@ public class MyQueue<T> {
      * @return 데이터 개수
      */
     public int size() {
-        return size;
+        return elements.size();
     }
 }
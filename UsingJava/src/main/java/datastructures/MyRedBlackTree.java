@@ -1,13 +1,24 @@
 package datastructures;
 
+import java.util.AbstractMap;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
 /**
  * 레드-블랙 트리(Red-Black Tree) 구현체입니다.
  * 자가 균형 이진 탐색 트리로, 삽입과 삭제 시 트리의 높이를 O(log n)으로 유지합니다.
+ * 각 노드에 서브트리 크기를 함께 저장(Order-Statistic Tree)하여 k번째 키 조회(select)와
+ * 순위(rank), 범위 개수(countInRange)도 O(log n)에 계산합니다.
+ *
+ * <p>키의 순서는 생성 시 넘긴 Comparator로 정하며, 생략하면 키의 자연 순서(Comparable)를 따릅니다.
  *
- * @param <K> Key의 타입 (Comparable)
+ * @param <K> Key의 타입 (Comparator를 주지 않으면 Comparable 구현 필요)
  * @param <V> Value의 타입
  */
-public class MyRedBlackTree<K extends Comparable<K>, V> {
+public class MyRedBlackTree<K, V> implements SortedStore<K, V> {
 
     private static final boolean RED = true;
     private static final boolean BLACK = false;
@@ -17,11 +28,13 @@ public class MyRedBlackTree<K extends Comparable<K>, V> {
         V value;
         Node left, right, parent;
         boolean color;
+        int size; // 이 노드를 루트로 하는 서브트리의 노드 수 (T_NIL은 0)
 
         Node(K key, V value, boolean color, Node parent, Node left, Node right) {
             this.key = key;
             this.value = value;
             this.color = color;
+            this.size = key == null ? 0 : 1;
             this.parent = parent;
             this.left = left;
             this.right = right;
@@ -31,13 +44,86 @@ public class MyRedBlackTree<K extends Comparable<K>, V> {
     private Node root;
     private Node T_NIL; // 리프 노드를 나타내는 Sentinel Node (항상 Black)
     private int size;
+    // 구조 변경(삽입/삭제) 횟수. 순회 중 변경을 감지(Fail-Fast)하는 데 사용합니다.
+    private int modCount;
+    // 키 비교에 사용할 Comparator (자연 순서일 때도 null이 아님)
+    private final Comparator<? super K> comparator;
 
     public MyRedBlackTree() {
+        this((Comparator<? super K>) null);
+    }
+
+    /**
+     * 키의 순서를 정할 Comparator를 지정하여 생성합니다.
+     *
+     * @param comparator 키 비교에 사용할 Comparator (null이면 자연 순서)
+     */
+    public MyRedBlackTree(Comparator<? super K> comparator) {
+        this.comparator = comparator != null ? comparator : naturalOrder();
         T_NIL = new Node(null, null, BLACK, null, null, null);
         root = T_NIL;
         size = 0;
     }
 
+    /**
+     * 이미 정렬된 키/값으로 트리를 O(n)에 생성합니다. (Bulk Load)
+     * put을 n번 호출하면 O(n log n)번 비교하고 매번 fixInsert를 거치지만,
+     * 정렬된 입력은 가운데 원소를 루트로 삼아 재귀적으로 나누기만 하면 완전 균형 트리가 됩니다.
+     * 가득 차지 않은 마지막 층의 노드만 RED로 칠하면 모든 경로의 Black-Height가 같아집니다.
+     *
+     * @param sortedKeys 오름차순으로 정렬된 키 (중복 불가)
+     * @param values     키와 같은 순서의 값
+     * @throws IllegalArgumentException 키와 값의 개수가 다르거나, 키가 null이거나, 엄격한 오름차순이 아닌 경우
+     */
+    public MyRedBlackTree(MyArrayList<K> sortedKeys, MyArrayList<V> values) {
+        this(sortedKeys, values, null);
+    }
+
+    /**
+     * 주어진 Comparator 기준으로 이미 정렬된 키/값으로 트리를 O(n)에 생성합니다.
+     *
+     * @param sortedKeys comparator 기준 오름차순으로 정렬된 키 (중복 불가)
+     * @param values     키와 같은 순서의 값
+     * @param comparator 키 비교에 사용할 Comparator (null이면 자연 순서)
+     */
+    public MyRedBlackTree(MyArrayList<K> sortedKeys, MyArrayList<V> values, Comparator<? super K> comparator) {
+        this(comparator);
+        int n = sortedKeys.size();
+        if (n != values.size())
+            throw new IllegalArgumentException("Keys and values must have the same size");
+        for (int i = 0; i < n; i++) {
+            K key = sortedKeys.get(i);
+            if (key == null)
+                throw new IllegalArgumentException("Key cannot be null");
+            if (i > 0 && this.comparator.compare(sortedKeys.get(i - 1), key) >= 0)
+                throw new IllegalArgumentException("Keys must be in strictly ascending order");
+        }
+
+        // 마지막 층의 깊이: 왼쪽(작은 쪽) 서브트리를 따라 내려가며 센다
+        int redLevel = 0;
+        for (int m = n - 1; m >= 0; m = m / 2 - 1) {
+            redLevel++;
+        }
+        root = buildFromSorted(sortedKeys, values, 0, n - 1, 0, redLevel, T_NIL);
+        size = n;
+    }
+
+    /**
+     * [lo, hi] 구간의 가운데 원소를 루트로 하는 서브트리를 만듭니다.
+     * 깊이가 redLevel인 노드만 RED로 칠합니다.
+     */
+    private Node buildFromSorted(MyArrayList<K> keys, MyArrayList<V> values,
+                                 int lo, int hi, int level, int redLevel, Node parent) {
+        if (lo > hi)
+            return T_NIL;
+        int mid = (lo + hi) >>> 1;
+        Node node = new Node(keys.get(mid), values.get(mid), level == redLevel ? RED : BLACK, parent, T_NIL, T_NIL);
+        node.left = buildFromSorted(keys, values, lo, mid - 1, level + 1, redLevel, node);
+        node.right = buildFromSorted(keys, values, mid + 1, hi, level + 1, redLevel, node);
+        node.size = hi - lo + 1;
+        return node;
+    }
+
     /**
      * 값을 저장합니다. (Insert)
      */
@@ -47,11 +133,12 @@ public class MyRedBlackTree<K extends Comparable<K>, V> {
 
         Node node = root;
         Node parent = T_NIL;
+        int cmp = 0; // 마지막 비교 결과. 새 노드를 부모의 어느 쪽에 붙일지 다시 비교하지 않고 재사용합니다.
 
         // 1. 일반적인 BST 삽입 위치 찾기
         while (node != T_NIL) {
             parent = node;
-            int cmp = key.compareTo(node.key);
+            cmp = comparator.compare(key, node.key);
             if (cmp < 0) {
                 node = node.left;
             } else if (cmp > 0) {
@@ -67,16 +154,19 @@ public class MyRedBlackTree<K extends Comparable<K>, V> {
 
         if (parent == T_NIL) {
             root = newNode;
+        } else if (cmp < 0) {
+            parent.left = newNode;
         } else {
-            int cmp = key.compareTo(parent.key);
-            if (cmp < 0) {
-                parent.left = newNode;
-            } else {
-                parent.right = newNode;
-            }
+            parent.right = newNode;
         }
 
         size++;
+        modCount++;
+
+        // 삽입 경로의 조상들의 서브트리 크기를 1씩 증가
+        for (Node ancestor = parent; ancestor != T_NIL; ancestor = ancestor.parent) {
+            ancestor.size++;
+        }
 
         // 3. 재조정 (Fix Violation)
         fixInsert(newNode);
@@ -93,7 +183,7 @@ public class MyRedBlackTree<K extends Comparable<K>, V> {
     private Node search(K key) {
         Node node = root;
         while (node != T_NIL) {
-            int cmp = key.compareTo(node.key);
+            int cmp = comparator.compare(key, node.key);
             if (cmp == 0)
                 return node;
             if (cmp < 0)
@@ -106,7 +196,7 @@ public class MyRedBlackTree<K extends Comparable<K>, V> {
 
     /**
      * 값을 삭제합니다. (Delete)
-     * 현재는 기본적인 BST 삭제 로직만 구현되어 있으며, 삭제 후 RB Tree 속성 복구(Rebalancing)는 미구현 상태입니다.
+     * BST 삭제 후, 검은색 노드가 빠져 생긴 Black-Height 불균형을 fixDelete로 복구합니다.
      */
     public void remove(K key) {
         if (key == null)
@@ -115,10 +205,19 @@ public class MyRedBlackTree<K extends Comparable<K>, V> {
         Node z = search(key);
         if (z == T_NIL)
             return; // Key not found
+        deleteNode(z);
+    }
 
+    /**
+     * 노드 z를 트리에서 떼어냅니다.
+     * 키/값을 복사하지 않고 노드 자체를 옮기므로, 순회 중인 다른 노드의 참조는 그대로 유효합니다.
+     */
+    private void deleteNode(Node z) {
         Node y = z;
-        // boolean yOriginalColor = y.color; // For fixup later
+        boolean yOriginalColor = y.color;
         Node x;
+        // 서브트리 크기를 다시 계산하기 시작할 노드 (구조가 바뀐 가장 아래 위치)
+        Node sizeFrom = z.parent;
 
         if (z.left == T_NIL) {
             x = z.right;
@@ -128,8 +227,9 @@ public class MyRedBlackTree<K extends Comparable<K>, V> {
             transplant(z, z.left);
         } else {
             y = minimum(z.right);
-            // yOriginalColor = y.color;
+            yOriginalColor = y.color;
             x = y.right;
+            sizeFrom = y.parent == z ? y : y.parent;
             if (y.parent == z) {
                 x.parent = y;
             } else {
@@ -144,7 +244,240 @@ public class MyRedBlackTree<K extends Comparable<K>, V> {
         }
 
         size--;
-        // if (yOriginalColor == BLACK) fixDelete(x); // Rebalancing pending
+        modCount++;
+        for (Node node = sizeFrom; node != T_NIL; node = node.parent) {
+            updateSize(node);
+        }
+        // 검은색 노드가 실제로 빠졌다면 x 위치에 "검은색 하나"가 부족하므로 재조정
+        if (yOriginalColor == BLACK)
+            fixDelete(x);
+    }
+
+    // --- 순서 통계(Order Statistic) 연산 ---
+
+    /**
+     * k번째(0부터 시작)로 작은 키를 반환합니다.
+     * 왼쪽 서브트리 크기와 비교하며 내려가므로 O(log n)입니다.
+     *
+     * @param k 순위 (0 ≤ k < size)
+     * @return k번째 키
+     * @throws IndexOutOfBoundsException k가 범위를 벗어난 경우
+     */
+    public K select(int k) {
+        if (k < 0 || k >= size)
+            throw new IndexOutOfBoundsException("Index: " + k + ", Size: " + size);
+        Node node = root;
+        while (true) {
+            int leftSize = node.left.size;
+            if (k < leftSize) {
+                node = node.left;
+            } else if (k > leftSize) {
+                k -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.key;
+            }
+        }
+    }
+
+    /**
+     * 주어진 키보다 작은 키의 개수(순위)를 반환합니다. 키가 트리에 없어도 됩니다.
+     *
+     * @param key 기준 키
+     * @return key 미만인 키의 개수
+     */
+    public int rank(K key) {
+        return countBelow(key, false);
+    }
+
+    /**
+     * lo 이상 hi 이하인 키의 개수를 반환합니다.
+     *
+     * @param lo 하한 (포함)
+     * @param hi 상한 (포함)
+     * @return 범위에 속한 키의 개수
+     */
+    public int countInRange(K lo, K hi) {
+        if (comparator.compare(lo, hi) > 0)
+            return 0;
+        return countBelow(hi, true) - countBelow(lo, false);
+    }
+
+    /**
+     * key 미만(inclusive가 true면 이하)인 키의 개수를 셉니다.
+     * 오른쪽으로 내려갈 때마다 왼쪽 서브트리와 현재 노드를 더합니다.
+     */
+    public int countBelow(K key, boolean inclusive) {
+        if (key == null)
+            throw new IllegalArgumentException("Key cannot be null");
+        int count = 0;
+        Node node = root;
+        while (node != T_NIL) {
+            int cmp = comparator.compare(key, node.key);
+            if (cmp > 0 || (inclusive && cmp == 0)) {
+                count += node.left.size + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return count;
+    }
+
+    // --- 탐색(Navigation) 연산 ---
+    // 반환하는 엔트리는 조회 시점의 키/값 복사본이며, 트리를 수정하지 않습니다.
+
+    /**
+     * 가장 작은 키의 엔트리를 반환합니다.
+     *
+     * @return 가장 작은 엔트리, 비어있으면 null
+     */
+    public Map.Entry<K, V> firstEntry() {
+        return exportEntry(root == T_NIL ? T_NIL : minimum(root));
+    }
+
+    /**
+     * 가장 큰 키의 엔트리를 반환합니다.
+     *
+     * @return 가장 큰 엔트리, 비어있으면 null
+     */
+    public Map.Entry<K, V> lastEntry() {
+        return exportEntry(root == T_NIL ? T_NIL : maximum(root));
+    }
+
+    /**
+     * key 이하인 가장 큰 키의 엔트리를 반환합니다.
+     */
+    public Map.Entry<K, V> floorEntry(K key) {
+        return exportEntry(floorNode(key, true));
+    }
+
+    /**
+     * key 미만인 가장 큰 키의 엔트리를 반환합니다.
+     */
+    public Map.Entry<K, V> lowerEntry(K key) {
+        return exportEntry(floorNode(key, false));
+    }
+
+    /**
+     * key 이상인 가장 작은 키의 엔트리를 반환합니다.
+     */
+    public Map.Entry<K, V> ceilingEntry(K key) {
+        return exportEntry(ceilingNode(key, true));
+    }
+
+    /**
+     * key 초과인 가장 작은 키의 엔트리를 반환합니다.
+     */
+    public Map.Entry<K, V> higherEntry(K key) {
+        return exportEntry(ceilingNode(key, false));
+    }
+
+    /**
+     * 범위 [lo, hi]에 속하는 키를 정렬된 순서로 반환합니다.
+     * 시작 노드를 O(log n)에 찾은 뒤 후속 노드(successor)를 따라가므로 O(log n + k)입니다.
+     *
+     * @param lo          하한 (null이면 제한 없음)
+     * @param loInclusive 하한 포함 여부
+     * @param hi          상한 (null이면 제한 없음)
+     * @param hiInclusive 상한 포함 여부
+     */
+    public MyArrayList<K> keys(K lo, boolean loInclusive, K hi, boolean hiInclusive) {
+        MyArrayList<K> list = new MyArrayList<>();
+        Iterator<K> it = keyIterator(lo, loInclusive, hi, hiInclusive, false);
+        while (it.hasNext()) {
+            list.add(it.next());
+        }
+        return list;
+    }
+
+    /**
+     * 범위에 속하는 값을 키 순서로 반환합니다. (범위 규칙은 keys와 동일)
+     */
+    public MyArrayList<V> values(K lo, boolean loInclusive, K hi, boolean hiInclusive) {
+        MyArrayList<V> list = new MyArrayList<>();
+        Iterator<V> it = valueIterator(lo, loInclusive, hi, hiInclusive, false);
+        while (it.hasNext()) {
+            list.add(it.next());
+        }
+        return list;
+    }
+
+    /**
+     * key 이하(inclusive) 또는 미만인 가장 큰 노드를 찾습니다.
+     * 오른쪽으로 내려갈 때마다 지나온 노드가 후보가 됩니다.
+     */
+    private Node floorNode(K key, boolean inclusive) {
+        if (key == null)
+            throw new IllegalArgumentException("Key cannot be null");
+        Node node = root;
+        Node candidate = T_NIL;
+        while (node != T_NIL) {
+            int cmp = comparator.compare(key, node.key);
+            if (cmp > 0 || (inclusive && cmp == 0)) {
+                candidate = node;
+                if (cmp == 0)
+                    break;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return candidate;
+    }
+
+    /**
+     * key 이상(inclusive) 또는 초과인 가장 작은 노드를 찾습니다.
+     */
+    private Node ceilingNode(K key, boolean inclusive) {
+        if (key == null)
+            throw new IllegalArgumentException("Key cannot be null");
+        Node node = root;
+        Node candidate = T_NIL;
+        while (node != T_NIL) {
+            int cmp = comparator.compare(key, node.key);
+            if (cmp < 0 || (inclusive && cmp == 0)) {
+                candidate = node;
+                if (cmp == 0)
+                    break;
+                node = node.left;
+            } else {
+                node = node.right;
+            }
+        }
+        return candidate;
+    }
+
+    /**
+     * 중위 순회 기준 다음 노드를 반환합니다. (없으면 T_NIL)
+     */
+    private Node successor(Node node) {
+        if (node.right != T_NIL)
+            return minimum(node.right);
+        Node parent = node.parent;
+        while (parent != T_NIL && node == parent.right) {
+            node = parent;
+            parent = parent.parent;
+        }
+        return parent;
+    }
+
+    /**
+     * 중위 순회 기준 이전 노드를 반환합니다. (없으면 T_NIL)
+     */
+    private Node predecessor(Node node) {
+        if (node.left != T_NIL)
+            return maximum(node.left);
+        Node parent = node.parent;
+        while (parent != T_NIL && node == parent.left) {
+            node = parent;
+            parent = parent.parent;
+        }
+        return parent;
+    }
+
+    private Map.Entry<K, V> exportEntry(Node node) {
+        return node == T_NIL ? null : new AbstractMap.SimpleImmutableEntry<>(node.key, node.value);
     }
 
     private void transplant(Node u, Node v) {
@@ -165,6 +498,13 @@ public class MyRedBlackTree<K extends Comparable<K>, V> {
         return node;
     }
 
+    private Node maximum(Node node) {
+        while (node.right != T_NIL) {
+            node = node.right;
+        }
+        return node;
+    }
+
     /**
      * 삽입 후 레드-블랙 트리의 속성을 유지하기 위해 재조정합니다.
      */
@@ -216,6 +556,74 @@ public class MyRedBlackTree<K extends Comparable<K>, V> {
         root.color = BLACK; // 루트는 항상 BLACK
     }
 
+    /**
+     * 삭제 후 레드-블랙 트리의 속성을 유지하기 위해 재조정합니다.
+     * x는 검은색이 하나 더 얹힌(Doubly Black) 노드로 보고, 형제(sibling)의 색에 따라 회전/색 변경을 반복합니다.
+     */
+    private void fixDelete(Node x) {
+        Node w; // sibling
+        while (x != root && x.color == BLACK) {
+            if (x == x.parent.left) {
+                w = x.parent.right;
+                if (w.color == RED) {
+                    // Case 1: 형제가 RED -> 부모 기준 회전하여 형제를 BLACK으로 만듦
+                    w.color = BLACK;
+                    x.parent.color = RED;
+                    rotateLeft(x.parent);
+                    w = x.parent.right;
+                }
+                if (w.left.color == BLACK && w.right.color == BLACK) {
+                    // Case 2: 형제와 형제의 두 자식이 모두 BLACK -> 형제를 RED로 바꾸고 문제를 부모로 올림
+                    w.color = RED;
+                    x = x.parent;
+                } else {
+                    if (w.right.color == BLACK) {
+                        // Case 3: 형제의 안쪽 자식만 RED -> 형제 기준 회전하여 Case 4로 만듦
+                        w.left.color = BLACK;
+                        w.color = RED;
+                        rotateRight(w);
+                        w = x.parent.right;
+                    }
+                    // Case 4: 형제의 바깥쪽 자식이 RED -> 색상 변경 후 부모 기준 회전하면 종료
+                    w.color = x.parent.color;
+                    x.parent.color = BLACK;
+                    w.right.color = BLACK;
+                    rotateLeft(x.parent);
+                    x = root;
+                }
+            } else {
+                w = x.parent.left;
+                if (w.color == RED) {
+                    // Case 1
+                    w.color = BLACK;
+                    x.parent.color = RED;
+                    rotateRight(x.parent);
+                    w = x.parent.left;
+                }
+                if (w.right.color == BLACK && w.left.color == BLACK) {
+                    // Case 2
+                    w.color = RED;
+                    x = x.parent;
+                } else {
+                    if (w.left.color == BLACK) {
+                        // Case 3
+                        w.right.color = BLACK;
+                        w.color = RED;
+                        rotateLeft(w);
+                        w = x.parent.left;
+                    }
+                    // Case 4
+                    w.color = x.parent.color;
+                    x.parent.color = BLACK;
+                    w.left.color = BLACK;
+                    rotateRight(x.parent);
+                    x = root;
+                }
+            }
+        }
+        x.color = BLACK;
+    }
+
     /**
      * 왼쪽으로 회전합니다.
      */
@@ -235,6 +643,10 @@ public class MyRedBlackTree<K extends Comparable<K>, V> {
         }
         y.left = x;
         x.parent = y;
+
+        // 회전된 두 노드만 서브트리 크기가 바뀜 (y가 x의 자리를 그대로 차지)
+        y.size = x.size;
+        updateSize(x);
     }
 
     /**
@@ -256,28 +668,240 @@ public class MyRedBlackTree<K extends Comparable<K>, V> {
         }
         x.right = y;
         y.parent = x;
+
+        x.size = y.size;
+        updateSize(y);
+    }
+
+    private void updateSize(Node node) {
+        node.size = node.left.size + node.right.size + 1;
     }
 
     public int size() {
         return size;
     }
 
+    public Comparator<? super K> comparator() {
+        return comparator;
+    }
+
+    /**
+     * 키의 자연 순서(Comparable)로 비교하는 Comparator입니다.
+     * Comparable이 아닌 키를 넣으면 비교 시점에 ClassCastException이 발생합니다.
+     */
+    @SuppressWarnings("unchecked")
+    static <K> Comparator<? super K> naturalOrder() {
+        return (Comparator<? super K>) Comparator.naturalOrder();
+    }
+
     public boolean isEmpty() {
         return size == 0;
     }
 
+    /**
+     * 트리의 높이(루트에서 가장 깊은 리프까지의 노드 수)를 반환합니다.
+     * 레드-블랙 트리는 항상 2·log2(n+1) 이하를 보장합니다.
+     */
+    public int height() {
+        return height(root);
+    }
+
+    private int height(Node node) {
+        if (node == T_NIL)
+            return 0;
+        return 1 + Math.max(height(node.left), height(node.right));
+    }
+
+    /**
+     * 레드-블랙 트리의 모든 속성을 검사합니다. (테스트 및 디버깅용)
+     * 루트가 BLACK인지, RED 노드가 연속되지 않는지, 모든 경로의 Black-Height가 같은지,
+     * BST 순서와 부모 포인터, 크기가 올바른지 확인하고 위반 시 IllegalStateException을 던집니다.
+     */
+    void checkInvariants() {
+        if (T_NIL.color != BLACK || T_NIL.size != 0)
+            throw new IllegalStateException("Sentinel must be black and empty");
+        if (root.color != BLACK)
+            throw new IllegalStateException("Root must be black");
+        if (root != T_NIL && root.parent != T_NIL)
+            throw new IllegalStateException("Root must not have a parent");
+        int[] count = new int[1];
+        checkSubtree(root, null, null, count);
+        if (count[0] != size)
+            throw new IllegalStateException("Size mismatch: expected " + size + " but found " + count[0]);
+    }
+
+    /**
+     * 서브트리를 검사하고 Black-Height를 반환합니다.
+     * lo/hi는 이 서브트리의 키가 있어야 할 (배타적) 범위이며, null이면 제한이 없습니다.
+     */
+    private int checkSubtree(Node node, K lo, K hi, int[] count) {
+        if (node == T_NIL)
+            return 1;
+        count[0]++;
+        if ((lo != null && comparator.compare(node.key, lo) <= 0) || (hi != null && comparator.compare(node.key, hi) >= 0))
+            throw new IllegalStateException("BST order violated at key " + node.key);
+        if (node.color == RED && (node.left.color == RED || node.right.color == RED))
+            throw new IllegalStateException("Red node " + node.key + " has a red child");
+        if ((node.left != T_NIL && node.left.parent != node) || (node.right != T_NIL && node.right.parent != node))
+            throw new IllegalStateException("Broken parent link at key " + node.key);
+        if (node.size != node.left.size + node.right.size + 1)
+            throw new IllegalStateException("Subtree size mismatch at key " + node.key);
+
+        int leftBlackHeight = checkSubtree(node.left, lo, node.key, count);
+        int rightBlackHeight = checkSubtree(node.right, node.key, hi, count);
+        if (leftBlackHeight != rightBlackHeight)
+            throw new IllegalStateException("Black height mismatch at key " + node.key);
+        return leftBlackHeight + (node.color == BLACK ? 1 : 0);
+    }
+
     // 키 목록 반환(In-Order)
     public MyArrayList<K> keys() {
-        MyArrayList<K> list = new MyArrayList<>();
-        inOrderTraversal(root, list);
-        return list;
+        return keys(null, true, null, true);
+    }
+
+    // 값 목록 반환(In-Order, 키 순서와 동일)
+    public MyArrayList<V> values() {
+        return values(null, true, null, true);
+    }
+
+    // --- 반복자(Iterator) ---
+    // 재귀나 스택 없이 부모 포인터로 successor/predecessor를 따라가므로 추가 메모리가 O(1)입니다.
+    // 반복자 밖에서 트리 구조가 바뀌면 다음 호출에서 ConcurrentModificationException을 던집니다.
+
+    /**
+     * 키를 오름차순으로 순회하는 반복자를 반환합니다.
+     */
+    public Iterator<K> keyIterator() {
+        return keyIterator(null, true, null, true, false);
+    }
+
+    /**
+     * 키를 내림차순으로 순회하는 반복자를 반환합니다.
+     */
+    public Iterator<K> descendingKeyIterator() {
+        return keyIterator(null, true, null, true, true);
+    }
+
+    /**
+     * 값을 키 오름차순으로 순회하는 반복자를 반환합니다.
+     */
+    public Iterator<V> valueIterator() {
+        return valueIterator(null, true, null, true, false);
+    }
+
+    /**
+     * 엔트리를 키 오름차순으로 순회하는 반복자를 반환합니다.
+     */
+    public Iterator<Map.Entry<K, V>> entryIterator() {
+        return entryIterator(null, true, null, true, false);
     }
 
-    private void inOrderTraversal(Node node, MyArrayList<K> list) {
-        if (node != T_NIL) {
-            inOrderTraversal(node.left, list);
-            list.add(node.key);
-            inOrderTraversal(node.right, list);
+    /**
+     * 엔트리를 키 내림차순으로 순회하는 반복자를 반환합니다.
+     */
+    public Iterator<Map.Entry<K, V>> descendingEntryIterator() {
+        return entryIterator(null, true, null, true, true);
+    }
+
+    /**
+     * 범위 [lo, hi]의 키를 순회하는 반복자를 반환합니다. (lo/hi가 null이면 제한 없음)
+     */
+    public Iterator<K> keyIterator(K lo, boolean loInclusive, K hi, boolean hiInclusive, boolean descending) {
+        return new TreeIterator<K>(lo, loInclusive, hi, hiInclusive, descending) {
+            @Override
+            public K next() {
+                return nextNode().key;
+            }
+        };
+    }
+
+    public Iterator<V> valueIterator(K lo, boolean loInclusive, K hi, boolean hiInclusive, boolean descending) {
+        return new TreeIterator<V>(lo, loInclusive, hi, hiInclusive, descending) {
+            @Override
+            public V next() {
+                return nextNode().value;
+            }
+        };
+    }
+
+    public Iterator<Map.Entry<K, V>> entryIterator(K lo, boolean loInclusive, K hi, boolean hiInclusive, boolean descending) {
+        return new TreeIterator<Map.Entry<K, V>>(lo, loInclusive, hi, hiInclusive, descending) {
+            @Override
+            public Map.Entry<K, V> next() {
+                return exportEntry(nextNode());
+            }
+        };
+    }
+
+    /**
+     * 범위 안의 노드를 한 방향으로 따라가는 반복자입니다.
+     * 시작 노드를 O(log n)에 찾고, 이후 한 칸 이동은 상각 O(1)입니다.
+     */
+    private abstract class TreeIterator<E> implements Iterator<E> {
+        private Node next;
+        private Node lastReturned = T_NIL;
+        private int expectedModCount = modCount;
+        private final boolean descending;
+        // 순회 방향의 끝 경계 (null이면 트리 끝까지)
+        private final K fence;
+        private final boolean fenceInclusive;
+
+        TreeIterator(K lo, boolean loInclusive, K hi, boolean hiInclusive, boolean descending) {
+            this.descending = descending;
+            Node start;
+            if (descending) {
+                start = hi == null ? (root == T_NIL ? T_NIL : maximum(root)) : floorNode(hi, hiInclusive);
+                fence = lo;
+                fenceInclusive = loInclusive;
+            } else {
+                start = lo == null ? (root == T_NIL ? T_NIL : minimum(root)) : ceilingNode(lo, loInclusive);
+                fence = hi;
+                fenceInclusive = hiInclusive;
+            }
+            next = fenced(start);
+        }
+
+        /**
+         * 노드가 끝 경계를 넘었으면 T_NIL을 반환합니다.
+         * 다음 노드를 구할 때 한 번만 비교하므로 hasNext()는 비교 없이 답합니다.
+         */
+        private Node fenced(Node node) {
+            if (node == T_NIL || fence == null)
+                return node;
+            int cmp = comparator.compare(node.key, fence);
+            if (descending)
+                cmp = -cmp;
+            return (fenceInclusive ? cmp <= 0 : cmp < 0) ? node : T_NIL;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != T_NIL;
+        }
+
+        Node nextNode() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            if (next == T_NIL)
+                throw new NoSuchElementException();
+            Node node = next;
+            next = fenced(descending ? predecessor(node) : successor(node));
+            lastReturned = node;
+            return node;
+        }
+
+        /**
+         * 마지막으로 반환한 요소를 삭제합니다. 다음 노드는 미리 구해두었으므로 순회는 그대로 이어집니다.
+         */
+        @Override
+        public void remove() {
+            if (lastReturned == T_NIL)
+                throw new IllegalStateException();
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            deleteNode(lastReturned);
+            expectedModCount = modCount;
+            lastReturned = T_NIL;
         }
     }
 }
@@ -0,0 +1,153 @@
+package datastructures;
+
+import java.util.Comparator;
+
+/**
+ * 정렬하지 않고 k번째 원소를 찾는 선택(Selection) 알고리즘 모음입니다.
+ *
+ * <p>kthSmallest는 Introselect입니다.
+ * <ul>
+ * <li>평소에는 Quickselect처럼 피벗으로 분할한 뒤 k가 있는 쪽만 계속 파고듭니다 (평균 O(n)).</li>
+ * <li>피벗은 처음/가운데/끝의 중앙값(Median-of-3)으로 골라 이미 정렬된 입력에서도 잘 동작합니다.</li>
+ * <li>피벗과 같은 값은 가운데에 모으는 3-way 분할을 사용해 중복이 많아도 느려지지 않습니다.</li>
+ * <li>분할 횟수가 2 log2 n을 넘으면 (피벗 선택이 계속 실패하는 악의적 입력) 남은 구간에 대해
+ * 제자리 힙 선택(Heap Select)으로 바꿔 최악의 경우도 O(n log n)으로 막습니다.</li>
+ * </ul>
+ */
+public final class MySelection {
+
+    private MySelection() {
+    }
+
+    /**
+     * 자연 순서로 k번째로 작은 요소를 반환합니다.
+     *
+     * @param list 요소들 (순서가 바뀝니다)
+     * @param k    찾을 순위 (0부터 시작, 0이면 최솟값)
+     * @return k번째로 작은 요소
+     * @throws IndexOutOfBoundsException k가 0 ~ size-1 범위를 벗어난 경우
+     */
+    public static <T extends Comparable<? super T>> T kthSmallest(MyArrayList<T> list, int k) {
+        return kthSmallest(list, k, Comparator.naturalOrder());
+    }
+
+    /**
+     * comparator 기준으로 k번째로 작은 요소를 반환합니다.
+     * 복사본을 만들지 않고 list 안에서 요소를 옮기며 찾으므로, 호출 뒤 list의 순서는 바뀌어 있습니다.
+     * Quickselect로 끝난 경우 k번 자리에 답이 있고, 그 앞은 모두 답 이하, 뒤는 모두 답 이상입니다.
+     *
+     * @param list       요소들 (순서가 바뀝니다)
+     * @param k          찾을 순위 (0부터 시작, 0이면 최솟값)
+     * @param comparator 비교에 사용할 Comparator
+     * @return k번째로 작은 요소
+     * @throws IndexOutOfBoundsException k가 0 ~ size-1 범위를 벗어난 경우
+     * @throws IllegalArgumentException  comparator가 null인 경우
+     */
+    public static <T> T kthSmallest(MyArrayList<T> list, int k, Comparator<? super T> comparator) {
+        int size = list.size();
+        if (k < 0 || k >= size) {
+            throw new IndexOutOfBoundsException("Index: " + k + ", Size: " + size);
+        }
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator cannot be null");
+        }
+
+        int lo = 0;
+        int hi = size - 1;
+        int depthLimit = 2 * (32 - Integer.numberOfLeadingZeros(size));
+        while (lo < hi) {
+            if (depthLimit-- == 0) {
+                return heapSelect(list, lo, hi, k, comparator);
+            }
+            T pivot = medianOfThree(list, lo, lo + ((hi - lo) >>> 1), hi, comparator);
+
+            // 3-way 분할: [lo, lt) < pivot, [lt, gt] == pivot, (gt, hi] > pivot
+            int lt = lo;
+            int gt = hi;
+            int i = lo;
+            while (i <= gt) {
+                int cmp = comparator.compare(list.get(i), pivot);
+                if (cmp < 0) {
+                    swap(list, lt++, i++);
+                } else if (cmp > 0) {
+                    swap(list, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            if (k < lt) {
+                hi = lt - 1;
+            } else if (k > gt) {
+                lo = gt + 1;
+            } else {
+                return list.get(k); // 피벗과 같은 구간 안에 있음
+            }
+        }
+        return list.get(k);
+    }
+
+    /**
+     * [lo, hi] 구간에서 k번째로 작은 요소를 제자리 힙으로 찾습니다 (O(m log m), m = hi - lo + 1).
+     * 앞쪽 k - lo + 1개로 최대 힙을 만든 뒤, 나머지 요소 중 루트보다 작은 것만 루트와 바꿉니다.
+     * 끝나면 힙에는 구간에서 가장 작은 k - lo + 1개가 남고, 그 최댓값인 루트가 답입니다.
+     */
+    private static <T> T heapSelect(MyArrayList<T> list, int lo, int hi, int k, Comparator<? super T> comparator) {
+        int heapSize = k - lo + 1;
+        for (int i = (heapSize >>> 1) - 1; i >= 0; i--) {
+            siftDownMax(list, lo, i, heapSize, comparator);
+        }
+        for (int i = k + 1; i <= hi; i++) {
+            if (comparator.compare(list.get(i), list.get(lo)) < 0) {
+                swap(list, lo, i);
+                siftDownMax(list, lo, 0, heapSize, comparator);
+            }
+        }
+        swap(list, lo, k); // 답을 k번 자리로
+        return list.get(k);
+    }
+
+    /**
+     * list[base ..) 를 최대 힙으로 보고, index의 요소를 아래로 내립니다.
+     */
+    private static <T> void siftDownMax(MyArrayList<T> list, int base, int index, int heapSize,
+            Comparator<? super T> comparator) {
+        T element = list.get(base + index);
+        int half = heapSize >>> 1;
+        while (index < half) {
+            int childIndex = 2 * index + 1;
+            T child = list.get(base + childIndex);
+            int rightChildIndex = childIndex + 1;
+            if (rightChildIndex < heapSize && comparator.compare(list.get(base + rightChildIndex), child) > 0) {
+                childIndex = rightChildIndex;
+                child = list.get(base + childIndex);
+            }
+            if (comparator.compare(element, child) >= 0) {
+                break;
+            }
+            list.set(base + index, child);
+            index = childIndex;
+        }
+        list.set(base + index, element);
+    }
+
+    private static <T> T medianOfThree(MyArrayList<T> list, int a, int b, int c, Comparator<? super T> comparator) {
+        T x = list.get(a);
+        T y = list.get(b);
+        T z = list.get(c);
+        if (comparator.compare(x, y) < 0) {
+            if (comparator.compare(y, z) < 0) {
+                return y;
+            }
+            return comparator.compare(x, z) < 0 ? z : x;
+        }
+        if (comparator.compare(x, z) < 0) {
+            return x;
+        }
+        return comparator.compare(y, z) < 0 ? z : y;
+    }
+
+    private static <T> void swap(MyArrayList<T> list, int i, int j) {
+        list.set(i, list.set(j, list.get(i)));
+    }
+}
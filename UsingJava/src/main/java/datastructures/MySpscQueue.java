@@ -0,0 +1,117 @@
+package datastructures;
+
+import java.util.function.Consumer;
+
+/**
+ * 단일 생산자/단일 소비자(SPSC: Single Producer Single Consumer)용 락 없는 링 버퍼 큐입니다.
+ * offer/offerBatch는 한 스레드만, poll/drainTo는 (다른) 한 스레드만 호출해야 합니다.
+ *
+ * <p>각 인덱스는 주인 스레드만 쓰므로 CAS가 필요 없고, release 쓰기 한 번으로 상대 스레드에게 공개합니다.
+ * 또한 상대편 인덱스를 매번 읽지 않고 캐시해 두었다가, 캐시 기준으로 가득 찼거나 비었을 때만 다시 읽습니다.
+ * 그래서 평소에는 상대 스레드의 캐시 라인을 건드리지 않습니다.
+ *
+ * @param <T> 큐에 저장할 데이터의 타입
+ */
+public class MySpscQueue<T> extends AbstractRingQueue<T> {
+
+    /**
+     * @param capacity 최대 요소 수 (2의 거듭제곱으로 올림됩니다)
+     */
+    public MySpscQueue(int capacity) {
+        super(capacity, false);
+    }
+
+    @Override
+    public boolean offer(T element) {
+        checkNotNull(element);
+        long p = counters[PRODUCER_INDEX]; // 생산자만 쓰는 값이므로 그냥 읽음
+        if (p >= counters[PRODUCER_LIMIT] && p >= refreshProducerLimit()) {
+            return false;
+        }
+        elements[(int) p & mask] = element;
+        setCounter(PRODUCER_INDEX, p + 1); // 요소 쓰기가 먼저 보이도록 release
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        long c = counters[CONSUMER_INDEX]; // 소비자만 쓰는 값이므로 그냥 읽음
+        if (c >= counters[CONSUMER_LIMIT] && c >= refreshConsumerLimit()) {
+            return null;
+        }
+        int slot = (int) c & mask;
+        T element = (T) elements[slot];
+        elements[slot] = null; // 참조 해제 (GC 유도)
+        setCounter(CONSUMER_INDEX, c + 1);
+        return element;
+    }
+
+    /**
+     * 빈 칸 수를 한 번만 계산하고, 들어갈 수 있는 만큼 쓴 뒤 생산자 인덱스를 한 번만 공개합니다.
+     */
+    @Override
+    public int offerBatch(MyArrayList<? extends T> batch) {
+        int n = batch.size();
+        for (int i = 0; i < n; i++) {
+            checkNotNull(batch.get(i));
+        }
+        long p = counters[PRODUCER_INDEX];
+        long limit = counters[PRODUCER_LIMIT];
+        if (p + n > limit) {
+            limit = refreshProducerLimit();
+        }
+        int count = (int) Math.min(n, limit - p);
+        for (int i = 0; i < count; i++) {
+            elements[(int) (p + i) & mask] = batch.get(i);
+        }
+        if (count > 0) {
+            setCounter(PRODUCER_INDEX, p + count);
+        }
+        return count;
+    }
+
+    /**
+     * 생산자 인덱스를 한 번만 읽고, 그때까지 들어온 요소를 꺼낸 뒤 소비자 인덱스를 한 번만 공개합니다.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public int drainTo(Consumer<? super T> sink, int maxElements) {
+        long c = counters[CONSUMER_INDEX];
+        long available = refreshConsumerLimit() - c;
+        int count = (int) Math.min(Math.max(maxElements, 0), available);
+        int drained = 0;
+        try {
+            while (drained < count) {
+                int slot = (int) (c + drained) & mask;
+                T element = (T) elements[slot];
+                elements[slot] = null;
+                drained++;
+                sink.accept(element);
+            }
+        } finally {
+            if (drained > 0) {
+                setCounter(CONSUMER_INDEX, c + drained);
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * 소비자 인덱스를 다시 읽어 생산자가 쓸 수 있는 한계(소비자 인덱스 + 용량)를 갱신합니다.
+     */
+    private long refreshProducerLimit() {
+        long limit = getCounter(CONSUMER_INDEX) + elements.length;
+        counters[PRODUCER_LIMIT] = limit;
+        return limit;
+    }
+
+    /**
+     * 생산자 인덱스를 다시 읽어 소비자가 읽을 수 있는 한계를 갱신합니다.
+     */
+    private long refreshConsumerLimit() {
+        long limit = getCounter(PRODUCER_INDEX);
+        counters[CONSUMER_LIMIT] = limit;
+        return limit;
+    }
+}
@@ -0,0 +1,159 @@
+package datastructures;
+
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+
+/**
+ * 스트림에서 우선순위가 가장 높은 k개만 남기는 크기 제한 수집기입니다.
+ * 모든 요소를 힙에 넣고 k번 poll하면 스트림 전체를 메모리에 들고 있어야 하지만,
+ * 이 수집기는 지금까지 본 상위 k개만 MyHeap에 보관하므로 메모리가 O(k), 시간이 O(n log k)입니다.
+ *
+ * <p>힙의 최상위에는 보관 중인 k개 중 가장 약한 요소(기준값, threshold)가 옵니다.
+ * 가득 찬 뒤에는 새 요소를 기준값과 한 번만 비교해서, 더 약하면 할당 없이 바로 거절하고
+ * 더 강하면 replaceTop으로 기준값 자리에 넣습니다.
+ *
+ * <pre>
+ * MyTopK&lt;Long&gt; top = new MyTopK&lt;&gt;(100);
+ * for (long latency : stream) {
+ *     top.offer(latency);
+ * }
+ * MyArrayList&lt;Long&gt; slowest = top.drainSorted(); // 큰 값부터
+ * </pre>
+ *
+ * @param <T> 데이터 타입 (Comparator를 주지 않으면 Comparable 구현 필요)
+ */
+public class MyTopK<T> {
+
+    private final MyHeap<T> heap; // 보관 중인 k개 중 가장 약한 요소가 최상위 (comparator 기준 최소 힙)
+    private final int capacity;
+    private final Comparator<? super T> comparator;
+
+    /**
+     * 자연 순서로 가장 큰 k개를 남기는 수집기를 생성합니다.
+     *
+     * @param k 남길 요소 수 (1 이상)
+     */
+    @SuppressWarnings("unchecked")
+    public MyTopK(int k) {
+        this(k, (Comparator<? super T>) Comparator.naturalOrder());
+    }
+
+    /**
+     * comparator 기준으로 가장 큰 k개를 남기는 수집기를 생성합니다.
+     * 가장 작은 k개가 필요하면 Comparator.reverseOrder()처럼 뒤집은 Comparator를 넘깁니다.
+     *
+     * @param k          남길 요소 수 (1 이상)
+     * @param comparator 우선순위 비교에 사용할 Comparator (클수록 우선순위가 높음)
+     * @throws IllegalArgumentException k가 1 미만이거나 comparator가 null인 경우
+     */
+    public MyTopK(int k, Comparator<? super T> comparator) {
+        if (k < 1) {
+            throw new IllegalArgumentException("Illegal capacity: " + k);
+        }
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator cannot be null");
+        }
+        this.capacity = k;
+        this.comparator = comparator;
+        this.heap = new MyHeap<>(k, comparator); // k개까지 배열을 늘리지 않음
+    }
+
+    /**
+     * 요소를 제출합니다. 상위 k개에 들면 보관하고, 가득 찬 상태라면 기준값을 밀어냅니다.
+     * 기준값과 같은 요소는 먼저 들어온 쪽을 남깁니다.
+     *
+     * @param element 제출할 요소
+     * @return 보관했으면 true, 거절했으면 false
+     */
+    public boolean offer(T element) {
+        if (heap.size() < capacity) {
+            heap.insert(element);
+            return true;
+        }
+        if (comparator.compare(element, heap.peek()) <= 0) {
+            return false;
+        }
+        heap.replaceTop(element);
+        return true;
+    }
+
+    /**
+     * 여러 요소를 차례로 제출합니다.
+     *
+     * @param elements 제출할 요소들
+     * @return 보관된 요소 수 (나중 요소에 밀려난 것도 포함)
+     */
+    public int offerAll(MyArrayList<? extends T> elements) {
+        int accepted = 0;
+        for (int i = 0; i < elements.size(); i++) {
+            if (offer(elements.get(i))) {
+                accepted++;
+            }
+        }
+        return accepted;
+    }
+
+    /**
+     * 보관 중인 요소 중 가장 약한 요소, 즉 가득 찬 뒤 새 요소가 넘어야 하는 기준값을 반환합니다.
+     *
+     * @return 기준값
+     * @throws NoSuchElementException 비어있는 경우 발생
+     */
+    public T threshold() {
+        return heap.peek();
+    }
+
+    /**
+     * 보관 중인 요소들을 우선순위가 높은 것부터 꺼내 반환합니다. 수집기는 비워집니다.
+     *
+     * @return 우선순위 내림차순으로 정렬된 요소들
+     */
+    public MyArrayList<T> drainSorted() {
+        int n = heap.size();
+        MyArrayList<T> result = new MyArrayList<>();
+        for (int i = 0; i < n; i++) {
+            result.add(null);
+        }
+        // 힙에서는 가장 약한 것부터 나오므로 뒤에서부터 채움
+        for (int i = n - 1; i >= 0; i--) {
+            result.set(i, heap.poll());
+        }
+        return result;
+    }
+
+    /**
+     * 보관 중인 요소의 개수를 반환합니다.
+     *
+     * @return 요소 개수 (최대 k)
+     */
+    public int size() {
+        return heap.size();
+    }
+
+    /**
+     * 남길 요소 수 k를 반환합니다.
+     *
+     * @return k
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * 비어있는지 확인합니다.
+     *
+     * @return 비어있으면 true, 아니면 false
+     */
+    public boolean isEmpty() {
+        return heap.isEmpty();
+    }
+
+    /**
+     * k개가 모두 찼는지 확인합니다. 찬 뒤의 offer는 기준값보다 강한 요소만 받아들입니다.
+     *
+     * @return 가득 찼으면 true, 아니면 false
+     */
+    public boolean isFull() {
+        return heap.size() == capacity;
+    }
+}
@@ -1,76 +1,590 @@
 package datastructures;
 
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
 /**
  * 트리 맵(Tree Map) 구현체입니다.
  * 이진 탐색 트리(Binary Search Tree) 구조를 사용하여 Key를 기준으로 정렬된 상태를 유지합니다.
  * 내부적으로 MyRedBlackTree를 사용하여 성능을 최적화했습니다.
+ * 생성자에서 B+ 트리(MyBPlusTree)를 선택하면, 노드 하나에 키를 여러 개 담아 캐시 효율이 좋은 저장소를 사용합니다.
+ *
+ * <p>floorKey/ceilingKey 같은 탐색 연산과 subMap/headMap/tailMap 범위 뷰(View)를 제공합니다.
+ * 뷰는 데이터를 복사하지 않고 같은 트리를 범위(하한/상한)로 제한해서 보여주므로,
+ * 뷰를 통한 변경은 원본에, 원본의 변경은 뷰에 그대로 반영됩니다.
+ *
+ * <p>키의 순서는 생성 시 넘긴 Comparator로 정하며, 생략하면 키의 자연 순서(Comparable)를 따릅니다.
  *
- * @param <K> Key의 타입 (Comparable 구현 필요)
+ * @param <K> Key의 타입 (Comparator를 주지 않으면 Comparable 구현 필요)
  * @param <V> Value의 타입
  */
-public class MyTreeMap<K extends Comparable<K>, V> {
+public class MyTreeMap<K, V> {
 
-    // 내부적으로 Red-Black Tree를 사용하여 데이터 저장
-    private final MyRedBlackTree<K, V> tree;
+    // 내부적으로 Red-Black Tree(또는 B+ Tree)를 사용하여 데이터 저장
+    private final SortedStore<K, V> tree;
+    // 트리와 같은 Comparator. 범위 경계 비교에 사용합니다.
+    private final Comparator<? super K> comparator;
+
+    // 범위 뷰의 경계. fromStart/toEnd가 true면 해당 방향으로 제한이 없습니다.
+    private final boolean fromStart;
+    private final K lo;
+    private final boolean loInclusive;
+    private final boolean toEnd;
+    private final K hi;
+    private final boolean hiInclusive;
 
     public MyTreeMap() {
-        this.tree = new MyRedBlackTree<>();
+        this(false, null);
+    }
+
+    /**
+     * 키의 순서를 정할 Comparator를 지정하여 생성합니다.
+     *
+     * @param comparator 키 비교에 사용할 Comparator (null이면 자연 순서)
+     */
+    public MyTreeMap(Comparator<? super K> comparator) {
+        this(false, comparator);
+    }
+
+    /**
+     * 내부 저장소를 선택하여 생성합니다.
+     *
+     * @param bPlusTree true면 B+ 트리(MyBPlusTree), false면 레드-블랙 트리(MyRedBlackTree)를 사용합니다.
+     *                  데이터가 많고 조회/범위 스캔이 잦다면 B+ 트리가 캐시 미스가 적어 유리합니다.
+     */
+    public MyTreeMap(boolean bPlusTree) {
+        this(bPlusTree, null);
+    }
+
+    /**
+     * 내부 저장소와 Comparator를 지정하여 생성합니다.
+     *
+     * @param bPlusTree  true면 B+ 트리, false면 레드-블랙 트리를 사용합니다.
+     * @param comparator 키 비교에 사용할 Comparator (null이면 자연 순서)
+     */
+    public MyTreeMap(boolean bPlusTree, Comparator<? super K> comparator) {
+        this(bPlusTree ? new MyBPlusTree<>(comparator) : new MyRedBlackTree<>(comparator),
+                true, null, true, true, null, true);
+    }
+
+    /**
+     * 이미 정렬된 키/값으로 맵을 O(n)에 생성합니다.
+     * 시작 시 정렬된 스냅샷에서 맵을 복원할 때 put을 n번 호출하는 대신 사용합니다.
+     *
+     * @param sortedKeys 오름차순으로 정렬된 키 (중복 불가)
+     * @param values     키와 같은 순서의 값
+     * @throws IllegalArgumentException 키와 값의 개수가 다르거나, 키가 엄격한 오름차순이 아닌 경우
+     */
+    public MyTreeMap(MyArrayList<K> sortedKeys, MyArrayList<V> values) {
+        this(sortedKeys, values, null);
+    }
+
+    /**
+     * 주어진 Comparator 기준으로 이미 정렬된 키/값으로 맵을 O(n)에 생성합니다.
+     *
+     * @param sortedKeys comparator 기준 오름차순으로 정렬된 키 (중복 불가)
+     * @param values     키와 같은 순서의 값
+     * @param comparator 키 비교에 사용할 Comparator (null이면 자연 순서)
+     */
+    public MyTreeMap(MyArrayList<K> sortedKeys, MyArrayList<V> values, Comparator<? super K> comparator) {
+        this(new MyRedBlackTree<>(sortedKeys, values, comparator), true, null, true, true, null, true);
+    }
+
+    /**
+     * 같은 트리를 공유하는 범위 뷰를 생성합니다.
+     */
+    private MyTreeMap(SortedStore<K, V> tree,
+                      boolean fromStart, K lo, boolean loInclusive,
+                      boolean toEnd, K hi, boolean hiInclusive) {
+        this.tree = tree;
+        this.comparator = tree.comparator();
+        this.fromStart = fromStart;
+        this.lo = lo;
+        this.loInclusive = loInclusive;
+        this.toEnd = toEnd;
+        this.hi = hi;
+        this.hiInclusive = hiInclusive;
     }
 
     /**
      * Key에 해당하는 Value를 저장합니다.
-     * 
+     *
      * @param key   저장할 키
      * @param value 저장할 값
+     * @throws IllegalArgumentException 범위 뷰에서 범위 밖의 키를 저장하려는 경우
      */
     public void put(K key, V value) {
+        if (key != null && !inRange(key)) {
+            throw new IllegalArgumentException("Key out of range: " + key);
+        }
         tree.put(key, value);
     }
 
     /**
      * Key에 해당하는 Value를 반환합니다.
-     * 
+     *
      * @param key 찾을 키
      * @return 키에 해당하는 값, 없으면 null
      */
     public V get(K key) {
+        if (key != null && !inRange(key)) {
+            return null;
+        }
         return tree.get(key);
     }
 
     /**
      * Key에 해당하는 엔트리를 삭제합니다.
-     * 
+     *
      * @param key 삭제할 키
      */
     public void remove(K key) {
+        if (key != null && !inRange(key)) {
+            return;
+        }
         tree.remove(key);
     }
 
     /**
      * 맵에 저장된 엔트리의 개수를 반환합니다.
-     * 
+     * 범위 뷰에서는 서브트리 크기로 범위에 속한 엔트리를 세므로 O(log n)입니다.
+     *
      * @return 저장된 개수
      */
     public int size() {
-        return tree.size();
+        if (isFullRange()) {
+            return tree.size();
+        }
+        return Math.max(0, countUpToHigh() - countBelowLow());
     }
 
     /**
      * 맵이 비어있는지 확인합니다.
-     * 
+     *
      * @return 비어있으면 true, 아니면 false
      */
     public boolean isEmpty() {
-        return tree.isEmpty();
+        if (isFullRange()) {
+            return tree.isEmpty();
+        }
+        return lowestEntry() == null;
+    }
+
+    /**
+     * 키 비교에 사용하는 Comparator를 반환합니다.
+     * 생성 시 Comparator를 주지 않았다면 자연 순서 Comparator를 반환합니다.
+     *
+     * @return 키 Comparator
+     */
+    public Comparator<? super K> comparator() {
+        return comparator;
     }
 
     /**
      * 저장된 모든 키를 정렬된 순서(In-Order Traversal)로 반환합니다.
      * TreeSet 구현 및 테스트에 사용됩니다.
-     * 
+     *
      * @return 정렬된 키 리스트
      */
     public MyArrayList<K> keys() {
-        return tree.keys();
+        return tree.keys(lowBound(), loInclusive, highBound(), hiInclusive);
+    }
+
+    /**
+     * 저장된 모든 값을 키 순서로 반환합니다.
+     *
+     * @return 키 순서로 정렬된 값 리스트
+     */
+    public MyArrayList<V> values() {
+        return tree.values(lowBound(), loInclusive, highBound(), hiInclusive);
+    }
+
+    // --- 반복자(Iterator) ---
+    // 리스트로 복사하지 않고 트리를 직접 따라가며, 순회 중 반복자 밖에서 맵을 변경하면
+    // ConcurrentModificationException이 발생합니다. 반복자의 remove()로는 안전하게 삭제할 수 있습니다.
+
+    /**
+     * 키를 오름차순으로 순회하는 반복자를 반환합니다.
+     *
+     * @return 키 반복자
+     */
+    public Iterator<K> keyIterator() {
+        return tree.keyIterator(lowBound(), loInclusive, highBound(), hiInclusive, false);
+    }
+
+    /**
+     * 키를 내림차순으로 순회하는 반복자를 반환합니다.
+     *
+     * @return 키 반복자
+     */
+    public Iterator<K> descendingKeyIterator() {
+        return tree.keyIterator(lowBound(), loInclusive, highBound(), hiInclusive, true);
+    }
+
+    /**
+     * 값을 키 오름차순으로 순회하는 반복자를 반환합니다.
+     *
+     * @return 값 반복자
+     */
+    public Iterator<V> valueIterator() {
+        return tree.valueIterator(lowBound(), loInclusive, highBound(), hiInclusive, false);
+    }
+
+    /**
+     * 엔트리를 키 오름차순으로 순회하는 반복자를 반환합니다.
+     *
+     * @return 엔트리 반복자
+     */
+    public Iterator<Map.Entry<K, V>> entryIterator() {
+        return tree.entryIterator(lowBound(), loInclusive, highBound(), hiInclusive, false);
+    }
+
+    /**
+     * 엔트리를 키 내림차순으로 순회하는 반복자를 반환합니다.
+     *
+     * @return 엔트리 반복자
+     */
+    public Iterator<Map.Entry<K, V>> descendingEntryIterator() {
+        return tree.entryIterator(lowBound(), loInclusive, highBound(), hiInclusive, true);
+    }
+
+    // --- 순서 통계(Order Statistic) 연산 ---
+
+    /**
+     * k번째(0부터 시작)로 작은 키를 O(log n)에 반환합니다.
+     * 범위 뷰에서는 뷰 안에서의 순서를 기준으로 합니다.
+     *
+     * @param k 순위 (0 ≤ k < size)
+     * @return k번째 키
+     * @throws IndexOutOfBoundsException k가 범위를 벗어난 경우
+     */
+    public K select(int k) {
+        int size = size();
+        if (k < 0 || k >= size) {
+            throw new IndexOutOfBoundsException("Index: " + k + ", Size: " + size);
+        }
+        return tree.select(countBelowLow() + k);
+    }
+
+    /**
+     * 주어진 키보다 작은 키의 개수(순위)를 O(log n)에 반환합니다.
+     * 범위 뷰에서는 뷰 안의 키만 셉니다.
+     *
+     * @param key 기준 키
+     * @return key 미만인 키의 개수
+     */
+    public int rank(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        if (tooLow(key)) {
+            return 0;
+        }
+        if (tooHigh(key)) {
+            return size();
+        }
+        return tree.countBelow(key, false) - countBelowLow();
+    }
+
+    /**
+     * fromKey 이상 toKey 이하인 키의 개수를 O(log n)에 반환합니다.
+     *
+     * @param fromKey 하한 (포함)
+     * @param toKey   상한 (포함)
+     * @return 범위에 속한 키의 개수
+     */
+    public int countInRange(K fromKey, K toKey) {
+        if (fromKey == null || toKey == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        // 뷰의 범위와 [fromKey, toKey]의 교집합: 아래로 더 엄격한 경계와 위로 더 엄격한 경계를 고름
+        int below = Math.max(tree.countBelow(fromKey, false), countBelowLow());
+        int upTo = Math.min(tree.countBelow(toKey, true), countUpToHigh());
+        return Math.max(0, upTo - below);
+    }
+
+    // --- 탐색(Navigation) 연산 ---
+
+    /**
+     * 가장 작은 키를 반환합니다.
+     *
+     * @return 가장 작은 키
+     * @throws NoSuchElementException 맵이 비어있는 경우
+     */
+    public K firstKey() {
+        return keyOrThrow(lowestEntry());
+    }
+
+    /**
+     * 가장 큰 키를 반환합니다.
+     *
+     * @return 가장 큰 키
+     * @throws NoSuchElementException 맵이 비어있는 경우
+     */
+    public K lastKey() {
+        return keyOrThrow(highestEntry());
+    }
+
+    /**
+     * 주어진 키 이하인 가장 큰 키를 반환합니다.
+     *
+     * @param key 기준 키
+     * @return 조건을 만족하는 키, 없으면 null
+     */
+    public K floorKey(K key) {
+        return keyOrNull(floorEntry(key, true));
+    }
+
+    /**
+     * 주어진 키 이상인 가장 작은 키를 반환합니다.
+     *
+     * @param key 기준 키
+     * @return 조건을 만족하는 키, 없으면 null
+     */
+    public K ceilingKey(K key) {
+        return keyOrNull(ceilingEntry(key, true));
+    }
+
+    /**
+     * 주어진 키보다 큰 키 중 가장 작은 키를 반환합니다.
+     *
+     * @param key 기준 키
+     * @return 조건을 만족하는 키, 없으면 null
+     */
+    public K higherKey(K key) {
+        return keyOrNull(ceilingEntry(key, false));
+    }
+
+    /**
+     * 주어진 키보다 작은 키 중 가장 큰 키를 반환합니다.
+     *
+     * @param key 기준 키
+     * @return 조건을 만족하는 키, 없으면 null
+     */
+    public K lowerKey(K key) {
+        return keyOrNull(floorEntry(key, false));
+    }
+
+    /**
+     * 가장 작은 키의 엔트리를 제거하고 반환합니다.
+     *
+     * @return 제거된 엔트리, 비어있으면 null
+     */
+    public Map.Entry<K, V> pollFirst() {
+        Map.Entry<K, V> entry = lowestEntry();
+        if (entry != null) {
+            tree.remove(entry.getKey());
+        }
+        return entry;
+    }
+
+    /**
+     * 가장 큰 키의 엔트리를 제거하고 반환합니다.
+     *
+     * @return 제거된 엔트리, 비어있으면 null
+     */
+    public Map.Entry<K, V> pollLast() {
+        Map.Entry<K, V> entry = highestEntry();
+        if (entry != null) {
+            tree.remove(entry.getKey());
+        }
+        return entry;
+    }
+
+    // --- 범위 뷰(View) ---
+
+    /**
+     * fromKey 이상, toKey 미만 범위의 뷰를 반환합니다.
+     *
+     * @param fromKey 하한 (포함)
+     * @param toKey   상한 (미포함)
+     * @return 범위 뷰
+     */
+    public MyTreeMap<K, V> subMap(K fromKey, K toKey) {
+        return subMap(fromKey, true, toKey, false);
+    }
+
+    /**
+     * 지정한 범위의 뷰를 반환합니다.
+     * 데이터를 복사하지 않으므로 O(1)에 생성되고, 범위 조회는 O(log n + k)입니다.
+     *
+     * @param fromKey       하한
+     * @param fromInclusive 하한 포함 여부
+     * @param toKey         상한
+     * @param toInclusive   상한 포함 여부
+     * @return 범위 뷰
+     * @throws IllegalArgumentException fromKey가 toKey보다 크거나, 현재 뷰의 범위를 벗어나는 경우
+     */
+    public MyTreeMap<K, V> subMap(K fromKey, boolean fromInclusive, K toKey, boolean toInclusive) {
+        checkBound(fromKey, fromInclusive);
+        checkBound(toKey, toInclusive);
+        if (comparator.compare(fromKey, toKey) > 0) {
+            throw new IllegalArgumentException("fromKey > toKey");
+        }
+        return new MyTreeMap<>(tree, false, fromKey, fromInclusive, false, toKey, toInclusive);
+    }
+
+    /**
+     * toKey 미만 범위의 뷰를 반환합니다.
+     */
+    public MyTreeMap<K, V> headMap(K toKey) {
+        return headMap(toKey, false);
+    }
+
+    /**
+     * toKey 이하(inclusive가 false면 미만) 범위의 뷰를 반환합니다.
+     */
+    public MyTreeMap<K, V> headMap(K toKey, boolean inclusive) {
+        checkBound(toKey, inclusive);
+        return new MyTreeMap<>(tree, fromStart, lo, loInclusive, false, toKey, inclusive);
+    }
+
+    /**
+     * fromKey 이상 범위의 뷰를 반환합니다.
+     */
+    public MyTreeMap<K, V> tailMap(K fromKey) {
+        return tailMap(fromKey, true);
+    }
+
+    /**
+     * fromKey 이상(inclusive가 false면 초과) 범위의 뷰를 반환합니다.
+     */
+    public MyTreeMap<K, V> tailMap(K fromKey, boolean inclusive) {
+        checkBound(fromKey, inclusive);
+        return new MyTreeMap<>(tree, false, fromKey, inclusive, toEnd, hi, hiInclusive);
+    }
+
+    // --- 내부 헬퍼 메소드 ---
+
+    private boolean isFullRange() {
+        return fromStart && toEnd;
+    }
+
+    // 트리의 범위 연산에 넘길 경계 (제한이 없으면 null)
+    private K lowBound() {
+        return fromStart ? null : lo;
+    }
+
+    private K highBound() {
+        return toEnd ? null : hi;
+    }
+
+    /**
+     * 범위의 하한보다 아래에 있는 (트리 전체 기준) 키의 개수입니다.
+     */
+    private int countBelowLow() {
+        return fromStart ? 0 : tree.countBelow(lo, !loInclusive);
+    }
+
+    /**
+     * 범위의 상한 이하에 있는 (트리 전체 기준) 키의 개수입니다.
+     */
+    private int countUpToHigh() {
+        return toEnd ? tree.size() : tree.countBelow(hi, hiInclusive);
+    }
+
+    private boolean tooLow(K key) {
+        if (fromStart) {
+            return false;
+        }
+        int cmp = comparator.compare(key, lo);
+        return cmp < 0 || (cmp == 0 && !loInclusive);
+    }
+
+    private boolean tooHigh(K key) {
+        if (toEnd) {
+            return false;
+        }
+        int cmp = comparator.compare(key, hi);
+        return cmp > 0 || (cmp == 0 && !hiInclusive);
+    }
+
+    private boolean inRange(K key) {
+        return !tooLow(key) && !tooHigh(key);
+    }
+
+    /**
+     * 새 뷰의 경계가 현재 뷰의 범위 안에 있는지 확인합니다.
+     * 경계를 포함하지 않는(exclusive) 경우에는 현재 범위의 끝과 같아도 허용합니다.
+     */
+    private void checkBound(K key, boolean inclusive) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        if (!fromStart) {
+            int cmp = comparator.compare(key, lo);
+            if (cmp < 0 || (cmp == 0 && !loInclusive && inclusive)) {
+                throw new IllegalArgumentException("Key out of range: " + key);
+            }
+        }
+        if (!toEnd) {
+            int cmp = comparator.compare(key, hi);
+            if (cmp > 0 || (cmp == 0 && !hiInclusive && inclusive)) {
+                throw new IllegalArgumentException("Key out of range: " + key);
+            }
+        }
+    }
+
+    /**
+     * 범위 안에서 가장 작은 엔트리를 찾습니다.
+     */
+    private Map.Entry<K, V> lowestEntry() {
+        Map.Entry<K, V> entry;
+        if (fromStart) {
+            entry = tree.firstEntry();
+        } else {
+            entry = loInclusive ? tree.ceilingEntry(lo) : tree.higherEntry(lo);
+        }
+        return entry == null || tooHigh(entry.getKey()) ? null : entry;
+    }
+
+    /**
+     * 범위 안에서 가장 큰 엔트리를 찾습니다.
+     */
+    private Map.Entry<K, V> highestEntry() {
+        Map.Entry<K, V> entry;
+        if (toEnd) {
+            entry = tree.lastEntry();
+        } else {
+            entry = hiInclusive ? tree.floorEntry(hi) : tree.lowerEntry(hi);
+        }
+        return entry == null || tooLow(entry.getKey()) ? null : entry;
+    }
+
+    private Map.Entry<K, V> floorEntry(K key, boolean inclusive) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        // 기준 키가 상한보다 크면 범위 안의 가장 큰 엔트리가 답
+        if (tooHigh(key)) {
+            return highestEntry();
+        }
+        Map.Entry<K, V> entry = inclusive ? tree.floorEntry(key) : tree.lowerEntry(key);
+        return entry == null || tooLow(entry.getKey()) ? null : entry;
+    }
+
+    private Map.Entry<K, V> ceilingEntry(K key, boolean inclusive) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        // 기준 키가 하한보다 작으면 범위 안의 가장 작은 엔트리가 답
+        if (tooLow(key)) {
+            return lowestEntry();
+        }
+        Map.Entry<K, V> entry = inclusive ? tree.ceilingEntry(key) : tree.higherEntry(key);
+        return entry == null || tooHigh(entry.getKey()) ? null : entry;
+    }
+
+    private K keyOrThrow(Map.Entry<K, V> entry) {
+        if (entry == null) {
+            throw new NoSuchElementException("Map is empty");
+        }
+        return entry.getKey();
+    }
+
+    private K keyOrNull(Map.Entry<K, V> entry) {
+        return entry == null ? null : entry.getKey();
     }
 }
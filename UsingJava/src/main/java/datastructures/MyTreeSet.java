@@ -1,13 +1,21 @@
 package datastructures;
 
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+
 /**
  * 트리 셋(Tree Set) 구현체입니다.
  * 중복된 요소를 허용하지 않으며, 요소들이 정렬된 상태로 유지됩니다.
  * 내부적으로 `MyTreeMap`을 사용하여 구현되었습니다.
  *
- * @param <T> 저장할 요소의 타입 (Comparable 구현 필요)
+ * <p>floor/ceiling 같은 탐색 연산과 subSet/headSet/tailSet 범위 뷰를 제공합니다.
+ * 뷰는 `MyTreeMap`의 범위 뷰를 감싸므로 원본과 데이터를 공유합니다.
+ * Iterable을 구현하므로 for-each 문으로 리스트 복사 없이 정렬된 순서대로 순회할 수 있습니다.
+ *
+ * @param <T> 저장할 요소의 타입 (Comparator를 주지 않으면 Comparable 구현 필요)
  */
-public class MyTreeSet<T extends Comparable<T>> {
+public class MyTreeSet<T> implements Iterable<T> {
 
     // 내부적으로 사용할 TreeMap.
     // Set의 요소는 Map의 Key로 저장됩니다.
@@ -16,14 +24,70 @@ public class MyTreeSet<T extends Comparable<T>> {
     private static final Object PRESENT = new Object();
 
     public MyTreeSet() {
-        this.map = new MyTreeMap<>();
+        this(new MyTreeMap<>());
+    }
+
+    /**
+     * 내부 저장소를 선택하여 생성합니다.
+     *
+     * @param bPlusTree true면 B+ 트리, false면 레드-블랙 트리를 사용합니다.
+     */
+    public MyTreeSet(boolean bPlusTree) {
+        this(new MyTreeMap<>(bPlusTree));
+    }
+
+    /**
+     * 요소의 순서를 정할 Comparator를 지정하여 생성합니다.
+     *
+     * @param comparator 요소 비교에 사용할 Comparator (null이면 자연 순서)
+     */
+    public MyTreeSet(Comparator<? super T> comparator) {
+        this(new MyTreeMap<>(comparator));
+    }
+
+    /**
+     * 내부 저장소와 Comparator를 지정하여 생성합니다.
+     *
+     * @param bPlusTree  true면 B+ 트리, false면 레드-블랙 트리를 사용합니다.
+     * @param comparator 요소 비교에 사용할 Comparator (null이면 자연 순서)
+     */
+    public MyTreeSet(boolean bPlusTree, Comparator<? super T> comparator) {
+        this(new MyTreeMap<>(bPlusTree, comparator));
+    }
+
+    /**
+     * 이미 정렬된 요소로 셋을 O(n)에 생성합니다.
+     *
+     * @param sortedElements 오름차순으로 정렬된 요소 (중복 불가)
+     * @throws IllegalArgumentException 요소가 엄격한 오름차순이 아닌 경우
+     */
+    public MyTreeSet(MyArrayList<T> sortedElements) {
+        this(sortedElements, null);
+    }
+
+    /**
+     * 주어진 Comparator 기준으로 이미 정렬된 요소로 셋을 O(n)에 생성합니다.
+     *
+     * @param sortedElements comparator 기준 오름차순으로 정렬된 요소 (중복 불가)
+     * @param comparator     요소 비교에 사용할 Comparator (null이면 자연 순서)
+     */
+    public MyTreeSet(MyArrayList<T> sortedElements, Comparator<? super T> comparator) {
+        this(new MyTreeMap<>(sortedElements, presentValues(sortedElements.size()), comparator));
+    }
+
+    /**
+     * 주어진 맵(또는 맵의 범위 뷰)을 감싸는 셋을 생성합니다.
+     */
+    private MyTreeSet(MyTreeMap<T, Object> map) {
+        this.map = map;
     }
 
     /**
      * 요소를 추가합니다.
      * 요소는 자동으로 정렬된 위치에 저장됩니다.
-     * 
+     *
      * @param element 추가할 요소
+     * @throws IllegalArgumentException 범위 뷰에서 범위 밖의 요소를 추가하려는 경우
      */
     public void add(T element) {
         map.put(element, PRESENT);
@@ -31,7 +95,7 @@ public class MyTreeSet<T extends Comparable<T>> {
 
     /**
      * 요소가 포함되어 있는지 확인합니다.
-     * 
+     *
      * @param element 찾을 요소
      * @return 포함되어 있으면 true, 아니면 false
      */
@@ -41,7 +105,7 @@ public class MyTreeSet<T extends Comparable<T>> {
 
     /**
      * 요소를 제거합니다.
-     * 
+     *
      * @param element 제거할 요소
      */
     public void remove(T element) {
@@ -50,7 +114,7 @@ public class MyTreeSet<T extends Comparable<T>> {
 
     /**
      * 저장된 모든 요소를 정렬된 순서로 반환합니다.
-     * 
+     *
      * @return 정렬된 요소 리스트
      */
     public MyArrayList<T> toList() {
@@ -58,9 +122,29 @@ public class MyTreeSet<T extends Comparable<T>> {
         return map.keys();
     }
 
+    /**
+     * 요소를 오름차순으로 순회하는 반복자를 반환합니다.
+     * 순회 중 반복자 밖에서 셋을 변경하면 ConcurrentModificationException이 발생합니다.
+     *
+     * @return 오름차순 반복자
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return map.keyIterator();
+    }
+
+    /**
+     * 요소를 내림차순으로 순회하는 반복자를 반환합니다.
+     *
+     * @return 내림차순 반복자
+     */
+    public Iterator<T> descendingIterator() {
+        return map.descendingKeyIterator();
+    }
+
     /**
      * 저장된 요소의 개수를 반환합니다.
-     * 
+     *
      * @return 요소 개수
      */
     public int size() {
@@ -69,10 +153,253 @@ public class MyTreeSet<T extends Comparable<T>> {
 
     /**
      * 셋이 비어있는지 확인합니다.
-     * 
+     *
      * @return 비어있으면 true, 아니면 false
      */
     public boolean isEmpty() {
         return map.isEmpty();
     }
+
+    // --- 집합 연산 ---
+
+    /**
+     * 두 셋의 합집합을 새 셋으로 반환합니다.
+     * 두 셋을 정렬된 순서로 동시에 순회하며 병합한 뒤 정렬된 결과로 트리를 한 번에 만들므로 O(n + m)입니다.
+     *
+     * @param other 다른 셋
+     * @return 합집합
+     */
+    public MyTreeSet<T> union(MyTreeSet<T> other) {
+        return merge(other, true, true, true);
+    }
+
+    /**
+     * 두 셋의 교집합을 새 셋으로 반환합니다. O(n + m)
+     *
+     * @param other 다른 셋
+     * @return 교집합
+     */
+    public MyTreeSet<T> intersection(MyTreeSet<T> other) {
+        return merge(other, false, true, false);
+    }
+
+    /**
+     * 이 셋에서 other의 요소를 뺀 차집합을 새 셋으로 반환합니다. O(n + m)
+     *
+     * @param other 뺄 셋
+     * @return 차집합
+     */
+    public MyTreeSet<T> difference(MyTreeSet<T> other) {
+        return merge(other, true, false, false);
+    }
+
+    // --- 순서 통계(Order Statistic) 연산 ---
+
+    /**
+     * k번째(0부터 시작)로 작은 요소를 O(log n)에 반환합니다.
+     *
+     * @param k 순위 (0 ≤ k < size)
+     * @return k번째 요소
+     * @throws IndexOutOfBoundsException k가 범위를 벗어난 경우
+     */
+    public T select(int k) {
+        return map.select(k);
+    }
+
+    /**
+     * 주어진 요소보다 작은 요소의 개수(순위)를 O(log n)에 반환합니다.
+     *
+     * @param element 기준 요소
+     * @return element 미만인 요소의 개수
+     */
+    public int rank(T element) {
+        return map.rank(element);
+    }
+
+    /**
+     * lo 이상 hi 이하인 요소의 개수를 O(log n)에 반환합니다.
+     *
+     * @param lo 하한 (포함)
+     * @param hi 상한 (포함)
+     * @return 범위에 속한 요소의 개수
+     */
+    public int countInRange(T lo, T hi) {
+        return map.countInRange(lo, hi);
+    }
+
+    // --- 탐색(Navigation) 연산 ---
+
+    /**
+     * 가장 작은 요소를 반환합니다.
+     *
+     * @return 가장 작은 요소
+     * @throws java.util.NoSuchElementException 셋이 비어있는 경우
+     */
+    public T first() {
+        return map.firstKey();
+    }
+
+    /**
+     * 가장 큰 요소를 반환합니다.
+     *
+     * @return 가장 큰 요소
+     * @throws java.util.NoSuchElementException 셋이 비어있는 경우
+     */
+    public T last() {
+        return map.lastKey();
+    }
+
+    /**
+     * 주어진 요소 이하인 가장 큰 요소를 반환합니다. 없으면 null입니다.
+     */
+    public T floor(T element) {
+        return map.floorKey(element);
+    }
+
+    /**
+     * 주어진 요소 이상인 가장 작은 요소를 반환합니다. 없으면 null입니다.
+     */
+    public T ceiling(T element) {
+        return map.ceilingKey(element);
+    }
+
+    /**
+     * 주어진 요소보다 큰 요소 중 가장 작은 요소를 반환합니다. 없으면 null입니다.
+     */
+    public T higher(T element) {
+        return map.higherKey(element);
+    }
+
+    /**
+     * 주어진 요소보다 작은 요소 중 가장 큰 요소를 반환합니다. 없으면 null입니다.
+     */
+    public T lower(T element) {
+        return map.lowerKey(element);
+    }
+
+    /**
+     * 가장 작은 요소를 제거하고 반환합니다.
+     *
+     * @return 제거된 요소, 비어있으면 null
+     */
+    public T pollFirst() {
+        Map.Entry<T, Object> entry = map.pollFirst();
+        return entry == null ? null : entry.getKey();
+    }
+
+    /**
+     * 가장 큰 요소를 제거하고 반환합니다.
+     *
+     * @return 제거된 요소, 비어있으면 null
+     */
+    public T pollLast() {
+        Map.Entry<T, Object> entry = map.pollLast();
+        return entry == null ? null : entry.getKey();
+    }
+
+    // --- 범위 뷰(View) ---
+
+    /**
+     * fromElement 이상, toElement 미만 범위의 뷰를 반환합니다.
+     */
+    public MyTreeSet<T> subSet(T fromElement, T toElement) {
+        return new MyTreeSet<>(map.subMap(fromElement, toElement));
+    }
+
+    /**
+     * 지정한 범위의 뷰를 반환합니다.
+     *
+     * @param fromElement   하한
+     * @param fromInclusive 하한 포함 여부
+     * @param toElement     상한
+     * @param toInclusive   상한 포함 여부
+     * @return 범위 뷰
+     */
+    public MyTreeSet<T> subSet(T fromElement, boolean fromInclusive, T toElement, boolean toInclusive) {
+        return new MyTreeSet<>(map.subMap(fromElement, fromInclusive, toElement, toInclusive));
+    }
+
+    /**
+     * toElement 미만 범위의 뷰를 반환합니다.
+     */
+    public MyTreeSet<T> headSet(T toElement) {
+        return new MyTreeSet<>(map.headMap(toElement));
+    }
+
+    /**
+     * toElement 이하(inclusive가 false면 미만) 범위의 뷰를 반환합니다.
+     */
+    public MyTreeSet<T> headSet(T toElement, boolean inclusive) {
+        return new MyTreeSet<>(map.headMap(toElement, inclusive));
+    }
+
+    /**
+     * fromElement 이상 범위의 뷰를 반환합니다.
+     */
+    public MyTreeSet<T> tailSet(T fromElement) {
+        return new MyTreeSet<>(map.tailMap(fromElement));
+    }
+
+    /**
+     * fromElement 이상(inclusive가 false면 초과) 범위의 뷰를 반환합니다.
+     */
+    public MyTreeSet<T> tailSet(T fromElement, boolean inclusive) {
+        return new MyTreeSet<>(map.tailMap(fromElement, inclusive));
+    }
+
+    // --- 내부 헬퍼 메소드 ---
+
+    /**
+     * 두 셋을 정렬 병합(Merge)하면서 어느 쪽에만 있는지/양쪽에 있는지에 따라 요소를 고릅니다.
+     * 두 셋은 같은 순서(Comparator)를 가져야 하며, 결과는 이 셋의 Comparator를 사용합니다.
+     *
+     * @param keepLeft  이 셋에만 있는 요소를 포함할지
+     * @param keepBoth  양쪽에 모두 있는 요소를 포함할지
+     * @param keepRight other에만 있는 요소를 포함할지
+     */
+    private MyTreeSet<T> merge(MyTreeSet<T> other, boolean keepLeft, boolean keepBoth, boolean keepRight) {
+        Comparator<? super T> comparator = map.comparator();
+        MyArrayList<T> result = new MyArrayList<>();
+        Iterator<T> left = iterator();
+        Iterator<T> right = other.iterator();
+        T a = nextOrNull(left);
+        T b = nextOrNull(right);
+        while (a != null || b != null) {
+            // 한쪽이 끝났고 남은 쪽을 포함하지 않는다면 더 볼 필요가 없음
+            if ((a == null && !keepRight) || (b == null && !keepLeft)) {
+                break;
+            }
+            int cmp = a == null ? 1 : b == null ? -1 : comparator.compare(a, b);
+            if (cmp < 0) {
+                if (keepLeft) {
+                    result.add(a);
+                }
+                a = nextOrNull(left);
+            } else if (cmp > 0) {
+                if (keepRight) {
+                    result.add(b);
+                }
+                b = nextOrNull(right);
+            } else {
+                if (keepBoth) {
+                    result.add(a);
+                }
+                a = nextOrNull(left);
+                b = nextOrNull(right);
+            }
+        }
+        return new MyTreeSet<>(result, comparator);
+    }
+
+    private static <T> T nextOrNull(Iterator<T> it) {
+        return it.hasNext() ? it.next() : null;
+    }
+
+    private static MyArrayList<Object> presentValues(int count) {
+        MyArrayList<Object> values = new MyArrayList<>();
+        for (int i = 0; i < count; i++) {
+            values.add(PRESENT);
+        }
+        return values;
+    }
 }
@@ -0,0 +1,64 @@
+package datastructures;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * MyTreeMap이 사용하는 정렬 저장소(백엔드)의 공통 연산입니다.
+ * MyRedBlackTree와 MyBPlusTree가 구현하며, MyTreeMap은 생성 시 둘 중 하나를 골라 사용합니다.
+ *
+ * <p>범위 연산의 lo/hi가 null이면 해당 방향으로 제한이 없다는 뜻입니다.
+ *
+ * @param <K> Key의 타입
+ * @param <V> Value의 타입
+ */
+interface SortedStore<K, V> {
+
+    void put(K key, V value);
+
+    V get(K key);
+
+    void remove(K key);
+
+    int size();
+
+    boolean isEmpty();
+
+    /**
+     * 키 비교에 사용하는 Comparator를 반환합니다. 자연 순서일 때도 null이 아닙니다.
+     */
+    Comparator<? super K> comparator();
+
+    Map.Entry<K, V> firstEntry();
+
+    Map.Entry<K, V> lastEntry();
+
+    Map.Entry<K, V> floorEntry(K key);
+
+    Map.Entry<K, V> lowerEntry(K key);
+
+    Map.Entry<K, V> ceilingEntry(K key);
+
+    Map.Entry<K, V> higherEntry(K key);
+
+    /**
+     * k번째(0부터 시작)로 작은 키를 반환합니다.
+     */
+    K select(int k);
+
+    /**
+     * key 미만(inclusive가 true면 이하)인 키의 개수를 반환합니다.
+     */
+    int countBelow(K key, boolean inclusive);
+
+    MyArrayList<K> keys(K lo, boolean loInclusive, K hi, boolean hiInclusive);
+
+    MyArrayList<V> values(K lo, boolean loInclusive, K hi, boolean hiInclusive);
+
+    Iterator<K> keyIterator(K lo, boolean loInclusive, K hi, boolean hiInclusive, boolean descending);
+
+    Iterator<V> valueIterator(K lo, boolean loInclusive, K hi, boolean hiInclusive, boolean descending);
+
+    Iterator<Map.Entry<K, V>> entryIterator(K lo, boolean loInclusive, K hi, boolean hiInclusive, boolean descending);
+}
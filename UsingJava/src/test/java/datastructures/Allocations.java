@@ -0,0 +1,40 @@
+package datastructures;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+/**
+ * 할당 없는 경로(hot path)를 검사하는 테스트 도우미입니다.
+ * 스레드별 할당 바이트 수는 HotSpot 확장(com.sun.management.ThreadMXBean)으로만 읽을 수 있으므로,
+ * 지원하지 않는 JVM에서는 실패 대신 테스트를 건너뜁니다.
+ */
+final class Allocations {
+
+    /**
+     * 이 정도는 JIT 컴파일이나 TLAB 교체 등 측정 잡음으로 봅니다.
+     * 반복마다 객체를 하나라도 할당하면 10만 번 반복에서 수 MB가 되므로 충분히 구분됩니다.
+     */
+    private static final long NOISE_BYTES = 10_000;
+
+    private Allocations() {
+    }
+
+    /**
+     * hotPath를 현재 스레드에서 실행하고, 그동안 할당한 바이트가 측정 잡음 이하인지 확인합니다.
+     *
+     * @param hotPath 검사할 코드 (미리 데워둔 상태에서 충분히 여러 번 반복해야 함)
+     */
+    static void assertNoAllocation(Runnable hotPath) {
+        com.sun.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean()
+                instanceof com.sun.management.ThreadMXBean bean ? bean : null;
+        assumeTrue(threads != null && threads.isThreadAllocatedMemorySupported()
+                && threads.isThreadAllocatedMemoryEnabled(), "Thread allocation counter is not supported");
+
+        long before = threads.getCurrentThreadAllocatedBytes();
+        hotPath.run();
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+        assertTrue(allocated < NOISE_BYTES, () -> "allocated " + allocated + " bytes");
+    }
+}
@@ -0,0 +1,155 @@
+package datastructures;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MyBPlusTreeTest {
+
+    @Test
+    void testPutAndGet() {
+        MyBPlusTree<Integer, String> tree = new MyBPlusTree<>();
+        tree.put(10, "Ten");
+        tree.put(5, "Five");
+        tree.put(15, "Fifteen");
+        tree.put(10, "TEN"); // Update
+
+        assertEquals("TEN", tree.get(10));
+        assertEquals("Five", tree.get(5));
+        assertNull(tree.get(99));
+        assertEquals(3, tree.size());
+        assertThrows(IllegalArgumentException.class, () -> tree.put(null, "Null"));
+    }
+
+    @Test
+    void testSplitAndMerge() {
+        // 작은 차수로 분할/병합이 여러 단계에서 일어나도록 함
+        MyBPlusTree<Integer, Integer> tree = new MyBPlusTree<>(4);
+        for (int i = 0; i < 1000; i++) {
+            tree.put(i, i);
+        }
+        tree.checkInvariants();
+        assertTrue(tree.height() > 3);
+
+        for (int i = 0; i < 1000; i++) {
+            if (i % 3 != 0) {
+                tree.remove(i);
+            }
+        }
+        tree.checkInvariants();
+        assertEquals(334, tree.size());
+
+        for (int i = 0; i < 1000; i += 3) {
+            tree.remove(i);
+        }
+        tree.checkInvariants();
+        assertTrue(tree.isEmpty());
+        assertEquals(1, tree.height());
+        assertThrows(IllegalArgumentException.class, () -> new MyBPlusTree<>(3));
+    }
+
+    @Test
+    void testNavigationAndOrderStatistics() {
+        MyBPlusTree<Integer, Integer> tree = new MyBPlusTree<>(4);
+        for (int i = 0; i < 100; i++) {
+            tree.put(i * 2, i); // 0, 2, ..., 198
+        }
+
+        assertEquals(0, tree.firstEntry().getKey());
+        assertEquals(198, tree.lastEntry().getKey());
+        assertEquals(10, tree.floorEntry(11).getKey());
+        assertEquals(8, tree.lowerEntry(10).getKey());
+        assertEquals(12, tree.ceilingEntry(11).getKey());
+        assertEquals(12, tree.higherEntry(10).getKey());
+        assertNull(tree.lowerEntry(0));
+        assertNull(tree.higherEntry(198));
+
+        assertEquals(100, tree.select(50));
+        assertEquals(50, tree.rank(100));
+        assertEquals(51, tree.rank(101));
+        assertEquals(6, tree.countInRange(10, 20));
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.select(100));
+    }
+
+    @Test
+    void testIterators() {
+        MyBPlusTree<Integer, Integer> tree = new MyBPlusTree<>(4);
+        for (int i = 0; i < 100; i++) {
+            tree.put(i, i * 10);
+        }
+
+        Iterator<Integer> range = tree.keyIterator(10, true, 20, false, false);
+        for (int i = 10; i < 20; i++) {
+            assertEquals(i, range.next());
+        }
+        assertFalse(range.hasNext());
+
+        Iterator<Map.Entry<Integer, Integer>> descending = tree.entryIterator(null, true, 50, true, true);
+        Map.Entry<Integer, Integer> entry = descending.next();
+        assertEquals(50, entry.getKey());
+        assertEquals(500, entry.getValue());
+        assertEquals(49, descending.next().getKey());
+
+        // 반복자로 삭제해도 리프 병합 후 다음 위치를 이어서 순회
+        Iterator<Integer> it = tree.keyIterator();
+        int visited = 0;
+        while (it.hasNext()) {
+            if (it.next() % 2 == 0) {
+                it.remove();
+            }
+            visited++;
+        }
+        assertEquals(100, visited);
+        assertEquals(50, tree.size());
+        tree.checkInvariants();
+
+        Iterator<Integer> failFast = tree.keyIterator();
+        tree.put(1000, 0);
+        assertThrows(ConcurrentModificationException.class, failFast::next);
+    }
+
+    @Test
+    void testRandomizedAgainstTreeMap() {
+        // 무작위 연산 결과를 java.util.TreeMap과 비교
+        MyBPlusTree<Integer, Integer> tree = new MyBPlusTree<>(8);
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        Random random = new Random(11);
+
+        for (int op = 0; op < 300_000; op++) {
+            int key = random.nextInt(20_000);
+            int dice = random.nextInt(10);
+            if (dice < 5) {
+                tree.put(key, op);
+                expected.put(key, op);
+            } else if (dice < 8) {
+                tree.remove(key);
+                expected.remove(key);
+            } else {
+                assertEquals(expected.get(key), tree.get(key));
+                Map.Entry<Integer, Integer> floor = expected.floorEntry(key);
+                assertEquals(floor == null ? null : floor.getKey(),
+                        tree.floorEntry(key) == null ? null : tree.floorEntry(key).getKey());
+                assertEquals(expected.headMap(key).size(), tree.rank(key));
+            }
+            if (op % 50_000 == 0) {
+                tree.checkInvariants();
+            }
+        }
+
+        tree.checkInvariants();
+        assertEquals(expected.size(), tree.size());
+        MyArrayList<Integer> keys = tree.keys();
+        int index = 0;
+        for (Integer key : expected.keySet()) {
+            assertEquals(key, keys.get(index));
+            assertEquals(key, tree.select(index));
+            index++;
+        }
+    }
+}
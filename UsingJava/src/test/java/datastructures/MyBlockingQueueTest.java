@@ -0,0 +1,287 @@
+package datastructures;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import datastructures.MyBlockingQueue.WaitStrategy;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MyBlockingQueueTest {
+
+    @Test
+    void testTakeWaitsForOffer() throws InterruptedException {
+        for (WaitStrategy strategy : WaitStrategy.values()) {
+            MyBlockingQueue<String> queue = new MyBlockingQueue<>(4, strategy);
+            Thread producer = new Thread(() -> {
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                queue.offer("A");
+            });
+            producer.start();
+            assertEquals("A", queue.take(), strategy.name());
+            producer.join();
+        }
+    }
+
+    @Test
+    void testPutWaitsForPoll() throws InterruptedException {
+        for (WaitStrategy strategy : WaitStrategy.values()) {
+            MyBlockingQueue<Integer> queue = new MyBlockingQueue<>(2, strategy);
+            queue.put(1);
+            queue.put(2);
+            assertFalse(queue.offer(3)); // 가득 참
+
+            Thread consumer = new Thread(() -> {
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                queue.poll();
+            });
+            consumer.start();
+            queue.put(3); // 빈 칸이 생길 때까지 기다림
+            consumer.join();
+            assertEquals(2, queue.poll());
+            assertEquals(3, queue.poll());
+        }
+    }
+
+    @Test
+    void testTimeouts() throws InterruptedException {
+        for (WaitStrategy strategy : WaitStrategy.values()) {
+            MyBlockingQueue<Integer> queue = new MyBlockingQueue<>(2, strategy);
+            long start = System.nanoTime();
+            assertNull(queue.poll(30, TimeUnit.MILLISECONDS));
+            assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(30));
+
+            queue.offer(1);
+            queue.offer(2);
+            assertFalse(queue.offer(3, 10, TimeUnit.MILLISECONDS));
+            assertEquals(1, queue.poll(0, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    @Test
+    void testTakeIsInterruptible() throws InterruptedException {
+        MyBlockingQueue<Integer> queue = new MyBlockingQueue<>(2, WaitStrategy.PARK);
+        AtomicReference<Throwable> thrown = new AtomicReference<>();
+        Thread consumer = new Thread(() -> {
+            try {
+                queue.take();
+            } catch (Throwable e) {
+                thrown.set(e);
+            }
+        });
+        consumer.start();
+        Thread.sleep(20);
+        consumer.interrupt();
+        consumer.join();
+        assertInstanceOf(InterruptedException.class, thrown.get());
+    }
+
+    @Test
+    void testPollAsync() {
+        MyBlockingQueue<String> queue = new MyBlockingQueue<>(4, WaitStrategy.PARK);
+        queue.offer("A");
+        assertEquals("A", queue.pollAsync().join()); // 이미 있으면 바로 완료
+
+        CompletableFuture<String> first = queue.pollAsync();
+        CompletableFuture<String> cancelled = queue.pollAsync();
+        CompletableFuture<String> third = queue.pollAsync();
+        List<String> received = new ArrayList<>();
+        queue.pollAsync(received::add);
+        assertFalse(first.isDone());
+
+        cancelled.cancel(false);
+        queue.offer("B");
+        queue.offer("C");
+        queue.offer("D");
+
+        // 요청한 순서대로 완료되고, 취소된 Future는 건너뜀
+        assertEquals("B", first.join());
+        assertEquals("C", third.join());
+        assertEquals(List.of("D"), received);
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void testCancelRacingOfferLosesNothing() throws InterruptedException {
+        // 다른 스레드가 pollAsync를 취소하는 동안 offer해도, 받아들여진 요소는 완료된 Future나 큐 중 한 곳에 있어야 함
+        // 큐를 작게 잡아 취소가 늘어날수록 큐가 가득 차게 함
+        int rounds = 200;
+        int perRound = 500;
+        for (int round = 0; round < rounds; round++) {
+            MyBlockingQueue<Integer> queue = new MyBlockingQueue<>(64, WaitStrategy.PARK);
+            List<CompletableFuture<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < perRound; i++) {
+                futures.add(queue.pollAsync());
+            }
+            Thread canceller = new Thread(() -> {
+                for (int i = perRound - 1; i >= 0; i--) {
+                    futures.get(i).cancel(false);
+                }
+            });
+            canceller.start();
+            int accepted = 0;
+            for (int i = 0; i < perRound; i++) {
+                if (queue.offer(i)) {
+                    accepted++;
+                }
+            }
+            canceller.join();
+
+            boolean[] seen = new boolean[perRound];
+            int found = 0;
+            for (CompletableFuture<Integer> future : futures) {
+                if (future.isDone() && !future.isCancelled()) {
+                    int value = future.join();
+                    assertFalse(seen[value]);
+                    seen[value] = true;
+                    found++;
+                }
+            }
+            for (Integer value = queue.poll(); value != null; value = queue.poll()) {
+                assertFalse(seen[value]);
+                seen[value] = true;
+                found++;
+            }
+            assertEquals(accepted, found, "round " + round);
+        }
+    }
+
+    @Test
+    void testCancelDuringDispatchKeepsElementAtFront() {
+        // 요소를 꺼낸 직후 Future가 취소되고 큐가 가득 차도, offer는 기다리지 않고 요소는 맨 앞에 남아야 함
+        MyMpmcQueue<Integer> inner = new MyMpmcQueue<>(4);
+        AtomicReference<Runnable> onPoll = new AtomicReference<>();
+        MyConcurrentQueue<Integer> hooked = new MyConcurrentQueue<>() {
+            @Override
+            public boolean offer(Integer element) {
+                return inner.offer(element);
+            }
+
+            @Override
+            public Integer poll() {
+                Integer element = inner.poll();
+                Runnable hook = onPoll.getAndSet(null);
+                if (hook != null) {
+                    hook.run();
+                }
+                return element;
+            }
+
+            @Override
+            public int offerBatch(MyArrayList<? extends Integer> elements) {
+                return inner.offerBatch(elements);
+            }
+
+            @Override
+            public int drainTo(Consumer<? super Integer> sink, int maxElements) {
+                return inner.drainTo(sink, maxElements);
+            }
+
+            @Override
+            public int size() {
+                return inner.size();
+            }
+
+            @Override
+            public boolean isEmpty() {
+                return inner.isEmpty();
+            }
+
+            @Override
+            public int capacity() {
+                return inner.capacity();
+            }
+        };
+        MyBlockingQueue<Integer> queue = new MyBlockingQueue<>(hooked, WaitStrategy.PARK);
+        CompletableFuture<Integer> future = queue.pollAsync();
+        assertFalse(future.isDone());
+
+        // 배달할 요소(1)를 꺼낸 순간 Future를 취소하고 빈 칸을 다른 생산자가 채움
+        onPoll.set(() -> {
+            future.cancel(false);
+            int value = 2;
+            while (inner.offer(value)) {
+                value++;
+            }
+        });
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> assertTrue(queue.offer(1)));
+
+        assertTrue(future.isCancelled());
+        assertEquals(5, queue.size());
+        for (int expected = 1; expected <= 5; expected++) {
+            assertEquals(expected, queue.poll()); // 돌아온 1이 가장 먼저
+        }
+        assertTrue(queue.isEmpty());
+
+        // 돌아온 요소는 다음 pollAsync에도 먼저 전달됨
+        CompletableFuture<Integer> cancelled = queue.pollAsync();
+        CompletableFuture<Integer> next = queue.pollAsync();
+        onPoll.set(() -> cancelled.cancel(false));
+        queue.offer(6);
+        assertTrue(cancelled.isCancelled());
+        assertEquals(6, next.join());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void testProducersAndConsumersWithEveryStrategy() throws InterruptedException {
+        // 작은 큐로 생산자와 소비자 모두 자주 기다리게 해도 모든 요소가 정확히 한 번씩 전달되어야 함
+        for (WaitStrategy strategy : WaitStrategy.values()) {
+            MyBlockingQueue<Integer> queue = new MyBlockingQueue<>(4, strategy);
+            int threads = 3;
+            int perThread = 1_000;
+            AtomicIntegerArray seen = new AtomicIntegerArray(threads * perThread);
+            CountDownLatch done = new CountDownLatch(threads * 2);
+            AtomicReference<Throwable> error = new AtomicReference<>();
+
+            for (int t = 0; t < threads; t++) {
+                int id = t;
+                new Thread(() -> {
+                    try {
+                        for (int i = 0; i < perThread; i++) {
+                            queue.put(id * perThread + i);
+                        }
+                    } catch (Throwable e) {
+                        error.set(e);
+                    } finally {
+                        done.countDown();
+                    }
+                }).start();
+                new Thread(() -> {
+                    try {
+                        for (int i = 0; i < perThread; i++) {
+                            assertEquals(0, seen.getAndIncrement(queue.take()));
+                        }
+                    } catch (Throwable e) {
+                        error.set(e);
+                    } finally {
+                        done.countDown();
+                    }
+                }).start();
+            }
+
+            assertTrue(done.await(60, TimeUnit.SECONDS), strategy.name());
+            assertNull(error.get());
+            for (int i = 0; i < threads * perThread; i++) {
+                assertEquals(1, seen.get(i));
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package datastructures;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+
+class MyConcurrentCacheTest {
+
+    @Test
+    void testPutGetAndInvalidate() {
+        MyConcurrentCache<String, Integer> cache = new MyConcurrentCache<>(10);
+        cache.put("A", 1);
+        cache.put("B", 2);
+        cache.put("A", 10); // 덮어쓰기
+
+        assertEquals(10, cache.getIfPresent("A"));
+        assertEquals(2, cache.getIfPresent("B"));
+        assertNull(cache.getIfPresent("C"));
+        assertEquals(2, cache.size());
+
+        cache.invalidate("A");
+        assertNull(cache.getIfPresent("A"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testSizeIsBounded() {
+        // 최대 크기를 넘게 넣어도 크기가 제한되어야 함
+        MyConcurrentCache<Integer, Integer> cache = new MyConcurrentCache<>(100, 1);
+        for (int i = 0; i < 10_000; i++) {
+            cache.put(i, i);
+        }
+        assertEquals(100, cache.size());
+        assertEquals(9_900, cache.stats().evictionCount());
+    }
+
+    @Test
+    void testSizeIsBoundedWithDefaultConcurrencyLevel() {
+        // 세그먼트 수로 나누어떨어지지 않는 크기에서도 세그먼트 몫의 합이 최대 크기를 넘으면 안 됨
+        for (int maximumSize : new int[] {1, 3, 17, 1_000}) {
+            MyConcurrentCache<Integer, Integer> cache = new MyConcurrentCache<>(maximumSize);
+            for (int i = 0; i < 100_000; i++) {
+                cache.put(i, i);
+            }
+            int size = cache.size();
+            assertTrue(size <= maximumSize, () -> "size " + size + " > " + maximumSize);
+        }
+    }
+
+    @Test
+    void testStats() {
+        // 조회 성공/실패, 불러오기 횟수가 통계에 기록되어야 함
+        MyConcurrentCache<Integer, String> cache = new MyConcurrentCache<>(10);
+        assertEquals("V1", cache.get(1, k -> "V" + k)); // miss + load
+        assertEquals("V1", cache.get(1, k -> "X")); // hit
+        assertNull(cache.getIfPresent(2)); // miss
+
+        MyConcurrentCache.Stats stats = cache.stats();
+        assertEquals(1, stats.hitCount());
+        assertEquals(2, stats.missCount());
+        assertEquals(1, stats.loadCount());
+        assertEquals(1.0 / 3, stats.hitRate(), 1e-9);
+        assertTrue(stats.averageLoadPenaltyNanos() >= 0);
+    }
+
+    @Test
+    void testFrequentKeysSurviveScan() {
+        // 자주 쓰이는 키는 캐시 크기의 10배에 달하는 1회성 키 스캔에도 밀려나지 않아야 함 (순수 LRU라면 모두 밀려남)
+        MyConcurrentCache<Integer, Integer> cache = new MyConcurrentCache<>(100, 1);
+        for (int key = 0; key < 50; key++) {
+            cache.put(key, key);
+        }
+        for (int round = 0; round < 10; round++) {
+            for (int key = 0; key < 50; key++) {
+                assertEquals(key, cache.getIfPresent(key));
+            }
+        }
+        cache.cleanUp();
+
+        for (int key = 1_000; key < 2_000; key++) {
+            cache.put(key, key);
+        }
+
+        int survivors = 0;
+        for (int key = 0; key < 50; key++) {
+            if (cache.getIfPresent(key) != null) {
+                survivors++;
+            }
+        }
+        assertTrue(survivors >= 45, "Hot keys evicted by scan: survivors=" + survivors);
+    }
+
+    @Test
+    void testConcurrentAccess() throws InterruptedException {
+        // 여러 스레드가 동시에 읽고 써도 값이 섞이지 않고 크기 제한이 지켜져야 함
+        MyConcurrentCache<Integer, String> cache = new MyConcurrentCache<>(128, 8);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> workers = new ArrayList<>();
+
+        for (int t = 0; t < 8; t++) {
+            int seed = t;
+            Thread worker = new Thread(() -> {
+                Random random = new Random(seed);
+                try {
+                    for (int i = 0; i < 50_000; i++) {
+                        int key = (int) Math.abs(random.nextGaussian() * 200);
+                        String value = cache.get(key, k -> "V" + k);
+                        if (!value.equals("V" + key)) {
+                            throw new AssertionError("Wrong value for " + key + ": " + value);
+                        }
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertNull(failure.get());
+        assertTrue(cache.size() <= 128);
+        assertTrue(cache.stats().hitRate() > 0.3);
+    }
+}
@@ -0,0 +1,154 @@
+package datastructures;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class MyConcurrentHashMapTest {
+
+    @Test
+    void testBasicOperations() {
+        MyConcurrentHashMap<String, Integer> map = new MyConcurrentHashMap<>();
+        assertNull(map.put("A", 1));
+        assertEquals(1, map.put("A", 2)); // 이전 값 반환
+        assertEquals(2, map.putIfAbsent("A", 3)); // 이미 있으면 저장하지 않음
+        assertNull(map.putIfAbsent("B", 4));
+
+        assertEquals(2, map.get("A"));
+        assertEquals(4, map.get("B"));
+        assertEquals(2, map.size());
+
+        assertEquals(2, map.remove("A"));
+        assertFalse(map.containsKey("A"));
+        assertEquals(1, map.size());
+        assertThrows(IllegalArgumentException.class, () -> map.put(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> map.put("C", null));
+    }
+
+    @Test
+    void testMergeRemovesOnNull() {
+        MyConcurrentHashMap<String, Integer> map = new MyConcurrentHashMap<>();
+        assertEquals(5, map.merge("K", 5, Integer::sum));
+        assertEquals(8, map.merge("K", 3, Integer::sum));
+        assertNull(map.merge("K", 0, (a, b) -> null)); // null을 반환하면 삭제
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void testRecursiveUpdateIsRejected() {
+        // 함수 안에서 같은 Key를 저장하면 노드가 중복되지 않고 예외가 나야 함
+        MyConcurrentHashMap<String, Integer> map = new MyConcurrentHashMap<>();
+        assertThrows(IllegalStateException.class, () -> map.computeIfAbsent("K", k -> {
+            map.put(k, 1);
+            return 2;
+        }));
+        assertEquals(1, map.size());
+        assertEquals(1, map.get("K"));
+        assertEquals(1, map.remove("K"));
+        assertNull(map.get("K")); // 남은 중복 노드가 없어야 함
+        assertTrue(map.isEmpty());
+
+        map.put("M", 1);
+        assertThrows(IllegalStateException.class, () -> map.merge("M", 1, (a, b) -> {
+            map.remove("M");
+            map.put("M", 10);
+            return a + b;
+        }));
+        assertEquals(10, map.get("M"));
+        assertEquals(1, map.size());
+
+        // 다른 Key를 저장하는 것은 허용
+        assertEquals(3, map.computeIfAbsent("A", k -> {
+            map.put("B", 4);
+            return 3;
+        }));
+        assertEquals(4, map.get("B"));
+        assertEquals(3, map.size());
+    }
+
+    @Test
+    void testConcurrentPutsWithResizing() throws InterruptedException {
+        // 여러 스레드가 동시에 넣으면서 세그먼트가 확장되어도 유실되는 키가 없어야 함
+        MyConcurrentHashMap<Integer, Integer> map = new MyConcurrentHashMap<>(16, 4);
+        int threads = 8;
+        int perThread = 20_000;
+
+        Workers.runConcurrently(threads, id -> {
+            for (int i = 0; i < perThread; i++) {
+                int key = id * perThread + i;
+                map.put(key, key);
+                assertEquals(key, map.get(key)); // 자신이 넣은 값은 바로 보여야 함
+            }
+        });
+
+        assertEquals(threads * perThread, map.size());
+        for (int key = 0; key < threads * perThread; key++) {
+            assertEquals(key, map.get(key));
+        }
+    }
+
+    @Test
+    void testConcurrentMergeIsAtomic() throws InterruptedException {
+        // merge로 카운터를 동시에 올려도 증가분이 사라지지 않아야 함
+        MyConcurrentHashMap<String, Integer> map = new MyConcurrentHashMap<>();
+        int threads = 8;
+        int increments = 10_000;
+
+        Workers.runConcurrently(threads, id -> {
+            for (int i = 0; i < increments; i++) {
+                map.merge("counter-" + (i % 10), 1, Integer::sum);
+            }
+        });
+
+        int total = 0;
+        for (int i = 0; i < 10; i++) {
+            total += map.get("counter-" + i);
+        }
+        assertEquals(threads * increments, total);
+    }
+
+    @Test
+    void testComputeIfAbsentRunsOncePerKey() throws InterruptedException {
+        // 같은 키에 대해 동시에 호출해도 값 계산은 한 번만 일어나야 함
+        MyConcurrentHashMap<Integer, String> map = new MyConcurrentHashMap<>();
+        AtomicInteger calls = new AtomicInteger();
+
+        Workers.runConcurrently(8, id -> {
+            for (int key = 0; key < 1_000; key++) {
+                String value = map.computeIfAbsent(key, k -> {
+                    calls.incrementAndGet();
+                    return "V" + k;
+                });
+                assertEquals("V" + key, value);
+            }
+        });
+
+        assertEquals(1_000, calls.get());
+        assertEquals(1_000, map.size());
+    }
+
+    @Test
+    void testReadersDuringConcurrentRemoval() throws InterruptedException {
+        // 락 없는 읽기가 삭제와 동시에 진행되어도 남아있는 키는 항상 보여야 함
+        MyConcurrentHashMap<Integer, Integer> map = new MyConcurrentHashMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            map.put(i, i);
+        }
+
+        Workers.runConcurrently(4, id -> {
+            if (id == 0) {
+                for (int i = 0; i < 10_000; i += 2) {
+                    map.remove(i);
+                }
+            } else {
+                for (int round = 0; round < 5; round++) {
+                    for (int i = 1; i < 10_000; i += 2) {
+                        assertEquals(i, map.get(i));
+                    }
+                }
+            }
+        });
+
+        assertEquals(5_000, map.size());
+    }
+}
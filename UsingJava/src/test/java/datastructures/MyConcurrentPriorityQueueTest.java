@@ -0,0 +1,180 @@
+package datastructures;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MyConcurrentPriorityQueueTest {
+
+    @Test
+    void testStrictOrder() {
+        MyConcurrentPriorityQueue<Integer> queue = new MyConcurrentPriorityQueue<>(8, 8, Comparator.naturalOrder());
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            int value = random.nextInt(10_000);
+            queue.insert(value);
+            expected.add(value);
+        }
+        expected.sort(null);
+        assertEquals(1000, queue.size());
+        assertEquals(expected.get(0), queue.peek());
+
+        for (Integer value : expected) {
+            assertEquals(value, queue.poll());
+        }
+        assertTrue(queue.isEmpty());
+        assertNull(queue.poll());
+        assertNull(queue.peek());
+    }
+
+    @Test
+    void testStrictMaxOrder() {
+        MyConcurrentPriorityQueue<Integer> queue = new MyConcurrentPriorityQueue<>(true, Comparator.reverseOrder());
+        for (int i = 0; i < 100; i++) {
+            queue.insert(i);
+        }
+        for (int i = 99; i >= 0; i--) {
+            assertEquals(i, queue.poll());
+        }
+    }
+
+    @Test
+    void testRelaxedOrderStaysNearPriority() {
+        // 완화 모드는 모든 요소를 꺼내되, 꺼낸 요소의 순위 오차가 샤드 수 정도로 작아야 함
+        int n = 2000;
+        MyConcurrentPriorityQueue<Integer> queue = new MyConcurrentPriorityQueue<>(8, 2, Comparator.naturalOrder());
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            values.add(i);
+        }
+        Collections.shuffle(values, new Random(7));
+        for (Integer value : values) {
+            queue.insert(value);
+        }
+
+        boolean[] removed = new boolean[n];
+        long totalRankError = 0;
+        for (int i = 0; i < n; i++) {
+            Integer value = queue.poll();
+            assertNotNull(value);
+            assertFalse(removed[value]);
+            // 남은 요소 중 value보다 작은 요소의 개수 = 순위 오차
+            int rank = 0;
+            for (int j = 0; j < value; j++) {
+                if (!removed[j]) {
+                    rank++;
+                }
+            }
+            totalRankError += rank;
+            removed[value] = true;
+        }
+        assertNull(queue.poll());
+        double meanRankError = (double) totalRankError / n;
+        assertTrue(meanRankError < 16, "mean rank error: " + meanRankError);
+    }
+
+    @Test
+    void testMoreChoicesMeansSmallerError() {
+        assertTrue(meanRankError(16, 4) < meanRankError(16, 1));
+    }
+
+    private static double meanRankError(int shards, int choices) {
+        int n = 2000;
+        MyConcurrentPriorityQueue<Integer> queue = new MyConcurrentPriorityQueue<>(shards, choices, Comparator.naturalOrder());
+        for (int i = 0; i < n; i++) {
+            queue.insert(i);
+        }
+        boolean[] removed = new boolean[n];
+        int smallestLeft = 0;
+        long total = 0;
+        for (int i = 0; i < n; i++) {
+            int value = queue.poll();
+            removed[value] = true;
+            for (int j = smallestLeft; j < value; j++) {
+                if (!removed[j]) {
+                    total++;
+                }
+            }
+            while (smallestLeft < n && removed[smallestLeft]) {
+                smallestLeft++;
+            }
+        }
+        return (double) total / n;
+    }
+
+    @Test
+    void testInvalidArguments() {
+        MyConcurrentPriorityQueue<Integer> queue = new MyConcurrentPriorityQueue<>();
+        assertThrows(IllegalArgumentException.class, () -> queue.insert(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new MyConcurrentPriorityQueue<Integer>(0, 2, Comparator.naturalOrder()));
+        assertThrows(IllegalArgumentException.class,
+                () -> new MyConcurrentPriorityQueue<Integer>(4, 0, Comparator.naturalOrder()));
+        assertThrows(IllegalArgumentException.class,
+                () -> new MyConcurrentPriorityQueue<Integer>(4, 2, null));
+    }
+
+    @Test
+    void testConcurrentInsertAndPoll() throws InterruptedException {
+        // 모든 요소가 정확히 한 번씩 꺼내져야 함
+        MyConcurrentPriorityQueue<Integer> queue = new MyConcurrentPriorityQueue<>(4, 2, Comparator.naturalOrder());
+        int producers = 3;
+        int consumers = 3;
+        int perProducer = 5_000;
+        int total = producers * perProducer;
+        AtomicIntegerArray seen = new AtomicIntegerArray(total);
+        AtomicInteger consumed = new AtomicInteger();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < producers; t++) {
+            int id = t;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    queue.insert(id * perProducer + i);
+                }
+            }));
+        }
+        for (int t = 0; t < consumers; t++) {
+            threads.add(new Thread(() -> {
+                try {
+                    while (consumed.get() < total) {
+                        Integer value = queue.poll();
+                        if (value == null) {
+                            Thread.yield();
+                            continue;
+                        }
+                        assertEquals(0, seen.getAndIncrement(value), "duplicate: " + value);
+                        consumed.incrementAndGet();
+                    }
+                } catch (Throwable e) {
+                    error.set(e);
+                    consumed.set(total);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertNull(error.get());
+        for (int i = 0; i < total; i++) {
+            assertEquals(1, seen.get(i));
+        }
+        assertTrue(queue.isEmpty());
+        assertEquals(0, queue.size());
+    }
+}
@@ -0,0 +1,306 @@
+package datastructures;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+class MyConcurrentSkipListMapTest {
+
+    @Test
+    void testBasicOperations() {
+        MyConcurrentSkipListMap<Integer, String> map = new MyConcurrentSkipListMap<>();
+        assertNull(map.put(20, "B"));
+        assertNull(map.put(10, "A"));
+        assertEquals("B", map.put(20, "BB")); // 이전 값 반환
+        assertEquals("A", map.putIfAbsent(10, "X")); // 이미 있으면 저장하지 않음
+
+        assertEquals("A", map.get(10));
+        assertEquals("BB", map.get(20));
+        assertNull(map.get(30));
+        assertEquals(2, map.size());
+
+        assertFalse(map.remove(10, "X")); // 값이 다르면 삭제하지 않음
+        assertEquals("A", map.remove(10));
+        assertFalse(map.containsKey(10));
+        assertEquals(1, map.size());
+
+        assertThrows(IllegalArgumentException.class, () -> map.put(null, "N"));
+        assertThrows(IllegalArgumentException.class, () -> map.put(1, null));
+    }
+
+    @Test
+    void testNavigation() {
+        MyConcurrentSkipListMap<Integer, Integer> map = new MyConcurrentSkipListMap<>();
+        assertThrows(NoSuchElementException.class, map::firstKey);
+        for (int i = 0; i < 100; i++) {
+            map.put(i * 10, i); // 0, 10, ..., 990
+        }
+
+        assertEquals(0, map.firstKey());
+        assertEquals(990, map.lastKey());
+        assertEquals(50, map.floorKey(55));
+        assertEquals(50, map.floorKey(50));
+        assertEquals(40, map.lowerKey(50));
+        assertEquals(60, map.ceilingKey(55));
+        assertEquals(60, map.higherKey(50));
+        assertNull(map.lowerKey(0));
+        assertNull(map.higherKey(990));
+
+        Map.Entry<Integer, Integer> first = map.pollFirst();
+        assertEquals(0, first.getKey());
+        assertEquals(0, first.getValue());
+        assertEquals(990, map.pollLast().getKey());
+        assertEquals(98, map.size());
+    }
+
+    @Test
+    void testRangeViews() {
+        MyConcurrentSkipListMap<Integer, Integer> map = new MyConcurrentSkipListMap<>();
+        for (int i = 0; i < 100; i++) {
+            map.put(i, i);
+        }
+
+        MyConcurrentSkipListMap<Integer, Integer> sub = map.subMap(20, 30); // [20, 30)
+        assertEquals(10, sub.size());
+        assertEquals(20, sub.firstKey());
+        assertEquals(29, sub.lastKey());
+        assertEquals(29, sub.floorKey(50)); // 상한 밖이면 범위의 마지막
+        assertEquals(20, sub.ceilingKey(5)); // 하한 밖이면 범위의 처음
+        assertNull(sub.lowerKey(20));
+        assertNull(sub.get(30));
+        assertThrows(IllegalArgumentException.class, () -> sub.put(30, 0));
+
+        // 뷰를 통한 변경이 원본에 반영됨
+        sub.remove(25);
+        assertFalse(map.containsKey(25));
+        map.put(25, -1);
+        assertEquals(-1, sub.get(25));
+
+        MyConcurrentSkipListMap<Integer, Integer> head = map.headMap(10, true);
+        assertEquals(11, head.size());
+        assertEquals(10, head.pollLast().getKey());
+        assertEquals(10, head.size());
+
+        MyConcurrentSkipListMap<Integer, Integer> tail = map.tailMap(95, false);
+        assertEquals(96, tail.keys().get(0));
+        Iterator<Integer> descending = tail.descendingKeyIterator();
+        assertEquals(99, descending.next());
+        assertEquals(98, descending.next());
+
+        assertThrows(IllegalArgumentException.class, () -> sub.subMap(10, 25));
+    }
+
+    @Test
+    void testIterators() {
+        MyConcurrentSkipListMap<Integer, String> map = new MyConcurrentSkipListMap<>();
+        for (int i = 9; i >= 0; i--) {
+            map.put(i, "V" + i);
+        }
+
+        Iterator<Map.Entry<Integer, String>> entries = map.entryIterator();
+        for (int i = 0; i < 10; i++) {
+            Map.Entry<Integer, String> entry = entries.next();
+            assertEquals(i, entry.getKey());
+            assertEquals("V" + i, entry.getValue());
+        }
+        assertFalse(entries.hasNext());
+
+        // 순회 중 변경해도 예외 없이 계속 진행 (약한 일관성)
+        Iterator<Integer> it = map.keyIterator();
+        assertEquals(0, it.next());
+        map.remove(1);
+        map.put(100, "V100");
+        List<Integer> rest = new ArrayList<>();
+        while (it.hasNext()) {
+            int key = it.next();
+            rest.add(key);
+            if (key % 2 == 0) {
+                it.remove();
+            }
+        }
+        assertEquals(List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 100), rest); // 이미 읽어둔 1은 삭제되어도 반환될 수 있음
+        assertEquals(List.of(0, 3, 5, 7, 9), toList(map.keys()));
+        assertThrows(IllegalStateException.class, () -> map.keyIterator().remove());
+    }
+
+    @Test
+    void testRandomizedAgainstTreeMap() {
+        MyConcurrentSkipListMap<Integer, Integer> map = new MyConcurrentSkipListMap<>();
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        Random random = new Random(3);
+
+        for (int op = 0; op < 200_000; op++) {
+            int key = random.nextInt(5_000);
+            int dice = random.nextInt(10);
+            if (dice < 5) {
+                assertEquals(expected.put(key, op), map.put(key, op));
+            } else if (dice < 8) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                assertEquals(expected.get(key), map.get(key));
+                assertEquals(expected.floorKey(key), map.floorKey(key));
+                assertEquals(expected.higherKey(key), map.higherKey(key));
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        assertEquals(new ArrayList<>(expected.keySet()), toList(map.keys()));
+        assertEquals(new ArrayList<>(expected.descendingKeySet()), toList(map.descendingKeyIterator()));
+    }
+
+    @Test
+    void testConcurrentInsertsAndRemoves() throws InterruptedException {
+        // 여러 스레드가 서로 다른 키를 넣고 절반을 지워도 결과가 정확해야 함
+        MyConcurrentSkipListMap<Integer, Integer> map = new MyConcurrentSkipListMap<>();
+        int threads = 8;
+        int perThread = 20_000;
+
+        Workers.runConcurrently(threads, id -> {
+            for (int i = 0; i < perThread; i++) {
+                int key = i * threads + id; // 스레드들의 키가 서로 섞이도록 배치
+                assertNull(map.put(key, key));
+                assertEquals(key, map.get(key)); // 자신이 넣은 값은 바로 보여야 함
+            }
+            for (int i = 0; i < perThread; i += 2) {
+                int key = i * threads + id;
+                assertEquals(key, map.remove(key));
+            }
+        });
+
+        assertEquals(threads * perThread / 2, map.size());
+        int previous = -1;
+        int count = 0;
+        for (Iterator<Integer> it = map.keyIterator(); it.hasNext();) {
+            int key = it.next();
+            assertTrue(key > previous); // 정렬 순서 유지
+            assertEquals(1, (key / threads) % 2);
+            previous = key;
+            count++;
+        }
+        assertEquals(threads * perThread / 2, count);
+    }
+
+    @Test
+    void testConcurrentPollsReturnEachKeyOnce() throws InterruptedException {
+        // pollFirst를 동시에 호출해도 같은 엔트리를 두 번 가져가지 않아야 함
+        MyConcurrentSkipListMap<Integer, Integer> map = new MyConcurrentSkipListMap<>();
+        int total = 50_000;
+        for (int i = 0; i < total; i++) {
+            map.put(i, i);
+        }
+        ConcurrentHashMap<Integer, Boolean> polled = new ConcurrentHashMap<>();
+
+        Workers.runConcurrently(4, id -> {
+            Map.Entry<Integer, Integer> entry;
+            while ((entry = map.pollFirst()) != null) {
+                assertNull(polled.put(entry.getKey(), Boolean.TRUE));
+            }
+        });
+
+        assertEquals(total, polled.size());
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void testReadersScanDuringWrites() throws InterruptedException {
+        // 쓰기 스레드가 삽입/삭제하는 동안 읽기 스레드의 순회는 항상 정렬되어 있고, 고정된 키는 항상 보여야 함
+        MyConcurrentSkipListMap<Integer, Integer> map = new MyConcurrentSkipListMap<>();
+        for (int i = 0; i < 10_000; i += 10) {
+            map.put(i, i); // 10의 배수는 삭제하지 않음
+        }
+        AtomicBoolean done = new AtomicBoolean();
+
+        Workers.runConcurrently(4, id -> {
+            if (id < 2) {
+                Random random = new Random(id);
+                for (int op = 0; op < 100_000; op++) {
+                    int key = random.nextInt(10_000);
+                    if (key % 10 == 0) {
+                        continue;
+                    }
+                    if (random.nextBoolean()) {
+                        map.put(key, key);
+                    } else {
+                        map.remove(key);
+                    }
+                }
+                done.set(true);
+            } else {
+                while (!done.get()) {
+                    int previous = -1;
+                    int fixed = 0;
+                    for (Iterator<Integer> it = map.subMap(0, 10_000).keyIterator(); it.hasNext();) {
+                        int key = it.next();
+                        assertTrue(key > previous);
+                        if (key % 10 == 0) {
+                            fixed++;
+                        }
+                        previous = key;
+                    }
+                    assertEquals(1_000, fixed);
+                }
+            }
+        });
+    }
+
+    @Test
+    void testDescendingScanDuringWrites() throws InterruptedException {
+        // 삭제된 노드를 만나도 내림차순 순회는 계속 엄격히 감소하고, 뷰의 상한을 넘지 않아야 함
+        MyConcurrentSkipListMap<Integer, Integer> map = new MyConcurrentSkipListMap<>();
+        for (int i = 0; i < 1_200; i++) {
+            map.put(i, i);
+        }
+        AtomicBoolean done = new AtomicBoolean();
+
+        Workers.runConcurrently(4, id -> {
+            if (id < 3) {
+                Random random = new Random(id);
+                for (int op = 0; op < 100_000; op++) {
+                    int key = random.nextInt(1_200);
+                    if (random.nextBoolean()) {
+                        map.put(key, key);
+                    } else {
+                        map.remove(key);
+                    }
+                    if (op % 1_000 == 0) {
+                        Thread.yield();
+                    }
+                }
+                done.set(true);
+            } else {
+                while (!done.get()) {
+                    int previous = 1_000;
+                    for (Iterator<Integer> it = map.headMap(1_000).descendingKeyIterator(); it.hasNext();) {
+                        int key = it.next();
+                        assertTrue(key < previous, key + " after " + previous);
+                        previous = key;
+                    }
+                }
+            }
+        });
+    }
+
+    private static List<Integer> toList(MyArrayList<Integer> list) {
+        List<Integer> result = new ArrayList<>();
+        for (int i = 0; i < list.size(); i++) {
+            result.add(list.get(i));
+        }
+        return result;
+    }
+
+    private static List<Integer> toList(Iterator<Integer> it) {
+        List<Integer> result = new ArrayList<>();
+        while (it.hasNext()) {
+            result.add(it.next());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,84 @@
+package datastructures;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MyConcurrentSkipListSetTest {
+
+    @Test
+    void testAddContainsRemove() {
+        MyConcurrentSkipListSet<String> set = new MyConcurrentSkipListSet<>();
+        assertTrue(set.add("B"));
+        assertTrue(set.add("A"));
+        assertFalse(set.add("A")); // 중복
+
+        assertTrue(set.contains("A"));
+        assertEquals(2, set.size());
+        assertEquals("A", set.toList().get(0));
+
+        assertTrue(set.remove("A"));
+        assertFalse(set.remove("A"));
+        assertFalse(set.contains("A"));
+    }
+
+    @Test
+    void testNavigationAndViews() {
+        MyConcurrentSkipListSet<Integer> set = new MyConcurrentSkipListSet<>();
+        for (int i = 1; i <= 10; i++) {
+            set.add(i * 10);
+        }
+
+        assertEquals(10, set.first());
+        assertEquals(100, set.last());
+        assertEquals(50, set.floor(55));
+        assertEquals(60, set.ceiling(55));
+        assertEquals(60, set.higher(50));
+        assertEquals(40, set.lower(50));
+
+        MyConcurrentSkipListSet<Integer> sub = set.subSet(30, true, 60, true);
+        assertEquals(4, sub.size());
+        assertEquals(30, sub.pollFirst());
+        assertFalse(set.contains(30)); // 뷰의 변경이 원본에 반영됨
+        assertEquals(20, set.headSet(30).last());
+        assertEquals(90, set.tailSet(80, false).first());
+
+        Iterator<Integer> descending = set.descendingIterator();
+        assertEquals(100, descending.next());
+        assertEquals(90, descending.next());
+    }
+
+    @Test
+    void testConcurrentAddsAreDeduplicated() throws InterruptedException {
+        // 같은 요소를 여러 스레드가 동시에 넣어도 한 스레드만 성공해야 함
+        MyConcurrentSkipListSet<Integer> set = new MyConcurrentSkipListSet<>();
+        AtomicInteger added = new AtomicInteger();
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread worker = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    if (set.add(i)) {
+                        added.incrementAndGet();
+                    }
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertEquals(10_000, added.get());
+        assertEquals(10_000, set.size());
+        int expected = 0;
+        for (int element : set) {
+            assertEquals(expected++, element);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package datastructures;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MyDequeTest {
+
+    @Test
+    void testBothEnds() {
+        MyDeque<Integer> deque = new MyDeque<>();
+        deque.offerLast(2);
+        deque.offerLast(3);
+        deque.offerFirst(1);
+        deque.offerFirst(0);
+
+        // [0, 1, 2, 3]
+        assertEquals(4, deque.size());
+        assertEquals(0, deque.peekFirst());
+        assertEquals(3, deque.peekLast());
+        assertEquals(2, deque.get(2));
+        assertEquals(0, deque.pollFirst());
+        assertEquals(3, deque.pollLast());
+        assertEquals(1, deque.pollFirst());
+        assertEquals(2, deque.pollLast());
+        assertTrue(deque.isEmpty());
+
+        assertThrows(NoSuchElementException.class, deque::pollFirst);
+        assertThrows(NoSuchElementException.class, deque::pollLast);
+        assertThrows(NoSuchElementException.class, deque::peekFirst);
+        assertThrows(IndexOutOfBoundsException.class, () -> deque.get(0));
+    }
+
+    @Test
+    void testCapacityIsPowerOfTwo() {
+        assertEquals(16, new MyDeque<>().capacity());
+        assertEquals(32, new MyDeque<>(17).capacity());
+        assertThrows(IllegalArgumentException.class, () -> new MyDeque<>(-1));
+
+        // 앞쪽에 넣어 감긴(wrap-around) 상태에서 늘어나도 순서가 유지되어야 함
+        MyDeque<Integer> deque = new MyDeque<>(4);
+        for (int i = 0; i < 3; i++) {
+            deque.offerLast(i);
+        }
+        deque.offerFirst(-1);
+        deque.offerFirst(-2); // 가득 찬 상태에서 grow
+        assertEquals(8, deque.capacity());
+        for (int i = -2; i < 3; i++) {
+            assertEquals(i, deque.pollFirst());
+        }
+    }
+
+    @Test
+    void testSteadyStateDoesNotGrow() {
+        // 같은 수만큼 넣고 빼면 head가 배열을 계속 돌아도 용량은 그대로여야 함
+        MyDeque<Integer> deque = new MyDeque<>(8);
+        for (int i = 0; i < 100_000; i++) {
+            deque.offerLast(i);
+            if (deque.size() > 5) {
+                assertEquals(i - 5, deque.pollFirst());
+            }
+        }
+        assertEquals(8, deque.capacity());
+    }
+
+    @Test
+    void testRandomizedAgainstArrayDeque() {
+        MyDeque<Integer> deque = new MyDeque<>(2);
+        ArrayDeque<Integer> expected = new ArrayDeque<>();
+        Random random = new Random(18);
+
+        for (int op = 0; op < 200_000; op++) {
+            int dice = random.nextInt(4);
+            if (dice == 0) {
+                deque.offerFirst(op);
+                expected.offerFirst(op);
+            } else if (dice == 1) {
+                deque.offerLast(op);
+                expected.offerLast(op);
+            } else if (!expected.isEmpty()) {
+                if (dice == 2) {
+                    assertEquals(expected.pollFirst(), deque.pollFirst());
+                } else {
+                    assertEquals(expected.pollLast(), deque.pollLast());
+                }
+            }
+            assertEquals(expected.size(), deque.size());
+        }
+
+        Iterator<Integer> it = deque.iterator();
+        for (int element : expected) {
+            assertEquals(element, it.next());
+        }
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    void testIteratorFailFastAndClear() {
+        MyDeque<String> deque = new MyDeque<>();
+        deque.offerLast("A");
+        deque.offerLast("B");
+
+        Iterator<String> it = deque.iterator();
+        assertEquals("A", it.next());
+        deque.offerFirst("C");
+        assertThrows(ConcurrentModificationException.class, it::next);
+
+        deque.clear();
+        assertTrue(deque.isEmpty());
+        assertFalse(deque.iterator().hasNext());
+        deque.offerLast("D");
+        assertEquals("D", deque.peekFirst());
+    }
+}
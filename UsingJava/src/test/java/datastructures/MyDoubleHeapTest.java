@@ -0,0 +1,90 @@
+package datastructures;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MyDoubleHeapTest {
+
+    @Test
+    void testMinAndMaxHeap() {
+        MyDoubleHeap heap = new MyDoubleHeap();
+        for (double value : new double[] {5.0, 3.0, 8.0, 1.0}) {
+            heap.insert(value);
+        }
+        assertEquals(1.0, heap.peek());
+        assertEquals(1.0, heap.poll());
+        assertEquals(3.0, heap.poll());
+        assertEquals(2, heap.size());
+
+        MyDoubleHeap maxHeap = new MyDoubleHeap(true);
+        for (double value : new double[] {5.0, 3.0, 8.0, 1.0}) {
+            maxHeap.insert(value);
+        }
+        assertEquals(8.0, maxHeap.poll());
+        assertEquals(5.0, maxHeap.poll());
+
+        heap.clear();
+        assertTrue(heap.isEmpty());
+        assertThrows(NoSuchElementException.class, heap::poll);
+        assertThrows(NoSuchElementException.class, heap::peek);
+    }
+
+    @Test
+    void testRandomizedAgainstPriorityQueue() {
+        Random random = new Random(23);
+        double[] initial = new double[1_000];
+        PriorityQueue<Double> expected = new PriorityQueue<>();
+        for (int i = 0; i < initial.length; i++) {
+            initial[i] = random.nextDouble();
+            expected.add(initial[i]);
+        }
+        MyDoubleHeap heap = new MyDoubleHeap(initial, false); // O(n) 일괄 생성
+
+        for (int op = 0; op < 100_000; op++) {
+            if (random.nextInt(3) < 2 || expected.isEmpty()) {
+                double value = random.nextDouble();
+                heap.insert(value);
+                expected.add(value);
+            } else {
+                assertEquals(expected.poll(), heap.poll());
+            }
+            assertEquals(expected.size(), heap.size());
+        }
+    }
+
+    @Test
+    void testNoAllocationOnHotPath() {
+        // 용량이 충분하면 insert/poll은 객체를 할당하지 않아야 함 (박싱된 값을 담는 MyHeap은 삽입마다 할당)
+        MyDoubleHeap heap = new MyDoubleHeap();
+        for (int i = 0; i < 1_024; i++) {
+            heap.insert(i);
+        }
+        long[] sum = new long[1];
+        Allocations.assertNoAllocation(() -> {
+            for (int i = 0; i < 100_000; i++) {
+                heap.insert(i * 31 + 1_000);
+                sum[0] += (long) heap.poll();
+            }
+        });
+        assertTrue(sum[0] > 0);
+    }
+
+    @Test
+    void testSpecialValuesUseDoubleCompareOrder() {
+        MyDoubleHeap heap = new MyDoubleHeap();
+        heap.insert(Double.NaN);
+        heap.insert(0.0);
+        heap.insert(-0.0);
+        heap.insert(Double.NEGATIVE_INFINITY);
+
+        assertEquals(Double.NEGATIVE_INFINITY, heap.poll());
+        assertEquals(-0.0, heap.poll()); // -0.0이 0.0보다 먼저
+        assertEquals(0.0, heap.poll());
+        assertTrue(Double.isNaN(heap.poll())); // NaN은 가장 큰 값
+    }
+}
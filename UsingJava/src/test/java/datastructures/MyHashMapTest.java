@@ -2,6 +2,8 @@ package datastructures;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import java.util.HashMap;
+import java.util.Random;
 
 class MyHashMapTest {
 
@@ -59,4 +61,230 @@ class MyHashMapTest {
         assertEquals("One+Cap*2", map.get(1 + capacity * 2));
         assertEquals(3, map.size());
     }
+
+    @Test
+    void testResizeKeepsAllEntries() {
+        // 부하율을 넘으면 테이블이 커지고, 점진적 재해싱 중에도 모든 키를 찾을 수 있어야 함
+        MyHashMap<Integer, Integer> map = new MyHashMap<>();
+        int count = 100_000;
+        for (int i = 0; i < count; i++) {
+            map.put(i, i * 2);
+            assertEquals(i * 2, map.get(i));
+        }
+
+        assertEquals(count, map.size());
+        assertTrue(map.capacity() >= count / 0.75);
+        for (int i = 0; i < count; i++) {
+            assertEquals(i * 2, map.get(i));
+        }
+    }
+
+    @Test
+    void testShrinkAfterMassRemoval() {
+        // 대량 삭제 후에는 테이블이 다시 줄어들어야 함
+        MyHashMap<Integer, String> map = new MyHashMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            map.put(i, "V" + i);
+        }
+        int grownCapacity = map.capacity();
+
+        for (int i = 0; i < 9_990; i++) {
+            map.remove(i);
+        }
+
+        assertEquals(10, map.size());
+        assertTrue(map.capacity() < grownCapacity);
+        for (int i = 9_990; i < 10_000; i++) {
+            assertEquals("V" + i, map.get(i));
+        }
+    }
+
+    @Test
+    void testCustomCapacityAndLoadFactor() {
+        // 초기 용량은 2의 거듭제곱으로 올림되고, 초기 용량 아래로는 줄어들지 않아야 함
+        MyHashMap<String, Integer> map = new MyHashMap<>(100, 0.5f);
+        assertEquals(128, map.capacity());
+
+        for (int i = 0; i < 65; i++) {
+            map.put("K" + i, i);
+        }
+        assertEquals(256, map.capacity()); // 128 * 0.5 = 64개 초과 시 확장
+
+        for (int i = 0; i < 65; i++) {
+            map.remove("K" + i);
+        }
+        assertEquals(128, map.capacity());
+        assertTrue(map.isEmpty());
+
+        assertThrows(IllegalArgumentException.class, () -> new MyHashMap<>(-1));
+        assertThrows(IllegalArgumentException.class, () -> new MyHashMap<>(16, 0f));
+    }
+
+    @Test
+    void testNegativeHashCode() {
+        // 음수 해시 코드(Integer.MIN_VALUE 포함)도 올바른 인덱스에 저장되어야 함
+        MyHashMap<Integer, String> map = new MyHashMap<>();
+        map.put(Integer.MIN_VALUE, "Min");
+        map.put(-1, "MinusOne");
+
+        assertEquals("Min", map.get(Integer.MIN_VALUE));
+        assertEquals("MinusOne", map.get(-1));
+    }
+
+    @Test
+    void testOpenAddressingMode() {
+        // 개방 주소법 엔진을 선택해도 같은 API로 동작해야 함
+        MyHashMap<String, Integer> map = new MyHashMap<>(true);
+        for (int i = 0; i < 1000; i++) {
+            map.put("K" + i, i);
+        }
+        map.put("K0", -1);
+        map.remove("K1");
+
+        assertEquals(999, map.size());
+        assertEquals(-1, map.get("K0"));
+        assertNull(map.get("K1"));
+        assertEquals(999, map.get("K999"));
+    }
+
+    /**
+     * hashCode가 항상 같은 키 (Comparable 아님).
+     */
+    private static class SameHashKey {
+        final int id;
+
+        SameHashKey(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public int hashCode() {
+            return 7;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof SameHashKey && ((SameHashKey) o).id == id;
+        }
+    }
+
+    /**
+     * "Aa"와 "BB"의 hashCode가 같다는 점을 이용해 hashCode가 모두 같은 문자열을 만듭니다.
+     */
+    private static String collidingString(int bits, int length) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            sb.append((bits >> i & 1) == 0 ? "Aa" : "BB");
+        }
+        return sb.toString();
+    }
+
+    @Test
+    void testTreeifiedBucketWithCollidingStrings() {
+        // hashCode가 완전히 같은 String 키가 몰려도 트리 버킷에서 정확히 동작해야 함
+        MyHashMap<String, Integer> map = new MyHashMap<>();
+        int count = 1 << 12;
+        for (int i = 0; i < count; i++) {
+            map.put(collidingString(i, 12), i);
+        }
+        assertEquals(count, map.size());
+        assertEquals("AaAa".hashCode(), "BBBB".hashCode());
+
+        for (int i = 0; i < count; i += 2) {
+            map.remove(collidingString(i, 12));
+        }
+        assertEquals(count / 2, map.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals(i % 2 == 0 ? null : i, map.get(collidingString(i, 12)));
+        }
+    }
+
+    @Test
+    void testTreeifiedBucketWithNonComparableKeys() {
+        // Comparable이 아닌 키끼리 hashCode가 같아도 equals로 구분되어야 하고,
+        // 삭제로 작아지면 다시 연결 리스트로 돌아가도 동작해야 함
+        MyHashMap<SameHashKey, String> map = new MyHashMap<>();
+        for (int i = 0; i < 50; i++) {
+            map.put(new SameHashKey(i), "V" + i);
+        }
+        map.put(new SameHashKey(10), "Updated");
+        assertEquals(50, map.size());
+        assertEquals("Updated", map.get(new SameHashKey(10)));
+
+        for (int i = 0; i < 47; i++) {
+            map.remove(new SameHashKey(i));
+        }
+        assertEquals(3, map.size());
+        assertNull(map.get(new SameHashKey(0)));
+        assertEquals("V49", map.get(new SameHashKey(49)));
+    }
+
+    /**
+     * hashCode가 항상 같고, 자기 자신이 아닌 다른 타입과 비교하는 Comparable 키.
+     * 같은 클래스끼리 compareTo를 부르면 ClassCastException이 나므로 트리 버킷이 이를 피해야 합니다.
+     */
+    private static class ForeignComparableKey implements Comparable<String> {
+        final int id;
+
+        ForeignComparableKey(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public int compareTo(String other) {
+            return 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return 11;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof ForeignComparableKey && ((ForeignComparableKey) o).id == id;
+        }
+    }
+
+    @Test
+    void testTreeifiedBucketWithForeignComparableKeys() {
+        // Comparable<String>을 구현한 키끼리는 compareTo 대신 equals로 구분되어야 함
+        MyHashMap<ForeignComparableKey, Integer> map = new MyHashMap<>();
+        for (int i = 0; i < 50; i++) {
+            map.put(new ForeignComparableKey(i), i);
+        }
+        assertEquals(50, map.size());
+        for (int i = 0; i < 50; i++) {
+            assertEquals(i, map.get(new ForeignComparableKey(i)));
+        }
+        for (int i = 0; i < 50; i += 2) {
+            map.remove(new ForeignComparableKey(i));
+        }
+        assertEquals(25, map.size());
+        assertNull(map.get(new ForeignComparableKey(0)));
+        assertEquals(49, map.get(new ForeignComparableKey(49)));
+    }
+
+    @Test
+    void testMixedKeysAgainstHashMap() {
+        // 하위 비트가 모두 같은 키(상위 비트만 다름)와 일반 키를 섞어 java.util.HashMap과 비교
+        MyHashMap<Integer, Integer> map = new MyHashMap<>();
+        HashMap<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random(3);
+
+        for (int i = 0; i < 100_000; i++) {
+            int key = random.nextBoolean() ? random.nextInt(2_000) << 16 : random.nextInt(2_000);
+            if (random.nextInt(4) == 0) {
+                map.remove(key);
+                expected.remove(key);
+            } else {
+                map.put(key, i);
+                expected.put(key, i);
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        for (Integer key : expected.keySet()) {
+            assertEquals(expected.get(key), map.get(key));
+        }
+    }
 }
@@ -2,7 +2,11 @@ package datastructures;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import java.util.Comparator;
 import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
 
 class MyHeapTest {
 
@@ -66,4 +70,129 @@ class MyHeapTest {
         MyHeap<Integer> heap = new MyHeap<>();
         assertThrows(NoSuchElementException.class, heap::poll);
     }
+
+    @Test
+    void testComparator() {
+        // 문자열 길이 기준 최소 힙
+        MyHeap<String> heap = new MyHeap<>(Comparator.comparingInt(String::length));
+        heap.insert("ccc");
+        heap.insert("a");
+        heap.insert("dddd");
+        heap.insert("bb");
+
+        assertEquals("a", heap.poll());
+        assertEquals("bb", heap.poll());
+        assertEquals("ccc", heap.poll());
+        assertEquals("dddd", heap.poll());
+        assertThrows(IllegalArgumentException.class, () -> new MyHeap<String>((Comparator<String>) null));
+    }
+
+    @Test
+    void testHeapifyConstructor() {
+        Random random = new Random(22);
+        MyArrayList<Integer> elements = new MyArrayList<>();
+        PriorityQueue<Integer> expected = new PriorityQueue<>();
+        for (int i = 0; i < 10_000; i++) {
+            int value = random.nextInt(1_000);
+            elements.add(value);
+            expected.add(value);
+        }
+
+        MyHeap<Integer> heap = new MyHeap<>(elements);
+        assertEquals(10_000, heap.size());
+        while (!expected.isEmpty()) {
+            assertEquals(expected.poll(), heap.poll());
+        }
+        assertTrue(heap.isEmpty());
+
+        MyHeap<Integer> maxHeap = new MyHeap<>(elements, Comparator.reverseOrder());
+        assertEquals(999, maxHeap.peek());
+        assertTrue(new MyHeap<>(new MyArrayList<Integer>()).isEmpty());
+    }
+
+    @Test
+    void testHeapifyIsLinear() {
+        // Floyd 방식은 비교 횟수가 2n 미만이어야 함 (insert를 n번 하면 n log n에 가까움)
+        AtomicLong comparisons = new AtomicLong();
+        Comparator<Integer> counting = (a, b) -> {
+            comparisons.incrementAndGet();
+            return Integer.compare(a, b);
+        };
+        int n = 1 << 16;
+        MyArrayList<Integer> elements = new MyArrayList<>();
+        for (int i = n; i > 0; i--) {
+            elements.add(i); // 최소 힙에서 최악에 가까운 역순 입력
+        }
+
+        MyHeap<Integer> heap = new MyHeap<>(elements, counting);
+        assertTrue(comparisons.get() < 2L * n, () -> "heapify compared " + comparisons.get() + " times");
+        assertEquals(1, heap.peek());
+    }
+
+    @Test
+    void testAddAllAndPollBatch() {
+        MyHeap<Integer> heap = new MyHeap<>();
+        heap.insert(50);
+
+        // 현재 크기보다 많이 추가: 전체 재구성
+        MyArrayList<Integer> many = new MyArrayList<>();
+        for (int i = 10; i >= 1; i--) {
+            many.add(i * 10);
+        }
+        heap.addAll(many);
+        assertEquals(11, heap.size());
+
+        // 현재 크기보다 적게 추가: 하나씩 삽입
+        MyArrayList<Integer> few = new MyArrayList<>();
+        few.add(5);
+        few.add(55);
+        heap.addAll(few);
+
+        MyArrayList<Integer> batch = heap.pollBatch(4);
+        assertEquals(4, batch.size());
+        assertEquals(5, batch.get(0));
+        assertEquals(10, batch.get(1));
+        assertEquals(20, batch.get(2));
+        assertEquals(30, batch.get(3));
+
+        MyArrayList<Integer> rest = heap.pollBatch(100); // 남은 것보다 많이 요청하면 전부
+        assertEquals(9, rest.size());
+        assertEquals(100, rest.get(8));
+        assertTrue(heap.isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> heap.pollBatch(-1));
+    }
+
+    @Test
+    void testReplaceTop() {
+        MyHeap<Integer> heap = new MyHeap<>(4, Comparator.naturalOrder());
+        heap.insert(10);
+        heap.insert(20);
+        heap.insert(30);
+
+        // 루트를 바꾸면 새 값이 제자리로 내려가야 함
+        assertEquals(10, heap.replaceTop(25));
+        assertEquals(3, heap.size());
+        assertEquals(20, heap.poll());
+        assertEquals(25, heap.poll());
+        assertEquals(30, heap.poll());
+        assertThrows(NoSuchElementException.class, () -> heap.replaceTop(1));
+        assertThrows(IllegalArgumentException.class, () -> new MyHeap<Integer>(-1, Comparator.naturalOrder()));
+    }
+
+    @Test
+    void testRandomizedAgainstPriorityQueue() {
+        MyHeap<Integer> heap = new MyHeap<>();
+        PriorityQueue<Integer> expected = new PriorityQueue<>();
+        Random random = new Random(7);
+        for (int op = 0; op < 100_000; op++) {
+            if (random.nextInt(3) < 2 || expected.isEmpty()) {
+                int value = random.nextInt(10_000);
+                heap.insert(value);
+                expected.add(value);
+            } else {
+                assertEquals(expected.poll(), heap.poll());
+            }
+            assertEquals(expected.size(), heap.size());
+        }
+    }
 }
@@ -0,0 +1,152 @@
+package datastructures;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MyIndexedHeapTest {
+
+    @Test
+    void testInsertAndPoll() {
+        MyIndexedHeap<Integer> heap = new MyIndexedHeap<>();
+        int[] values = {5, 3, 8, 1, 9, 2};
+        for (int value : values) {
+            heap.insert(value);
+        }
+        for (int expected : new int[] {1, 2, 3, 5, 8, 9}) {
+            assertEquals(expected, heap.poll());
+        }
+        assertThrows(NoSuchElementException.class, heap::poll);
+
+        MyIndexedHeap<Integer> maxHeap = new MyIndexedHeap<>(true);
+        maxHeap.insert(1);
+        maxHeap.insert(3);
+        maxHeap.insert(2);
+        assertEquals(3, maxHeap.peek());
+    }
+
+    @Test
+    void testChangePriorityInPlace() {
+        MyIndexedHeap<Integer> heap = new MyIndexedHeap<>(2, Comparator.naturalOrder());
+        int a = heap.insert(10);
+        int b = heap.insert(20);
+        int c = heap.insert(30);
+
+        heap.decreaseKey(c, 5); // c가 최상위로
+        assertEquals(c, heap.peekHandle());
+        heap.increaseKey(c, 25); // 다시 내려감
+        assertEquals(a, heap.peekHandle());
+        heap.update(b, 1); // update는 어느 방향이든 가능
+        assertEquals(b, heap.peekHandle());
+        heap.checkInvariants();
+
+        assertThrows(IllegalArgumentException.class, () -> heap.decreaseKey(a, 100)); // 오히려 낮아짐
+        assertThrows(IllegalArgumentException.class, () -> heap.increaseKey(a, 0)); // 오히려 높아짐
+        assertEquals(3, heap.size()); // 중복 삽입 없음
+        assertEquals(25, heap.get(c));
+    }
+
+    @Test
+    void testRemoveAndHandleReuse() {
+        MyIndexedHeap<String> heap = new MyIndexedHeap<>(Comparator.naturalOrder());
+        int a = heap.insert("A");
+        int b = heap.insert("B");
+        int c = heap.insert("C");
+
+        assertEquals("B", heap.remove(b));
+        assertFalse(heap.contains(b));
+        assertThrows(IllegalArgumentException.class, () -> heap.get(b));
+        assertThrows(IllegalArgumentException.class, () -> heap.remove(b));
+        assertThrows(IllegalArgumentException.class, () -> heap.get(-1));
+
+        int d = heap.insert("D");
+        assertEquals(b, d); // 삭제된 핸들 번호 재사용
+        assertEquals("A", heap.poll());
+        assertFalse(heap.contains(a));
+        assertEquals("C", heap.poll());
+        assertEquals("D", heap.get(d));
+        assertFalse(heap.contains(c));
+        heap.checkInvariants();
+    }
+
+    @Test
+    void testRandomizedAgainstReference() {
+        for (int arity : new int[] {2, 4, 8}) {
+            MyIndexedHeap<Integer> heap = new MyIndexedHeap<>(arity, Comparator.naturalOrder());
+            Map<Integer, Integer> expected = new HashMap<>(); // 핸들 -> 값
+            List<Integer> live = new ArrayList<>();
+            Random random = new Random(arity);
+
+            for (int op = 0; op < 50_000; op++) {
+                int dice = random.nextInt(10);
+                if (dice < 4 || live.isEmpty()) {
+                    int value = random.nextInt(1_000);
+                    int handle = heap.insert(value);
+                    assertNull(expected.put(handle, value));
+                    live.add(handle);
+                } else if (dice < 7) {
+                    int handle = live.get(random.nextInt(live.size()));
+                    int value = random.nextInt(1_000);
+                    heap.update(handle, value);
+                    expected.put(handle, value);
+                } else if (dice < 8) {
+                    int handle = live.remove(random.nextInt(live.size()));
+                    assertEquals(expected.remove(handle), heap.remove(handle));
+                } else {
+                    int min = expected.values().stream().min(Integer::compare).orElseThrow();
+                    int handle = heap.peekHandle();
+                    assertEquals(min, heap.poll());
+                    assertEquals(min, expected.remove(handle));
+                    live.remove(Integer.valueOf(handle));
+                }
+                assertEquals(expected.size(), heap.size());
+                if (op % 5_000 == 0) {
+                    heap.checkInvariants();
+                }
+            }
+            heap.checkInvariants();
+        }
+    }
+
+    @Test
+    void testDijkstra() {
+        // 간선 (from, to, weight)로 이루어진 작은 그래프에서 0번 정점으로부터의 최단 거리
+        int[][] edges = {{0, 1, 4}, {0, 2, 1}, {2, 1, 2}, {1, 3, 1}, {2, 3, 5}, {3, 4, 3}};
+        int n = 5;
+        long[] dist = new long[n];
+        Arrays.fill(dist, Long.MAX_VALUE);
+        int[] handleOf = new int[n];
+        Arrays.fill(handleOf, -1);
+
+        // 요소는 {정점, 거리}, 거리 기준 최소 힙
+        MyIndexedHeap<long[]> heap = new MyIndexedHeap<>(Comparator.comparingLong(e -> e[1]));
+        dist[0] = 0;
+        handleOf[0] = heap.insert(new long[] {0, 0});
+        while (!heap.isEmpty()) {
+            long[] current = heap.poll();
+            int u = (int) current[0];
+            for (int[] edge : edges) {
+                if (edge[0] != u || dist[u] + edge[2] >= dist[edge[1]]) {
+                    continue;
+                }
+                int v = edge[1];
+                dist[v] = dist[u] + edge[2];
+                if (handleOf[v] >= 0 && heap.contains(handleOf[v]) && heap.get(handleOf[v])[0] == v) {
+                    heap.decreaseKey(handleOf[v], new long[] {v, dist[v]}); // 중복 삽입 대신 제자리 갱신
+                } else {
+                    handleOf[v] = heap.insert(new long[] {v, dist[v]});
+                }
+            }
+        }
+        assertArrayEquals(new long[] {0, 3, 1, 4, 7}, dist);
+    }
+}
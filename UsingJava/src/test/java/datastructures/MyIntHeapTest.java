@@ -0,0 +1,76 @@
+package datastructures;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MyIntHeapTest {
+
+    @Test
+    void testMinAndMaxHeap() {
+        MyIntHeap heap = new MyIntHeap();
+        for (int value : new int[] {5, 3, 8, 1}) {
+            heap.insert(value);
+        }
+        assertEquals(1, heap.peek());
+        assertEquals(1, heap.poll());
+        assertEquals(3, heap.poll());
+        assertEquals(2, heap.size());
+
+        MyIntHeap maxHeap = new MyIntHeap(true);
+        for (int value : new int[] {5, 3, 8, 1}) {
+            maxHeap.insert(value);
+        }
+        assertEquals(8, maxHeap.poll());
+        assertEquals(5, maxHeap.poll());
+
+        heap.clear();
+        assertTrue(heap.isEmpty());
+        assertThrows(NoSuchElementException.class, heap::poll);
+        assertThrows(NoSuchElementException.class, heap::peek);
+    }
+
+    @Test
+    void testRandomizedAgainstPriorityQueue() {
+        Random random = new Random(23);
+        int[] initial = new int[1_000];
+        PriorityQueue<Integer> expected = new PriorityQueue<>();
+        for (int i = 0; i < initial.length; i++) {
+            initial[i] = random.nextInt(10_000);
+            expected.add(initial[i]);
+        }
+        MyIntHeap heap = new MyIntHeap(initial, false); // O(n) 일괄 생성
+
+        for (int op = 0; op < 100_000; op++) {
+            if (random.nextInt(3) < 2 || expected.isEmpty()) {
+                int value = random.nextInt(10_000);
+                heap.insert(value);
+                expected.add(value);
+            } else {
+                assertEquals(expected.poll(), heap.poll());
+            }
+            assertEquals(expected.size(), heap.size());
+        }
+    }
+
+    @Test
+    void testNoAllocationOnHotPath() {
+        // 용량이 충분하면 insert/poll은 객체를 할당하지 않아야 함 (박싱된 값을 담는 MyHeap은 삽입마다 할당)
+        MyIntHeap heap = new MyIntHeap();
+        for (int i = 0; i < 1_024; i++) {
+            heap.insert(i);
+        }
+        long[] sum = new long[1];
+        Allocations.assertNoAllocation(() -> {
+            for (int i = 0; i < 100_000; i++) {
+                heap.insert(i * 31 + 1_000);
+                sum[0] += heap.poll();
+            }
+        });
+        assertTrue(sum[0] > 0);
+    }
+}
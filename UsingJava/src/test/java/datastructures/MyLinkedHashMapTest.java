@@ -2,6 +2,11 @@ package datastructures;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class MyLinkedHashMapTest {
@@ -64,4 +69,218 @@ class MyLinkedHashMapTest {
         assertEquals("One", keys.get(0));
         assertEquals("Three", keys.get(1)); // Two가 빠지고 One -> Three 연결
     }
+
+    @Test
+    void testAccessOrder() {
+        // 접근 순서 모드에서는 get/put으로 접근한 키가 맨 뒤로 이동해야 함
+        MyLinkedHashMap<String, Integer> map = new MyLinkedHashMap<>(true);
+        map.put("A", 1);
+        map.put("B", 2);
+        map.put("C", 3);
+
+        map.get("A"); // A -> 맨 뒤
+        map.put("B", 20); // B 업데이트 -> 맨 뒤
+        map.containsKey("C"); // containsKey는 순서에 영향 없음
+
+        MyArrayList<String> keys = map.keys();
+        assertEquals("C", keys.get(0));
+        assertEquals("A", keys.get(1));
+        assertEquals("B", keys.get(2));
+        assertEquals("C", map.eldestKey());
+    }
+
+    @Test
+    void testBoundedLruEviction() {
+        // 최대 크기를 넘으면 가장 오랫동안 사용되지 않은 키가 제거되어야 함
+        MyLinkedHashMap<Integer, String> cache = new MyLinkedHashMap<>(3, true);
+        cache.put(1, "One");
+        cache.put(2, "Two");
+        cache.put(3, "Three");
+        cache.get(1); // 1을 최근 사용으로
+
+        cache.put(4, "Four"); // 2가 제거되어야 함
+
+        assertEquals(3, cache.size());
+        assertNull(cache.get(2));
+        assertEquals("One", cache.get(1));
+        assertEquals("Three", cache.get(3));
+        assertEquals("Four", cache.get(4));
+    }
+
+    @Test
+    void testCustomRemoveEldestPolicy() {
+        // removeEldestEntry를 재정의하여 제거 정책을 바꿀 수 있어야 함
+        MyLinkedHashMap<String, Integer> map = new MyLinkedHashMap<String, Integer>() {
+            @Override
+            protected boolean removeEldestEntry(String eldestKey, Integer eldestValue) {
+                return eldestValue < 0; // 음수 값이 가장 오래되면 제거
+            }
+        };
+        map.put("Negative", -1);
+        map.put("Positive", 1); // 추가 직후 가장 오래된 Negative가 제거됨
+
+        assertEquals(1, map.size());
+        assertEquals("Positive", map.eldestKey());
+        assertThrows(IllegalArgumentException.class, () -> new MyLinkedHashMap<>(0, true));
+    }
+
+    @Test
+    void testResizeKeepsOrder() {
+        // 버킷 배열이 커져도 순서와 조회가 유지되어야 함
+        MyLinkedHashMap<Integer, Integer> map = new MyLinkedHashMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            map.put(i, i);
+        }
+
+        MyArrayList<Integer> keys = map.keys();
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(i, keys.get(i));
+            assertEquals(i, map.get(i));
+        }
+    }
+
+    @Test
+    void testExpireAfterWrite() {
+        // 쓰기 후 일정 시간이 지나면 만료되어야 함 (테스트 시계로 시간 이동)
+        AtomicLong clock = new AtomicLong();
+        MyLinkedHashMap<String, Integer> map = new MyLinkedHashMap<String, Integer>()
+                .ticker(clock::get)
+                .expireAfterWrite(10, TimeUnit.SECONDS);
+        map.put("A", 1);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        map.put("B", 2);
+
+        assertEquals(1, map.get("A")); // 읽기는 쓰기 만료 시간을 늘리지 않음
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(6)); // A: 11초, B: 6초 경과
+
+        assertNull(map.get("A"));
+        assertFalse(map.containsKey("A"));
+        assertEquals(2, map.get("B"));
+
+        map.put("B", 3); // 다시 쓰면 만료 시간이 갱신됨
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(9));
+        assertEquals(3, map.get("B"));
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        assertNull(map.get("B"));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void testExpireAfterAccess() {
+        // 읽을 때마다 만료 시간이 연장되어야 함
+        AtomicLong clock = new AtomicLong();
+        MyLinkedHashMap<String, Integer> map = new MyLinkedHashMap<String, Integer>()
+                .ticker(clock::get)
+                .expireAfterAccess(1, TimeUnit.MINUTES);
+        map.put("Hot", 1);
+        map.put("Cold", 2);
+
+        for (int i = 0; i < 10; i++) {
+            clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+            assertEquals(1, map.get("Hot"));
+        }
+
+        map.cleanUp();
+        assertEquals(1, map.size());
+        assertFalse(map.containsKey("Cold"));
+        assertEquals("Hot", map.keys().get(0));
+    }
+
+    @Test
+    void testTimerWheelEvictsWithoutAccess() {
+        // 조회하지 않아도 시간이 흐르면 타이머 휠이 만료된 엔트리를 정리해야 함 (여러 단계의 버킷 사용)
+        AtomicLong clock = new AtomicLong();
+        MyLinkedHashMap<Integer, Integer> map = new MyLinkedHashMap<Integer, Integer>()
+                .ticker(clock::get)
+                .expireAfterWrite(3, TimeUnit.DAYS);
+        for (int i = 0; i < 1_000; i++) {
+            map.put(i, i);
+            clock.addAndGet(TimeUnit.MINUTES.toNanos(1));
+        }
+
+        // 3일 + 500분이 지나면 처음 500개 정도가 만료됨 (버킷 한 칸 = 약 1초의 오차 허용)
+        clock.set(TimeUnit.DAYS.toNanos(3) + TimeUnit.MINUTES.toNanos(500) + 1);
+        map.cleanUp();
+        assertEquals(499, map.size());
+        assertFalse(map.containsKey(500));
+        assertTrue(map.containsKey(501));
+
+        clock.addAndGet(TimeUnit.DAYS.toNanos(1));
+        map.cleanUp();
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void testMaximumWeight() {
+        // 가중치 합이 최대값을 넘으면 오래된 엔트리부터 제거되어야 함
+        MyLinkedHashMap<String, String> map = new MyLinkedHashMap<String, String>(true)
+                .maximumWeight(10, (key, value) -> value.length());
+        map.put("A", "aaaa");
+        map.put("B", "bbbb");
+        map.get("A"); // A를 최근 사용으로
+        map.put("C", "cc"); // 10 -> 제거 없음
+        assertEquals(10, map.weight());
+
+        map.put("D", "d"); // 11 -> 가장 오래된 B 제거
+        assertFalse(map.containsKey("B"));
+        assertEquals(7, map.weight());
+
+        map.put("A", "aaaaaaaa"); // 값 변경으로 가중치 증가 -> 가장 오래된 C 제거
+        assertFalse(map.containsKey("C"));
+        assertEquals(2, map.size());
+        assertEquals(9, map.weight());
+
+        map.put("Huge", "xxxxxxxxxxxx"); // 혼자서도 최대값을 넘으면 자신도 제거됨
+        assertTrue(map.isEmpty());
+        assertEquals(0, map.weight());
+    }
+
+    @Test
+    void testExpirationConfiguration() {
+        MyLinkedHashMap<String, Integer> map = new MyLinkedHashMap<>();
+        assertThrows(IllegalArgumentException.class, () -> map.expireAfterWrite(0, TimeUnit.SECONDS));
+        assertThrows(IllegalArgumentException.class, () -> map.maximumWeight(-1, (k, v) -> 1));
+        map.put("A", 1);
+        assertThrows(IllegalStateException.class, () -> map.expireAfterAccess(1, TimeUnit.SECONDS));
+
+        MyLinkedHashMap<String, Integer> weighted = new MyLinkedHashMap<String, Integer>()
+                .maximumWeight(10, (k, v) -> v);
+        assertThrows(IllegalArgumentException.class, () -> weighted.put("Negative", -1));
+        assertTrue(weighted.isEmpty());
+    }
+
+    @Test
+    void testIterators() {
+        // 입력 순서대로 키/값을 순회하고, 반복자로 삭제할 수 있어야 함
+        MyLinkedHashMap<String, Integer> map = new MyLinkedHashMap<>();
+        map.put("C", 3);
+        map.put("A", 1);
+        map.put("B", 2);
+
+        Iterator<String> keys = map.keyIterator();
+        assertEquals("C", keys.next());
+        keys.remove();
+        assertEquals("A", keys.next());
+        assertEquals("B", keys.next());
+        assertFalse(keys.hasNext());
+        assertEquals(2, map.size());
+
+        Iterator<Integer> values = map.valueIterator();
+        assertEquals(1, values.next());
+        map.put("D", 4);
+        assertThrows(ConcurrentModificationException.class, values::next);
+    }
+
+    @Test
+    void testIteratorFailFastOnAccessOrder() {
+        // 접근 순서 모드에서는 get도 순서를 바꾸는 변경으로 취급
+        MyLinkedHashMap<String, Integer> map = new MyLinkedHashMap<>(true);
+        map.put("A", 1);
+        map.put("B", 2);
+
+        Iterator<String> keys = map.keyIterator();
+        keys.next();
+        map.get("A");
+        assertThrows(ConcurrentModificationException.class, keys::next);
+    }
 }
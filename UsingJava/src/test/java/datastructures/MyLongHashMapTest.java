@@ -0,0 +1,78 @@
+package datastructures;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.HashMap;
+import java.util.Random;
+
+class MyLongHashMapTest {
+
+    @Test
+    void testPutAndGet() {
+        // 데이터 저장(put) 및 조회(get) 테스트
+        MyLongHashMap<String> map = new MyLongHashMap<>();
+        map.put(1, "One");
+        map.put(-7, "MinusSeven");
+
+        assertEquals("One", map.get(1));
+        assertEquals("MinusSeven", map.get(-7));
+        assertNull(map.get(2));
+        assertTrue(map.containsKey(1));
+        assertFalse(map.containsKey(2));
+    }
+
+    @Test
+    void testZeroAndExtremeKeys() {
+        // 빈 슬롯 표시와 겹치는 키 0, 그리고 경계값 키 테스트
+        MyLongHashMap<String> map = new MyLongHashMap<>();
+        assertFalse(map.containsKey(0));
+
+        map.put(0, "Zero");
+        map.put(Long.MIN_VALUE, "Min");
+        map.put(Long.MAX_VALUE, "Max");
+        assertEquals(3, map.size());
+        assertEquals("Zero", map.get(0));
+        assertEquals("Min", map.get(Long.MIN_VALUE));
+        assertEquals("Max", map.get(Long.MAX_VALUE));
+
+        map.remove(0);
+        assertFalse(map.containsKey(0));
+        assertNull(map.get(0));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    void testUpdate() {
+        // 이미 존재하는 키에 값을 저장하면 업데이트되는지 테스트
+        MyLongHashMap<String> map = new MyLongHashMap<>();
+        map.put(10, "Value1");
+        map.put(10, "Value2");
+
+        assertEquals("Value2", map.get(10));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void testRandomOperationsAgainstHashMap() {
+        // 삭제 시 원소를 당겨오는(Backward Shift) 로직이 탐색 경로를 깨지 않는지 무작위 연산으로 비교
+        MyLongHashMap<Integer> map = new MyLongHashMap<>();
+        HashMap<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(11);
+
+        for (int i = 0; i < 200_000; i++) {
+            long key = (random.nextInt(4_000) - 2_000) * 0x1_0000_0000L;
+            if (random.nextBoolean()) {
+                map.remove(key);
+                expected.remove(key);
+            } else {
+                map.put(key, i);
+                expected.put(key, i);
+            }
+            assertEquals(expected.get(key), map.get(key));
+        }
+        assertEquals(expected.size(), map.size());
+        for (Long key : expected.keySet()) {
+            assertEquals(expected.get(key), map.get(key));
+        }
+    }
+}
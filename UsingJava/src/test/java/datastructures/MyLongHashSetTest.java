@@ -0,0 +1,43 @@
+package datastructures;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MyLongHashSetTest {
+
+    @Test
+    void testAddAndContains() {
+        MyLongHashSet set = new MyLongHashSet();
+        set.add(0);
+        set.add(42);
+
+        assertTrue(set.contains(0));
+        assertTrue(set.contains(42));
+        assertFalse(set.contains(7));
+    }
+
+    @Test
+    void testDuplicate() {
+        // 중복된 요소 추가 시 크기가 늘어나면 안 됨
+        MyLongHashSet set = new MyLongHashSet();
+        set.add(5);
+        set.add(5);
+
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    void testRemoveManyElements() {
+        MyLongHashSet set = new MyLongHashSet(16);
+        for (int i = 0; i < 10_000; i++) {
+            set.add(i);
+        }
+        for (int i = 0; i < 10_000; i += 2) {
+            set.remove(i);
+        }
+
+        assertEquals(5_000, set.size());
+        assertFalse(set.contains(0));
+        assertTrue(set.contains(9_999));
+    }
+}
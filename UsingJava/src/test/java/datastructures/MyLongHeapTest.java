@@ -0,0 +1,76 @@
+package datastructures;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MyLongHeapTest {
+
+    @Test
+    void testMinAndMaxHeap() {
+        MyLongHeap heap = new MyLongHeap();
+        for (long value : new long[] {5L, 3L, 8L, 1L}) {
+            heap.insert(value);
+        }
+        assertEquals(1L, heap.peek());
+        assertEquals(1L, heap.poll());
+        assertEquals(3L, heap.poll());
+        assertEquals(2, heap.size());
+
+        MyLongHeap maxHeap = new MyLongHeap(true);
+        for (long value : new long[] {5L, 3L, 8L, 1L}) {
+            maxHeap.insert(value);
+        }
+        assertEquals(8L, maxHeap.poll());
+        assertEquals(5L, maxHeap.poll());
+
+        heap.clear();
+        assertTrue(heap.isEmpty());
+        assertThrows(NoSuchElementException.class, heap::poll);
+        assertThrows(NoSuchElementException.class, heap::peek);
+    }
+
+    @Test
+    void testRandomizedAgainstPriorityQueue() {
+        Random random = new Random(23);
+        long[] initial = new long[1_000];
+        PriorityQueue<Long> expected = new PriorityQueue<>();
+        for (int i = 0; i < initial.length; i++) {
+            initial[i] = random.nextLong();
+            expected.add(initial[i]);
+        }
+        MyLongHeap heap = new MyLongHeap(initial, false); // O(n) 일괄 생성
+
+        for (int op = 0; op < 100_000; op++) {
+            if (random.nextInt(3) < 2 || expected.isEmpty()) {
+                long value = random.nextLong();
+                heap.insert(value);
+                expected.add(value);
+            } else {
+                assertEquals(expected.poll(), heap.poll());
+            }
+            assertEquals(expected.size(), heap.size());
+        }
+    }
+
+    @Test
+    void testNoAllocationOnHotPath() {
+        // 용량이 충분하면 insert/poll은 객체를 할당하지 않아야 함 (박싱된 값을 담는 MyHeap은 삽입마다 할당)
+        MyLongHeap heap = new MyLongHeap();
+        for (int i = 0; i < 1_024; i++) {
+            heap.insert(i);
+        }
+        long[] sum = new long[1];
+        Allocations.assertNoAllocation(() -> {
+            for (int i = 0; i < 100_000; i++) {
+                heap.insert(i * 31 + 1_000);
+                sum[0] += heap.poll();
+            }
+        });
+        assertTrue(sum[0] > 0);
+    }
+}
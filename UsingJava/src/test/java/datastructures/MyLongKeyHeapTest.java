@@ -0,0 +1,78 @@
+package datastructures;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MyLongKeyHeapTest {
+
+    @Test
+    void testTimerStyleUsage() {
+        // 만료 시각(long)을 우선순위로, 작업 이름을 값으로 저장
+        MyLongKeyHeap<String> timers = new MyLongKeyHeap<>();
+        timers.insert(300, "C");
+        timers.insert(100, "A");
+        timers.insert(200, "B");
+        timers.insert(500, "E");
+
+        List<String> fired = new ArrayList<>();
+        long now = 250;
+        while (!timers.isEmpty() && timers.peekKey() <= now) {
+            fired.add(timers.poll());
+        }
+        assertEquals(List.of("A", "B"), fired);
+        assertEquals(300, timers.peekKey());
+        assertEquals("C", timers.peek());
+        assertEquals(2, timers.size());
+
+        timers.clear();
+        assertThrows(NoSuchElementException.class, timers::poll);
+        assertThrows(NoSuchElementException.class, timers::peekKey);
+
+        MyLongKeyHeap<String> maxHeap = new MyLongKeyHeap<>(true);
+        maxHeap.insert(1, "low");
+        maxHeap.insert(9, "high");
+        assertEquals("high", maxHeap.poll());
+    }
+
+    @Test
+    void testRandomizedAgainstPriorityQueue() {
+        MyLongKeyHeap<long[]> heap = new MyLongKeyHeap<>();
+        PriorityQueue<long[]> expected = new PriorityQueue<>((a, b) -> Long.compare(a[0], b[0]));
+        Random random = new Random(23);
+
+        for (int op = 0; op < 100_000; op++) {
+            if (random.nextInt(3) < 2 || expected.isEmpty()) {
+                long[] entry = {random.nextInt(10_000), op};
+                heap.insert(entry[0], entry);
+                expected.add(entry);
+            } else {
+                long key = heap.peekKey();
+                long[] entry = heap.poll();
+                assertEquals(key, entry[0]); // 값이 자기 우선순위와 함께 움직였는지
+                assertEquals(expected.poll()[0], key);
+            }
+            assertEquals(expected.size(), heap.size());
+        }
+    }
+
+    @Test
+    void testNoAllocationOnHotPath() {
+        // 같은 값 객체를 다시 넣고 빼는 동안 우선순위 때문에 생기는 할당이 없어야 함
+        MyLongKeyHeap<String> heap = new MyLongKeyHeap<>();
+        for (int i = 0; i < 1_024; i++) {
+            heap.insert(i, "task");
+        }
+        Allocations.assertNoAllocation(() -> {
+            for (int i = 0; i < 100_000; i++) {
+                heap.insert(i * 31L + 1_000, heap.poll());
+            }
+        });
+    }
+}
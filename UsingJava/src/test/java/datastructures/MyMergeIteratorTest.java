@@ -0,0 +1,86 @@
+package datastructures;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MyMergeIteratorTest {
+
+    @Test
+    void testMergeRandomSortedSources() {
+        Random random = new Random(9);
+        MyArrayList<Iterator<Integer>> sources = new MyArrayList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int s = 0; s < 20; s++) {
+            List<Integer> source = new ArrayList<>();
+            int length = random.nextInt(200); // 빈 입력도 포함
+            for (int i = 0; i < length; i++) {
+                source.add(random.nextInt(1_000));
+            }
+            Collections.sort(source);
+            expected.addAll(source);
+            sources.add(source.iterator());
+        }
+        Collections.sort(expected);
+
+        MyMergeIterator<Integer> merged = new MyMergeIterator<>(sources);
+        for (Integer value : expected) {
+            assertTrue(merged.hasNext());
+            assertEquals(value, merged.next());
+        }
+        assertFalse(merged.hasNext());
+        assertThrows(NoSuchElementException.class, merged::next);
+    }
+
+    @Test
+    void testStableForEqualKeys() {
+        // 같은 키는 먼저 추가된 입력의 요소가 먼저 나와야 함
+        MyArrayList<Iterator<String>> sources = new MyArrayList<>();
+        sources.add(List.of("a1", "b1").iterator());
+        sources.add(List.of("a2", "b2").iterator());
+        sources.add(List.of("a3").iterator());
+
+        MyMergeIterator<String> merged = new MyMergeIterator<>(sources, Comparator.comparing(s -> s.charAt(0)));
+        List<String> result = new ArrayList<>();
+        merged.forEachRemaining(result::add);
+        assertEquals(List.of("a1", "a2", "a3", "b1", "b2"), result);
+    }
+
+    @Test
+    void testAddSourceAndNestedMerge() {
+        MyArrayList<Iterator<Integer>> left = new MyArrayList<>();
+        left.add(List.of(1, 4, 7).iterator());
+        left.add(List.of(2, 5).iterator());
+        MyArrayList<Iterator<Integer>> right = new MyArrayList<>();
+        right.add(List.of(3, 6).iterator());
+
+        // 병합 결과를 다시 병합의 입력으로 사용
+        MyArrayList<Iterator<Integer>> nested = new MyArrayList<>();
+        nested.add(new MyMergeIterator<>(left));
+        nested.add(new MyMergeIterator<>(right));
+        MyMergeIterator<Integer> merged = new MyMergeIterator<>(nested);
+        assertEquals(1, merged.next());
+        merged.addSource(List.of(2, 8).iterator());
+        merged.addSource(Collections.emptyIterator());
+
+        List<Integer> result = new ArrayList<>();
+        merged.forEachRemaining(result::add);
+        assertEquals(List.of(2, 2, 3, 4, 5, 6, 7, 8), result);
+    }
+
+    @Test
+    void testNoSources() {
+        MyMergeIterator<Integer> merged = new MyMergeIterator<>(new MyArrayList<Iterator<Integer>>());
+        assertFalse(merged.hasNext());
+        assertThrows(IllegalArgumentException.class,
+                () -> new MyMergeIterator<Integer>(new MyArrayList<Iterator<Integer>>(), null));
+    }
+}
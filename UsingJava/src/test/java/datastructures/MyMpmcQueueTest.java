@@ -0,0 +1,131 @@
+package datastructures;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MyMpmcQueueTest {
+
+    @Test
+    void testOfferAndPoll() {
+        MyMpmcQueue<Integer> queue = new MyMpmcQueue<>(4);
+        for (int lap = 0; lap < 3; lap++) {
+            // 여러 바퀴를 돌아도 시퀀스 번호가 맞아야 함
+            for (int i = 0; i < 4; i++) {
+                assertTrue(queue.offer(lap * 10 + i));
+            }
+            assertFalse(queue.offer(-1));
+            assertEquals(4, queue.size());
+            for (int i = 0; i < 4; i++) {
+                assertEquals(lap * 10 + i, queue.poll());
+            }
+            assertNull(queue.poll());
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void testDrainToKeepsRemainingWhenSinkFails() {
+        // sink가 예외를 던지면 그 요소까지만 꺼내고, 나머지는 순서대로 큐에 남아야 함 (MyConcurrentQueue 계약)
+        MyMpmcQueue<Integer> queue = new MyMpmcQueue<>(4);
+        for (int i = 0; i < 4; i++) {
+            queue.offer(i);
+        }
+        List<Integer> received = new ArrayList<>();
+        assertThrows(IllegalStateException.class, () -> queue.drainTo(e -> {
+            received.add(e);
+            if (e == 1) {
+                throw new IllegalStateException();
+            }
+        }, 4));
+
+        assertEquals(List.of(0, 1), received);
+        assertEquals(2, queue.size());
+        assertEquals(2, queue.poll());
+        assertTrue(queue.offer(7)); // 큐가 멈추지 않아야 함
+        assertEquals(3, queue.poll());
+        assertEquals(7, queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void testManyProducersManyConsumers() throws InterruptedException {
+        // 모든 요소가 정확히 한 번씩 소비되어야 함
+        MyMpmcQueue<Integer> queue = new MyMpmcQueue<>(256);
+        int producers = 4;
+        int consumers = 4;
+        int perProducer = 50_000;
+        int total = producers * perProducer;
+        AtomicIntegerArray seen = new AtomicIntegerArray(total);
+        AtomicInteger consumed = new AtomicInteger();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < producers; t++) {
+            int id = t;
+            threads.add(new Thread(() -> {
+                MyArrayList<Integer> batch = new MyArrayList<>();
+                int i = 0;
+                while (i < perProducer) {
+                    if (i % 2 == 0) {
+                        batch.clear();
+                        for (int j = 0; j < 8 && i + j < perProducer; j++) {
+                            batch.add(id * perProducer + i + j);
+                        }
+                        int offered = queue.offerBatch(batch);
+                        if (offered == 0) {
+                            Thread.yield();
+                        }
+                        i += offered;
+                    } else if (queue.offer(id * perProducer + i)) {
+                        i++;
+                    } else {
+                        Thread.yield();
+                    }
+                }
+            }));
+        }
+        for (int t = 0; t < consumers; t++) {
+            int id = t;
+            threads.add(new Thread(() -> {
+                try {
+                    while (consumed.get() < total) {
+                        if (id % 2 == 0) {
+                            Integer e = queue.poll();
+                            if (e != null) {
+                                assertEquals(0, seen.getAndIncrement(e));
+                                consumed.incrementAndGet();
+                            } else {
+                                Thread.yield();
+                            }
+                        } else if (queue.drainTo(e -> {
+                            assertEquals(0, seen.getAndIncrement(e));
+                            consumed.incrementAndGet();
+                        }, 16) == 0) {
+                            Thread.yield();
+                        }
+                    }
+                } catch (Throwable e) {
+                    error.set(e);
+                    consumed.set(total); // 다른 소비자도 멈추도록
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertNull(error.get());
+        for (int i = 0; i < total; i++) {
+            assertEquals(1, seen.get(i));
+        }
+        assertTrue(queue.isEmpty());
+    }
+}
@@ -0,0 +1,111 @@
+package datastructures;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MyMpscQueueTest {
+
+    @Test
+    void testOfferAndPoll() {
+        MyMpscQueue<String> queue = new MyMpscQueue<>(2);
+        assertTrue(queue.offer("A"));
+        assertTrue(queue.offer("B"));
+        assertFalse(queue.offer("C")); // 가득 참
+
+        assertEquals("A", queue.poll());
+        assertTrue(queue.offer("C"));
+        assertEquals("B", queue.poll());
+        assertEquals("C", queue.poll());
+        assertNull(queue.poll());
+        assertThrows(IllegalArgumentException.class, () -> queue.offer(null));
+    }
+
+    @Test
+    void testBatchOperations() {
+        MyMpscQueue<Integer> queue = new MyMpscQueue<>(4);
+        MyArrayList<Integer> batch = new MyArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            batch.add(i);
+        }
+        assertEquals(4, queue.offerBatch(batch));
+        assertEquals(0, queue.offerBatch(batch)); // 가득 참
+
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(2, queue.drainTo(drained::add, 2));
+        assertEquals(2, queue.offerBatch(batch)); // 감겨서(wrap-around) 들어감
+        assertEquals(4, queue.drainTo(drained::add, 10));
+        assertEquals(List.of(0, 1, 2, 3, 0, 1), drained);
+    }
+
+    @Test
+    void testDrainToKeepsRemainingWhenSinkFails() {
+        // sink가 예외를 던지면 그 요소까지만 꺼내고, 나머지는 순서대로 큐에 남아야 함 (MyConcurrentQueue 계약)
+        MyMpscQueue<Integer> queue = new MyMpscQueue<>(4);
+        for (int i = 0; i < 4; i++) {
+            queue.offer(i);
+        }
+        List<Integer> received = new ArrayList<>();
+        assertThrows(IllegalStateException.class, () -> queue.drainTo(e -> {
+            received.add(e);
+            if (e == 1) {
+                throw new IllegalStateException();
+            }
+        }, 4));
+
+        assertEquals(List.of(0, 1), received);
+        assertEquals(2, queue.size());
+        assertEquals(2, queue.poll());
+        assertTrue(queue.offer(7)); // 큐가 멈추지 않아야 함
+        assertEquals(3, queue.poll());
+        assertEquals(7, queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void testManyProducersOneConsumer() throws InterruptedException {
+        // 생산자마다 넣은 순서는 소비자에게도 그대로 보여야 하고, 모든 요소가 정확히 한 번 나와야 함
+        MyMpscQueue<long[]> queue = new MyMpscQueue<>(128);
+        int producers = 4;
+        int perProducer = 50_000;
+
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < producers; t++) {
+            int id = t;
+            Thread producer = new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    long[] element = {id, i};
+                    while (!queue.offer(element)) {
+                        Thread.yield();
+                    }
+                }
+            });
+            threads.add(producer);
+            producer.start();
+        }
+
+        int[] next = new int[producers];
+        int received = 0;
+        while (received < producers * perProducer) {
+            int n = queue.drainTo(e -> {
+                assertEquals(next[(int) e[0]], e[1]);
+                next[(int) e[0]]++;
+            }, 32);
+            if (n == 0) {
+                Thread.yield();
+            }
+            received += n;
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        for (int count : next) {
+            assertEquals(perProducer, count);
+        }
+        assertNull(queue.poll());
+    }
+}
@@ -0,0 +1,115 @@
+package datastructures;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.HashMap;
+import java.util.Random;
+
+class MyOpenHashMapTest {
+
+    @Test
+    void testPutAndGet() {
+        // 데이터 저장(put) 및 조회(get) 테스트
+        MyOpenHashMap<String, Integer> map = new MyOpenHashMap<>();
+        map.put("A", 1);
+        map.put("B", 2);
+
+        assertEquals(1, map.get("A"));
+        assertEquals(2, map.get("B"));
+        assertNull(map.get("C"));
+    }
+
+    @Test
+    void testUpdate() {
+        // 이미 존재하는 키에 값을 저장하면 업데이트되는지 테스트
+        MyOpenHashMap<String, String> map = new MyOpenHashMap<>();
+        map.put("Key", "Value1");
+        map.put("Key", "Value2");
+
+        assertEquals("Value2", map.get("Key"));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void testRemoveAndReinsert() {
+        // 삭제 후 같은 자리(Tombstone)를 재사용해도 탐색이 깨지지 않는지 테스트
+        MyOpenHashMap<Integer, Integer> map = new MyOpenHashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, i);
+        }
+        for (int i = 0; i < 1000; i += 2) {
+            map.remove(i);
+        }
+        assertEquals(500, map.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i % 2 == 0 ? null : i, map.get(i));
+        }
+
+        for (int i = 0; i < 1000; i += 2) {
+            map.put(i, -i);
+        }
+        assertEquals(1000, map.size());
+        assertEquals(-10, map.get(10));
+    }
+
+    @Test
+    void testCollidingHashCodes() {
+        // 모든 키의 hashCode가 같아도 equals로 구분되어야 함
+        class SameHash {
+            final int id;
+
+            SameHash(int id) {
+                this.id = id;
+            }
+
+            @Override
+            public int hashCode() {
+                return 42;
+            }
+
+            @Override
+            public boolean equals(Object o) {
+                return o instanceof SameHash && ((SameHash) o).id == id;
+            }
+        }
+
+        MyOpenHashMap<SameHash, Integer> map = new MyOpenHashMap<>();
+        for (int i = 0; i < 300; i++) {
+            map.put(new SameHash(i), i);
+        }
+        map.remove(new SameHash(150));
+
+        assertEquals(299, map.size());
+        assertNull(map.get(new SameHash(150)));
+        assertEquals(299, map.get(new SameHash(299)));
+    }
+
+    @Test
+    void testRandomOperationsAgainstHashMap() {
+        // java.util.HashMap과 같은 결과를 내는지 무작위 연산으로 비교
+        MyOpenHashMap<Integer, Integer> map = new MyOpenHashMap<>();
+        HashMap<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random(7);
+
+        for (int i = 0; i < 200_000; i++) {
+            int key = random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                map.remove(key);
+                expected.remove(key);
+            } else {
+                map.put(key, i);
+                expected.put(key, i);
+            }
+            assertEquals(expected.get(key), map.get(key));
+        }
+        assertEquals(expected.size(), map.size());
+        // 삭제가 많아도 Tombstone 정리 덕분에 용량이 계속 커지지 않아야 함
+        assertTrue(map.capacity() <= 16_384);
+    }
+
+    @Test
+    void testIllegalArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new MyOpenHashMap<>(16, 1.0f));
+        assertThrows(IllegalArgumentException.class, () -> new MyOpenHashMap<String, String>().put(null, "V"));
+    }
+}
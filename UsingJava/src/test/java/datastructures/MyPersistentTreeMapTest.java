@@ -0,0 +1,175 @@
+package datastructures;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MyPersistentTreeMapTest {
+
+    @Test
+    void testPutReturnsNewVersion() {
+        MyPersistentTreeMap<String, Integer> empty = new MyPersistentTreeMap<>();
+        MyPersistentTreeMap<String, Integer> v1 = empty.put("A", 1);
+        MyPersistentTreeMap<String, Integer> v2 = v1.put("B", 2);
+        MyPersistentTreeMap<String, Integer> v3 = v2.put("A", 10); // Update
+
+        // 이전 버전은 그대로 남아 있어야 함
+        assertTrue(empty.isEmpty());
+        assertEquals(1, v1.size());
+        assertNull(v1.get("B"));
+        assertEquals(1, v2.get("A"));
+        assertEquals(10, v3.get("A"));
+        assertEquals(2, v3.size());
+
+        // 바뀐 것이 없으면 같은 인스턴스를 반환
+        assertSame(v3, v3.put("A", v3.get("A")));
+        assertSame(v3, v3.remove("Z"));
+        assertThrows(IllegalArgumentException.class, () -> empty.put(null, 1));
+    }
+
+    @Test
+    void testRemoveKeepsOldVersions() {
+        MyPersistentTreeMap<Integer, Integer> full = new MyPersistentTreeMap<>();
+        for (int i = 0; i < 1000; i++) {
+            full = full.put(i, i);
+        }
+        full.checkInvariants();
+
+        MyPersistentTreeMap<Integer, Integer> odd = full;
+        for (int i = 0; i < 1000; i += 2) {
+            odd = odd.remove(i);
+        }
+        odd.checkInvariants();
+
+        assertEquals(1000, full.size());
+        assertEquals(500, odd.size());
+        assertEquals(0, full.get(0));
+        assertNull(odd.get(0));
+        assertEquals(1, odd.firstKey());
+        assertEquals(999, odd.lastKey());
+    }
+
+    @Test
+    void testNavigationAndOrderStatistics() {
+        MyPersistentTreeMap<Integer, String> map = new MyPersistentTreeMap<>();
+        assertThrows(NoSuchElementException.class, map::firstKey);
+        for (int i = 0; i < 50; i++) {
+            map = map.put(i * 2, "V" + i); // 0, 2, ..., 98
+        }
+
+        assertEquals(0, map.firstKey());
+        assertEquals(98, map.lastKey());
+        assertEquals(10, map.floorKey(11));
+        assertEquals(12, map.ceilingKey(11));
+        assertNull(map.ceilingKey(99));
+        assertEquals(20, map.select(10));
+        assertEquals(10, map.rank(20));
+        assertEquals(11, map.rank(21));
+        MyPersistentTreeMap<Integer, String> last = map;
+        assertThrows(IndexOutOfBoundsException.class, () -> last.select(50));
+
+        Iterator<Map.Entry<Integer, String>> it = map.entryIterator();
+        for (int i = 0; i < 50; i++) {
+            Map.Entry<Integer, String> entry = it.next();
+            assertEquals(i * 2, entry.getKey());
+            assertEquals("V" + i, entry.getValue());
+        }
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    void testRandomizedAgainstTreeMapWithSnapshots() {
+        // 무작위 연산 중간중간의 버전을 보관했다가, 모든 연산이 끝난 뒤에도 당시 내용 그대로인지 확인
+        MyPersistentTreeMap<Integer, Integer> map = new MyPersistentTreeMap<>();
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        List<MyPersistentTreeMap<Integer, Integer>> versions = new ArrayList<>();
+        List<TreeMap<Integer, Integer>> expectedVersions = new ArrayList<>();
+        Random random = new Random(5);
+
+        for (int op = 0; op < 100_000; op++) {
+            int key = random.nextInt(2_000);
+            if (random.nextInt(10) < 6) {
+                map = map.put(key, op);
+                expected.put(key, op);
+            } else {
+                map = map.remove(key);
+                expected.remove(key);
+            }
+            if (op % 10_000 == 0) {
+                map.checkInvariants();
+                versions.add(map);
+                expectedVersions.add(new TreeMap<>(expected));
+            }
+        }
+
+        for (int v = 0; v < versions.size(); v++) {
+            MyPersistentTreeMap<Integer, Integer> version = versions.get(v);
+            TreeMap<Integer, Integer> snapshot = expectedVersions.get(v);
+            assertEquals(snapshot.size(), version.size());
+            Iterator<Map.Entry<Integer, Integer>> it = version.entryIterator();
+            for (Map.Entry<Integer, Integer> entry : snapshot.entrySet()) {
+                Map.Entry<Integer, Integer> actual = it.next();
+                assertEquals(entry.getKey(), actual.getKey());
+                assertEquals(entry.getValue(), actual.getValue());
+            }
+            assertFalse(it.hasNext());
+        }
+    }
+
+    @Test
+    void testReadersSeeConsistentSnapshots() throws InterruptedException {
+        // 쓰기 스레드가 새 버전을 발행하는 동안, 읽기 스레드는 락 없이 받은 스냅샷을 일관되게 봐야 함
+        AtomicReference<MyPersistentTreeMap<Integer, Integer>> current =
+                new AtomicReference<>(new MyPersistentTreeMap<>());
+        AtomicBoolean done = new AtomicBoolean();
+        List<Throwable> errors = new ArrayList<>();
+
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 20_000; i++) {
+                // 버전 i+1은 정확히 키 0..i를 가짐
+                current.set(current.get().put(i, i));
+            }
+            done.set(true);
+        });
+        List<Thread> readers = new ArrayList<>();
+        for (int r = 0; r < 3; r++) {
+            readers.add(new Thread(() -> {
+                try {
+                    while (!done.get()) {
+                        MyPersistentTreeMap<Integer, Integer> snapshot = current.get();
+                        int size = snapshot.size();
+                        int count = 0;
+                        for (Iterator<Integer> it = snapshot.keyIterator(); it.hasNext();) {
+                            assertEquals(count, it.next());
+                            count++;
+                        }
+                        assertEquals(size, count);
+                    }
+                } catch (Throwable e) {
+                    synchronized (errors) {
+                        errors.add(e);
+                    }
+                }
+            }));
+        }
+        writer.start();
+        readers.forEach(Thread::start);
+        writer.join();
+        for (Thread reader : readers) {
+            reader.join();
+        }
+
+        assertTrue(errors.isEmpty(), () -> "Reader failed: " + errors.get(0));
+        assertEquals(20_000, current.get().size());
+    }
+}
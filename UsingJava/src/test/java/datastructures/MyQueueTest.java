@@ -68,4 +68,18 @@ class MyQueueTest {
         queue.poll();
         assertEquals(1, queue.size());
     }
+
+    @Test
+    void testManyElementsKeepFifoOrder() {
+        // 내부 원형 배열이 여러 번 감기고 늘어나도 FIFO 순서가 유지되어야 합니다.
+        MyQueue<Integer> queue = new MyQueue<>(2);
+        int next = 0;
+        for (int i = 0; i < 10_000; i++) {
+            queue.offer(i);
+            queue.offer(-i);
+            assertEquals(next % 2 == 0 ? next / 2 : -(next / 2), queue.poll());
+            next++;
+        }
+        assertEquals(10_000, queue.size());
+    }
 }
@@ -1,6 +1,16 @@
 package datastructures;
 
 import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicLong;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class MyRedBlackTreeTest {
@@ -69,4 +79,305 @@ class MyRedBlackTreeTest {
             assertTrue(keys.get(i) < keys.get(i + 1));
         }
     }
+
+    @Test
+    void testRemoveKeepsBalance() {
+        // 삭제 후에도 레드-블랙 속성이 유지되어야 함
+        MyRedBlackTree<Integer, Integer> rbTree = new MyRedBlackTree<>();
+        for (int i = 0; i < 1000; i++) {
+            rbTree.put(i, i);
+        }
+        for (int i = 0; i < 1000; i += 2) {
+            rbTree.remove(i);
+            rbTree.checkInvariants();
+        }
+
+        assertEquals(500, rbTree.size());
+        assertNull(rbTree.get(0));
+        assertEquals(1, rbTree.get(1));
+        assertTrue(rbTree.height() <= 2 * log2(rbTree.size() + 1));
+
+        for (int i = 1; i < 1000; i += 2) {
+            rbTree.remove(i);
+        }
+        rbTree.checkInvariants();
+        assertTrue(rbTree.isEmpty());
+        assertEquals(0, rbTree.height());
+    }
+
+    @Test
+    void testRandomizedStress() {
+        // 무작위 삽입/삭제/조회를 섞어 수행하며 java.util.TreeMap과 결과를 비교하고,
+        // 주기적으로 불변식과 높이 상한(2·log2(n+1))을 검사
+        MyRedBlackTree<Integer, Integer> rbTree = new MyRedBlackTree<>();
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        Random random = new Random(42);
+        int operations = 2_000_000;
+
+        for (int op = 0; op < operations; op++) {
+            // 구간마다 삽입 위주/삭제 위주를 번갈아 트리 크기가 크게 오르내리도록 함
+            boolean insertHeavy = (op / 200_000) % 2 == 0;
+            int key = random.nextInt(100_000);
+            int dice = random.nextInt(10);
+            if (dice < (insertHeavy ? 6 : 2)) {
+                rbTree.put(key, op);
+                expected.put(key, op);
+            } else if (dice < 8) {
+                rbTree.remove(key);
+                expected.remove(key);
+            } else {
+                assertEquals(expected.get(key), rbTree.get(key));
+            }
+
+            if (op % 100_000 == 0) {
+                rbTree.checkInvariants();
+                assertEquals(expected.size(), rbTree.size());
+                assertTrue(rbTree.height() <= 2 * log2(rbTree.size() + 1));
+            }
+        }
+
+        rbTree.checkInvariants();
+        MyArrayList<Integer> keys = rbTree.keys();
+        int index = 0;
+        for (Integer key : expected.keySet()) {
+            assertEquals(key, keys.get(index++));
+        }
+        assertEquals(expected.size(), index);
+    }
+
+    private static double log2(int n) {
+        return Math.log(n) / Math.log(2);
+    }
+
+    @Test
+    void testSelectAndRank() {
+        // 서브트리 크기로 k번째 키와 순위를 구함
+        MyRedBlackTree<Integer, Integer> rbTree = new MyRedBlackTree<>();
+        for (int i = 0; i < 100; i++) {
+            rbTree.put(i * 2, i); // 0, 2, 4, ..., 198
+        }
+
+        assertEquals(0, rbTree.select(0));
+        assertEquals(100, rbTree.select(50));
+        assertEquals(198, rbTree.select(99));
+        assertThrows(IndexOutOfBoundsException.class, () -> rbTree.select(100));
+
+        assertEquals(0, rbTree.rank(0));
+        assertEquals(50, rbTree.rank(100));
+        assertEquals(51, rbTree.rank(101)); // 없는 키도 순위 계산 가능
+        assertEquals(100, rbTree.rank(1000));
+        assertEquals(6, rbTree.countInRange(10, 20)); // 10, 12, ..., 20
+        assertEquals(0, rbTree.countInRange(20, 10));
+    }
+
+    @Test
+    void testOrderStatisticStress() {
+        // 무작위 삽입/삭제 후에도 select/rank가 정렬된 목록의 인덱스와 일치해야 함
+        MyRedBlackTree<Integer, Integer> rbTree = new MyRedBlackTree<>();
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        Random random = new Random(7);
+        for (int op = 0; op < 200_000; op++) {
+            int key = random.nextInt(10_000);
+            if (random.nextInt(3) < 2) {
+                rbTree.put(key, key);
+                expected.put(key, key);
+            } else {
+                rbTree.remove(key);
+                expected.remove(key);
+            }
+        }
+        rbTree.checkInvariants();
+
+        int index = 0;
+        for (Integer key : expected.keySet()) {
+            assertEquals(key, rbTree.select(index));
+            assertEquals(index, rbTree.rank(key));
+            index++;
+        }
+        assertEquals(expected.subMap(1000, true, 2000, true).size(), rbTree.countInRange(1000, 2000));
+    }
+
+    @Test
+    void testIterators() {
+        // 오름차순/내림차순 반복자가 리스트 복사 없이 정렬 순서대로 순회해야 함
+        MyRedBlackTree<Integer, String> rbTree = new MyRedBlackTree<>();
+        int[] inputs = { 50, 20, 80, 10, 30, 70, 90 };
+        for (int val : inputs) {
+            rbTree.put(val, "V" + val);
+        }
+
+        Iterator<Integer> ascending = rbTree.keyIterator();
+        int previous = Integer.MIN_VALUE;
+        int count = 0;
+        while (ascending.hasNext()) {
+            int key = ascending.next();
+            assertTrue(key > previous);
+            previous = key;
+            count++;
+        }
+        assertEquals(inputs.length, count);
+        assertThrows(NoSuchElementException.class, ascending::next);
+
+        Iterator<Integer> descending = rbTree.descendingKeyIterator();
+        assertEquals(90, descending.next());
+        assertEquals(80, descending.next());
+
+        Iterator<Map.Entry<Integer, String>> entries = rbTree.entryIterator();
+        Map.Entry<Integer, String> first = entries.next();
+        assertEquals(10, first.getKey());
+        assertEquals("V10", first.getValue());
+        assertEquals("V10", rbTree.valueIterator().next());
+    }
+
+    @Test
+    void testIteratorRemoveAndFailFast() {
+        MyRedBlackTree<Integer, Integer> rbTree = new MyRedBlackTree<>();
+        for (int i = 0; i < 1000; i++) {
+            rbTree.put(i, i);
+        }
+
+        // 반복자의 remove로 짝수만 삭제
+        Iterator<Integer> it = rbTree.keyIterator();
+        while (it.hasNext()) {
+            if (it.next() % 2 == 0) {
+                it.remove();
+            }
+        }
+        assertEquals(500, rbTree.size());
+        rbTree.checkInvariants();
+        assertThrows(IllegalStateException.class, () -> rbTree.keyIterator().remove()); // next() 전에는 삭제 불가
+
+        // 내림차순 순회 중 삭제도 가능
+        Iterator<Integer> descending = rbTree.descendingKeyIterator();
+        descending.next();
+        descending.remove();
+        assertEquals(997, descending.next());
+        assertNull(rbTree.get(999));
+
+        // 반복자 밖에서 구조를 바꾸면 즉시 실패
+        Iterator<Integer> failFast = rbTree.keyIterator();
+        failFast.next();
+        rbTree.put(-1, -1);
+        assertThrows(ConcurrentModificationException.class, failFast::next);
+
+        // 값만 바꾸는 것은 구조 변경이 아님
+        Iterator<Integer> values = rbTree.keyIterator();
+        values.next();
+        rbTree.put(1, 100);
+        assertDoesNotThrow(values::next);
+    }
+
+    @Test
+    void testBuildFromSorted() {
+        // 크기에 관계없이 정렬된 입력으로 만든 트리는 모든 속성을 만족하고 높이가 최소여야 함
+        for (int n = 0; n <= 300; n++) {
+            MyArrayList<Integer> keys = new MyArrayList<>();
+            MyArrayList<String> values = new MyArrayList<>();
+            for (int i = 0; i < n; i++) {
+                keys.add(i * 2);
+                values.add("V" + i);
+            }
+            MyRedBlackTree<Integer, String> tree = new MyRedBlackTree<>(keys, values);
+            tree.checkInvariants();
+            assertEquals(n, tree.size());
+            assertEquals(32 - Integer.numberOfLeadingZeros(n), tree.height()); // ceil(log2(n+1))
+            for (int i = 0; i < n; i++) {
+                assertEquals("V" + i, tree.get(i * 2));
+                assertEquals(i * 2, tree.select(i));
+            }
+        }
+
+        // 만든 뒤에도 일반 삽입/삭제가 정상 동작해야 함
+        MyArrayList<Integer> keys = new MyArrayList<>();
+        MyArrayList<Integer> values = new MyArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            keys.add(i);
+            values.add(i);
+        }
+        MyRedBlackTree<Integer, Integer> tree = new MyRedBlackTree<>(keys, values);
+        for (int i = 0; i < 1000; i += 2) {
+            tree.remove(i);
+            tree.put(i + 1000, i);
+        }
+        tree.checkInvariants();
+        assertEquals(1000, tree.size());
+    }
+
+    @Test
+    void testBuildFromSortedRejectsInvalidInput() {
+        MyArrayList<Integer> unsorted = new MyArrayList<>();
+        unsorted.add(2);
+        unsorted.add(1);
+        MyArrayList<Integer> duplicated = new MyArrayList<>();
+        duplicated.add(1);
+        duplicated.add(1);
+        MyArrayList<Integer> values = new MyArrayList<>();
+        values.add(0);
+        values.add(0);
+
+        assertThrows(IllegalArgumentException.class, () -> new MyRedBlackTree<>(unsorted, values));
+        assertThrows(IllegalArgumentException.class, () -> new MyRedBlackTree<>(duplicated, values));
+        assertThrows(IllegalArgumentException.class, () -> new MyRedBlackTree<>(unsorted, new MyArrayList<Integer>()));
+    }
+
+    /**
+     * 비교 비용이 큰 키: 앞부분이 긴 공통 접두사를 공유하는 문자열 두 개로 이루어진 복합 키입니다.
+     */
+    private record CompositeKey(String tenant, String path) {
+    }
+
+    @Test
+    void testNoRepeatedComparisons() {
+        AtomicLong comparisons = new AtomicLong();
+        String prefix = "tenant/region/zone/".repeat(20);
+        Comparator<CompositeKey> counting = (a, b) -> {
+            comparisons.incrementAndGet();
+            int cmp = a.tenant().compareTo(b.tenant());
+            return cmp != 0 ? cmp : a.path().compareTo(b.path());
+        };
+        MyRedBlackTree<CompositeKey, Integer> tree = new MyRedBlackTree<>(counting);
+
+        // 루트 하나뿐인 트리에 삽입하면 비교는 정확히 한 번 (삽입 위치를 정할 때 다시 비교하지 않음)
+        tree.put(new CompositeKey(prefix + "B", "x"), 0);
+        comparisons.set(0);
+        tree.put(new CompositeKey(prefix + "A", "x"), 1);
+        assertEquals(1, comparisons.get());
+
+        // 새 키 삽입의 비교 횟수는 내려간 경로의 노드 수(높이 이하)를 넘지 않음
+        Random random = new Random(9);
+        for (int i = 0; i < 5_000; i++) {
+            CompositeKey key = new CompositeKey(prefix + random.nextInt(100), prefix + i);
+            int heightBefore = tree.height();
+            comparisons.set(0);
+            tree.put(key, i);
+            assertTrue(comparisons.get() <= heightBefore,
+                    () -> "put compared " + comparisons.get() + " times with height " + heightBefore);
+        }
+        tree.checkInvariants();
+
+        // 범위 순회는 시작 위치 탐색 + 원소마다 경계 비교 한 번
+        CompositeKey lo = new CompositeKey(prefix + 10, "");
+        CompositeKey hi = new CompositeKey(prefix + 20, "");
+        comparisons.set(0);
+        int visited = 0;
+        for (Iterator<CompositeKey> it = tree.keyIterator(lo, true, hi, false, false); it.hasNext(); it.next()) {
+            visited++;
+        }
+        assertTrue(visited > 0);
+        assertTrue(comparisons.get() <= tree.height() + visited + 1);
+    }
+
+    @Test
+    void testComparatorOrdering() {
+        MyRedBlackTree<String, Integer> tree = new MyRedBlackTree<>(Comparator.reverseOrder());
+        tree.put("A", 1);
+        tree.put("C", 3);
+        tree.put("B", 2);
+
+        assertEquals("C", tree.firstEntry().getKey());
+        assertEquals("A", tree.lastEntry().getKey());
+        assertEquals("B", tree.select(1));
+        assertEquals("B", tree.ceilingEntry("BB").getKey()); // 역순에서 BB 다음은 B
+        tree.checkInvariants();
+    }
 }
@@ -0,0 +1,104 @@
+package datastructures;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MySelectionTest {
+
+    @Test
+    void testEveryRankAgainstSort() {
+        Random random = new Random(11);
+        int n = 200;
+        int[] values = new int[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = random.nextInt(50); // 중복 많음
+        }
+        int[] sorted = values.clone();
+        Arrays.sort(sorted);
+
+        for (int k = 0; k < n; k++) {
+            assertEquals(sorted[k], MySelection.kthSmallest(listOf(values), k));
+        }
+    }
+
+    @Test
+    void testPartitionsAroundK() {
+        Random random = new Random(5);
+        int[] values = new int[1_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt();
+        }
+        MyArrayList<Integer> list = listOf(values);
+        int k = 321;
+        int answer = MySelection.kthSmallest(list, k);
+        assertEquals(answer, list.get(k));
+        for (int i = 0; i < k; i++) {
+            assertTrue(list.get(i) <= answer);
+        }
+        for (int i = k + 1; i < list.size(); i++) {
+            assertTrue(list.get(i) >= answer);
+        }
+    }
+
+    @Test
+    void testSortedAndEqualInputs() {
+        int n = 5_000;
+        int[] ascending = new int[n];
+        int[] descending = new int[n];
+        int[] equal = new int[n];
+        for (int i = 0; i < n; i++) {
+            ascending[i] = i;
+            descending[i] = n - i;
+            equal[i] = 42;
+        }
+        assertEquals(2_500, MySelection.kthSmallest(listOf(ascending), 2_500));
+        assertEquals(1, MySelection.kthSmallest(listOf(descending), 0));
+        assertEquals(42, MySelection.kthSmallest(listOf(equal), n - 1));
+    }
+
+    @Test
+    void testAdversarialPivotsStillCorrect() {
+        // Median-of-3를 계속 속이는 입력 (Musser의 median-of-3 killer)이어도 답은 맞아야 함
+        int n = 4_096;
+        int[] killer = new int[n];
+        int half = n / 2;
+        for (int i = 1; i <= half; i++) {
+            if (i % 2 == 1) {
+                killer[i - 1] = i;
+                killer[i] = half + i;
+            }
+            killer[half + i - 1] = 2 * i;
+        }
+        int[] sorted = killer.clone();
+        Arrays.sort(sorted);
+        for (int k : new int[] {0, 1, n / 3, half, n - 1}) {
+            assertEquals(sorted[k], MySelection.kthSmallest(listOf(killer), k));
+        }
+    }
+
+    @Test
+    void testComparatorAndErrors() {
+        MyArrayList<String> words = new MyArrayList<>();
+        for (String word : new String[] {"pear", "fig", "banana", "kiwi"}) {
+            words.add(word);
+        }
+        assertEquals("banana", MySelection.kthSmallest(words, 0, Comparator.comparingInt(String::length).reversed()));
+        assertThrows(IndexOutOfBoundsException.class, () -> MySelection.kthSmallest(words, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> MySelection.kthSmallest(words, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> MySelection.kthSmallest(new MyArrayList<Integer>(), 0));
+        assertThrows(IllegalArgumentException.class, () -> MySelection.kthSmallest(words, 0, null));
+    }
+
+    private static MyArrayList<Integer> listOf(int[] values) {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        for (int value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+}
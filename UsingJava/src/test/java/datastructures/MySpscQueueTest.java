@@ -0,0 +1,142 @@
+package datastructures;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MySpscQueueTest {
+
+    @Test
+    void testOfferAndPoll() {
+        MySpscQueue<Integer> queue = new MySpscQueue<>(3);
+        assertEquals(4, queue.capacity()); // 2의 거듭제곱으로 올림
+        assertTrue(queue.isEmpty());
+        assertNull(queue.poll());
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(queue.offer(i));
+        }
+        assertFalse(queue.offer(4)); // 가득 참
+        assertEquals(4, queue.size());
+
+        assertEquals(0, queue.poll());
+        assertTrue(queue.offer(4)); // 한 칸 비었으므로 다시 들어감
+        for (int i = 1; i <= 4; i++) {
+            assertEquals(i, queue.poll());
+        }
+        assertNull(queue.poll());
+
+        assertThrows(IllegalArgumentException.class, () -> queue.offer(null));
+        assertThrows(IllegalArgumentException.class, () -> new MySpscQueue<>(0));
+    }
+
+    @Test
+    void testBatchOperations() {
+        MySpscQueue<Integer> queue = new MySpscQueue<>(8);
+        MyArrayList<Integer> batch = new MyArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            batch.add(i);
+        }
+        assertEquals(8, queue.offerBatch(batch)); // 들어갈 수 있는 만큼만
+
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(3, queue.drainTo(drained::add, 3));
+        assertEquals(List.of(0, 1, 2), drained);
+        assertEquals(5, queue.drainTo(drained::add, 100));
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7), drained);
+        assertEquals(0, queue.drainTo(drained::add, 100));
+
+        MyArrayList<Integer> withNull = new MyArrayList<>();
+        withNull.add(1);
+        withNull.add(null);
+        assertThrows(IllegalArgumentException.class, () -> queue.offerBatch(withNull));
+        assertTrue(queue.isEmpty()); // 아무것도 들어가지 않아야 함
+    }
+
+    @Test
+    void testDrainToKeepsRemainingWhenSinkFails() {
+        // sink가 예외를 던지면 그 요소까지만 꺼내고, 나머지는 순서대로 큐에 남아야 함 (MyConcurrentQueue 계약)
+        MySpscQueue<Integer> queue = new MySpscQueue<>(4);
+        for (int i = 0; i < 4; i++) {
+            queue.offer(i);
+        }
+        List<Integer> received = new ArrayList<>();
+        assertThrows(IllegalStateException.class, () -> queue.drainTo(e -> {
+            received.add(e);
+            if (e == 1) {
+                throw new IllegalStateException();
+            }
+        }, 4));
+
+        assertEquals(List.of(0, 1), received);
+        assertEquals(2, queue.size());
+        assertEquals(2, queue.poll());
+        assertTrue(queue.offer(7)); // 큐가 멈추지 않아야 함
+        assertEquals(3, queue.poll());
+        assertEquals(7, queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void testProducerConsumerKeepsOrder() throws InterruptedException {
+        // 생산자 하나, 소비자 하나가 작은 큐를 통해 주고받아도 순서와 개수가 정확해야 함
+        MySpscQueue<Integer> queue = new MySpscQueue<>(64);
+        int total = 200_000;
+        AtomicReference<Throwable> error = new AtomicReference<>();
+
+        Thread producer = new Thread(() -> {
+            MyArrayList<Integer> batch = new MyArrayList<>();
+            int next = 0;
+            while (next < total) {
+                if (next % 3 == 0) {
+                    // 가끔 배치로 넣기
+                    batch.clear();
+                    for (int i = 0; i < 10 && next + i < total; i++) {
+                        batch.add(next + i);
+                    }
+                    int offered = queue.offerBatch(batch);
+                    if (offered == 0) {
+                        Thread.yield();
+                    }
+                    next += offered;
+                } else if (queue.offer(next)) {
+                    next++;
+                } else {
+                    Thread.yield();
+                }
+            }
+        });
+        Thread consumer = new Thread(() -> {
+            int[] expected = {0};
+            try {
+                while (expected[0] < total) {
+                    if (expected[0] % 2 == 0) {
+                        if (queue.drainTo(e -> assertEquals(expected[0]++, e), 7) == 0) {
+                            Thread.yield();
+                        }
+                    } else {
+                        Integer e = queue.poll();
+                        if (e != null) {
+                            assertEquals(expected[0]++, e);
+                        } else {
+                            Thread.yield();
+                        }
+                    }
+                }
+            } catch (Throwable e) {
+                error.set(e);
+            }
+        });
+        producer.start();
+        consumer.start();
+        producer.join();
+        consumer.join();
+
+        assertNull(error.get());
+        assertTrue(queue.isEmpty());
+    }
+}
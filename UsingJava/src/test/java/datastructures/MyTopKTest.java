@@ -0,0 +1,95 @@
+package datastructures;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MyTopKTest {
+
+    @Test
+    void testKeepsLargest() {
+        MyTopK<Integer> top = new MyTopK<>(5);
+        List<Integer> all = new ArrayList<>();
+        Random random = new Random(3);
+        for (int i = 0; i < 10_000; i++) {
+            int value = random.nextInt(1_000_000);
+            top.offer(value);
+            all.add(value);
+        }
+        all.sort(Comparator.reverseOrder());
+        assertTrue(top.isFull());
+        assertEquals(all.get(4), top.threshold());
+
+        MyArrayList<Integer> result = top.drainSorted();
+        assertEquals(5, result.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(all.get(i), result.get(i)); // 큰 값부터
+        }
+        assertTrue(top.isEmpty());
+    }
+
+    @Test
+    void testKeepsSmallestWithReversedComparator() {
+        MyTopK<Integer> bottom = new MyTopK<>(3, Comparator.reverseOrder());
+        MyArrayList<Integer> values = new MyArrayList<>();
+        for (int value : new int[] {7, 3, 9, 1, 8, 2, 6}) {
+            values.add(value);
+        }
+        bottom.offerAll(values);
+
+        MyArrayList<Integer> result = bottom.drainSorted();
+        assertEquals(3, result.size());
+        assertEquals(1, result.get(0));
+        assertEquals(2, result.get(1));
+        assertEquals(3, result.get(2));
+    }
+
+    @Test
+    void testOfferResult() {
+        MyTopK<Integer> top = new MyTopK<>(2);
+        assertTrue(top.offer(5));
+        assertTrue(top.offer(1));
+        assertFalse(top.offer(0)); // 기준값(1)보다 작음
+        assertFalse(top.offer(1)); // 기준값과 같으면 먼저 들어온 쪽을 남김
+        assertTrue(top.offer(3));  // 1을 밀어냄
+        assertEquals(3, top.threshold());
+        assertEquals(2, top.size());
+        assertEquals(2, top.capacity());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new MyTopK<Integer>(0));
+        assertThrows(IllegalArgumentException.class, () -> new MyTopK<Integer>(3, null));
+        assertThrows(NoSuchElementException.class, () -> new MyTopK<Integer>(3).threshold());
+    }
+
+    @Test
+    void testNoAllocationOnceFull() {
+        // 가득 찬 뒤에는 거절도, 기준값 교체도 할당 없이 이뤄져야 함
+        MyTopK<Integer> top = new MyTopK<>(100);
+        Integer[] stream = new Integer[100_000];
+        for (int i = 0; i < stream.length; i++) {
+            stream[i] = (i * 7919) % stream.length; // 미리 박싱해 둠
+        }
+        for (int i = 0; i < 100; i++) {
+            top.offer(stream[i]);
+        }
+        int[] accepted = new int[1];
+        Allocations.assertNoAllocation(() -> {
+            for (int i = 100; i < stream.length; i++) {
+                if (top.offer(stream[i])) {
+                    accepted[0]++;
+                }
+            }
+        });
+        assertTrue(accepted[0] > 0);
+        assertEquals(stream.length - 100, top.threshold());
+    }
+}
@@ -1,6 +1,12 @@
 package datastructures;
 
 import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Comparator;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class MyTreeMapTest {
@@ -93,4 +99,253 @@ class MyTreeMapTest {
         assertEquals("Five", map.get(5));
         assertEquals("Seven", map.get(7));
     }
+
+    @Test
+    void testNavigation() {
+        // floor/ceiling/higher/lower와 first/last 탐색 테스트
+        MyTreeMap<Integer, String> map = new MyTreeMap<>();
+        for (int i = 10; i <= 50; i += 10) {
+            map.put(i, "V" + i);
+        }
+
+        assertEquals(10, map.firstKey());
+        assertEquals(50, map.lastKey());
+        assertEquals(20, map.floorKey(25));
+        assertEquals(20, map.floorKey(20));
+        assertNull(map.floorKey(5));
+        assertEquals(30, map.ceilingKey(25));
+        assertEquals(30, map.ceilingKey(30));
+        assertNull(map.ceilingKey(55));
+        assertEquals(40, map.higherKey(30));
+        assertNull(map.higherKey(50));
+        assertEquals(20, map.lowerKey(30));
+        assertNull(map.lowerKey(10));
+    }
+
+    @Test
+    void testPollFirstAndLast() {
+        MyTreeMap<Integer, String> map = new MyTreeMap<>();
+        map.put(2, "Two");
+        map.put(1, "One");
+        map.put(3, "Three");
+
+        Map.Entry<Integer, String> first = map.pollFirst();
+        assertEquals(1, first.getKey());
+        assertEquals("One", first.getValue());
+        assertEquals(3, map.pollLast().getKey());
+        assertEquals(1, map.size());
+        assertEquals(2, map.pollFirst().getKey());
+
+        assertNull(map.pollFirst());
+        assertNull(map.pollLast());
+        assertThrows(NoSuchElementException.class, map::firstKey);
+        assertThrows(NoSuchElementException.class, map::lastKey);
+    }
+
+    @Test
+    void testSubMapView() {
+        // 범위 뷰는 원본과 데이터를 공유해야 함
+        MyTreeMap<Integer, Integer> map = new MyTreeMap<>();
+        for (int i = 0; i < 100; i++) {
+            map.put(i, i * 10);
+        }
+
+        MyTreeMap<Integer, Integer> sub = map.subMap(20, 30); // [20, 30)
+        assertEquals(10, sub.size());
+        assertEquals(20, sub.firstKey());
+        assertEquals(29, sub.lastKey());
+        assertEquals(200, sub.get(20));
+        assertNull(sub.get(30)); // 범위 밖
+        assertEquals(20, sub.ceilingKey(5)); // 하한보다 작은 기준은 범위의 처음으로
+        assertEquals(29, sub.floorKey(95)); // 상한보다 큰 기준은 범위의 끝으로
+        assertNull(sub.higherKey(29));
+
+        MyArrayList<Integer> values = sub.values();
+        assertEquals(10, values.size());
+        assertEquals(290, values.get(9));
+
+        // 원본 변경이 뷰에 반영됨
+        map.remove(20);
+        assertEquals(21, sub.firstKey());
+        // 뷰를 통한 변경이 원본에 반영됨
+        sub.pollLast();
+        assertNull(map.get(29));
+        sub.put(25, -1);
+        assertEquals(-1, map.get(25));
+        assertThrows(IllegalArgumentException.class, () -> sub.put(30, 0));
+        assertEquals(98, map.size());
+    }
+
+    @Test
+    void testHeadAndTailMap() {
+        MyTreeMap<Integer, String> map = new MyTreeMap<>();
+        for (int i = 1; i <= 10; i++) {
+            map.put(i, String.valueOf(i));
+        }
+
+        MyTreeMap<Integer, String> head = map.headMap(4); // [1, 4)
+        assertEquals(3, head.size());
+        assertEquals(3, head.lastKey());
+        assertEquals(4, map.headMap(4, true).lastKey());
+
+        MyTreeMap<Integer, String> tail = map.tailMap(8, false); // (8, 10]
+        assertEquals(2, tail.size());
+        assertEquals(9, tail.firstKey());
+
+        // 뷰의 뷰는 현재 범위 안에서만 만들 수 있음
+        MyTreeMap<Integer, String> nested = map.tailMap(3).headMap(6, true);
+        MyArrayList<Integer> keys = nested.keys();
+        assertEquals(4, keys.size());
+        assertEquals(3, keys.get(0));
+        assertEquals(6, keys.get(3));
+        assertThrows(IllegalArgumentException.class, () -> head.tailMap(5));
+        assertThrows(IllegalArgumentException.class, () -> map.subMap(5, 2));
+
+        MyTreeMap<Integer, String> empty = map.subMap(20, 30);
+        assertTrue(empty.isEmpty());
+        assertNull(empty.pollFirst());
+    }
+
+    @Test
+    void testOrderStatistics() {
+        // 리더보드: 점수(키) 기준 k번째와 순위 조회
+        MyTreeMap<Integer, String> scores = new MyTreeMap<>();
+        for (int i = 1; i <= 100; i++) {
+            scores.put(i * 10, "Player" + i);
+        }
+
+        assertEquals(10, scores.select(0));
+        assertEquals(1000, scores.select(99));
+        assertEquals(49, scores.rank(500));
+        assertEquals(11, scores.countInRange(100, 200));
+
+        // 범위 뷰에서는 뷰 안에서의 순서를 사용
+        MyTreeMap<Integer, String> top = scores.tailMap(900, false); // 910 ~ 1000
+        assertEquals(10, top.size());
+        assertEquals(910, top.select(0));
+        assertEquals(2, top.rank(930));
+        assertEquals(0, top.rank(100));
+        assertEquals(10, top.rank(5000));
+        assertEquals(3, top.countInRange(0, 930));
+        assertThrows(IndexOutOfBoundsException.class, () -> top.select(10));
+
+        MyTreeMap<Integer, String> middle = scores.subMap(200, true, 300, true);
+        assertEquals(11, middle.size());
+        assertEquals(0, middle.countInRange(400, 500));
+    }
+
+    @Test
+    void testViewIterators() {
+        // 범위 뷰의 반복자는 범위 안의 엔트리만 순회해야 함
+        MyTreeMap<Integer, Integer> map = new MyTreeMap<>();
+        for (int i = 0; i < 100; i++) {
+            map.put(i, i * i);
+        }
+
+        Iterator<Map.Entry<Integer, Integer>> entries = map.subMap(10, 13).entryIterator();
+        for (int i = 10; i < 13; i++) {
+            Map.Entry<Integer, Integer> entry = entries.next();
+            assertEquals(i, entry.getKey());
+            assertEquals(i * i, entry.getValue());
+        }
+        assertFalse(entries.hasNext());
+
+        Iterator<Integer> descending = map.headMap(50, true).descendingKeyIterator();
+        assertEquals(50, descending.next());
+        assertEquals(49, descending.next());
+
+        Iterator<Map.Entry<Integer, Integer>> tail = map.tailMap(98).descendingEntryIterator();
+        assertEquals(99, tail.next().getKey());
+        assertEquals(98, tail.next().getKey());
+        assertFalse(tail.hasNext());
+
+        Iterator<Integer> values = map.tailMap(95, false).valueIterator();
+        assertEquals(96 * 96, values.next());
+
+        // 뷰 반복자로 삭제하면 원본에서 제거됨
+        Iterator<Integer> it = map.subMap(0, 10).keyIterator();
+        while (it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+        assertEquals(90, map.size());
+        assertEquals(10, map.firstKey());
+    }
+
+    @Test
+    void testBPlusTreeBackend() {
+        // B+ 트리 백엔드도 같은 동작을 보장해야 함
+        MyTreeMap<Integer, String> map = new MyTreeMap<>(true);
+        for (int i = 1000; i > 0; i--) {
+            map.put(i, "V" + i);
+        }
+        for (int i = 2; i <= 1000; i += 2) {
+            map.remove(i);
+        }
+
+        assertEquals(500, map.size());
+        assertEquals("V1", map.get(1));
+        assertNull(map.get(2));
+        assertEquals(1, map.firstKey());
+        assertEquals(999, map.lastKey());
+        assertEquals(101, map.ceilingKey(100));
+        assertEquals(99, map.floorKey(100));
+        assertEquals(201, map.select(100));
+        assertEquals(50, map.rank(101));
+
+        MyTreeMap<Integer, String> range = map.subMap(100, 200);
+        assertEquals(50, range.size());
+        assertEquals(101, range.keys().get(0));
+        Iterator<Integer> descending = range.descendingKeyIterator();
+        assertEquals(199, descending.next());
+        assertEquals(1, map.pollFirst().getKey());
+        assertEquals(999, map.pollLast().getKey());
+
+        MyTreeSet<Integer> set = new MyTreeSet<>(true);
+        set.add(3);
+        set.add(1);
+        set.add(2);
+        assertEquals(1, set.first());
+        assertEquals(3, set.toList().get(2));
+    }
+
+    @Test
+    void testBuildFromSorted() {
+        MyArrayList<Integer> keys = new MyArrayList<>();
+        MyArrayList<String> values = new MyArrayList<>();
+        for (int i = 1; i <= 100; i++) {
+            keys.add(i);
+            values.add("V" + i);
+        }
+        MyTreeMap<Integer, String> map = new MyTreeMap<>(keys, values);
+
+        assertEquals(100, map.size());
+        assertEquals("V50", map.get(50));
+        assertEquals(1, map.firstKey());
+        assertEquals(100, map.lastKey());
+        assertEquals(10, map.subMap(11, 21).size());
+
+        map.put(0, "V0");
+        assertEquals(0, map.firstKey());
+        assertEquals(101, map.size());
+    }
+
+    @Test
+    void testComparator() {
+        // 역순 Comparator: 범위와 탐색도 Comparator 기준으로 동작해야 함
+        for (boolean bPlusTree : new boolean[] {false, true}) {
+            MyTreeMap<Integer, String> map = new MyTreeMap<>(bPlusTree, Comparator.reverseOrder());
+            for (int i = 1; i <= 10; i++) {
+                map.put(i, "V" + i);
+            }
+
+            assertEquals(10, map.firstKey());
+            assertEquals(1, map.lastKey());
+            assertEquals(4, map.higherKey(5)); // 역순에서 5 "다음"은 4
+            MyTreeMap<Integer, String> range = map.subMap(8, 3); // 8 이하 3 초과 (역순)
+            assertEquals(5, range.size());
+            assertEquals(8, range.keys().get(0));
+            assertThrows(IllegalArgumentException.class, () -> map.subMap(3, 8));
+        }
+    }
 }
@@ -2,6 +2,9 @@ package datastructures;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class MyTreeSetTest {
@@ -61,4 +64,163 @@ class MyTreeSetTest {
         assertTrue(set.contains("C"));
         assertEquals(2, set.size());
     }
+
+    @Test
+    void testNavigation() {
+        MyTreeSet<String> set = new MyTreeSet<>();
+        set.add("Banana");
+        set.add("Apple");
+        set.add("Cherry");
+
+        assertEquals("Apple", set.first());
+        assertEquals("Cherry", set.last());
+        assertEquals("Banana", set.floor("Blueberry"));
+        assertEquals("Cherry", set.ceiling("Blueberry"));
+        assertEquals("Banana", set.higher("Apple"));
+        assertNull(set.lower("Apple"));
+
+        assertEquals("Apple", set.pollFirst());
+        assertEquals("Cherry", set.pollLast());
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    void testRangeViews() {
+        MyTreeSet<Integer> set = new MyTreeSet<>();
+        for (int i = 0; i < 20; i++) {
+            set.add(i);
+        }
+
+        MyTreeSet<Integer> sub = set.subSet(5, true, 10, true); // [5, 10]
+        assertEquals(6, sub.size());
+        assertTrue(sub.contains(10));
+        assertFalse(sub.contains(11));
+
+        sub.remove(7);
+        assertFalse(set.contains(7));
+        assertEquals(4, set.headSet(5).last());
+        assertEquals(15, set.tailSet(15).first());
+        assertEquals(16, set.tailSet(15, false).first());
+        assertEquals(5, set.headSet(10, true).subSet(5, 8).first());
+    }
+
+    @Test
+    void testOrderStatistics() {
+        MyTreeSet<Integer> set = new MyTreeSet<>();
+        for (int i = 0; i < 1000; i++) {
+            set.add(i);
+        }
+        for (int i = 0; i < 1000; i += 2) {
+            set.remove(i); // 홀수만 남음
+        }
+
+        assertEquals(1, set.select(0));
+        assertEquals(999, set.select(499));
+        assertEquals(250, set.rank(500));
+        assertEquals(50, set.countInRange(100, 199));
+        assertEquals(5, set.subSet(10, 20).size());
+        assertEquals(13, set.subSet(10, 20).select(1));
+    }
+
+    @Test
+    void testForEach() {
+        // Iterable 구현으로 for-each 순회
+        MyTreeSet<Integer> set = new MyTreeSet<>();
+        int[] inputs = { 5, 3, 9, 1, 7 };
+        for (int val : inputs) {
+            set.add(val);
+        }
+
+        int previous = 0;
+        int count = 0;
+        for (int element : set) {
+            assertTrue(element > previous);
+            previous = element;
+            count++;
+        }
+        assertEquals(5, count);
+
+        Iterator<Integer> descending = set.descendingIterator();
+        assertEquals(9, descending.next());
+        assertEquals(7, descending.next());
+
+        Iterator<Integer> failFast = set.iterator();
+        set.remove(1);
+        assertThrows(ConcurrentModificationException.class, failFast::next);
+    }
+
+    @Test
+    void testSetOperations() {
+        MyTreeSet<Integer> evens = new MyTreeSet<>();
+        MyTreeSet<Integer> multiplesOfThree = new MyTreeSet<>();
+        for (int i = 0; i < 30; i++) {
+            if (i % 2 == 0) {
+                evens.add(i);
+            }
+            if (i % 3 == 0) {
+                multiplesOfThree.add(i);
+            }
+        }
+
+        MyTreeSet<Integer> union = evens.union(multiplesOfThree);
+        MyTreeSet<Integer> intersection = evens.intersection(multiplesOfThree);
+        MyTreeSet<Integer> difference = evens.difference(multiplesOfThree);
+
+        assertEquals(20, union.size()); // 15 + 10 - 5
+        assertEquals(5, intersection.size());
+        assertEquals(10, difference.size());
+        for (int i = 0; i < 30; i++) {
+            assertEquals(i % 2 == 0 || i % 3 == 0, union.contains(i));
+            assertEquals(i % 6 == 0, intersection.contains(i));
+            assertEquals(i % 2 == 0 && i % 3 != 0, difference.contains(i));
+        }
+
+        // 원본은 변하지 않음
+        assertEquals(15, evens.size());
+        assertEquals(10, multiplesOfThree.size());
+
+        // 범위 뷰와도 연산 가능
+        MyTreeSet<Integer> low = evens.headSet(10).union(multiplesOfThree.headSet(10));
+        assertEquals(0, low.first());
+        assertEquals(9, low.last());
+        assertEquals(7, low.size()); // 0, 2, 3, 4, 6, 8, 9
+
+        assertTrue(evens.intersection(new MyTreeSet<>()).isEmpty());
+        assertEquals(15, evens.difference(new MyTreeSet<>()).size());
+    }
+
+    @Test
+    void testBuildFromSorted() {
+        MyArrayList<String> sorted = new MyArrayList<>();
+        sorted.add("A");
+        sorted.add("B");
+        sorted.add("C");
+        MyTreeSet<String> set = new MyTreeSet<>(sorted);
+
+        assertEquals(3, set.size());
+        assertTrue(set.contains("B"));
+        assertEquals("C", set.last());
+
+        sorted.add("B"); // 정렬 위반
+        assertThrows(IllegalArgumentException.class, () -> new MyTreeSet<>(sorted));
+    }
+
+    @Test
+    void testComparator() {
+        MyTreeSet<String> set = new MyTreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        set.add("banana");
+        set.add("Apple");
+        set.add("APPLE"); // 대소문자만 다르면 같은 요소
+        set.add("cherry");
+
+        assertEquals(3, set.size());
+        assertTrue(set.contains("apple"));
+        assertEquals("Apple", set.first());
+
+        MyTreeSet<String> other = new MyTreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        other.add("BANANA");
+        other.add("date");
+        assertEquals(4, set.union(other).size());
+        assertTrue(set.intersection(other).contains("banana"));
+    }
 }
@@ -0,0 +1,53 @@
+package datastructures;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 동시성 테스트에서 여러 스레드를 한꺼번에 출발시키는 도우미입니다.
+ * 작업 스레드에서 난 예외(assert 실패 포함)는 모아 두었다가 테스트 스레드에서 실패로 보고합니다.
+ */
+final class Workers {
+
+    private Workers() {
+    }
+
+    /**
+     * 여러 스레드로 같은 작업을 동시에 시작시키고 모두 끝날 때까지 기다립니다.
+     *
+     * @param threads 스레드 수
+     * @param task    각 스레드가 실행할 작업 (0부터 시작하는 스레드 번호를 받음)
+     */
+    static void runConcurrently(int threads, IntConsumerTask task) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        List<Throwable> errors = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int id = t;
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                    task.run(id);
+                } catch (Throwable e) {
+                    synchronized (errors) {
+                        errors.add(e);
+                    }
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        assertTrue(errors.isEmpty(), () -> "Worker failed: " + errors.get(0));
+    }
+
+    interface IntConsumerTask {
+        void run(int threadId) throws Exception;
+    }
+}